@@ -1,5 +1,12 @@
 -- E-Commerce Database Schema
 
+-- 엔티티 ID 블록 할당 테이블 (BaseEntity pooled ID 생성기)
+-- 기존 AUTO_INCREMENT 데이터가 있는 DB에서 전환할 때는 next_val을 모든 테이블의 최대 ID보다 크게 설정
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(50) PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
 CREATE TABLE users (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
     name VARCHAR(100) NOT NULL,
@@ -24,8 +31,19 @@ CREATE TABLE products (
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 );
 
-CREATE TABLE orders (
+CREATE TABLE product_stock_buckets (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    product_id BIGINT NOT NULL,
+    bucket_no INT NOT NULL,
+    quantity INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    UNIQUE KEY uk_product_bucket (product_id, bucket_no)
+);
+
+CREATE TABLE orders (
+    id BIGINT PRIMARY KEY,  -- Snowflake ID (시간순 증가, 애플리케이션에서 생성)
     user_id BIGINT NOT NULL,
     order_number VARCHAR(50) NOT NULL UNIQUE,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
@@ -66,6 +84,7 @@ CREATE TABLE order_payments (
     payment_status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
     payment_data TEXT,
     paid_at TIMESTAMP,
+    processing_started_at TIMESTAMP NULL,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
 
     INDEX idx_order (order_id),
@@ -117,12 +136,28 @@ CREATE TABLE point_histories (
     balance_after DECIMAL(15,2) NOT NULL,
     description VARCHAR(500),
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- 원장 모드(ecommerce.point.mode=ledger) 항목만 값이 있음: PENDING(스냅샷 미합산), SNAPSHOTTED
+    ledger_status VARCHAR(20),
 
     INDEX idx_user_created (user_id, created_at),
+    INDEX idx_ledger_status_user (ledger_status, user_id),
     INDEX idx_order (related_order_id),
     INDEX idx_type (transaction_type)
 );
 
+-- 포인트 잔액 스냅샷 (ecommerce.point.mode=ledger)
+-- 잔액 = 최신 스냅샷(snapshot_seq 최대) + PENDING 원장 항목 합계
+CREATE TABLE point_balance_snapshots (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    snapshot_seq BIGINT NOT NULL,
+    balance DECIMAL(15,2) NOT NULL,
+    entry_count INT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    UNIQUE KEY uk_user_snapshot_seq (user_id, snapshot_seq)
+);
+
 CREATE TABLE outbox_events (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
     event_type VARCHAR(100) NOT NULL,
@@ -136,7 +171,61 @@ CREATE TABLE outbox_events (
     INDEX idx_created (created_at)
 );
 
+CREATE TABLE payment_sagas (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    version BIGINT,
+    order_id BIGINT NOT NULL UNIQUE,
+    user_id BIGINT NOT NULL,
+    used_point INT NOT NULL DEFAULT 0,
+    user_coupon_id BIGINT,
+    status VARCHAR(30) NOT NULL,
+    point_deducted BOOLEAN NOT NULL DEFAULT FALSE,
+    coupon_used BOOLEAN NOT NULL DEFAULT FALSE,
+    point_refunded BOOLEAN NOT NULL DEFAULT FALSE,
+    coupon_restored BOOLEAN NOT NULL DEFAULT FALSE,
+    restored_item_count INT NOT NULL DEFAULT 0,
+    retry_count INT NOT NULL DEFAULT 0,
+    next_retry_at TIMESTAMP NULL,
+    last_error VARCHAR(500),
+    -- 보상을 선점한 워커 (임대 갱신과 단계 기록 시 본인 선점인지 확인)
+    compensation_owner VARCHAR(36) NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    INDEX idx_status_next_retry (status, next_retry_at),
+    INDEX idx_status_updated (status, updated_at)
+);
+
+CREATE TABLE popular_products (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    product_id BIGINT NOT NULL UNIQUE,
+    sales_count INT NOT NULL DEFAULT 0,
+    sales_amount DECIMAL(15,2) NOT NULL DEFAULT 0,
+    last_updated TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- DLT에서 받은 실패 이벤트 (스케줄러가 next_retry_at 기준으로 재처리)
+CREATE TABLE failed_events (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    topic VARCHAR(100) NOT NULL,
+    event_key VARCHAR(100),
+    payload TEXT NOT NULL,
+    error_message TEXT,
+    status VARCHAR(20) NOT NULL,
+    retry_count INT NOT NULL DEFAULT 0,
+    max_retry_count INT NOT NULL DEFAULT 3,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_retry_at TIMESTAMP NULL,
+    recovered_at TIMESTAMP NULL,
+    next_retry_at TIMESTAMP NULL,
+
+    INDEX idx_status_next_retry (status, next_retry_at)
+);
+
 -- Sample Data
+INSERT INTO id_sequences (sequence_name, next_val) VALUES ('default', 1000);
+
 INSERT INTO users (id, name, email, point_balance) VALUES
 (1, 'Test User 1', 'test1@test.com', 50000),
 (2, 'Test User 2', 'test2@test.com', 30000);
@@ -1,11 +1,14 @@
 package com.ecommerce.application.dto;
 
 import com.ecommerce.domain.entity.Order;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 public record OrderHistoryResponse(
+    @JsonSerialize(using = ToStringSerializer.class) // 64비트 ID, JavaScript Number 정밀도 밖
     Long orderId,
     String orderNumber,
     Integer totalAmount,
@@ -1,6 +1,10 @@
 package com.ecommerce.application.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
 public record OrderResponse(
+    @JsonSerialize(using = ToStringSerializer.class) // 64비트 ID, JavaScript Number 정밀도 밖
     Long orderId,
     String orderNumber,
     Integer totalAmount,
@@ -1,8 +1,12 @@
 package com.ecommerce.application.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
 import java.time.LocalDateTime;
 
 public record PaymentResponse(
+    @JsonSerialize(using = ToStringSerializer.class) // 64비트 ID, JavaScript Number 정밀도 밖
     Long orderId,
     String paymentStatus,
     Integer paymentAmount,
@@ -0,0 +1,16 @@
+package com.ecommerce.application.dto;
+
+import java.util.List;
+
+/**
+ * 포인트 이력 커서 페이지 응답
+ *
+ * @param histories 최신순 이력
+ * @param nextCursor 다음 페이지 요청에 넘길 커서 (마지막 페이지면 null)
+ */
+public record PointHistoryPageResponse(
+    List<PointHistoryResponse> histories,
+    String nextCursor,
+    boolean hasNext
+) {
+}
@@ -2,6 +2,7 @@ package com.ecommerce.application.dto;
 
 import com.ecommerce.domain.entity.PointHistory;
 import com.ecommerce.domain.entity.TransactionType;
+import com.ecommerce.domain.repository.PointHistorySummary;
 
 import java.time.LocalDateTime;
 
@@ -24,4 +25,15 @@ public record PointHistoryResponse(
                 history.getCreatedAt()
         );
     }
+
+    public static PointHistoryResponse from(PointHistorySummary summary) {
+        return new PointHistoryResponse(
+                summary.id(),
+                summary.transactionType(),
+                summary.amount().getAmount(),
+                summary.balanceAfter().getAmount(),
+                summary.description(),
+                summary.createdAt()
+        );
+    }
 }
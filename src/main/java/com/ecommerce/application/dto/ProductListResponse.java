@@ -20,7 +20,14 @@ public record ProductListResponse(
 ) {
 
     public static ProductListResponse from(Product product) {
-        ProductStockStatus status = determineStockStatus(product.getStockQuantity());
+        return from(product, product.getStockQuantity());
+    }
+
+    /**
+     * 버킷 분할 재고처럼 상품 행 밖에 있는 재고까지 합산한 값으로 상태를 결정합니다.
+     */
+    public static ProductListResponse from(Product product, int stockQuantity) {
+        ProductStockStatus status = determineStockStatus(stockQuantity);
 
         return new ProductListResponse(
                 product.getId(),
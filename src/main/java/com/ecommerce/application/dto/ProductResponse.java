@@ -11,12 +11,19 @@ public record ProductResponse(
 ) {
 
     public static ProductResponse from(Product product) {
+        return from(product, product.getStockQuantity());
+    }
+
+    /**
+     * 버킷 분할 재고처럼 상품 행 밖에 있는 재고까지 합산한 값으로 응답합니다.
+     */
+    public static ProductResponse from(Product product, int stockQuantity) {
         return new ProductResponse(
                 product.getId(),
                 product.getName(),
                 product.getDescription(),
                 product.getBasePrice(),
-                product.getStockQuantity()
+                stockQuantity
         );
     }
 }
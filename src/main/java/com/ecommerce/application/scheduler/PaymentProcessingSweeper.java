@@ -0,0 +1,30 @@
+package com.ecommerce.application.scheduler;
+
+import com.ecommerce.application.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멈춘 결제 정리 스케줄러
+ *
+ * 결제 진행권(PROCESSING)을 얻은 뒤 사가를 시작하기 전에 서버가 죽으면 해당 주문은 다시 결제할 수 없다.
+ * 일정 시간(OrderService.STUCK_PROCESSING_THRESHOLD) 이상 멈춘 결제를 PENDING으로 되돌린다.
+ * - 사가가 시작된 결제는 PaymentSagaRecoveryScheduler가 보상으로 처리하므로 대상에서 제외
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentProcessingSweeper {
+
+    private final OrderService orderService;
+
+    @Scheduled(fixedDelay = 60000) // 1분마다 실행
+    public void sweepStuckPayments() {
+        int resetCount = orderService.releaseStuckPayments();
+        if (resetCount > 0) {
+            log.warn("멈춘 결제 PENDING 복귀: {}건", resetCount);
+        }
+    }
+}
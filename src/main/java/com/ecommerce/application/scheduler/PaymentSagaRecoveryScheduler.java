@@ -0,0 +1,29 @@
+package com.ecommerce.application.scheduler;
+
+import com.ecommerce.application.service.PaymentSagaOrchestrator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 사가 복구 스케줄러
+ *
+ * - 재시도 시각이 지난 보상 사가를 보상 워커 풀에 다시 넘김
+ * - 결제 도중 서버가 죽어 IN_PROGRESS로 남은 사가를 보상 대상으로 전환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentSagaRecoveryScheduler {
+
+    private final PaymentSagaOrchestrator paymentSagaOrchestrator;
+
+    @Scheduled(fixedDelay = 10000) // 10초마다 실행
+    public void recoverPaymentSagas() {
+        int dispatched = paymentSagaOrchestrator.recover();
+        if (dispatched > 0) {
+            log.info("결제 사가 보상 재시도: {}건", dispatched);
+        }
+    }
+}
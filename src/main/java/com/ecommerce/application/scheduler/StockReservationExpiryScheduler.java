@@ -0,0 +1,51 @@
+package com.ecommerce.application.scheduler;
+
+import com.ecommerce.application.service.OrderService;
+import com.ecommerce.domain.service.StockReservationStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 재고 예약 만료 스케줄러
+ *
+ * 결제 기한(ecommerce.stock.reservation.ttl-minutes)이 지난 미결제 주문의 재고를 반환한다.
+ * - 만료 예약을 BATCH_SIZE건씩 꺼내 처리
+ * - 한 주기에 쌓인 만료 예약이 없어질 때까지 반복 (주기당 최대 MAX_BATCHES_PER_RUN회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationExpiryScheduler {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_BATCHES_PER_RUN = 50;
+
+    private final StockReservationStore stockReservationStore;
+    private final OrderService orderService;
+
+    @Scheduled(fixedDelay = 5000) // 5초마다 실행
+    public void releaseExpiredReservations() {
+        int releasedCount = 0;
+
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            List<Long> orderIds = stockReservationStore.claimExpired(BATCH_SIZE);
+            if (orderIds.isEmpty()) {
+                break;
+            }
+
+            releasedCount += orderService.releaseExpiredReservations(orderIds);
+
+            if (orderIds.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (releasedCount > 0) {
+            log.info("재고 예약 만료 처리 완료: 반환 주문 {}건", releasedCount);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.ecommerce.application.dto.UserCouponResponse;
 import com.ecommerce.domain.entity.UserCoupon;
 import com.ecommerce.domain.repository.UserCouponRepository;
 import com.ecommerce.domain.service.CouponDomainService;
+import com.ecommerce.domain.service.CouponIssueExecutor;
 import com.ecommerce.domain.service.CouponIssueResult;
 import com.ecommerce.domain.service.CouponIssuer;
 import com.ecommerce.infrastructure.lock.DistributedLockExecutor;
@@ -18,6 +19,7 @@ import java.util.List;
  *
  * 책임:
  * - 분산 락 관리 (동시성 제어)
+ * - 동기 발급은 CouponIssueExecutor에 위임 (ecommerce.coupon.mode로 분산 락 / 조건부 UPDATE 선택)
  * - 도메인 서비스 호출 조율
  * - DTO 변환
  *
@@ -28,32 +30,30 @@ import java.util.List;
 @Service
 public class CouponService {
 
-    private static final String LOCK_KEY_PREFIX_COUPON = "lock:coupon:";
     private static final String LOCK_KEY_PREFIX_USERCOUPON = "lock:usercoupon:";
 
     private final UserCouponRepository userCouponRepository;
     private final DistributedLockExecutor lockExecutor;
     private final CouponDomainService couponDomainService;
+    private final CouponIssueExecutor couponIssueExecutor;
     private final CouponIssuer asyncCouponIssuer;
 
     public CouponService(
             UserCouponRepository userCouponRepository,
             DistributedLockExecutor lockExecutor,
             CouponDomainService couponDomainService,
+            CouponIssueExecutor couponIssueExecutor,
             @Qualifier("asyncCouponIssueService") CouponIssuer asyncCouponIssuer) {
         this.userCouponRepository = userCouponRepository;
         this.lockExecutor = lockExecutor;
         this.couponDomainService = couponDomainService;
+        this.couponIssueExecutor = couponIssueExecutor;
         this.asyncCouponIssuer = asyncCouponIssuer;
     }
 
     public UserCouponResponse issueCoupon(CouponIssueRequest request) {
-        String lockKey = LOCK_KEY_PREFIX_COUPON + request.couponId();
-
-        return lockExecutor.executeWithLock(lockKey, () -> {
-            UserCoupon userCoupon = couponDomainService.issueCoupon(request.userId(), request.couponId());
-            return UserCouponResponse.from(userCoupon);
-        });
+        UserCoupon userCoupon = couponIssueExecutor.issue(request.userId(), request.couponId());
+        return UserCouponResponse.from(userCoupon);
     }
 
     public UserCouponResponse useCoupon(Long userCouponId) {
@@ -6,19 +6,28 @@ import com.ecommerce.application.event.PaymentCompletedEvent;
 import com.ecommerce.domain.entity.*;
 import com.ecommerce.domain.repository.*;
 import com.ecommerce.domain.service.*;
-import com.ecommerce.infrastructure.lock.DistributedLockExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 주문 Application Facade 서비스
  *
  * 책임:
- * - 분산 락 관리 (동시성 제어)
+ * - 결제 진입 게이트 (PENDING → PROCESSING 조건부 UPDATE, 분산 락 없음)
+ * - 재고 차감 위임 (StockDeductor, ecommerce.stock.mode로 방식 선택)
+ * - 재고 예약 관리 (주문 시 예약, 결제 시 확정, 결제 기한 초과 시 반환)
+ * - 결제 단계 실행 위임 (PaymentProcessor, ecommerce.payment.mode로 방식 선택)
+ * - 결제 사가 기록/보상 요청 (PaymentSagaOrchestrator)
  * - 여러 도메인 서비스 호출
  * - 이벤트 발행 (부가 로직 트리거)
  * - DTO 변환
@@ -33,44 +42,48 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrderService {
 
-    private static final String LOCK_KEY_PREFIX_STOCK = "lock:stock:";
-    private static final String LOCK_KEY_PREFIX_PAYMENT = "lock:payment:";
-    private static final String POINT_DESCRIPTION_ORDER_PAYMENT = "주문 결제";
+    static final Duration STUCK_PROCESSING_THRESHOLD = Duration.ofMinutes(5);
 
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final OrderPaymentRepository orderPaymentRepository;
     private final UserCouponRepository userCouponRepository;
-    private final DistributedLockExecutor lockExecutor;
 
     private final OrderDomainService orderDomainService;
-    private final ProductDomainService productDomainService;
-    private final PointDomainService pointDomainService;
-    private final CouponDomainService couponDomainService;
+    private final StockDeductor stockDeductor;
+    private final StockReservationStore stockReservationStore;
+    private final PaymentProcessor paymentProcessor;
+    private final PaymentSagaOrchestrator paymentSagaOrchestrator;
     private final PaymentDomainService paymentDomainService;
     private final DomainEventPublisher eventPublisher;
 
+    /**
+     * 주문을 생성합니다.
+     *
+     * 1. 재고 차감 (StockDeductor)
+     * 2. 주문/주문 아이템/결제 정보를 한 트랜잭션으로 저장 (OrderDomainService.placeOrder)
+     * 3. 저장에 실패하면 차감한 재고를 복구
+     * 4. 재고 예약 등록 (결제 기한 안에 결제하지 않으면 만료 스케줄러가 반환)
+     * 5. 예약 등록에 실패하면 주문을 바로 만료(FAILED)시키고 재고를 복구한 뒤 예외
+     *    (예약이 없는 미결제 주문은 만료 스케줄러가 찾지 못해 재고가 영영 묶임)
+     */
     public OrderResponse createOrder(OrderRequest request) {
         User user = userRepository.getByIdOrThrow(request.userId());
 
-        Order order = orderDomainService.createOrder(user.getId());
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderRequest.OrderItemRequest itemReq : request.items()) {
+            quantities.merge(itemReq.productId(), itemReq.quantity(), Integer::sum);
+        }
 
-        List<OrderRequest.OrderItemRequest> sortedItems = request.items().stream()
-                .sorted((a, b) -> a.productId().compareTo(b.productId()))
-                .toList();
+        Map<Long, Product> products = stockDeductor.deduct(quantities).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
 
         List<OrderItem> orderItems = new ArrayList<>();
-        for (OrderRequest.OrderItemRequest itemReq : sortedItems) {
-            Product product = reduceStockWithLock(itemReq.productId(), itemReq.quantity());
-            OrderItem orderItem = orderDomainService.createOrderItem(order.getId(), product, itemReq.quantity());
-            orderItems.add(orderItem);
+        for (OrderRequest.OrderItemRequest itemReq : request.items()) {
+            orderItems.add(new OrderItem(products.get(itemReq.productId()), itemReq.quantity()));
         }
 
-        int totalAmount = orderItems.stream()
-                .mapToInt(OrderItem::getItemTotalAmount)
-                .sum();
-
         int discountAmount = 0;
         if (request.userCouponId() != null) {
             UserCoupon userCoupon = userCouponRepository.getByIdOrThrow(request.userCouponId());
@@ -78,25 +91,68 @@ public class OrderService {
         }
 
         int usedPoint = request.usePoint() != null ? request.usePoint() : 0;
-        OrderPayment payment = new OrderPayment(
-                order.getId(),
-                totalAmount,
-                discountAmount,
-                usedPoint,
-                request.userCouponId()
-        );
-        orderPaymentRepository.save(payment);
 
+        OrderDomainService.PlacedOrder placed;
+        try {
+            placed = orderDomainService.placeOrder(
+                    user.getId(), orderItems, discountAmount, usedPoint, request.userCouponId());
+        } catch (RuntimeException e) {
+            log.error("주문 저장 실패, 재고 복구: userId={}, error={}", user.getId(), e.getMessage());
+            restoreStocks(quantities);
+            throw e;
+        }
+
+        try {
+            stockReservationStore.reserve(placed.order().getId());
+        } catch (RuntimeException e) {
+            log.error("재고 예약 등록 실패, 주문 만료 후 재고 복구: orderId={}", placed.order().getId(), e);
+            expireUnreservedOrder(placed.order().getId());
+            throw e;
+        }
+
+        OrderPayment payment = placed.payment();
         return new OrderResponse(
-                order.getId(),
-                order.getOrderNumber(),
-                totalAmount,
+                placed.order().getId(),
+                placed.order().getOrderNumber(),
+                payment.getOriginalAmount(),
                 discountAmount,
                 usedPoint,
                 payment.getFinalAmount()
         );
     }
 
+    /**
+     * 재고 예약을 등록하지 못한 미결제 주문을 만료시키고 재고를 반환합니다.
+     * 이미 결제가 시작된 주문은 만료되지 않으므로 건드리지 않습니다.
+     */
+    private void expireUnreservedOrder(Long orderId) {
+        try {
+            if (paymentDomainService.expirePayment(orderId)) {
+                restoreStocks(quantitiesOf(List.of(orderId)));
+            }
+        } catch (Exception e) {
+            log.error("예약 없는 주문 만료 실패, 수동 처리 필요: orderId={}", orderId, e);
+        }
+    }
+
+    private Map<Long, Integer> quantitiesOf(List<Long> orderIds) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderItem item : orderItemRepository.findByOrderIdIn(orderIds)) {
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private void restoreStocks(Map<Long, Integer> quantities) {
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            try {
+                stockDeductor.restore(entry.getKey(), entry.getValue());
+            } catch (Exception ex) {
+                log.error("재고 복구 실패: productId={}, quantity={}", entry.getKey(), entry.getValue(), ex);
+            }
+        }
+    }
+
     public List<OrderHistoryResponse> getOrderHistory(Long userId) {
         List<Order> orders = orderRepository.findByUserId(userId);
 
@@ -127,78 +183,124 @@ public class OrderService {
         return OrderHistoryResponse.from(order, items);
     }
 
-    private Product reduceStockWithLock(Long productId, int quantity) {
-        String lockKey = LOCK_KEY_PREFIX_STOCK + productId;
-        return lockExecutor.executeWithLock(lockKey,
-                () -> productDomainService.reduceStock(productId, quantity));
-    }
-
-    private void restoreStockWithLock(Long productId, int quantity) {
-        String lockKey = LOCK_KEY_PREFIX_STOCK + productId;
-        lockExecutor.executeWithLock(lockKey,
-                () -> productDomainService.restoreStock(productId, quantity));
-    }
-
     public PaymentResponse processPayment(Long orderId, PaymentRequest request) {
-        String lockKey = LOCK_KEY_PREFIX_PAYMENT + orderId;
-        return lockExecutor.executeWithLock(lockKey,
-                () -> executePayment(orderId, request));
+        return executePayment(orderId, request);
     }
 
     /**
      * 결제 처리 (멘토링 권장 구조)
      *
-     * 1. 각 도메인 서비스 호출 (각자 @Transactional)
-     * 2. 결제 완료 후 Facade에서 이벤트 발행
-     * 3. 이벤트 핸들러(별도 클래스)가 부가 로직 처리
+     * 1. PENDING → PROCESSING 조건부 UPDATE로 결제 진행권 획득 (같은 주문 동시 결제 중 하나만 통과)
+     * 2. 결제 사가 기록 생성 (단계별 진행 상황을 DB에 남김)
+     * 3. 포인트 차감/쿠폰 사용/결제 완료는 PaymentProcessor에 위임
+     *    (saga: 단계별 커밋, single-transaction: 로컬 트랜잭션 1회)
+     * 4. 결제 완료 후 Facade에서 이벤트 발행 → 이벤트 핸들러(별도 클래스)가 부가 로직 처리
+     * 5. 실패 시 보상만 요청하고 바로 실패 응답 (보상은 PaymentSagaOrchestrator 워커 풀에서 비동기 실행)
      *
      * Self-Invocation 해결:
      * - Facade는 @Transactional 없음
      * - 이벤트 핸들러가 별도 클래스이므로 프록시 정상 동작
      */
     private PaymentResponse executePayment(Long orderId, PaymentRequest request) {
+        if (!paymentDomainService.startProcessing(orderId)) {
+            rejectPayment(orderPaymentRepository.getByOrderIdOrThrow(orderId));
+        }
+
         Order order = orderRepository.getByIdOrThrow(orderId);
         OrderPayment payment = orderPaymentRepository.getByOrderIdOrThrow(orderId);
+        stockReservationStore.confirm(orderId);
 
         int usedPoint = request.usePoint() != null ? request.usePoint() : 0;
-        boolean pointDeducted = false;
-        boolean couponUsed = false;
+        PaymentSaga saga = paymentSagaOrchestrator.begin(order, payment, usedPoint);
 
+        OrderPayment completedPayment;
         try {
-            if (usedPoint > 0) {
-                pointDomainService.deductPoint(
-                        order.getUserId(),
-                        usedPoint,
-                        POINT_DESCRIPTION_ORDER_PAYMENT,
-                        orderId
-                );
-                pointDeducted = true;
-            }
+            completedPayment = paymentProcessor.process(saga);
+        } catch (Exception e) {
+            log.error("결제 실패, 보상 요청: orderId={}, error={}", orderId, e.getMessage());
+            paymentSagaOrchestrator.requestCompensation(saga, e);
+            throw e;
+        }
+
+        // Facade에서 이벤트 발행 → 이벤트 핸들러(별도 클래스)가 처리
+        publishPaymentCompletedEvent(order, completedPayment);
+
+        return new PaymentResponse(
+                orderId,
+                completedPayment.getPaymentStatus().name(),
+                completedPayment.getFinalAmount(),
+                usedPoint,
+                completedPayment.getPaidAt()
+        );
+    }
 
-            if (payment.getUserCouponId() != null) {
-                couponDomainService.useCoupon(payment.getUserCouponId());
-                couponUsed = true;
+    /**
+     * 진행권을 얻지 못한 결제를 현재 상태에 맞는 메시지로 거절합니다.
+     * 만료/실패로 재고가 이미 반환된 주문도 보상 없이 거절됩니다.
+     */
+    private void rejectPayment(OrderPayment payment) {
+        switch (payment.getPaymentStatus()) {
+            case COMPLETED -> throw new IllegalStateException("이미 완료된 결제입니다");
+            case FAILED -> throw new IllegalStateException("결제 기한이 만료되었거나 실패한 주문입니다");
+            default -> throw new IllegalStateException("이미 결제가 진행 중인 주문입니다");
+        }
+    }
+
+    /**
+     * 결제 기한이 지난 주문들의 재고를 반환합니다. (StockReservationExpiryScheduler에서 호출)
+     *
+     * 1. 주문마다 PENDING → FAILED 조건부 전환 (결제 진행 중인 주문은 PROCESSING이라 건너뜀)
+     * 2. 전환된 주문들의 아이템을 상품별로 합산해 상품당 한 번씩 재고 복구
+     *
+     * 주의:
+     * - DB 오류 등으로 만료 처리하지 못한 주문은 다음 주기에 다시 처리하도록 재등록
+     *
+     * @return 재고를 반환한 주문 수
+     */
+    public int releaseExpiredReservations(List<Long> orderIds) {
+        List<Long> expiredOrderIds = new ArrayList<>();
+        for (Long orderId : orderIds) {
+            try {
+                if (paymentDomainService.expirePayment(orderId)) {
+                    expiredOrderIds.add(orderId);
+                }
+            } catch (Exception e) {
+                log.warn("주문 만료 처리 실패, 재등록: orderId={}, error={}", orderId, e.getMessage());
+                stockReservationStore.requeue(orderId);
             }
+        }
 
-            // 도메인 서비스 호출 (각자 @Transactional)
-            OrderPayment completedPayment = paymentDomainService.completePayment(orderId);
+        if (expiredOrderIds.isEmpty()) {
+            return 0;
+        }
 
-            // Facade에서 이벤트 발행 → 이벤트 핸들러(별도 클래스)가 처리
-            publishPaymentCompletedEvent(order, completedPayment);
+        Map<Long, Integer> quantities = quantitiesOf(expiredOrderIds);
+        restoreStocks(quantities);
 
-            return new PaymentResponse(
-                    orderId,
-                    completedPayment.getPaymentStatus().name(),
-                    completedPayment.getFinalAmount(),
-                    usedPoint,
-                    completedPayment.getPaidAt()
-            );
+        log.info("결제 기한 만료 재고 반환: orders={}, products={}", expiredOrderIds.size(), quantities.size());
+        return expiredOrderIds.size();
+    }
 
-        } catch (Exception e) {
-            log.error("결제 실패, 보상 트랜잭션 시작: orderId={}, error={}", orderId, e.getMessage());
-            executeCompensationTransaction(orderId, order, pointDeducted, usedPoint, couponUsed, payment.getUserCouponId());
-            throw e;
+    /**
+     * PROCESSING으로 들어간 뒤 결제 사가도 시작하지 못하고 멈춘 결제를 PENDING으로 되돌립니다. (PaymentProcessingSweeper에서 호출)
+     * 되돌린 주문은 재고 예약을 새로 등록해 다시 결제하거나 기한 만료로 재고가 반환되도록 합니다.
+     * 예약 등록에 실패한 주문은 바로 만료시키고 재고를 반환합니다.
+     *
+     * @return PENDING으로 되돌린 주문 수
+     */
+    public int releaseStuckPayments() {
+        List<Long> resetOrderIds = paymentDomainService.resetStuckProcessing(
+                LocalDateTime.now().minus(STUCK_PROCESSING_THRESHOLD));
+
+        for (Long orderId : resetOrderIds) {
+            try {
+                stockReservationStore.reserve(orderId);
+            } catch (Exception e) {
+                log.error("재고 예약 재등록 실패, 주문 만료 후 재고 복구: orderId={}", orderId, e);
+                expireUnreservedOrder(orderId);
+            }
         }
+        return resetOrderIds.size();
     }
 
     private void publishPaymentCompletedEvent(Order order, OrderPayment payment) {
@@ -223,47 +325,4 @@ public class OrderService {
         eventPublisher.publish(event);
         log.debug("결제 완료 이벤트 발행: orderId={}", order.getId());
     }
-
-    private void executeCompensationTransaction(Long orderId, Order order, boolean pointDeducted,
-                                                 int usedPoint, boolean couponUsed, Long userCouponId) {
-        try {
-            List<OrderItem> orderItems = orderItemRepository.findByOrderId(orderId);
-            for (OrderItem item : orderItems) {
-                try {
-                    restoreStockWithLock(item.getProductId(), item.getQuantity());
-                    log.info("재고 복구 완료: productId={}, quantity={}", item.getProductId(), item.getQuantity());
-                } catch (Exception ex) {
-                    log.error("재고 복구 실패: productId={}, quantity={}", item.getProductId(), item.getQuantity(), ex);
-                }
-            }
-
-            if (pointDeducted) {
-                try {
-                    pointDomainService.chargePoint(order.getUserId(), usedPoint);
-                    log.info("포인트 복구 완료: userId={}, amount={}", order.getUserId(), usedPoint);
-                } catch (Exception ex) {
-                    log.error("포인트 복구 실패: userId={}, amount={}", order.getUserId(), usedPoint, ex);
-                }
-            }
-
-            if (couponUsed && userCouponId != null) {
-                try {
-                    couponDomainService.cancelCouponUsage(userCouponId);
-                    log.info("쿠폰 복구 완료: userCouponId={}", userCouponId);
-                } catch (Exception ex) {
-                    log.error("쿠폰 복구 실패: userCouponId={}", userCouponId, ex);
-                }
-            }
-
-            try {
-                paymentDomainService.failPayment(orderId);
-                log.info("결제 상태 FAILED로 변경: orderId={}", orderId);
-            } catch (Exception ex) {
-                log.error("결제 상태 변경 실패: orderId={}", orderId, ex);
-            }
-
-        } catch (Exception e) {
-            log.error("보상 트랜잭션 중 오류 발생: orderId={}", orderId, e);
-        }
-    }
 }
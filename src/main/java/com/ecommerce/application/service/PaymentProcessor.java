@@ -0,0 +1,22 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.domain.entity.OrderPayment;
+import com.ecommerce.domain.entity.PaymentSaga;
+
+/**
+ * 결제 정방향 단계 실행 전략 (포인트 차감 → 쿠폰 사용 → 결제 완료)
+ *
+ * ecommerce.payment.mode로 구현체를 선택합니다.
+ * - saga: 단계마다 별도 트랜잭션으로 커밋 (기본값)
+ * - single-transaction: 세 단계를 하나의 로컬 트랜잭션으로 커밋, 실패 시 롤백
+ *
+ * 주의:
+ * - 단계 진행 상황은 PaymentSaga에 기록되며, 실패 시 보상은 PaymentSagaOrchestrator가 비동기로 처리
+ */
+public interface PaymentProcessor {
+
+    /**
+     * @return 완료된 결제 정보
+     */
+    OrderPayment process(PaymentSaga saga);
+}
@@ -0,0 +1,205 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.domain.entity.Order;
+import com.ecommerce.domain.entity.OrderItem;
+import com.ecommerce.domain.entity.OrderPayment;
+import com.ecommerce.domain.entity.PaymentSaga;
+import com.ecommerce.domain.repository.OrderItemRepository;
+import com.ecommerce.domain.repository.PaymentSagaRepository;
+import com.ecommerce.domain.service.StockDeductor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 결제 사가 오케스트레이터
+ *
+ * 책임:
+ * - 결제 시작 시 사가 기록 생성 (payment_sagas)
+ * - 결제 실패 시 보상 요청 → 보상 워커 풀에서 비동기 실행
+ * - 보상 실패 시 지수 백오프로 재시도, 한도 초과 시 COMPENSATION_FAILED (수동 처리)
+ * - 결제 도중 중단된 사가(서버 종료 등) 복구 (PaymentSagaRecoveryScheduler에서 호출)
+ *
+ * 보상 순서: 포인트 환불 → 쿠폰 복구 → 재고 복구(아이템 단위) → 결제 FAILED
+ * 완료된 보상 단계는 사가에 기록되므로 재시도 시 건너뜁니다.
+ *
+ * 선점: 보상을 실행하는 워커는 선점할 때마다 새 owner를 받고, 아이템 재고 복구 전마다 선점 기간을 연장합니다.
+ * - 연장에 실패하면(다른 워커가 선점) 그 자리에서 멈춤 → 두 워커가 같은 아이템 재고를 복구하지 않음
+ * - COMPENSATION_LEASE는 아이템 1건 복구의 최악 시간(락 대기 30초 + 보유)보다 길게 잡음
+ *
+ * 주의:
+ * - 재고 복구와 진행 기록 사이에 서버가 죽으면 해당 아이템 1건은 재시도 때 한 번 더 복구될 수 있음
+ */
+@Slf4j
+@Service
+public class PaymentSagaOrchestrator {
+
+    static final int MAX_COMPENSATION_RETRY = 5;
+    static final Duration COMPENSATION_LEASE = Duration.ofMinutes(2);
+    static final Duration STALE_IN_PROGRESS = Duration.ofMinutes(5);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(2);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final int RECOVERY_BATCH_SIZE = 100;
+
+    private final PaymentSagaRepository paymentSagaRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final PaymentSagaSteps paymentSagaSteps;
+    private final StockDeductor stockDeductor;
+    private final Executor compensationExecutor;
+
+    public PaymentSagaOrchestrator(PaymentSagaRepository paymentSagaRepository,
+                                   OrderItemRepository orderItemRepository,
+                                   PaymentSagaSteps paymentSagaSteps,
+                                   StockDeductor stockDeductor,
+                                   @Qualifier("sagaCompensationExecutor") Executor compensationExecutor) {
+        this.paymentSagaRepository = paymentSagaRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.paymentSagaSteps = paymentSagaSteps;
+        this.stockDeductor = stockDeductor;
+        this.compensationExecutor = compensationExecutor;
+    }
+
+    /**
+     * 결제 사가를 시작합니다. 주문당 한 번만 시작할 수 있습니다.
+     */
+    public PaymentSaga begin(Order order, OrderPayment payment, int usedPoint) {
+        if (paymentSagaRepository.findByOrderId(order.getId()).isPresent()) {
+            throw new IllegalStateException("이미 처리 중이거나 실패 처리 중인 결제입니다");
+        }
+
+        try {
+            return paymentSagaRepository.save(
+                    new PaymentSaga(order.getId(), order.getUserId(), usedPoint, payment.getUserCouponId()));
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 처리 중이거나 실패 처리 중인 결제입니다");
+        }
+    }
+
+    /**
+     * 결제 실패 시 보상을 요청합니다. 요청 스레드에서는 사가 상태만 바꾸고 보상은 워커 풀에서 실행합니다.
+     */
+    public void requestCompensation(PaymentSaga saga, Exception cause) {
+        try {
+            LocalDateTime leaseUntil = LocalDateTime.now().plus(COMPENSATION_LEASE);
+            String owner = newOwner();
+            if (paymentSagaSteps.startCompensation(saga.getId(), cause.getMessage(), leaseUntil, owner)) {
+                dispatch(saga.getId(), owner);
+            }
+        } catch (Exception e) {
+            // 사가가 IN_PROGRESS로 남으므로 복구 스케줄러가 중단 건으로 처리
+            log.error("보상 요청 실패, 복구 스케줄러에서 처리: orderId={}", saga.getOrderId(), e);
+        }
+    }
+
+    /**
+     * 재시도 시각이 지난 보상 사가와 중단된 사가를 워커 풀에 넘깁니다.
+     *
+     * @return 보상을 시작한 사가 수
+     */
+    public int recover() {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (PaymentSaga stale : paymentSagaRepository.findStaleInProgress(now.minus(STALE_IN_PROGRESS), RECOVERY_BATCH_SIZE)) {
+            try {
+                paymentSagaSteps.startCompensation(stale.getId(), "결제 진행 중 중단", now, null);
+                log.warn("중단된 결제 사가 보상 전환: orderId={}", stale.getOrderId());
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.debug("결제 사가 동시 갱신, 다음 주기에 재확인: sagaId={}", stale.getId());
+            }
+        }
+
+        int dispatched = 0;
+        for (PaymentSaga due : paymentSagaRepository.findCompensationDue(now, RECOVERY_BATCH_SIZE)) {
+            try {
+                String owner = newOwner();
+                if (paymentSagaSteps.claimCompensation(due.getId(), now, now.plus(COMPENSATION_LEASE), owner)) {
+                    dispatch(due.getId(), owner);
+                    dispatched++;
+                }
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.debug("다른 워커가 보상 사가를 선점: sagaId={}", due.getId());
+            }
+        }
+        return dispatched;
+    }
+
+    /**
+     * 남은 보상 단계를 실행합니다. (보상 워커 스레드)
+     *
+     * @param owner 이 사가를 선점할 때 받은 owner
+     */
+    void compensate(Long sagaId, String owner) {
+        PaymentSaga saga = paymentSagaRepository.getByIdOrThrow(sagaId);
+        if (!saga.isCompensating()) {
+            return;
+        }
+
+        try {
+            if (saga.needsPointRefund() || paymentSagaSteps.needsUnrecordedPointRefund(saga)) {
+                paymentSagaSteps.refundPoint(sagaId);
+                log.info("포인트 복구 완료: userId={}, amount={}", saga.getUserId(), saga.getUsedPoint());
+            }
+
+            if (saga.needsCouponRestore()) {
+                paymentSagaSteps.restoreCoupon(sagaId);
+                log.info("쿠폰 복구 완료: userCouponId={}", saga.getUserCouponId());
+            }
+
+            List<OrderItem> items = orderItemRepository.findByOrderId(saga.getOrderId()).stream()
+                    .sorted(Comparator.comparing(OrderItem::getId))
+                    .toList();
+            for (OrderItem item : items.subList(saga.getRestoredItemCount(), items.size())) {
+                if (!paymentSagaSteps.renewCompensationLease(sagaId, owner, LocalDateTime.now().plus(COMPENSATION_LEASE))) {
+                    log.warn("다른 워커가 보상 사가를 선점, 재고 복구 중단: orderId={}", saga.getOrderId());
+                    return;
+                }
+                stockDeductor.restore(item.getProductId(), item.getQuantity());
+                paymentSagaSteps.markItemRestored(sagaId);
+                log.info("재고 복구 완료: productId={}, quantity={}", item.getProductId(), item.getQuantity());
+            }
+
+            paymentSagaSteps.finishCompensation(sagaId);
+            log.info("결제 보상 완료, 결제 상태 FAILED: orderId={}", saga.getOrderId());
+
+        } catch (Exception e) {
+            PaymentSaga current = paymentSagaRepository.getByIdOrThrow(sagaId);
+            LocalDateTime nextRetryAt = LocalDateTime.now().plus(backoff(current.getRetryCount()));
+            paymentSagaSteps.recordCompensationFailure(sagaId, e.getMessage(), nextRetryAt, MAX_COMPENSATION_RETRY);
+
+            if (current.getRetryCount() + 1 >= MAX_COMPENSATION_RETRY) {
+                log.error("결제 보상 재시도 한도 초과, 수동 처리 필요: orderId={}", saga.getOrderId(), e);
+            } else {
+                log.warn("결제 보상 실패, 재시도 예정: orderId={}, nextRetryAt={}, error={}",
+                        saga.getOrderId(), nextRetryAt, e.getMessage());
+            }
+        }
+    }
+
+    private void dispatch(Long sagaId, String owner) {
+        try {
+            compensationExecutor.execute(() -> compensate(sagaId, owner));
+        } catch (RejectedExecutionException e) {
+            // 선점 기간이 지나면 복구 스케줄러가 다시 집어감
+            log.warn("보상 워커 포화, 복구 스케줄러에서 재시도: sagaId={}", sagaId);
+        }
+    }
+
+    private static String newOwner() {
+        return UUID.randomUUID().toString();
+    }
+
+    static Duration backoff(int retryCount) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(retryCount, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
@@ -0,0 +1,147 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.domain.entity.OrderPayment;
+import com.ecommerce.domain.entity.PaymentSaga;
+import com.ecommerce.domain.repository.PaymentSagaRepository;
+import com.ecommerce.domain.service.CouponDomainService;
+import com.ecommerce.domain.service.PaymentDomainService;
+import com.ecommerce.domain.service.PointWallet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 사가 단계 실행기
+ *
+ * 각 단계의 도메인 서비스 호출과 사가 기록을 같은 트랜잭션으로 묶습니다.
+ * 서버가 중간에 죽어도 사가 기록만 보면 어디까지 반영됐는지 알 수 있습니다.
+ *
+ * 주의:
+ * - 도메인 서비스의 @Transactional(REQUIRED)은 이 트랜잭션에 합류
+ * - single-transaction 모드에서는 세 정방향 단계가 상위 트랜잭션 하나에 다시 합류
+ * - 포인트 핫 월렛(ecommerce.point.mode=redis)은 트랜잭션에 묶이지 않으므로 orderId로 중복 차감/환불을 막음
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentSagaSteps {
+
+    private static final String POINT_DESCRIPTION_ORDER_PAYMENT = "주문 결제";
+
+    private final PaymentSagaRepository paymentSagaRepository;
+    private final PointWallet pointWallet;
+    private final CouponDomainService couponDomainService;
+    private final PaymentDomainService paymentDomainService;
+
+    // ===== 정방향 단계 =====
+
+    @Transactional
+    public void deductPoint(Long sagaId) {
+        PaymentSaga saga = paymentSagaRepository.getByIdOrThrow(sagaId);
+        saga.markPointDeducted();
+        pointWallet.deduct(
+                saga.getUserId(),
+                saga.getUsedPoint(),
+                POINT_DESCRIPTION_ORDER_PAYMENT,
+                saga.getOrderId()
+        );
+        paymentSagaRepository.save(saga);
+    }
+
+    @Transactional
+    public void useCoupon(Long sagaId) {
+        PaymentSaga saga = paymentSagaRepository.getByIdOrThrow(sagaId);
+        saga.markCouponUsed();
+        couponDomainService.useCoupon(saga.getUserCouponId());
+        paymentSagaRepository.save(saga);
+    }
+
+    @Transactional
+    public OrderPayment completePayment(Long sagaId) {
+        PaymentSaga saga = paymentSagaRepository.getByIdOrThrow(sagaId);
+        saga.complete();
+        OrderPayment payment = paymentDomainService.completePayment(saga.getOrderId());
+        paymentSagaRepository.save(saga);
+        return payment;
+    }
+
+    // ===== 보상 단계 =====
+
+    @Transactional
+    public boolean startCompensation(Long sagaId, String reason, LocalDateTime leaseUntil, String owner) {
+        PaymentSaga saga = paymentSagaRepository.getByIdOrThrow(sagaId);
+        boolean started = saga.startCompensation(reason, leaseUntil, owner);
+        paymentSagaRepository.save(saga);
+        return started;
+    }
+
+    @Transactional
+    public boolean claimCompensation(Long sagaId, LocalDateTime now, LocalDateTime leaseUntil, String owner) {
+        PaymentSaga saga = paymentSagaRepository.getByIdOrThrow(sagaId);
+        boolean claimed = saga.claimCompensation(now, leaseUntil, owner);
+        paymentSagaRepository.save(saga);
+        return claimed;
+    }
+
+    /**
+     * @return 아직 owner가 선점하고 있어 연장했으면 true (동시 갱신은 @Version으로 한쪽만 성공)
+     */
+    @Transactional
+    public boolean renewCompensationLease(Long sagaId, String owner, LocalDateTime leaseUntil) {
+        PaymentSaga saga = paymentSagaRepository.getByIdOrThrow(sagaId);
+        boolean renewed = saga.renewCompensationLease(owner, leaseUntil);
+        paymentSagaRepository.save(saga);
+        return renewed;
+    }
+
+    /**
+     * 사가에 차감 기록이 없어도 포인트 환불을 시도해야 하는지 여부
+     * 핫 월렛 차감은 Redis에서 바로 확정되므로 단계 트랜잭션 커밋이 실패하면 기록 없이 포인트만 빠져 있을 수 있음
+     * (월렛이 주문의 차감 표시로 실제 차감 여부를 거름)
+     */
+    public boolean needsUnrecordedPointRefund(PaymentSaga saga) {
+        return pointWallet.appliesOutsideTransaction() && saga.getUsedPoint() > 0 && !saga.isPointRefunded();
+    }
+
+    @Transactional
+    public void refundPoint(Long sagaId) {
+        PaymentSaga saga = paymentSagaRepository.getByIdOrThrow(sagaId);
+        pointWallet.refund(saga.getUserId(), saga.getUsedPoint(), saga.getOrderId());
+        saga.markPointRefunded();
+        paymentSagaRepository.save(saga);
+    }
+
+    @Transactional
+    public void restoreCoupon(Long sagaId) {
+        PaymentSaga saga = paymentSagaRepository.getByIdOrThrow(sagaId);
+        couponDomainService.cancelCouponUsage(saga.getUserCouponId());
+        saga.markCouponRestored();
+        paymentSagaRepository.save(saga);
+    }
+
+    /**
+     * 재고는 Redis 등 DB 밖에 있을 수 있어 복구 자체는 트랜잭션 밖에서 하고, 아이템 단위로 진행 상황만 기록합니다.
+     */
+    @Transactional
+    public void markItemRestored(Long sagaId) {
+        PaymentSaga saga = paymentSagaRepository.getByIdOrThrow(sagaId);
+        saga.markItemRestored();
+        paymentSagaRepository.save(saga);
+    }
+
+    @Transactional
+    public void finishCompensation(Long sagaId) {
+        PaymentSaga saga = paymentSagaRepository.getByIdOrThrow(sagaId);
+        paymentDomainService.failPayment(saga.getOrderId());
+        saga.markCompensated();
+        paymentSagaRepository.save(saga);
+    }
+
+    @Transactional
+    public void recordCompensationFailure(Long sagaId, String error, LocalDateTime nextRetryAt, int maxRetryCount) {
+        PaymentSaga saga = paymentSagaRepository.getByIdOrThrow(sagaId);
+        saga.recordCompensationFailure(error, nextRetryAt, maxRetryCount);
+        paymentSagaRepository.save(saga);
+    }
+}
@@ -1,68 +1,115 @@
 package com.ecommerce.application.service;
 
 import com.ecommerce.application.dto.PointChargeRequest;
+import com.ecommerce.application.dto.PointHistoryCursor;
+import com.ecommerce.application.dto.PointHistoryPageResponse;
 import com.ecommerce.application.dto.PointHistoryResponse;
 import com.ecommerce.application.dto.PointResponse;
-import com.ecommerce.domain.entity.PointHistory;
-import com.ecommerce.domain.entity.User;
 import com.ecommerce.domain.repository.PointHistoryRepository;
-import com.ecommerce.domain.repository.UserRepository;
-import com.ecommerce.domain.service.PointDomainService;
-import com.ecommerce.infrastructure.lock.DistributedLockExecutor;
+import com.ecommerce.domain.repository.PointHistorySummary;
+import com.ecommerce.domain.service.PointUpdateExecutor;
+import com.ecommerce.domain.service.PointWallet;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 포인트 Application Facade 서비스
  *
  * 책임:
- * - 분산 락 관리 (동시성 제어)
- * - 도메인 서비스 호출 조율
+ * - 동시성 제어 위임 (PointUpdateExecutor, ecommerce.point.mode로 락/낙관적 재시도/핫 월렛/원장 선택)
+ * - 비동기 경로는 PointUpdateExecutor.executeAsync (락 모드는 분산 락 비동기 획득)
+ * - 잔액 저장소 호출 조율 (PointWallet: DB, Redis 핫 월렛, 원장)
  * - DTO 변환
+ * - 이력 조회는 프로젝션 + keyset 페이지네이션 (idx_user_created), 전체 조회는 최근 MAX_HISTORY_SIZE건으로 제한
  *
  * 주의:
- * - 비즈니스 로직은 PointDomainService에 위임
- * - Self-Invocation 없음 (분산 락 → 도메인 서비스)
+ * - 비즈니스 로직은 PointWallet(→ PointDomainService)에 위임
+ * - Self-Invocation 없음 (동시성 제어 → 잔액 저장소)
  */
 @Service
 @RequiredArgsConstructor
 public class PointService {
 
-    private static final String LOCK_KEY_PREFIX = "lock:point:";
+    static final int MAX_HISTORY_SIZE = 100;
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
 
-    private final UserRepository userRepository;
     private final PointHistoryRepository pointHistoryRepository;
-    private final DistributedLockExecutor lockExecutor;
-    private final PointDomainService pointDomainService;
+    private final PointUpdateExecutor pointUpdateExecutor;
+    private final PointWallet pointWallet;
 
     public PointResponse chargePoint(PointChargeRequest request) {
-        String lockKey = LOCK_KEY_PREFIX + request.userId();
+        return pointUpdateExecutor.execute(request.userId(), () -> {
+            int balance = pointWallet.charge(request.userId(), request.amount());
+            return new PointResponse(request.userId(), balance);
+        });
+    }
 
-        return lockExecutor.executeWithLock(lockKey, () -> {
-            int balance = pointDomainService.chargePoint(request.userId(), request.amount());
+    /**
+     * 포인트 충전 (비동기)
+     * 락 대기 중 요청 스레드를 점유하지 않습니다.
+     */
+    public CompletableFuture<PointResponse> chargePointAsync(PointChargeRequest request) {
+        return pointUpdateExecutor.executeAsync(request.userId(), () -> {
+            int balance = pointWallet.charge(request.userId(), request.amount());
             return new PointResponse(request.userId(), balance);
         });
     }
 
     public PointResponse getPoint(Long userId) {
-        User user = userRepository.getByIdOrThrow(userId);
-        return new PointResponse(user.getId(), user.getPointBalance());
+        return new PointResponse(userId, pointWallet.getBalance(userId));
     }
 
     public PointResponse deductPoint(Long userId, int amount, String description, Long orderId) {
-        String lockKey = LOCK_KEY_PREFIX + userId;
-
-        return lockExecutor.executeWithLock(lockKey, () -> {
-            int balance = pointDomainService.deductPoint(userId, amount, description, orderId);
+        return pointUpdateExecutor.execute(userId, () -> {
+            int balance = pointWallet.deduct(userId, amount, description, orderId);
             return new PointResponse(userId, balance);
         });
     }
 
+    /**
+     * 최근 이력 최대 MAX_HISTORY_SIZE건을 오래된 순으로 반환합니다.
+     * 그보다 오래된 이력은 getPointHistoryPage로 조회합니다.
+     */
     public List<PointHistoryResponse> getPointHistory(Long userId) {
-        List<PointHistory> histories = pointHistoryRepository.findByUserId(userId);
-        return histories.stream()
+        List<PointHistoryResponse> histories = new ArrayList<>(
+                toResponses(pointHistoryRepository.findLatestByUserId(userId, MAX_HISTORY_SIZE)));
+        Collections.reverse(histories);
+        return histories;
+    }
+
+    /**
+     * 최신순 이력 한 페이지를 반환합니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (null이면 DEFAULT_PAGE_SIZE, 최대 MAX_PAGE_SIZE)
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public PointHistoryPageResponse getPointHistoryPage(Long userId, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+        List<PointHistorySummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = pointHistoryRepository.findLatestByUserId(userId, pageSize + 1);
+        } else {
+            PointHistoryCursor decoded = PointHistoryCursor.decode(cursor);
+            rows = pointHistoryRepository.findByUserIdBefore(userId, decoded.createdAt(), decoded.id(), pageSize + 1);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PointHistoryResponse> histories = toResponses(hasNext ? rows.subList(0, pageSize) : rows);
+        String nextCursor = hasNext ? PointHistoryCursor.of(histories.get(histories.size() - 1)).encode() : null;
+        return new PointHistoryPageResponse(histories, nextCursor, hasNext);
+    }
+
+    private List<PointHistoryResponse> toResponses(List<PointHistorySummary> rows) {
+        return rows.stream()
                 .map(PointHistoryResponse::from)
                 .toList();
     }
@@ -6,12 +6,14 @@ import com.ecommerce.config.RedisCacheConfig;
 import com.ecommerce.domain.entity.Product;
 import com.ecommerce.domain.repository.PopularProductRepository;
 import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.domain.service.ProductDomainService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 상품 서비스
@@ -22,6 +24,7 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final PopularProductRepository popularProductRepository;
+    private final ProductDomainService productDomainService;
 
     /**
      * 모든 상품 목록을 조회합니다.
@@ -30,11 +33,15 @@ public class ProductService {
      * - 재고 숫자 대신 상태(AVAILABLE/LOW_STOCK/SOLD_OUT)만 반영
      * - TTL 5분으로 긴 캐싱 가능 (정확한 재고는 상세 조회 참조)
      * - sync=true로 Cache Stampede 방지
+     * - 재고 상태는 버킷 분할 재고까지 합산하여 판단
      */
     @Cacheable(value = RedisCacheConfig.PRODUCT_LIST_CACHE, key = "'all'", sync = true)
     public List<ProductListResponse> getProducts() {
-        return productRepository.findAll().stream()
-                .map(ProductListResponse::from)
+        List<Product> products = productRepository.findAll();
+        Map<Long, Integer> stocks = productDomainService.getAvailableStocks(products);
+
+        return products.stream()
+                .map(product -> ProductListResponse.from(product, stocks.get(product.getId())))
                 .toList();
     }
 
@@ -50,7 +57,8 @@ public class ProductService {
     @Cacheable(value = RedisCacheConfig.PRODUCT_CACHE, key = "#productId", sync = true)
     public ProductResponse getProduct(Long productId) {
         Product product = productRepository.getByIdOrThrow(productId);
-        return ProductResponse.from(product);
+        Map<Long, Integer> stocks = productDomainService.getAvailableStocks(List.of(product));
+        return ProductResponse.from(product, stocks.get(productId));
     }
 
     /**
@@ -68,9 +76,13 @@ public class ProductService {
 
         List<Long> topProductIds = popularProductRepository.getTopProductIds(startTime, endTime, 5);
 
-        return topProductIds.stream()
+        List<Product> products = topProductIds.stream()
                 .map(productRepository::getByIdOrThrow)
-                .map(ProductResponse::from)
+                .toList();
+        Map<Long, Integer> stocks = productDomainService.getAvailableStocks(products);
+
+        return products.stream()
+                .map(product -> ProductResponse.from(product, stocks.get(product.getId())))
                 .toList();
     }
 }
@@ -0,0 +1,37 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.domain.entity.OrderPayment;
+import com.ecommerce.domain.entity.PaymentSaga;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단계별 트랜잭션 결제 (ecommerce.payment.mode=saga, 기본값)
+ *
+ * 포인트 차감, 쿠폰 사용, 결제 완료를 단계마다 따로 커밋하고 사가에 기록합니다.
+ * 중간에 실패하면 이미 커밋된 단계는 PaymentSagaOrchestrator가 비동기로 보상합니다.
+ *
+ * 주의:
+ * - 결제 한 건에 최대 3번 커밋
+ */
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.payment", name = "mode", havingValue = "saga", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SagaPaymentProcessor implements PaymentProcessor {
+
+    private final PaymentSagaSteps paymentSagaSteps;
+
+    @Override
+    public OrderPayment process(PaymentSaga saga) {
+        if (saga.getUsedPoint() > 0) {
+            paymentSagaSteps.deductPoint(saga.getId());
+        }
+
+        if (saga.getUserCouponId() != null) {
+            paymentSagaSteps.useCoupon(saga.getId());
+        }
+
+        return paymentSagaSteps.completePayment(saga.getId());
+    }
+}
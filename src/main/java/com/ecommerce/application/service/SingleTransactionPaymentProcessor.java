@@ -0,0 +1,42 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.domain.entity.OrderPayment;
+import com.ecommerce.domain.entity.PaymentSaga;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 단일 로컬 트랜잭션 결제 (ecommerce.payment.mode=single-transaction)
+ *
+ * users, point_history, user_coupons, order_payments가 같은 MySQL에 있으므로
+ * 포인트 차감, 쿠폰 사용, 결제 완료를 하나의 트랜잭션으로 묶어 커밋 1회로 처리합니다.
+ * 단계별 @Transactional은 이 트랜잭션에 합류하고,
+ * 변경 내용은 커밋 시점에 한 번에 flush되어 JDBC 배치로 전송됩니다.
+ *
+ * 주의:
+ * - 실패 시 롤백으로 되돌리므로 포인트/쿠폰 보상이 필요 없음 (사가 기록도 함께 롤백)
+ * - OrderService의 Facade가 아닌 별도 빈이므로 프록시를 통해 @Transactional 정상 적용
+ */
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.payment", name = "mode", havingValue = "single-transaction")
+@RequiredArgsConstructor
+public class SingleTransactionPaymentProcessor implements PaymentProcessor {
+
+    private final PaymentSagaSteps paymentSagaSteps;
+
+    @Override
+    @Transactional
+    public OrderPayment process(PaymentSaga saga) {
+        if (saga.getUsedPoint() > 0) {
+            paymentSagaSteps.deductPoint(saga.getId());
+        }
+
+        if (saga.getUserCouponId() != null) {
+            paymentSagaSteps.useCoupon(saga.getId());
+        }
+
+        return paymentSagaSteps.completePayment(saga.getId());
+    }
+}
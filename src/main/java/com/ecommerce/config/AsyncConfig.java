@@ -43,4 +43,47 @@ public class AsyncConfig {
 
         return executor;
     }
+
+    /**
+     * 비동기 락 작업용 Executor
+     *
+     * DistributedLockExecutor.executeWithLockAsync에서 락 획득 후의 작업(DB 트랜잭션)을 실행한다.
+     * 락 대기는 Redisson 비동기 알림으로 처리되므로 이 풀의 스레드는 작업 실행에만 쓰인다.
+     * AbortPolicy: 큐가 가득 차면 즉시 실패 → 락을 풀고 LockAcquisitionException으로 응답
+     */
+    @Bean(name = "lockTaskExecutor")
+    public Executor lockTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(10);
+        executor.setMaxPoolSize(20);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("lock-task-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        return executor;
+    }
+
+    /**
+     * 결제 보상 워커 Executor
+     *
+     * PaymentSagaOrchestrator가 결제 실패 시 보상(포인트/쿠폰/재고 복구)을 요청 스레드 밖에서 실행한다.
+     * AbortPolicy: 큐가 가득 차면 제출만 포기 → 사가가 COMPENSATING으로 남아 복구 스케줄러가 재시도
+     */
+    @Bean(name = "sagaCompensationExecutor")
+    public Executor sagaCompensationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("saga-compensation-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        return executor;
+    }
 }
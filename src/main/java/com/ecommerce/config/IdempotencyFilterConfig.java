@@ -0,0 +1,27 @@
+package com.ecommerce.config;
+
+import com.ecommerce.infrastructure.redis.IdempotencyRedisRepository;
+import com.ecommerce.interfaces.filter.IdempotencyKeyFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Idempotency-Key 필터 등록
+ *
+ * 서블릿 URL 패턴은 중간 와일드카드를 지원하지 않으므로 /api/orders 하위 전체에 걸고,
+ * 실제 대상(주문 생성, 결제)은 필터에서 경로로 다시 거릅니다.
+ */
+@Configuration
+public class IdempotencyFilterConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyKeyFilter> idempotencyKeyFilter(
+            IdempotencyRedisRepository idempotencyRedisRepository, ObjectMapper objectMapper) {
+        FilterRegistrationBean<IdempotencyKeyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyKeyFilter(idempotencyRedisRepository, objectMapper));
+        registration.addUrlPatterns("/api/orders", "/api/orders/*");
+        return registration;
+    }
+}
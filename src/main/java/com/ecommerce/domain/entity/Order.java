@@ -1,22 +1,35 @@
 package com.ecommerce.domain.entity;
 
-import com.ecommerce.domain.entity.base.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
 
 /**
  * 주문 Entity
  * ERD 설계에 따라 단순화된 주문 정보만 관리합니다.
  * 결제 관련 로직은 OrderPayment Entity로 분리되었습니다.
  * OrderItem은 간접 참조(ID 기반)로 관리합니다.
+ *
+ * ID는 시간순 64비트 ID(OrderIdGenerator)를 생성 시점에 받아 사용합니다.
+ * - 주문 번호도 ID에서 바로 만들어지므로 INSERT 한 번으로 저장 (번호 UPDATE 없음)
+ * - ID가 시간순으로 증가하여 orders 클러스터드 인덱스에 항상 끝에 추가됨
  */
 @Entity
 @Table(name = "orders")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Order extends BaseTimeEntity {
+public class Order implements Persistable<Long> {
+
+    private static final String ORDER_NUMBER_PREFIX = "ORD-";
+
+    @Id
+    private Long id;
 
     @Column(name = "user_id", nullable = false)
     private Long userId;
@@ -24,20 +37,57 @@ public class Order extends BaseTimeEntity {
     @Column(name = "order_number", nullable = false, unique = true, length = 50)
     private String orderNumber;
 
-    public Order(Long userId) {
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * ID를 미리 할당했으므로 save() 시 merge(SELECT) 대신 persist 하도록 신규 여부를 직접 관리
+     */
+    @Transient
+    private boolean isNew = true;
+
+    public Order(Long id, Long userId) {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException("주문 ID는 양수여야 합니다");
+        }
         if (userId == null) {
             throw new IllegalArgumentException("사용자 ID는 필수입니다");
         }
 
+        this.id = id;
         this.userId = userId;
-        this.orderNumber = "ORD-TEMP-" + System.nanoTime();
-        initializeTimestamps();
+        this.orderNumber = toOrderNumber(id);
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
     }
 
-    public void assignOrderNumber() {
-        if (this.getId() == null) {
-            throw new IllegalStateException("주문 ID가 필요합니다");
-        }
-        this.orderNumber = "ORD-" + String.format("%010d", this.getId());
+    /**
+     * 주문 ID로 주문 번호를 만듭니다. (ORD-{19자리 ID}, 문자열 정렬 = 시간 정렬)
+     */
+    public static String toOrderNumber(long id) {
+        return ORDER_NUMBER_PREFIX + String.format("%019d", id);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    /**
+     * 수정 시간을 갱신합니다.
+     */
+    public void updateTimestamp() {
+        this.updatedAt = LocalDateTime.now();
     }
 }
@@ -48,6 +48,12 @@ public class OrderPayment extends BaseEntity {
     @Column(name = "paid_at")
     private LocalDateTime paidAt;
 
+    /**
+     * PENDING → PROCESSING 전환 시각 (조건부 UPDATE로만 기록, 멈춘 결제 정리 기준)
+     */
+    @Column(name = "processing_started_at")
+    private LocalDateTime processingStartedAt;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,212 @@
+package com.ecommerce.domain.entity;
+
+import com.ecommerce.domain.entity.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 사가 Entity
+ * 결제의 각 단계(포인트 차감, 쿠폰 사용, 결제 완료)와 보상 진행 상황을 기록합니다.
+ *
+ * 주의:
+ * - 단계 기록은 해당 단계와 같은 트랜잭션에서 갱신 (기록과 실제 상태가 어긋나지 않도록)
+ * - @Version으로 결제 요청 스레드와 보상 워커가 같은 사가를 동시에 갱신하는 것을 막음
+ */
+@Entity
+@Table(
+    name = "payment_sagas",
+    indexes = {
+        @Index(name = "idx_status_next_retry", columnList = "status, next_retry_at"),
+        @Index(name = "idx_status_updated", columnList = "status, updated_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentSaga extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Version
+    private Long version;
+
+    @Column(name = "order_id", nullable = false, unique = true)
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "used_point", nullable = false)
+    private int usedPoint;
+
+    @Column(name = "user_coupon_id")
+    private Long userCouponId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    private PaymentSagaStatus status;
+
+    @Column(name = "point_deducted", nullable = false)
+    private boolean pointDeducted;
+
+    @Column(name = "coupon_used", nullable = false)
+    private boolean couponUsed;
+
+    @Column(name = "point_refunded", nullable = false)
+    private boolean pointRefunded;
+
+    @Column(name = "coupon_restored", nullable = false)
+    private boolean couponRestored;
+
+    @Column(name = "restored_item_count", nullable = false)
+    private int restoredItemCount;
+
+    @Column(name = "retry_count", nullable = false)
+    private int retryCount;
+
+    @Column(name = "next_retry_at")
+    private LocalDateTime nextRetryAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    /**
+     * 보상을 선점한 워커 (선점마다 새로 발급, 선점 기간 연장 시 확인)
+     */
+    @Column(name = "compensation_owner", length = 36)
+    private String compensationOwner;
+
+    public PaymentSaga(Long orderId, Long userId, int usedPoint, Long userCouponId) {
+        if (orderId == null || userId == null) {
+            throw new IllegalArgumentException("주문 ID와 사용자 ID는 필수입니다");
+        }
+        if (usedPoint < 0) {
+            throw new IllegalArgumentException("사용 포인트는 0 이상이어야 합니다");
+        }
+
+        this.orderId = orderId;
+        this.userId = userId;
+        this.usedPoint = usedPoint;
+        this.userCouponId = userCouponId;
+        this.status = PaymentSagaStatus.IN_PROGRESS;
+        initializeTimestamps();
+    }
+
+    public void markPointDeducted() {
+        validateInProgress();
+        this.pointDeducted = true;
+    }
+
+    public void markCouponUsed() {
+        validateInProgress();
+        this.couponUsed = true;
+    }
+
+    public void complete() {
+        validateInProgress();
+        this.status = PaymentSagaStatus.COMPLETED;
+    }
+
+    /**
+     * 보상을 시작합니다. 진행 중인 사가만 전환됩니다.
+     *
+     * @param leaseUntil 이 시각까지는 보상 스케줄러가 다시 집어가지 않음
+     * @param owner 보상을 실행할 워커 (null이면 선점하지 않고 전환만 함)
+     * @return 이번 호출로 COMPENSATING으로 전환됐으면 true
+     */
+    public boolean startCompensation(String reason, LocalDateTime leaseUntil, String owner) {
+        if (status != PaymentSagaStatus.IN_PROGRESS) {
+            return false;
+        }
+        this.status = PaymentSagaStatus.COMPENSATING;
+        this.lastError = truncate(reason);
+        this.nextRetryAt = leaseUntil;
+        this.compensationOwner = owner;
+        return true;
+    }
+
+    /**
+     * 재시도 시각이 된 보상 사가를 선점합니다.
+     */
+    public boolean claimCompensation(LocalDateTime now, LocalDateTime leaseUntil, String owner) {
+        if (!isCompensating() || (nextRetryAt != null && nextRetryAt.isAfter(now))) {
+            return false;
+        }
+        this.nextRetryAt = leaseUntil;
+        this.compensationOwner = owner;
+        return true;
+    }
+
+    /**
+     * 선점 기간을 연장합니다. 그사이 다른 워커가 선점했으면 연장하지 않습니다.
+     *
+     * @return 아직 owner가 선점하고 있어 연장했으면 true
+     */
+    public boolean renewCompensationLease(String owner, LocalDateTime leaseUntil) {
+        if (!isCompensating() || owner == null || !owner.equals(compensationOwner)) {
+            return false;
+        }
+        this.nextRetryAt = leaseUntil;
+        return true;
+    }
+
+    public boolean needsPointRefund() {
+        return pointDeducted && !pointRefunded;
+    }
+
+    public boolean needsCouponRestore() {
+        return couponUsed && !couponRestored;
+    }
+
+    public void markPointRefunded() {
+        this.pointRefunded = true;
+    }
+
+    public void markCouponRestored() {
+        this.couponRestored = true;
+    }
+
+    public void markItemRestored() {
+        this.restoredItemCount++;
+    }
+
+    public void markCompensated() {
+        this.status = PaymentSagaStatus.COMPENSATED;
+        this.nextRetryAt = null;
+    }
+
+    /**
+     * 보상 실패를 기록합니다. 재시도 한도를 넘으면 COMPENSATION_FAILED로 전환합니다.
+     */
+    public void recordCompensationFailure(String error, LocalDateTime nextRetryAt, int maxRetryCount) {
+        this.retryCount++;
+        this.lastError = truncate(error);
+
+        if (retryCount >= maxRetryCount) {
+            this.status = PaymentSagaStatus.COMPENSATION_FAILED;
+            this.nextRetryAt = null;
+            return;
+        }
+        this.nextRetryAt = nextRetryAt;
+    }
+
+    public boolean isCompensating() {
+        return status == PaymentSagaStatus.COMPENSATING;
+    }
+
+    private void validateInProgress() {
+        if (status != PaymentSagaStatus.IN_PROGRESS) {
+            throw new IllegalStateException("진행 중인 결제가 아닙니다: " + status);
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
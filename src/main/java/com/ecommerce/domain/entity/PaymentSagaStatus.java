@@ -0,0 +1,16 @@
+package com.ecommerce.domain.entity;
+
+/**
+ * 결제 사가 상태
+ *
+ * IN_PROGRESS → COMPLETED (정상 결제)
+ * IN_PROGRESS → COMPENSATING → COMPENSATED (실패 후 보상 완료)
+ * COMPENSATING → COMPENSATION_FAILED (재시도 한도 초과, 수동 처리 필요)
+ */
+public enum PaymentSagaStatus {
+    IN_PROGRESS,
+    COMPLETED,
+    COMPENSATING,
+    COMPENSATED,
+    COMPENSATION_FAILED
+}
@@ -2,6 +2,7 @@ package com.ecommerce.domain.entity;
 
 public enum PaymentStatus {
     PENDING,
+    PROCESSING,
     COMPLETED,
     FAILED
 }
@@ -0,0 +1,77 @@
+package com.ecommerce.domain.entity;
+
+import com.ecommerce.domain.entity.base.BaseEntity;
+import com.ecommerce.domain.vo.Money;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 잔액 스냅샷 Entity (ecommerce.point.mode=ledger)
+ *
+ * 원장 항목을 주기적으로 합산해 만든 사용자별 잔액 기준점입니다.
+ * 갱신하지 않고 새 행을 추가하며, 사용자별 가장 큰 snapshotSeq가 최신 스냅샷입니다.
+ *
+ * 주의:
+ * - ID는 인스턴스별 블록 할당이라 생성 순서와 무관 → 순서는 snapshotSeq로 판단
+ */
+@Entity
+@Table(
+    name = "point_balance_snapshots",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_snapshot_seq", columnNames = {"user_id", "snapshot_seq"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointBalanceSnapshot extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "snapshot_seq", nullable = false)
+    private Long snapshotSeq;
+
+    @Column(name = "balance", nullable = false, precision = 15, scale = 2)
+    private Money balance;
+
+    @Column(name = "entry_count", nullable = false)
+    private Integer entryCount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private PointBalanceSnapshot(Long userId, long snapshotSeq, int balance, int entryCount) {
+        if (balance < 0) {
+            throw new IllegalStateException("스냅샷 잔액은 0 이상이어야 합니다: userId=" + userId + ", balance=" + balance);
+        }
+        this.userId = userId;
+        this.snapshotSeq = snapshotSeq;
+        this.balance = Money.of(balance);
+        this.entryCount = entryCount;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 첫 스냅샷 (기준 잔액은 ledger 모드 전환 시점의 users.point_balance)
+     */
+    public static PointBalanceSnapshot first(Long userId, int baseBalance, int delta, int entryCount) {
+        return new PointBalanceSnapshot(userId, 1L, baseBalance + delta, entryCount);
+    }
+
+    /**
+     * 이 스냅샷에 원장 항목 변화량을 더한 다음 스냅샷
+     */
+    public PointBalanceSnapshot next(int delta, int entryCount) {
+        return new PointBalanceSnapshot(userId, snapshotSeq + 1, getBalance() + delta, entryCount);
+    }
+
+    public int getBalance() {
+        return balance.getAmount();
+    }
+}
@@ -15,7 +15,13 @@ import java.time.LocalDateTime;
  * 포인트 충전/사용/환불 이력을 기록합니다.
  */
 @Entity
-@Table(name = "point_histories")
+@Table(
+    name = "point_histories",
+    indexes = {
+        @Index(name = "idx_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_ledger_status_user", columnList = "ledger_status, user_id")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PointHistory extends BaseEntity {
@@ -43,6 +49,10 @@ public class PointHistory extends BaseEntity {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ledger_status", length = 20)
+    private PointLedgerStatus ledgerStatus;
+
     public PointHistory(Long userId, TransactionType transactionType,
                         Integer amount, Integer balanceAfter, String description) {
         this(userId, transactionType, amount, balanceAfter, description, null);
@@ -62,6 +72,19 @@ public class PointHistory extends BaseEntity {
         this.createdAt = LocalDateTime.now();
     }
 
+    /**
+     * 원장 항목 (ecommerce.point.mode=ledger)
+     * 잔액 계산에 포함되도록 PENDING 상태로 기록합니다.
+     */
+    public static PointHistory ledgerEntry(Long userId, TransactionType transactionType,
+                                           Integer amount, Integer balanceAfter,
+                                           String description, Long relatedOrderId) {
+        PointHistory history = new PointHistory(
+                userId, transactionType, amount, balanceAfter, description, relatedOrderId);
+        history.ledgerStatus = PointLedgerStatus.PENDING;
+        return history;
+    }
+
     private void validateConstructorParams(Long userId, TransactionType transactionType,
                                             Integer amount, Integer balanceAfter) {
         if (userId == null) {
@@ -88,4 +111,11 @@ public class PointHistory extends BaseEntity {
     public int getBalanceAfter() {
         return balanceAfter.getAmount();
     }
+
+    /**
+     * 잔액 변화량 (충전/환불은 양수, 사용은 음수)
+     */
+    public int getSignedAmount() {
+        return transactionType == TransactionType.USE ? -getAmount() : getAmount();
+    }
 }
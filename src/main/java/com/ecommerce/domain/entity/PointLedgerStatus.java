@@ -0,0 +1,14 @@
+package com.ecommerce.domain.entity;
+
+/**
+ * 포인트 원장 항목 상태 (ecommerce.point.mode=ledger)
+ *
+ * - PENDING: 잔액 스냅샷에 아직 합산되지 않은 항목 (잔액 = 최신 스냅샷 + PENDING 합계)
+ * - SNAPSHOTTED: 스냅샷에 합산된 항목
+ *
+ * 다른 모드에서 기록된 이력은 상태가 없음 (users.point_balance에 이미 반영됨)
+ */
+public enum PointLedgerStatus {
+    PENDING,
+    SNAPSHOTTED
+}
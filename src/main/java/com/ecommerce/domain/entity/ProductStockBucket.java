@@ -0,0 +1,50 @@
+package com.ecommerce.domain.entity;
+
+import com.ecommerce.domain.entity.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 상품 재고 버킷 Entity
+ *
+ * 주문이 몰리는 상품의 재고를 N개 행으로 나눠 보관합니다.
+ * 버킷마다 행이 달라 행 락이 분산되며, 상품 재고는 products.stock_quantity + 버킷 합계입니다.
+ */
+@Entity
+@Table(
+    name = "product_stock_buckets",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_bucket", columnNames = {"product_id", "bucket_no"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductStockBucket extends BaseTimeEntity {
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "bucket_no", nullable = false)
+    private Integer bucketNo;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    public ProductStockBucket(Long productId, int bucketNo, int quantity) {
+        if (productId == null) {
+            throw new IllegalArgumentException("상품 ID는 필수입니다");
+        }
+        if (bucketNo < 0) {
+            throw new IllegalArgumentException("버킷 번호는 0 이상이어야 합니다");
+        }
+        if (quantity < 0) {
+            throw new IllegalArgumentException("재고는 0 이상이어야 합니다");
+        }
+        this.productId = productId;
+        this.bucketNo = bucketNo;
+        this.quantity = quantity;
+        initializeTimestamps();
+    }
+}
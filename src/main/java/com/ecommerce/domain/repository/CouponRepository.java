@@ -22,6 +22,21 @@ public interface CouponRepository {
 
     List<Coupon> findAll();
 
+    /**
+     * 발급 가능할 때만(활성, 발급 기간 내, 수량 남음) 발급 수를 1 늘리는 조건부 UPDATE
+     *
+     * @return 변경된 행 수 (0이면 발급 불가)
+     */
+    int increaseIssueCountIfAvailable(Long couponId);
+
+    /**
+     * 이미 발급이 확정된(Redis에서 선착순 통과) count건을 발급 수에 원자적으로 더하는 UPDATE
+     * 읽고 고쳐 쓰지 않으므로 여러 노드가 같은 쿠폰을 동시에 반영해도 갱신이 유실되지 않습니다.
+     *
+     * @return 변경된 행 수 (0이면 쿠폰이 없거나 더하면 최대 발급 수를 넘음)
+     */
+    int increaseIssueCount(Long couponId, int count);
+
     /**
      * 동시성 제어를 위한 락 기반 트랜잭션 실행
      * Read -> Modify -> Save 전체 구간을 락으로 보호합니다.
@@ -22,5 +22,31 @@ public interface OrderPaymentRepository {
 
     List<OrderPayment> findByStatusAndPaidAtAfter(PaymentStatus status, LocalDateTime after);
 
+    /**
+     * PENDING → PROCESSING 조건부 전환 (결제 진입 게이트)
+     *
+     * @return 영향받은 행 수 (1이면 이 요청이 결제 진행권을 얻음)
+     */
+    int markProcessingIfPending(Long orderId);
+
+    /**
+     * PENDING → FAILED 조건부 전환 (결제 기한 만료)
+     *
+     * @return 영향받은 행 수
+     */
+    int markFailedIfPending(Long orderId);
+
+    /**
+     * before 이전에 PROCESSING으로 전환된 뒤 결제 사가가 시작되지 않은 주문 ID 목록
+     */
+    List<Long> findStuckProcessingOrderIds(LocalDateTime before);
+
+    /**
+     * 멈춘 PROCESSING 결제를 PENDING으로 되돌립니다. (조회 이후 상태가 바뀌었으면 되돌리지 않음)
+     *
+     * @return 영향받은 행 수
+     */
+    int resetStuckProcessing(Long orderId, LocalDateTime before);
+
     void deleteAll();
 }
@@ -0,0 +1,36 @@
+package com.ecommerce.domain.repository;
+
+import com.ecommerce.domain.entity.PaymentSaga;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 결제 사가 Repository 인터페이스
+ */
+public interface PaymentSagaRepository {
+
+    PaymentSaga save(PaymentSaga saga);
+
+    Optional<PaymentSaga> findById(Long id);
+
+    default PaymentSaga getByIdOrThrow(Long id) {
+        return findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("결제 사가를 찾을 수 없습니다: " + id));
+    }
+
+    Optional<PaymentSaga> findByOrderId(Long orderId);
+
+    /**
+     * 재시도 시각이 지난 COMPENSATING 사가를 조회합니다.
+     */
+    List<PaymentSaga> findCompensationDue(LocalDateTime now, int limit);
+
+    /**
+     * before 이후로 갱신되지 않은 IN_PROGRESS 사가(결제 도중 중단된 건)를 조회합니다.
+     */
+    List<PaymentSaga> findStaleInProgress(LocalDateTime before, int limit);
+
+    void deleteAll();
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.domain.repository;
+
+import com.ecommerce.domain.entity.PointBalanceSnapshot;
+
+import java.util.Optional;
+
+/**
+ * 포인트 잔액 스냅샷 Repository 인터페이스
+ */
+public interface PointBalanceSnapshotRepository {
+
+    PointBalanceSnapshot save(PointBalanceSnapshot snapshot);
+
+    Optional<PointBalanceSnapshot> findLatestByUserId(Long userId);
+
+    /**
+     * 공유 락 읽기 (먼저 시작된 트랜잭션 안에서도 최신 커밋을 읽음)
+     */
+    Optional<PointBalanceSnapshot> findLatestByUserIdWithLock(Long userId);
+
+    void deleteAll();
+}
@@ -2,6 +2,7 @@ package com.ecommerce.domain.repository;
 
 import com.ecommerce.domain.entity.PointHistory;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -11,7 +12,40 @@ public interface PointHistoryRepository {
 
     PointHistory save(PointHistory history);
 
+    List<PointHistory> saveAll(List<PointHistory> histories);
+
     List<PointHistory> findByUserId(Long userId);
 
+    /**
+     * 사용자의 최신 이력부터 limit개를 프로젝션으로 조회합니다. (created_at, id 내림차순)
+     */
+    List<PointHistorySummary> findLatestByUserId(Long userId, int limit);
+
+    /**
+     * 커서(createdAt, id)보다 오래된 이력을 limit개 조회합니다. (keyset 페이지네이션)
+     */
+    List<PointHistorySummary> findByUserIdBefore(Long userId, LocalDateTime createdAt, Long id, int limit);
+
+    // ===== 원장 (ecommerce.point.mode=ledger) =====
+
+    /**
+     * 스냅샷에 아직 합산되지 않은 원장 항목의 변화량 합계
+     */
+    int sumPendingLedgerAmount(Long userId);
+
+    /**
+     * 공유 락 읽기로 합산합니다. (먼저 시작된 트랜잭션 안에서도 최신 커밋을 읽음)
+     */
+    int sumPendingLedgerAmountWithLock(Long userId);
+
+    List<PointHistory> findPendingLedgerEntriesWithLock(Long userId);
+
+    /**
+     * 스냅샷에 합산되지 않은 원장 항목이 minEntries개 이상인 사용자 ID (최대 limit명)
+     */
+    List<Long> findUserIdsWithPendingLedger(long minEntries, int limit);
+
+    int markLedgerSnapshotted(List<Long> historyIds);
+
     void deleteAll();
 }
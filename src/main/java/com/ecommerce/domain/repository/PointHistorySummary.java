@@ -0,0 +1,21 @@
+package com.ecommerce.domain.repository;
+
+import com.ecommerce.domain.entity.TransactionType;
+import com.ecommerce.domain.vo.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 이력 조회용 프로젝션
+ *
+ * 이력 목록 조회 시 PointHistory 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 읽습니다.
+ */
+public record PointHistorySummary(
+        Long id,
+        TransactionType transactionType,
+        Money amount,
+        Money balanceAfter,
+        String description,
+        LocalDateTime createdAt
+) {
+}
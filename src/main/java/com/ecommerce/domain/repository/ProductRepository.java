@@ -28,4 +28,19 @@ public interface ProductRepository {
      * Read -> Modify -> Save 전체 구간을 락으로 보호합니다.
      */
     <R> R executeWithLock(Long productId, Function<Product, R> operation);
+
+    /**
+     * 재고 변화량을 DB에 직접 반영합니다. (엔티티 로딩 없이 UPDATE 한 번)
+     *
+     * @return 변경된 행 수
+     */
+    int addStock(Long productId, int delta);
+
+    /**
+     * 재고가 충분할 때만 차감하는 조건부 UPDATE
+     * UPDATE products SET stock_quantity = stock_quantity - ? WHERE id = ? AND stock_quantity >= ?
+     *
+     * @return 변경된 행 수 (0이면 상품이 없거나 재고 부족)
+     */
+    int decreaseStockIfEnough(Long productId, int quantity);
 }
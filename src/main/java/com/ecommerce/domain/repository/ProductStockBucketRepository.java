@@ -0,0 +1,55 @@
+package com.ecommerce.domain.repository;
+
+import com.ecommerce.domain.entity.ProductStockBucket;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ProductStockBucketRepository {
+
+    List<ProductStockBucket> saveAll(List<ProductStockBucket> buckets);
+
+    /**
+     * 버킷 번호 오름차순으로 조회합니다.
+     */
+    List<ProductStockBucket> findByProductId(Long productId);
+
+    /**
+     * 버킷을 버킷 번호 오름차순으로 비관적 락을 걸어 조회합니다. (형제 버킷 차감, 분할 해제)
+     * 항상 같은 순서로 잠그므로 여러 트랜잭션이 동시에 잠가도 서로 교착되지 않습니다.
+     */
+    List<ProductStockBucket> findByProductIdWithLock(Long productId);
+
+    /**
+     * @return 버킷으로 분할된 상품 ID 목록
+     */
+    List<Long> findShardedProductIds();
+
+    /**
+     * 버킷으로 분할된 상품만 골라 버킷 개수를 반환합니다.
+     *
+     * @return 상품 ID별 버킷 개수 (분할되지 않은 상품은 포함되지 않음)
+     */
+    Map<Long, Integer> countBucketsByProductIds(List<Long> productIds);
+
+    /**
+     * @return 상품 ID별 버킷 재고 합계 (분할되지 않은 상품은 포함되지 않음)
+     */
+    Map<Long, Integer> sumQuantityByProductIds(List<Long> productIds);
+
+    /**
+     * 버킷 재고가 충분할 때만 차감하는 조건부 UPDATE
+     *
+     * @return 변경된 행 수 (0이면 버킷이 없거나 재고 부족)
+     */
+    int decreaseIfEnough(Long productId, int bucketNo, int quantity);
+
+    /**
+     * @return 변경된 행 수
+     */
+    int increase(Long productId, int bucketNo, int quantity);
+
+    void deleteByProductId(Long productId);
+
+    void deleteAll();
+}
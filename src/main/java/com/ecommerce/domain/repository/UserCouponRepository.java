@@ -11,6 +11,11 @@ public interface UserCouponRepository {
 
     List<UserCoupon> saveAll(List<UserCoupon> userCoupons);
 
+    /**
+     * 즉시 INSERT하여 유니크 키(uk_user_coupon) 위반을 호출 지점에서 드러냅니다.
+     */
+    UserCoupon saveAndFlush(UserCoupon userCoupon);
+
     Optional<UserCoupon> findById(Long id);
 
     default UserCoupon getByIdOrThrow(Long id) {
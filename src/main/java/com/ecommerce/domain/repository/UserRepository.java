@@ -17,5 +17,19 @@ public interface UserRepository {
 
     Optional<User> findByEmail(String email);
 
+    /**
+     * 사용자 행에 배타 락을 걸고 조회합니다. (트랜잭션 종료 시 해제)
+     *
+     * @throws IllegalArgumentException 사용자가 없는 경우
+     */
+    User getByIdWithLockOrThrow(Long id);
+
+    /**
+     * 포인트 잔액 변화량을 DB에 직접 반영합니다. (엔티티 로딩 없이 UPDATE 한 번)
+     *
+     * @return 변경된 행 수
+     */
+    int addPointBalance(Long userId, int delta);
+
     void deleteAll();
 }
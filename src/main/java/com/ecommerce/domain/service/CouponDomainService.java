@@ -1,10 +1,12 @@
 package com.ecommerce.domain.service;
 
 import com.ecommerce.domain.entity.Coupon;
+import com.ecommerce.domain.entity.CouponStatus;
 import com.ecommerce.domain.entity.UserCoupon;
 import com.ecommerce.domain.repository.CouponRepository;
 import com.ecommerce.domain.repository.UserCouponRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,6 +49,41 @@ public class CouponDomainService {
         return newUserCoupon;
     }
 
+    /**
+     * 락 없는 발급: 발급 INSERT → 조건부 수량 UPDATE
+     *
+     * - 중복 발급은 uk_user_coupon 위반으로 거절
+     * - 수량 증가를 나중에 실행해 쿠폰 행 락 보유 시간을 커밋 직전 구간으로 줄임
+     * - UPDATE가 0행이면 예외로 INSERT까지 롤백하고, 쿠폰 상태로 거절 사유를 판단
+     */
+    @Transactional
+    public UserCoupon issueCouponAtomically(Long userId, Long couponId) {
+        Coupon coupon = couponRepository.getByIdOrThrow(couponId);
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(coupon.getValidPeriodDays());
+        UserCoupon newUserCoupon = new UserCoupon(userId, couponId, expiresAt);
+        try {
+            userCouponRepository.saveAndFlush(newUserCoupon);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 발급받은 쿠폰입니다");
+        }
+
+        if (couponRepository.increaseIssueCountIfAvailable(couponId) == 0) {
+            throw new IllegalStateException(rejectionReason(coupon));
+        }
+        return newUserCoupon;
+    }
+
+    private String rejectionReason(Coupon coupon) {
+        if (coupon.getStatus() != CouponStatus.ACTIVE) {
+            return "비활성화된 쿠폰은 발급할 수 없습니다";
+        }
+        if (!coupon.isWithinIssuePeriod()) {
+            return "발급 기간이 아닙니다";
+        }
+        return "발급 가능한 수량이 없습니다";
+    }
+
     @Transactional
     public UserCoupon useCoupon(Long userCouponId) {
         UserCoupon userCoupon = userCouponRepository.getByIdOrThrow(userCouponId);
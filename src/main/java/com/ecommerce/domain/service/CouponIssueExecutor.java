@@ -0,0 +1,22 @@
+package com.ecommerce.domain.service;
+
+import com.ecommerce.domain.entity.UserCoupon;
+
+/**
+ * 동기 쿠폰 발급 전략 인터페이스
+ *
+ * 쿠폰 한 장의 선착순 발급을 추상화합니다.
+ * 구현체는 ecommerce.coupon.mode 설정에 따라 하나만 활성화됩니다.
+ *
+ * 계약:
+ * - 발급 수량(max_issue_count)을 넘겨 발급하지 않음
+ * - 같은 사용자에게 같은 쿠폰을 두 번 발급하지 않음
+ */
+public interface CouponIssueExecutor {
+
+    /**
+     * @throws IllegalArgumentException 쿠폰이 없는 경우
+     * @throws IllegalStateException 이미 발급받았거나, 발급 불가(비활성/기간 외/수량 소진)인 경우
+     */
+    UserCoupon issue(Long userId, Long couponId);
+}
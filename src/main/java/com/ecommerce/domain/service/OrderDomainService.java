@@ -2,19 +2,23 @@ package com.ecommerce.domain.service;
 
 import com.ecommerce.domain.entity.Order;
 import com.ecommerce.domain.entity.OrderItem;
-import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.entity.OrderPayment;
 import com.ecommerce.domain.repository.OrderItemRepository;
+import com.ecommerce.domain.repository.OrderPaymentRepository;
 import com.ecommerce.domain.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 주문 도메인 서비스
  *
  * 책임:
  * - 주문 생성의 핵심 비즈니스 로직
  * - 주문 아이템 관리
+ * - 주문/아이템/결제 정보를 한 트랜잭션으로 저장
  * - 트랜잭션 경계 관리
  *
  * 주의:
@@ -27,21 +31,43 @@ public class OrderDomainService {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final OrderPaymentRepository orderPaymentRepository;
+    private final OrderIdGenerator orderIdGenerator;
 
+    /**
+     * 주문, 주문 아이템, 결제 정보를 한 트랜잭션에서 저장합니다.
+     *
+     * - 주문 ID/번호는 INSERT 전에 생성 (OrderIdGenerator) → 주문 INSERT 1회 (번호 UPDATE 없음)
+     * - 주문 아이템은 Hibernate JDBC 배치 INSERT (pooled ID로 배치 가능)
+     * - 결제 정보 INSERT 1회
+     * - 어느 하나라도 실패하면 모두 롤백
+     *
+     * @param orderItems 주문 ID가 비어 있는 주문 아이템 (저장 시 채워짐)
+     */
     @Transactional
-    public Order createOrder(Long userId) {
-        Order order = new Order(userId);
-        orderRepository.save(order);
-        order.assignOrderNumber();
-        orderRepository.save(order);
-        return order;
+    public PlacedOrder placeOrder(Long userId, List<OrderItem> orderItems, int discountAmount,
+                                  int usedPoint, Long userCouponId) {
+        if (orderItems == null || orderItems.isEmpty()) {
+            throw new IllegalArgumentException("주문 아이템은 필수입니다");
+        }
+
+        Order order = orderRepository.save(new Order(orderIdGenerator.nextId(), userId));
+
+        orderItems.forEach(item -> item.setOrderId(order.getId()));
+        orderItemRepository.saveAll(orderItems);
+
+        int totalAmount = orderItems.stream()
+                .mapToInt(OrderItem::getItemTotalAmount)
+                .sum();
+        OrderPayment payment = orderPaymentRepository.save(
+                new OrderPayment(order.getId(), totalAmount, discountAmount, usedPoint, userCouponId));
+
+        return new PlacedOrder(order, orderItems, payment);
     }
 
-    @Transactional
-    public OrderItem createOrderItem(Long orderId, Product product, int quantity) {
-        OrderItem orderItem = new OrderItem(product, quantity);
-        orderItem.setOrderId(orderId);
-        orderItemRepository.save(orderItem);
-        return orderItem;
+    /**
+     * 주문 저장 결과
+     */
+    public record PlacedOrder(Order order, List<OrderItem> orderItems, OrderPayment payment) {
     }
 }
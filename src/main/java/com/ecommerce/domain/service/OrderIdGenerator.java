@@ -0,0 +1,12 @@
+package com.ecommerce.domain.service;
+
+/**
+ * 주문 ID 생성기
+ *
+ * 주문 INSERT 전에 ID를 만들어 주문 번호까지 한 번에 확정합니다.
+ * 생성되는 ID는 여러 인스턴스에서 동시에 만들어도 겹치지 않고, 시간순으로 증가해야 합니다.
+ */
+public interface OrderIdGenerator {
+
+    long nextId();
+}
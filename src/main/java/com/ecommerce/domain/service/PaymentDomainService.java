@@ -8,10 +8,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 결제 도메인 서비스
  *
  * 책임:
+ * - 결제 진입 게이트 (PENDING → PROCESSING 조건부 UPDATE)
  * - 결제 완료/실패 처리
  * - 트랜잭션 경계 관리
  *
@@ -26,6 +31,19 @@ public class PaymentDomainService {
 
     private final OrderPaymentRepository orderPaymentRepository;
 
+    /**
+     * 결제 진행권을 얻습니다. (PENDING → PROCESSING)
+     *
+     * 조건부 UPDATE의 영향 행 수로 판단하므로 같은 주문의 동시 결제 중 하나만 true를 받습니다.
+     * 분산 락 없이 주문별 결제 직렬화를 보장합니다.
+     *
+     * @return 진행권을 얻었으면 true, 이미 진행 중/완료/실패한 결제면 false
+     */
+    @Transactional
+    public boolean startProcessing(Long orderId) {
+        return orderPaymentRepository.markProcessingIfPending(orderId) == 1;
+    }
+
     @Transactional
     public OrderPayment completePayment(Long orderId) {
         OrderPayment payment = orderPaymentRepository.getByOrderIdOrThrow(orderId);
@@ -55,4 +73,37 @@ public class PaymentDomainService {
 
         return payment;
     }
+
+    /**
+     * 결제 기한이 지난 주문을 FAILED로 만료시킵니다.
+     * PENDING일 때만 전환하는 조건부 UPDATE라 결제 진행(PROCESSING) 중인 주문과 경합하지 않습니다.
+     *
+     * @return PENDING이던 결제를 만료시켰으면 true (재고 반환 대상), 진행 중/완료/실패된 결제면 false
+     */
+    @Transactional
+    public boolean expirePayment(Long orderId) {
+        boolean expired = orderPaymentRepository.markFailedIfPending(orderId) == 1;
+        if (expired) {
+            log.info("결제 기한 만료로 FAILED 처리: orderId={}", orderId);
+        }
+        return expired;
+    }
+
+    /**
+     * before 이전에 PROCESSING으로 들어가 결제 사가도 시작하지 못하고 멈춘 결제를 PENDING으로 되돌립니다.
+     * (진행권을 얻은 직후 서버가 죽은 경우 등. 사가가 시작된 결제는 사가 복구가 처리)
+     *
+     * @return PENDING으로 되돌린 주문 ID 목록
+     */
+    @Transactional
+    public List<Long> resetStuckProcessing(LocalDateTime before) {
+        List<Long> resetOrderIds = new ArrayList<>();
+        for (Long orderId : orderPaymentRepository.findStuckProcessingOrderIds(before)) {
+            if (orderPaymentRepository.resetStuckProcessing(orderId, before) == 1) {
+                resetOrderIds.add(orderId);
+                log.warn("멈춘 결제 PENDING 복귀: orderId={}", orderId);
+            }
+        }
+        return resetOrderIds;
+    }
 }
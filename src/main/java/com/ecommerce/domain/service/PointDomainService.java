@@ -6,9 +6,13 @@ import com.ecommerce.domain.entity.User;
 import com.ecommerce.domain.repository.PointHistoryRepository;
 import com.ecommerce.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * 포인트 도메인 서비스
  *
@@ -21,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
  * - 다른 도메인 서비스에 의존하지 않음 (순수 도메인 로직)
  * - 분산 락은 상위 Application Service에서 관리
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PointDomainService {
@@ -66,4 +71,22 @@ public class PointDomainService {
 
         return user.getPointBalance();
     }
+
+    /**
+     * 외부(Redis 월렛)에서 누적된 잔액 변화량과 이력을 하나의 트랜잭션으로 DB에 반영합니다.
+     *
+     * @param deltas 사용자 ID별 잔액 변화량 (차감은 음수)
+     * @param histories 변화량에 해당하는 포인트 이력
+     */
+    @Transactional
+    public void applyBalanceDeltas(Map<Long, Integer> deltas, List<PointHistory> histories) {
+        for (Map.Entry<Long, Integer> entry : deltas.entrySet()) {
+            int updated = userRepository.addPointBalance(entry.getKey(), entry.getValue());
+            if (updated == 0) {
+                log.warn("포인트 변화량 반영 대상 사용자 없음 (삭제된 사용자): userId={}, delta={}",
+                        entry.getKey(), entry.getValue());
+            }
+        }
+        pointHistoryRepository.saveAll(histories);
+    }
 }
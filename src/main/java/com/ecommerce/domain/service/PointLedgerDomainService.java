@@ -0,0 +1,133 @@
+package com.ecommerce.domain.service;
+
+import com.ecommerce.domain.entity.PointBalanceSnapshot;
+import com.ecommerce.domain.entity.PointHistory;
+import com.ecommerce.domain.entity.TransactionType;
+import com.ecommerce.domain.entity.User;
+import com.ecommerce.domain.repository.PointBalanceSnapshotRepository;
+import com.ecommerce.domain.repository.PointHistoryRepository;
+import com.ecommerce.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 포인트 원장 도메인 서비스 (ecommerce.point.mode=ledger)
+ *
+ * 잔액 = 최신 스냅샷 잔액 (없으면 users.point_balance) + 스냅샷에 합산되지 않은 원장 항목(PENDING) 합계
+ * - 충전/환불: point_histories INSERT만 (users 행 UPDATE/락 없음)
+ * - 차감: users 행 배타 락으로 같은 사용자의 차감끼리만 직렬화한 뒤 잔액 검사 + INSERT
+ * - 스냅샷: PENDING 항목을 합산해 새 스냅샷 행 추가 + 항목을 SNAPSHOTTED로 표시
+ *
+ * 주의:
+ * - users.point_balance는 ledger 모드 전환 시점 잔액으로 고정 (첫 스냅샷의 기준값)
+ * - 차감/스냅샷의 잔액 읽기는 공유 락 읽기 (사가 단계처럼 먼저 시작된 트랜잭션에서도 최신 커밋 기준)
+ * - 충전 이력의 balanceAfter는 기록 시점 추정치 (동시 충전끼리는 서로를 보지 못함)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLedgerDomainService {
+
+    private static final String POINT_DESCRIPTION_CHARGE = "포인트 충전";
+
+    private final UserRepository userRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointBalanceSnapshotRepository pointBalanceSnapshotRepository;
+
+    @Transactional
+    public int charge(Long userId, int amount) {
+        validateAmount(amount);
+        User user = userRepository.getByIdOrThrow(userId);
+
+        int balanceAfter = currentBalance(user) + amount;
+        pointHistoryRepository.save(PointHistory.ledgerEntry(
+                userId, TransactionType.CHARGE, amount, balanceAfter, POINT_DESCRIPTION_CHARGE, null));
+        return balanceAfter;
+    }
+
+    /**
+     * @throws IllegalStateException 포인트가 부족한 경우
+     */
+    @Transactional
+    public int deduct(Long userId, int amount, String description, Long orderId) {
+        validateAmount(amount);
+        User user = userRepository.getByIdWithLockOrThrow(userId);
+
+        int balance = currentBalanceWithLock(user);
+        if (balance < amount) {
+            throw new IllegalStateException(
+                    "포인트 부족: 현재 포인트 " + balance + "원, 요청 금액 " + amount + "원"
+            );
+        }
+
+        int balanceAfter = balance - amount;
+        pointHistoryRepository.save(PointHistory.ledgerEntry(
+                userId, TransactionType.USE, amount, balanceAfter, description, orderId));
+        return balanceAfter;
+    }
+
+    @Transactional(readOnly = true)
+    public int getBalance(Long userId) {
+        return currentBalance(userRepository.getByIdOrThrow(userId));
+    }
+
+    /**
+     * PENDING 원장 항목을 합산해 새 스냅샷을 만듭니다.
+     * 차감과 같은 users 행 락을 잡으므로 스냅샷 도중 잔액 검사가 끼어들지 않습니다.
+     *
+     * @return 스냅샷에 합산한 항목 수 (0이면 스냅샷을 만들지 않음)
+     */
+    @Transactional
+    public int createSnapshot(Long userId) {
+        User user = userRepository.getByIdWithLockOrThrow(userId);
+        List<PointHistory> entries = pointHistoryRepository.findPendingLedgerEntriesWithLock(userId);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        int delta = entries.stream().mapToInt(PointHistory::getSignedAmount).sum();
+        Optional<PointBalanceSnapshot> latest = pointBalanceSnapshotRepository.findLatestByUserIdWithLock(userId);
+        PointBalanceSnapshot snapshot = latest
+                .map(previous -> previous.next(delta, entries.size()))
+                .orElseGet(() -> PointBalanceSnapshot.first(userId, user.getPointBalance(), delta, entries.size()));
+
+        pointBalanceSnapshotRepository.save(snapshot);
+        pointHistoryRepository.markLedgerSnapshotted(entries.stream().map(PointHistory::getId).toList());
+        log.debug("포인트 스냅샷 생성: userId={}, seq={}, balance={}, entries={}",
+                userId, snapshot.getSnapshotSeq(), snapshot.getBalance(), entries.size());
+        return entries.size();
+    }
+
+    /**
+     * 스냅샷 대상 사용자 (PENDING 항목이 minEntries개 이상)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findSnapshotCandidates(long minEntries, int limit) {
+        return pointHistoryRepository.findUserIdsWithPendingLedger(minEntries, limit);
+    }
+
+    private int currentBalance(User user) {
+        int base = pointBalanceSnapshotRepository.findLatestByUserId(user.getId())
+                .map(PointBalanceSnapshot::getBalance)
+                .orElse(user.getPointBalance());
+        return base + pointHistoryRepository.sumPendingLedgerAmount(user.getId());
+    }
+
+    private int currentBalanceWithLock(User user) {
+        int base = pointBalanceSnapshotRepository.findLatestByUserIdWithLock(user.getId())
+                .map(PointBalanceSnapshot::getBalance)
+                .orElse(user.getPointBalance());
+        return base + pointHistoryRepository.sumPendingLedgerAmountWithLock(user.getId());
+    }
+
+    private void validateAmount(int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("금액은 0보다 커야 합니다");
+        }
+    }
+}
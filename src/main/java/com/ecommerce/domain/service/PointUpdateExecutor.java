@@ -0,0 +1,31 @@
+package com.ecommerce.domain.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 변경 동시성 제어 전략
+ *
+ * 사용자 한 명의 포인트 변경(충전/차감) 작업을 실행합니다.
+ * 구현체는 ecommerce.point.mode 설정에 따라 하나만 활성화됩니다.
+ *
+ * 계약:
+ * - update는 한 번의 트랜잭션 단위 (재시도 시 새 트랜잭션으로 다시 호출될 수 있음)
+ * - 같은 사용자에 대한 변경은 잔액 유실 없이 직렬화된 것과 같은 결과를 보장
+ */
+public interface PointUpdateExecutor {
+
+    <T> T execute(Long userId, Supplier<T> update);
+
+    /**
+     * 비동기 경로용 실행 (기본: 호출 스레드에서 동기 실행 후 완료된 future 반환)
+     * 락 대기가 있는 구현체는 대기 중 요청 스레드를 점유하지 않도록 재정의합니다.
+     */
+    default <T> CompletableFuture<T> executeAsync(Long userId, Supplier<T> update) {
+        try {
+            return CompletableFuture.completedFuture(execute(userId, update));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
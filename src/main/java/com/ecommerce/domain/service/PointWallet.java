@@ -0,0 +1,47 @@
+package com.ecommerce.domain.service;
+
+/**
+ * 포인트 잔액 저장소 전략 인터페이스
+ *
+ * 포인트 잔액의 조회와 충전/차감/환불을 추상화합니다.
+ * 구현체는 ecommerce.point.mode 설정에 따라 하나만 활성화됩니다.
+ * (redis: Redis 핫 월렛, ledger: 추가 전용 원장 + 스냅샷, 그 외: DB)
+ *
+ * 계약:
+ * - 잔액은 0 미만이 되지 않음
+ * - orderId가 있는 차감/환불은 주문 단위로 한 번만 반영 (재시도해도 중복 반영되지 않음)
+ * - 동시성 제어는 호출자(PointUpdateExecutor 또는 사가 단계 트랜잭션)가 담당
+ */
+public interface PointWallet {
+
+    /**
+     * @return 충전 후 잔액
+     * @throws IllegalArgumentException 사용자가 없거나 금액이 0 이하인 경우
+     */
+    int charge(Long userId, int amount);
+
+    /**
+     * @return 차감 후 잔액
+     * @throws IllegalArgumentException 사용자가 없거나 금액이 0 이하인 경우
+     * @throws IllegalStateException 포인트가 부족한 경우
+     */
+    int deduct(Long userId, int amount, String description, Long orderId);
+
+    /**
+     * 주문 결제로 차감했던 포인트를 돌려줍니다. (보상 트랜잭션)
+     *
+     * @return 환불 후 잔액
+     */
+    int refund(Long userId, int amount, Long orderId);
+
+    /**
+     * 차감이 호출자 트랜잭션과 관계없이 즉시 확정되는지 여부
+     * true면 단계 트랜잭션 커밋이 실패해 사가에 차감 기록이 없어도 포인트는 빠져 있을 수 있으므로,
+     * 보상은 기록과 관계없이 환불을 시도하고 구현체가 실제 차감 여부로 거릅니다.
+     */
+    default boolean appliesOutsideTransaction() {
+        return false;
+    }
+
+    int getBalance(Long userId);
+}
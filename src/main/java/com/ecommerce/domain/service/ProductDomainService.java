@@ -1,11 +1,23 @@
 package com.ecommerce.domain.service;
 
 import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.entity.ProductStockBucket;
 import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.domain.repository.ProductStockBucketRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
 /**
  * 상품 도메인 서비스
  *
@@ -18,11 +30,13 @@ import org.springframework.transaction.annotation.Transactional;
  * - 다른 도메인 서비스에 의존하지 않음
  * - 분산 락은 상위 Application Service에서 관리
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductDomainService {
 
     private final ProductRepository productRepository;
+    private final ProductStockBucketRepository productStockBucketRepository;
 
     @Transactional
     public Product reduceStock(Long productId, int quantity) {
@@ -38,4 +52,288 @@ public class ProductDomainService {
         product.restoreStock(quantity);
         productRepository.save(product);
     }
+
+    /**
+     * 같은 상품에 대한 여러 차감 요청을 한 번의 조회/저장으로 처리합니다. (요청 합치기 모드)
+     *
+     * - 요청 순서대로 재고가 충분한 요청만 차감, 부족한 요청은 건너뜀
+     * - 요청별 성공 여부는 BatchReduction.accepted로 판단
+     * - 상품 락은 상위(StockDecrementCombiner)에서 배치당 한 번만 획득
+     *
+     * @throws IllegalArgumentException 상품이 없는 경우 (배치 전체 실패)
+     */
+    @Transactional
+    public BatchReduction reduceStockBatch(Long productId, List<Integer> quantities) {
+        Product product = productRepository.getByIdOrThrow(productId);
+        List<Integer> stockBefore = new ArrayList<>(quantities.size());
+
+        for (int quantity : quantities) {
+            stockBefore.add(product.getStockQuantity());
+            if (quantity > 0 && product.hasStock(quantity)) {
+                product.reduceStock(quantity);
+            }
+        }
+
+        productRepository.save(product);
+        return new BatchReduction(product, quantities, stockBefore);
+    }
+
+    /**
+     * 조건부 UPDATE로 여러 상품 재고를 한 트랜잭션에서 차감합니다. (락 없는 모드)
+     *
+     * - 엔티티를 읽고 고치는 대신 stock_quantity >= 수량 조건의 UPDATE 한 번
+     * - 하나라도 실패하면 트랜잭션 전체 롤백 (all-or-nothing)
+     * - 상품 ID 오름차순으로 갱신하여 행 락 데드락 방지
+     *
+     * @return 차감된 상품 목록 (상품 ID 오름차순)
+     * @throws IllegalArgumentException 상품이 없거나 수량이 0 이하인 경우
+     * @throws IllegalStateException 재고가 부족한 경우
+     */
+    @Transactional
+    public List<Product> reduceStocksAtomically(Map<Long, Integer> quantities) {
+        Map<Long, Integer> sortedQuantities = new TreeMap<>(quantities);
+
+        for (Map.Entry<Long, Integer> entry : sortedQuantities.entrySet()) {
+            reduceStockAtomically(entry.getKey(), entry.getValue());
+        }
+
+        return productRepository.findAllById(List.copyOf(sortedQuantities.keySet())).stream()
+                .sorted(Comparator.comparing(Product::getId))
+                .toList();
+    }
+
+    /**
+     * 조건부 UPDATE로 재고를 복구합니다. (락 없는 모드)
+     */
+    @Transactional
+    public void restoreStockAtomically(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 0보다 커야 합니다");
+        }
+        if (productRepository.addStock(productId, quantity) == 0) {
+            throw new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId);
+        }
+    }
+
+    private void reduceStockAtomically(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 0보다 커야 합니다");
+        }
+        if (productRepository.decreaseStockIfEnough(productId, quantity) == 0) {
+            Product product = productRepository.getByIdOrThrow(productId);
+            throw new IllegalStateException(
+                    "재고 부족: 현재 재고 " + product.getStockQuantity() + "개, 요청 수량 " + quantity + "개"
+            );
+        }
+    }
+
+    /**
+     * DB 기준 재고를 조회합니다. (Redis 재고 적재/보정의 기준값)
+     */
+    @Transactional(readOnly = true)
+    public int getStockQuantity(Long productId) {
+        return productRepository.getByIdOrThrow(productId).getStockQuantity();
+    }
+
+    /**
+     * 외부(Redis)에서 누적된 재고 변화량을 하나의 트랜잭션으로 DB에 반영합니다.
+     *
+     * @param deltas 상품 ID별 재고 변화량 (차감은 음수)
+     */
+    @Transactional
+    public void applyStockDeltas(Map<Long, Integer> deltas) {
+        for (Map.Entry<Long, Integer> entry : deltas.entrySet()) {
+            int updated = productRepository.addStock(entry.getKey(), entry.getValue());
+            if (updated == 0) {
+                log.warn("재고 변화량 반영 대상 상품 없음 (삭제된 상품): productId={}, delta={}",
+                        entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * 상품 재고를 N개 버킷으로 분할합니다. (인기 상품 지정)
+     *
+     * - products.stock_quantity 전량을 버킷에 고르게 나누고 0으로 만듦
+     *   (버킷 차감마다 상품 행을 함께 갱신하면 분할 효과가 없어지므로 동기화하지 않음,
+     *    버킷을 모르는 재고 모드로 기동하면 ShardedStockGuard가 먼저 상품 행으로 병합)
+     * - 이미 분할된 상품이면 무시 (여러 인스턴스가 동시에 호출해도 상품 행 락으로 한 번만 수행)
+     *
+     * @return 새로 분할했으면 true
+     */
+    @Transactional
+    public boolean shardStock(Long productId, int bucketCount) {
+        if (bucketCount < 2) {
+            throw new IllegalArgumentException("버킷 개수는 2 이상이어야 합니다");
+        }
+
+        return productRepository.executeWithLock(productId, product -> {
+            if (!productStockBucketRepository.findByProductId(productId).isEmpty()) {
+                return false;
+            }
+
+            int total = product.getStockQuantity();
+            List<ProductStockBucket> buckets = new ArrayList<>();
+            for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+                int share = total / bucketCount + (bucketNo < total % bucketCount ? 1 : 0);
+                buckets.add(new ProductStockBucket(productId, bucketNo, share));
+            }
+            productStockBucketRepository.saveAll(buckets);
+            if (total > 0) {
+                product.reduceStock(total);
+            }
+
+            log.info("상품 재고 버킷 분할: productId={}, stock={}, buckets={}", productId, total, bucketCount);
+            return true;
+        });
+    }
+
+    /**
+     * 버킷에 남은 재고를 products.stock_quantity로 되돌리고 버킷을 제거합니다.
+     */
+    @Transactional
+    public void mergeStockShards(Long productId) {
+        productRepository.executeWithLock(productId, product -> {
+            int remaining = productStockBucketRepository.findByProductIdWithLock(productId).stream()
+                    .mapToInt(ProductStockBucket::getQuantity)
+                    .sum();
+            if (remaining > 0) {
+                product.restoreStock(remaining);
+            }
+            productStockBucketRepository.deleteByProductId(productId);
+
+            log.info("상품 재고 버킷 병합: productId={}, stock={}", productId, remaining);
+            return null;
+        });
+    }
+
+    /**
+     * 버킷 분할 상품을 포함해 여러 상품 재고를 한 트랜잭션에서 차감합니다.
+     *
+     * - 분할 상품: 해시로 고른 버킷 하나만 조건부 UPDATE → 부족하면 모든 버킷을 버킷 번호 순서로
+     *   FOR UPDATE 조회한 뒤 남은 만큼씩 나눠서 차감
+     * - 일반 상품: reduceStocksAtomically와 같은 조건부 UPDATE
+     * - 하나라도 실패하면 트랜잭션 전체 롤백 (형제 버킷에서 일부 가져간 것도 함께 롤백)
+     *
+     * READ COMMITTED로 실행하는 이유:
+     * - 조건이 맞지 않아 실패한 담당 버킷 UPDATE의 행 락이 바로 풀림 (REPEATABLE READ는 커밋까지 유지)
+     * - 형제 버킷 차감 시 잡고 있는 버킷 락이 없으므로, 버킷 번호 순서 잠금만으로 트랜잭션끼리 교착되지 않음
+     * - 잠금 조회는 격리 수준과 무관하게 최신 재고를 읽음 (오래된 스냅샷으로 나눠 가져가지 않음)
+     *
+     * @return 차감된 상품 목록 (상품 ID 오름차순)
+     * @throws IllegalArgumentException 상품이 없거나 수량이 0 이하인 경우
+     * @throws IllegalStateException 재고가 부족한 경우
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public List<Product> reduceStocksWithBuckets(Map<Long, Integer> quantities) {
+        Map<Long, Integer> sortedQuantities = new TreeMap<>(quantities);
+        List<Long> productIds = List.copyOf(sortedQuantities.keySet());
+        Map<Long, Integer> bucketCounts = productStockBucketRepository.countBucketsByProductIds(productIds);
+
+        for (Map.Entry<Long, Integer> entry : sortedQuantities.entrySet()) {
+            Integer bucketCount = bucketCounts.get(entry.getKey());
+            if (bucketCount == null) {
+                reduceStockAtomically(entry.getKey(), entry.getValue());
+            } else {
+                reduceBucketStock(entry.getKey(), entry.getValue(), bucketCount);
+            }
+        }
+
+        return productRepository.findAllById(productIds).stream()
+                .sorted(Comparator.comparing(Product::getId))
+                .toList();
+    }
+
+    /**
+     * 버킷 분할 여부에 맞춰 재고를 복구합니다.
+     */
+    @Transactional
+    public void restoreStockWithBuckets(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 0보다 커야 합니다");
+        }
+
+        Integer bucketCount = productStockBucketRepository.countBucketsByProductIds(List.of(productId)).get(productId);
+        if (bucketCount == null) {
+            restoreStockAtomically(productId, quantity);
+            return;
+        }
+        productStockBucketRepository.increase(productId, selectBucket(productId, bucketCount), quantity);
+    }
+
+    /**
+     * 버킷 재고까지 합친 실제 판매 가능 재고를 조회합니다.
+     *
+     * @return 상품 ID별 재고 (products.stock_quantity + 버킷 합계)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getAvailableStocks(List<Product> products) {
+        Map<Long, Integer> bucketStocks = productStockBucketRepository.sumQuantityByProductIds(
+                products.stream().map(Product::getId).toList());
+
+        return products.stream()
+                .collect(Collectors.toMap(
+                        Product::getId,
+                        product -> product.getStockQuantity() + bucketStocks.getOrDefault(product.getId(), 0),
+                        (a, b) -> a
+                ));
+    }
+
+    private void reduceBucketStock(Long productId, int quantity, int bucketCount) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 0보다 커야 합니다");
+        }
+
+        int homeBucket = selectBucket(productId, bucketCount);
+        if (productStockBucketRepository.decreaseIfEnough(productId, homeBucket, quantity) == 1) {
+            return;
+        }
+
+        // 담당 버킷 부족 → 모든 버킷을 버킷 번호 순서로 잠그고 최신 재고에서 남은 만큼씩 가져옴
+        List<ProductStockBucket> buckets = productStockBucketRepository.findByProductIdWithLock(productId);
+        int total = buckets.stream().mapToInt(ProductStockBucket::getQuantity).sum();
+        if (total < quantity) {
+            throw new IllegalStateException(
+                    "재고 부족: 현재 재고 " + total + "개, 요청 수량 " + quantity + "개"
+            );
+        }
+
+        int remaining = quantity;
+        for (ProductStockBucket bucket : buckets) {
+            int take = Math.min(remaining, bucket.getQuantity());
+            if (take == 0) {
+                continue;
+            }
+            if (productStockBucketRepository.decreaseIfEnough(productId, bucket.getBucketNo(), take) != 1) {
+                throw new IllegalStateException("잠근 버킷 재고 차감 실패: productId=" + productId + ", bucketNo=" + bucket.getBucketNo());
+            }
+            remaining -= take;
+            if (remaining == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 요청 스레드 해시로 버킷을 고릅니다.
+     * 동시에 들어온 요청은 서로 다른 버킷으로 흩어지고, 같은 스레드는 같은 버킷을 씁니다.
+     */
+    private int selectBucket(Long productId, int bucketCount) {
+        return Math.floorMod(Objects.hash(productId, Thread.currentThread().getId()), bucketCount);
+    }
+
+    /**
+     * 배치 차감 결과
+     *
+     * @param product 배치 처리 후 상품
+     * @param quantities 요청 수량 (요청 순서)
+     * @param stockBefore 각 요청을 판단하기 직전의 재고
+     */
+    public record BatchReduction(Product product, List<Integer> quantities, List<Integer> stockBefore) {
+
+        public boolean accepted(int index) {
+            int quantity = quantities.get(index);
+            return quantity > 0 && stockBefore.get(index) >= quantity;
+        }
+    }
 }
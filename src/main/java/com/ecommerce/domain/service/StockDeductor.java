@@ -0,0 +1,34 @@
+package com.ecommerce.domain.service;
+
+import com.ecommerce.domain.entity.Product;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 차감 전략 인터페이스
+ *
+ * 주문 한 건의 재고 차감을 추상화합니다.
+ * 구현체는 ecommerce.stock.mode 설정에 따라 하나만 활성화됩니다.
+ *
+ * 계약:
+ * - deduct는 all-or-nothing: 하나라도 부족하면 어떤 상품의 재고도 차감되지 않음
+ * - 반환되는 상품 목록은 상품 ID 오름차순
+ */
+public interface StockDeductor {
+
+    /**
+     * 주문 상품들의 재고를 한 번에 차감합니다.
+     *
+     * @param quantities 상품 ID별 차감 수량
+     * @return 차감된 상품 목록 (상품 ID 오름차순)
+     * @throws IllegalArgumentException 상품이 없거나 수량이 0 이하인 경우
+     * @throws IllegalStateException 재고가 부족한 경우
+     */
+    List<Product> deduct(Map<Long, Integer> quantities);
+
+    /**
+     * 차감했던 재고를 복구합니다. (보상 트랜잭션)
+     */
+    void restore(Long productId, int quantity);
+}
@@ -0,0 +1,38 @@
+package com.ecommerce.domain.service;
+
+import java.util.List;
+
+/**
+ * 재고 예약 저장소
+ *
+ * 주문 생성 시 차감한 재고를 "결제 대기 예약"으로 등록하고,
+ * 결제 기한(TTL) 안에 결제되지 않은 주문을 만료 처리 대상으로 꺼내줍니다.
+ *
+ * 계약:
+ * - confirm과 claimExpired는 같은 주문에 대해 둘 중 하나만 성공
+ * - claimExpired로 꺼낸 주문은 저장소에서 제거됨 (다른 인스턴스가 중복으로 꺼내지 않음)
+ */
+public interface StockReservationStore {
+
+    /**
+     * 주문의 재고 예약을 등록합니다. (만료 시각 = 현재 + TTL)
+     */
+    void reserve(Long orderId);
+
+    /**
+     * 결제 진행을 위해 예약을 확정(제거)합니다.
+     *
+     * @return 예약이 남아 있어 확정했으면 true, 이미 만료 처리되었거나 예약이 없으면 false
+     */
+    boolean confirm(Long orderId);
+
+    /**
+     * 만료 시각이 지난 예약을 최대 limit건 꺼냅니다.
+     */
+    List<Long> claimExpired(int limit);
+
+    /**
+     * 만료 처리에 실패한 주문을 즉시 만료 대상으로 다시 등록합니다.
+     */
+    void requeue(Long orderId);
+}
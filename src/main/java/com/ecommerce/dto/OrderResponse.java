@@ -7,7 +7,7 @@ import java.util.List;
 
 @Schema(description = "주문 응답")
 public record OrderResponse(
-    @Schema(description = "주문 ID", example = "100")
+    @Schema(description = "주문 ID (64비트, 문자열로 전달)", type = "string", example = "123145302310912")
     Long orderId,
 
     @Schema(description = "주문 번호", example = "ORD-20241029-001")
@@ -6,7 +6,7 @@ import java.time.LocalDateTime;
 
 @Schema(description = "결제 응답")
 public record PaymentResponse(
-    @Schema(description = "주문 ID", example = "100")
+    @Schema(description = "주문 ID (64비트, 문자열로 전달)", type = "string", example = "123145302310912")
     Long orderId,
 
     @Schema(description = "결제 상태", example = "COMPLETED")
@@ -26,6 +26,7 @@ public enum ResponseCode {
     FORBIDDEN(HttpStatus.FORBIDDEN, "COMMON_1403", "접근 권한이 없습니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "COMMON_1404", "요청한 리소스를 찾을 수 없습니다."),
     CONFLICT(HttpStatus.CONFLICT, "COMMON_1409", "동시성 충돌이 발생했습니다."),
+    UNPROCESSABLE_ENTITY(HttpStatus.UNPROCESSABLE_ENTITY, "COMMON_1422", "처리할 수 없는 요청입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON_1500", "서버 내부 오류가 발생했습니다."),
 
     // ===== 상품 (2xxx) =====
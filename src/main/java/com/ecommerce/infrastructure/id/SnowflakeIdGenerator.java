@@ -0,0 +1,90 @@
+package com.ecommerce.infrastructure.id;
+
+import com.ecommerce.domain.service.OrderIdGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Snowflake 방식 64비트 ID 생성기
+ *
+ * 구조: [부호 1비트 | 타임스탬프 41비트 | 워커 ID 10비트 | 시퀀스 12비트]
+ * - 타임스탬프: 2024-01-01 기준 밀리초 (약 69년 사용 가능)
+ * - 워커 ID: WorkerIdLease가 Redis에서 임대한 인스턴스별 번호
+ * - 시퀀스: 같은 밀리초 내 순번 (워커당 밀리초마다 4096개)
+ *
+ * 주의:
+ * - 시계가 5ms 이내로 뒤로 가면 따라잡을 때까지 대기, 그 이상이면 생성 거부
+ * - 워커 ID 임대가 만료됐으면 생성 거부 (WorkerIdLease#getWorkerId)
+ * - 2^53을 넘으므로 JSON API에서는 문자열로 내보냄 (JavaScript Number 정밀도)
+ */
+@Component
+@RequiredArgsConstructor
+public class SnowflakeIdGenerator implements OrderIdGenerator {
+
+    static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+
+    private static final int WORKER_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_CLOCK_BACKWARD_MILLIS = 5;
+
+    private final WorkerIdLease workerIdLease;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    @Override
+    public synchronized long nextId() {
+        // 임대가 만료됐으면 시퀀스를 건드리기 전에 실패
+        int workerId = workerIdLease.getWorkerId();
+        long timestamp = currentTimeMillis();
+
+        if (timestamp < lastTimestamp) {
+            timestamp = waitForClockCatchUp(timestamp);
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                timestamp = waitUntilNextMillis(lastTimestamp);
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = timestamp;
+
+        return ((timestamp - EPOCH_MILLIS) << (WORKER_ID_BITS + SEQUENCE_BITS))
+                | ((long) workerId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    public static long extractTimestamp(long id) {
+        return (id >>> (WORKER_ID_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    public static int extractWorkerId(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & ((1L << WORKER_ID_BITS) - 1));
+    }
+
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private long waitForClockCatchUp(long timestamp) {
+        long backward = lastTimestamp - timestamp;
+        if (backward > MAX_CLOCK_BACKWARD_MILLIS) {
+            throw new IllegalStateException("시스템 시계가 뒤로 이동하여 ID를 생성할 수 없습니다: " + backward + "ms");
+        }
+        return waitUntilNextMillis(lastTimestamp - 1);
+    }
+
+    private long waitUntilNextMillis(long lastMillis) {
+        long timestamp = currentTimeMillis();
+        while (timestamp <= lastMillis) {
+            Thread.onSpinWait();
+            timestamp = currentTimeMillis();
+        }
+        return timestamp;
+    }
+}
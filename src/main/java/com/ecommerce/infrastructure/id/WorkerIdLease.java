@@ -0,0 +1,127 @@
+package com.ecommerce.infrastructure.id;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Snowflake 워커 ID 임대 (Redis)
+ *
+ * 인스턴스마다 겹치지 않는 워커 ID(0~1023)를 Redis 키로 점유합니다.
+ * - id:worker:{workerId} = 인스턴스 토큰, TTL 30초
+ * - 10초마다 자기 토큰일 때만 TTL 연장
+ * - 임대를 잃으면(Redis 재시작, 장시간 GC 등) 빈 워커 ID를 다시 점유
+ * - 종료 시 자기 토큰일 때만 반납
+ *
+ * 임대 유효 시각:
+ * - 점유/연장 요청을 보낸 시각 + TTL - 여유(5초)까지만 유효로 봄 (요청이 늦게 도착해도 실제 만료보다 앞섬)
+ * - 연장이 계속 실패해(Redis 장애 등) 유효 시각이 지나면 getWorkerId가 예외 → ID 생성 즉시 실패
+ *   (만료된 워커 ID를 다른 인스턴스가 점유해 같은 ID를 만드는 것을 막음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkerIdLease {
+
+    static final int MAX_WORKER_ID = 1023;
+
+    private static final String KEY_PREFIX = "id:worker:";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(30);
+    private static final Duration LEASE_SAFETY_MARGIN = Duration.ofSeconds(5);
+
+    private static final String RENEW_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "end " +
+            "return 0";
+
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final String token = UUID.randomUUID().toString();
+    private volatile int workerId = -1;
+    private volatile long leaseValidUntilNanos;
+
+    @PostConstruct
+    public void acquire() {
+        for (int candidate = 0; candidate <= MAX_WORKER_ID; candidate++) {
+            long requestedAt = nanoTime();
+            Boolean claimed = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + candidate, token, LEASE_TTL);
+            if (Boolean.TRUE.equals(claimed)) {
+                leaseValidUntilNanos = validUntil(requestedAt);
+                workerId = candidate;
+                log.info("워커 ID 임대 완료: workerId={}", candidate);
+                return;
+            }
+        }
+        throw new IllegalStateException("사용 가능한 워커 ID가 없습니다");
+    }
+
+    @Scheduled(fixedDelay = 10000)
+    public void renew() {
+        long requestedAt = nanoTime();
+        Long renewed = redisTemplate.execute(
+                new DefaultRedisScript<>(RENEW_SCRIPT, Long.class),
+                List.of(KEY_PREFIX + workerId),
+                token,
+                String.valueOf(LEASE_TTL.toMillis())
+        );
+
+        if (renewed == null || renewed == 0L) {
+            log.warn("워커 ID 임대 상실, 재점유 시도: workerId={}", workerId);
+            workerId = -1;
+            acquire();
+            return;
+        }
+        leaseValidUntilNanos = validUntil(requestedAt);
+    }
+
+    @PreDestroy
+    public void release() {
+        try {
+            redisTemplate.execute(
+                    new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class),
+                    List.of(KEY_PREFIX + workerId),
+                    token
+            );
+        } catch (Exception e) {
+            log.warn("워커 ID 반납 실패 (TTL 만료 후 자동 반납): workerId={}", workerId);
+        }
+    }
+
+    /**
+     * @throws IllegalStateException 워커 ID가 없거나 임대 유효 시각이 지난 경우
+     */
+    public int getWorkerId() {
+        int current = workerId;
+        if (current < 0) {
+            throw new IllegalStateException("워커 ID가 아직 할당되지 않았습니다");
+        }
+        if (nanoTime() - leaseValidUntilNanos >= 0) {
+            throw new IllegalStateException("워커 ID 임대가 만료되어 ID를 생성할 수 없습니다: workerId=" + current);
+        }
+        return current;
+    }
+
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    private static long validUntil(long requestedAt) {
+        return requestedAt + LEASE_TTL.minus(LEASE_SAFETY_MARGIN).toNanos();
+    }
+}
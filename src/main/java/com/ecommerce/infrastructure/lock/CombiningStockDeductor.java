@@ -0,0 +1,63 @@
+package com.ecommerce.infrastructure.lock;
+
+import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.service.ProductDomainService;
+import com.ecommerce.domain.service.StockDeductor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 요청 합치기 기반 재고 차감
+ *
+ * 상품별 차감을 StockDecrementCombiner에 맡겨, 같은 상품을 동시에 주문한 요청들이
+ * 락 1회 + DB 조회/저장 1회를 나눠 쓰도록 합니다.
+ * - 상품 ID 오름차순으로 차감
+ * - 중간에 실패하면 이미 차감한 상품을 복구하여 all-or-nothing 보장
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.stock", name = "mode", havingValue = "combining")
+@RequiredArgsConstructor
+public class CombiningStockDeductor implements StockDeductor {
+
+    private static final String LOCK_KEY_PREFIX_STOCK = "lock:stock:";
+
+    private final StockDecrementCombiner stockDecrementCombiner;
+    private final DistributedLockExecutor lockExecutor;
+    private final ProductDomainService productDomainService;
+
+    @Override
+    public List<Product> deduct(Map<Long, Integer> quantities) {
+        List<Product> reducedProducts = new ArrayList<>();
+
+        try {
+            for (Map.Entry<Long, Integer> entry : new TreeMap<>(quantities).entrySet()) {
+                reducedProducts.add(stockDecrementCombiner.reduce(entry.getKey(), entry.getValue()));
+            }
+        } catch (RuntimeException e) {
+            for (Product product : reducedProducts) {
+                try {
+                    restore(product.getId(), quantities.get(product.getId()));
+                } catch (Exception ex) {
+                    log.error("재고 차감 롤백 실패: productId={}", product.getId(), ex);
+                }
+            }
+            throw e;
+        }
+
+        return reducedProducts;
+    }
+
+    @Override
+    public void restore(Long productId, int quantity) {
+        lockExecutor.executeWithLock(LOCK_KEY_PREFIX_STOCK + productId,
+                () -> productDomainService.restoreStock(productId, quantity));
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.infrastructure.lock;
+
+import com.ecommerce.domain.service.PointUpdateExecutor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 추가 동시성 제어 없이 포인트 변경 (ecommerce.point.mode=redis, ledger)
+ *
+ * 잔액 저장소가 스스로 직렬화하므로 락이나 재시도 없이 바로 실행합니다.
+ * - redis: 잔액 검사와 변경이 Lua Script 한 번으로 원자적
+ * - ledger: 충전은 INSERT만, 차감은 users 행 락으로 차감끼리만 직렬화
+ */
+@Component
+@ConditionalOnExpression("'${ecommerce.point.mode:lock}'.matches('redis|ledger')")
+public class DirectPointUpdateExecutor implements PointUpdateExecutor {
+
+    @Override
+    public <T> T execute(Long userId, Supplier<T> update) {
+        return update.get();
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.infrastructure.lock;
+
+import com.ecommerce.domain.entity.UserCoupon;
+import com.ecommerce.domain.service.CouponDomainService;
+import com.ecommerce.domain.service.CouponIssueExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분산 락 기반 쿠폰 발급 (기본 모드)
+ *
+ * 쿠폰마다 lock:coupon:{couponId} 락을 잡고 중복 확인 → 쿠폰 로드 → 수량 증가 → 발급 저장을 수행합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.coupon", name = "mode", havingValue = "lock", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DistributedLockCouponIssueExecutor implements CouponIssueExecutor {
+
+    private static final String LOCK_KEY_PREFIX_COUPON = "lock:coupon:";
+
+    private final DistributedLockExecutor lockExecutor;
+    private final CouponDomainService couponDomainService;
+
+    @Override
+    public UserCoupon issue(Long userId, Long couponId) {
+        return lockExecutor.executeWithLock(LOCK_KEY_PREFIX_COUPON + couponId,
+                () -> couponDomainService.issueCoupon(userId, couponId));
+    }
+}
@@ -1,11 +1,17 @@
 package com.ecommerce.infrastructure.lock;
 
-import lombok.RequiredArgsConstructor;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
@@ -14,18 +20,51 @@ import java.util.function.Supplier;
  * Redisson을 사용한 분산 락 로직을 추상화하여
  * 서비스 레이어에서 저수준 예외 처리를 분리합니다.
  *
+ * 로컬 락 선행:
+ * - Redisson 락을 잡기 전에 키별 JVM 로컬 락(공정 ReentrantLock)을 먼저 획득
+ * - 로컬 락은 키마다 따로 두고 참조 수를 세어, 마지막 사용자가 풀 때 제거 (서로 다른 키끼리 공유하지 않음)
+ * - 같은 키를 노리는 스레드 중 JVM당 1개만 Redis에서 경쟁하고, 나머지는 로컬 큐에서 대기
+ * - 경합 시 Redis 명령(tryLock 재시도, pub/sub 해제 알림)이 인스턴스 수 수준으로 감소
+ * - 대기 시간(waitTime)은 로컬 대기와 Redis 대기를 합친 전체 시간
+ *
+ * 비동기 락 (executeWithLockAsync):
+ * - Redisson tryLockAsync로 대기하므로 대기 중에는 어떤 스레드도 점유하지 않음
+ * - 락 획득 후 작업은 lockTaskExecutor에서 실행, 락 해제까지 끝나면 CompletableFuture 완료
+ * - 호출마다 고유한 음수 소유자 ID로 락을 잡아 실제 스레드 ID(양수)와 겹치지 않음
+ * - 로컬 락은 스레드에 묶이므로 비동기 경로에서는 거치지 않음
+ *
+ * 지표:
+ * - 대기/보유 시간, 타임아웃, 경합 횟수를 LockMetrics에 키 접두사별로 기록
+ *
+ * 주의:
+ * - 락 안에서 다른 키의 락을 중첩 획득할 때는(결제 → 재고 등) 모든 경로가 같은 순서로 잡아야 함
+ *
  * 사용 예시:
  * - 값 반환: lockExecutor.executeWithLock("lock:key", () -> service.doSomething());
  * - 값 없음: lockExecutor.executeWithLock("lock:key", () -> service.doSomethingVoid());
  */
 @Component
-@RequiredArgsConstructor
 public class DistributedLockExecutor {
 
     private static final long DEFAULT_WAIT_TIME_SECONDS = 30;
     private static final long DEFAULT_LEASE_TIME_SECONDS = 10;
 
+    private static final AtomicLong ASYNC_OWNER_IDS = new AtomicLong(Long.MIN_VALUE);
+
     private final RedissonClient redissonClient;
+    private final LockMetrics lockMetrics;
+    private final Executor lockTaskExecutor;
+
+    private final ConcurrentHashMap<String, LockHolder> localLocks = new ConcurrentHashMap<>();
+
+    public DistributedLockExecutor(
+            RedissonClient redissonClient,
+            LockMetrics lockMetrics,
+            @Qualifier("lockTaskExecutor") Executor lockTaskExecutor) {
+        this.redissonClient = redissonClient;
+        this.lockMetrics = lockMetrics;
+        this.lockTaskExecutor = lockTaskExecutor;
+    }
 
     /**
      * 분산 락을 획득하고 작업을 실행합니다.
@@ -52,24 +91,136 @@ public class DistributedLockExecutor {
      * @throws LockAcquisitionException 락 획득 실패 시
      */
     public <T> T executeWithLock(String lockKey, long waitTimeSeconds, long leaseTimeSeconds, Supplier<T> task) {
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.SECONDS.toNanos(waitTimeSeconds);
+        ReentrantLock localLock = retainLocalLock(lockKey);
+
+        try {
+            try {
+                if (!localLock.tryLock(waitTimeSeconds, TimeUnit.SECONDS)) {
+                    throw lockTimeout(lockKey, startNanos);
+                }
+            } catch (InterruptedException e) {
+                throw lockInterrupted(lockKey, startNanos, e);
+            }
+
+            try {
+                long remainingMillis = Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+                return executeWithDistributedLock(lockKey, startNanos, remainingMillis,
+                        TimeUnit.SECONDS.toMillis(leaseTimeSeconds), task);
+            } finally {
+                localLock.unlock();
+            }
+        } finally {
+            releaseLocalLock(lockKey);
+        }
+    }
+
+    private <T> T executeWithDistributedLock(String lockKey, long startNanos, long waitTimeMillis,
+                                             long leaseTimeMillis, Supplier<T> task) {
         RLock lock = redissonClient.getLock(lockKey);
+        boolean acquired = false;
+        long acquiredNanos = 0;
 
         try {
-            boolean acquired = lock.tryLock(waitTimeSeconds, leaseTimeSeconds, TimeUnit.SECONDS);
-            if (!acquired) {
-                throw new LockAcquisitionException("락 획득 실패: " + lockKey);
+            if (!lock.tryLock(waitTimeMillis, leaseTimeMillis, TimeUnit.MILLISECONDS)) {
+                throw lockTimeout(lockKey, startNanos);
             }
+            acquired = true;
+            acquiredNanos = System.nanoTime();
+            lockMetrics.recordAcquired(lockKey, acquiredNanos - startNanos);
 
             return task.get();
 
         } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new LockAcquisitionException("락 획득 중 인터럽트 발생: " + lockKey, e);
+            throw lockInterrupted(lockKey, startNanos, e);
         } finally {
             if (lock.isHeldByCurrentThread()) {
                 lock.unlock();
             }
+            if (acquired) {
+                lockMetrics.recordHold(lockKey, System.nanoTime() - acquiredNanos);
+            }
+        }
+    }
+
+    /**
+     * 분산 락을 비동기로 획득하고 작업을 실행합니다.
+     *
+     * @param lockKey 락 키
+     * @param task 실행할 작업 (lockTaskExecutor에서 실행)
+     * @param <T> 반환 타입
+     * @return 락 해제 후 작업 결과로 완료되는 future (락 획득 실패 시 LockAcquisitionException으로 완료)
+     */
+    public <T> CompletableFuture<T> executeWithLockAsync(String lockKey, Supplier<T> task) {
+        return executeWithLockAsync(lockKey, DEFAULT_WAIT_TIME_SECONDS, DEFAULT_LEASE_TIME_SECONDS, task);
+    }
+
+    /**
+     * 분산 락을 비동기로 획득하고 작업을 실행합니다. (타임아웃 지정)
+     */
+    public <T> CompletableFuture<T> executeWithLockAsync(String lockKey, long waitTimeSeconds,
+                                                         long leaseTimeSeconds, Supplier<T> task) {
+        RLock lock = redissonClient.getLock(lockKey);
+        long ownerId = ASYNC_OWNER_IDS.incrementAndGet();
+        long startNanos = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        lock.tryLockAsync(waitTimeSeconds, leaseTimeSeconds, TimeUnit.SECONDS, ownerId)
+                .whenComplete((acquired, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(new LockAcquisitionException("락 획득 실패: " + lockKey, error));
+                        return;
+                    }
+                    if (!acquired) {
+                        result.completeExceptionally(lockTimeout(lockKey, startNanos));
+                        return;
+                    }
+
+                    long acquiredNanos = System.nanoTime();
+                    lockMetrics.recordAcquired(lockKey, acquiredNanos - startNanos);
+                    try {
+                        lockTaskExecutor.execute(() -> runAndUnlock(lock, ownerId, lockKey, acquiredNanos, task, result));
+                    } catch (RejectedExecutionException e) {
+                        lock.unlockAsync(ownerId);
+                        result.completeExceptionally(new LockAcquisitionException("락 작업 실행 거부: " + lockKey, e));
+                    }
+                });
+
+        return result;
+    }
+
+    private <T> void runAndUnlock(RLock lock, long ownerId, String lockKey, long acquiredNanos,
+                                  Supplier<T> task, CompletableFuture<T> result) {
+        T value = null;
+        Throwable failure = null;
+        try {
+            value = task.get();
+        } catch (Throwable t) {
+            failure = t;
         }
+
+        T taskValue = value;
+        Throwable taskFailure = failure;
+        lock.unlockAsync(ownerId).whenComplete((ignored, unlockError) -> {
+            lockMetrics.recordHold(lockKey, System.nanoTime() - acquiredNanos);
+            if (taskFailure != null) {
+                result.completeExceptionally(taskFailure);
+            } else {
+                result.complete(taskValue);
+            }
+        });
+    }
+
+    private LockAcquisitionException lockTimeout(String lockKey, long startNanos) {
+        lockMetrics.recordTimeout(lockKey, System.nanoTime() - startNanos);
+        return new LockAcquisitionException("락 획득 실패: " + lockKey);
+    }
+
+    private LockAcquisitionException lockInterrupted(String lockKey, long startNanos, InterruptedException e) {
+        Thread.currentThread().interrupt();
+        lockMetrics.recordInterrupted(lockKey, System.nanoTime() - startNanos);
+        return new LockAcquisitionException("락 획득 중 인터럽트 발생: " + lockKey, e);
     }
 
     /**
@@ -85,4 +236,34 @@ public class DistributedLockExecutor {
             return null;
         });
     }
+
+    /**
+     * 키의 로컬 락을 참조합니다. 없으면 만들고, 참조 수를 늘립니다.
+     */
+    private ReentrantLock retainLocalLock(String lockKey) {
+        return localLocks.compute(lockKey, (key, holder) -> {
+            LockHolder target = holder != null ? holder : new LockHolder();
+            target.references++;
+            return target;
+        }).lock;
+    }
+
+    /**
+     * 참조를 내려놓고, 마지막 참조였으면 로컬 락을 제거합니다.
+     */
+    private void releaseLocalLock(String lockKey) {
+        localLocks.computeIfPresent(lockKey, (key, holder) -> --holder.references == 0 ? null : holder);
+    }
+
+    int localLockCount() {
+        return localLocks.size();
+    }
+
+    /**
+     * 키별 로컬 락과 참조 수 (참조 수는 ConcurrentHashMap의 compute 안에서만 변경)
+     */
+    private static final class LockHolder {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int references;
+    }
 }
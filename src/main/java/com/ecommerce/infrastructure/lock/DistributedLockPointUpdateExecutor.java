@@ -0,0 +1,34 @@
+package com.ecommerce.infrastructure.lock;
+
+import com.ecommerce.domain.service.PointUpdateExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 분산 락 기반 포인트 변경 (기본 모드)
+ *
+ * 사용자마다 lock:point:{userId} 락을 잡고 변경합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.point", name = "mode", havingValue = "lock", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DistributedLockPointUpdateExecutor implements PointUpdateExecutor {
+
+    static final String LOCK_KEY_PREFIX_POINT = "lock:point:";
+
+    private final DistributedLockExecutor lockExecutor;
+
+    @Override
+    public <T> T execute(Long userId, Supplier<T> update) {
+        return lockExecutor.executeWithLock(LOCK_KEY_PREFIX_POINT + userId, update);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeAsync(Long userId, Supplier<T> update) {
+        return lockExecutor.executeWithLockAsync(LOCK_KEY_PREFIX_POINT + userId, update);
+    }
+}
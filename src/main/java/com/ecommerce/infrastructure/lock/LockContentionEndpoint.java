@@ -0,0 +1,32 @@
+package com.ecommerce.infrastructure.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 경합 상위 락 키 조회 엔드포인트
+ *
+ * GET /actuator/lockcontention?limit=20
+ * 이벤트 전에 경합이 몰리는 상품(lock:stock:{id})을 찾아 재고 분할 등 별도 처리 대상을 정하는 데 사용합니다.
+ */
+@Component
+@Endpoint(id = "lockcontention")
+@RequiredArgsConstructor
+public class LockContentionEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+
+    private final LockMetrics lockMetrics;
+
+    @ReadOperation
+    public List<LockMetrics.ContendedKey> topContendedKeys(@Nullable Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+        return lockMetrics.topContendedKeys(size);
+    }
+}
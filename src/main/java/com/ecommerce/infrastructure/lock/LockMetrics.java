@@ -0,0 +1,158 @@
+package com.ecommerce.infrastructure.lock;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 분산 락 경합 지표
+ *
+ * 키 접두사(lock:stock, lock:payment, lock:point 등) 단위 Micrometer 지표:
+ * - lock.wait: 락 대기 시간 히스토그램 (outcome = acquired / timeout / interrupted)
+ * - lock.hold: 락 보유 시간 히스토그램
+ * - lock.contention: 대기 시간이 CONTENTION_THRESHOLD를 넘긴 획득 횟수
+ * - lock.timeout: 대기 시간 초과로 획득 실패한 횟수
+ *
+ * 구체 키(lock:stock:5 등) 단위 경합 통계는 최대 MAX_TRACKED_KEYS개까지 메모리에 보관하고
+ * 경합이 잦은 상위 N개를 LockContentionEndpoint로 노출합니다.
+ *
+ * 주의:
+ * - 구체 키는 Micrometer 태그로 쓰지 않음 (주문/사용자 ID로 지표 카디널리티 폭증)
+ */
+@Component
+@RequiredArgsConstructor
+public class LockMetrics {
+
+    static final long CONTENTION_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int MAX_TRACKED_KEYS = 10_000;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Cache<String, KeyContention> keyContentions = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_KEYS)
+            .build();
+
+    public void recordAcquired(String lockKey, long waitNanos) {
+        String prefix = prefixOf(lockKey);
+        waitTimer(prefix, "acquired").record(waitNanos, TimeUnit.NANOSECONDS);
+
+        if (waitNanos >= CONTENTION_THRESHOLD_NANOS) {
+            counter("lock.contention", prefix).increment();
+            keyContentions.get(lockKey, key -> new KeyContention()).recordContended(waitNanos);
+        }
+    }
+
+    public void recordTimeout(String lockKey, long waitNanos) {
+        String prefix = prefixOf(lockKey);
+        waitTimer(prefix, "timeout").record(waitNanos, TimeUnit.NANOSECONDS);
+        counter("lock.timeout", prefix).increment();
+        keyContentions.get(lockKey, key -> new KeyContention()).recordTimeout(waitNanos);
+    }
+
+    public void recordInterrupted(String lockKey, long waitNanos) {
+        waitTimer(prefixOf(lockKey), "interrupted").record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordHold(String lockKey, long holdNanos) {
+        String prefix = prefixOf(lockKey);
+        timers.computeIfAbsent("hold|" + prefix, k -> Timer.builder("lock.hold")
+                        .description("분산 락 보유 시간")
+                        .tag("prefix", prefix)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 경합(대기 초과 + 타임아웃) 횟수가 많은 키 상위 limit개를 반환합니다.
+     */
+    public List<ContendedKey> topContendedKeys(int limit) {
+        return keyContentions.asMap().entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingLong(ContendedKey::contendedCount)
+                        .thenComparingLong(ContendedKey::timeoutCount)
+                        .reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * lock:stock:5 → lock:stock (마지막 구분자 앞까지)
+     */
+    static String prefixOf(String lockKey) {
+        int lastSeparator = lockKey.lastIndexOf(':');
+        return lastSeparator > 0 ? lockKey.substring(0, lastSeparator) : lockKey;
+    }
+
+    private Timer waitTimer(String prefix, String outcome) {
+        return timers.computeIfAbsent("wait|" + prefix + "|" + outcome, k -> Timer.builder("lock.wait")
+                .description("분산 락 획득 대기 시간")
+                .tag("prefix", prefix)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private Counter counter(String name, String prefix) {
+        return counters.computeIfAbsent(name + "|" + prefix, k -> Counter.builder(name)
+                .tag("prefix", prefix)
+                .register(meterRegistry));
+    }
+
+    public record ContendedKey(
+            String key,
+            long contendedCount,
+            long timeoutCount,
+            double avgWaitMillis,
+            double maxWaitMillis
+    ) {
+    }
+
+    private static class KeyContention {
+
+        private final LongAdder contended = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        void recordContended(long waitNanos) {
+            contended.increment();
+            recordWait(waitNanos);
+        }
+
+        void recordTimeout(long waitNanos) {
+            timeouts.increment();
+            recordWait(waitNanos);
+        }
+
+        private void recordWait(long waitNanos) {
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+
+        ContendedKey snapshot(String key) {
+            long contendedCount = contended.sum();
+            long timeoutCount = timeouts.sum();
+            long total = contendedCount + timeoutCount;
+            double avgWaitMillis = total == 0 ? 0 : toMillis(totalWaitNanos.sum()) / total;
+            return new ContendedKey(key, contendedCount, timeoutCount, avgWaitMillis, toMillis(maxWaitNanos.get()));
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ecommerce.infrastructure.lock;
+
+import com.ecommerce.domain.service.PointUpdateExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 재시도 기반 포인트 변경 (ecommerce.point.mode=optimistic)
+ *
+ * 사용자별 포인트 경합은 드물기 때문에 분산 락 없이 User @Version 검사에 맡깁니다.
+ * - 버전 충돌 시 지터를 준 지수 백오프 후 새 트랜잭션으로 재시도 (최대 OPTIMISTIC_ATTEMPTS회)
+ * - 계속 충돌하면 lock:point:{userId} 분산 락을 잡고 한 번 더 재시도
+ *   (락 밖의 낙관적 변경과 여전히 경쟁하므로 락 안에서도 버전 충돌은 재시도)
+ *
+ * 주의:
+ * - update는 @Transactional 경계 밖에서 호출되어야 함 (충돌은 커밋 시점에 발생)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.point", name = "mode", havingValue = "optimistic")
+@RequiredArgsConstructor
+public class OptimisticRetryPointUpdateExecutor implements PointUpdateExecutor {
+
+    static final int OPTIMISTIC_ATTEMPTS = 3;
+    static final int LOCKED_ATTEMPTS = 3;
+    private static final long BASE_BACKOFF_MILLIS = 5;
+    private static final long MAX_BACKOFF_MILLIS = 50;
+
+    private final DistributedLockExecutor lockExecutor;
+
+    @Override
+    public <T> T execute(Long userId, Supplier<T> update) {
+        try {
+            return executeWithRetry(update, OPTIMISTIC_ATTEMPTS);
+        } catch (OptimisticLockingFailureException e) {
+            log.info("포인트 낙관적 재시도 {}회 충돌, 분산 락으로 전환: userId={}", OPTIMISTIC_ATTEMPTS, userId);
+        }
+
+        return lockExecutor.executeWithLock(DistributedLockPointUpdateExecutor.LOCK_KEY_PREFIX_POINT + userId,
+                () -> executeWithRetry(update, LOCKED_ATTEMPTS));
+    }
+
+    /**
+     * 비동기 경로도 먼저 호출 스레드에서 낙관적으로 시도합니다 (충돌이 없으면 락 없이 끝남).
+     * OPTIMISTIC_ATTEMPTS회 충돌한 뒤에만 분산 락을 비동기로 잡아 락 대기 중 요청 스레드를 점유하지 않습니다.
+     */
+    @Override
+    public <T> CompletableFuture<T> executeAsync(Long userId, Supplier<T> update) {
+        try {
+            return CompletableFuture.completedFuture(executeWithRetry(update, OPTIMISTIC_ATTEMPTS));
+        } catch (OptimisticLockingFailureException e) {
+            log.info("포인트 낙관적 재시도 {}회 충돌, 분산 락으로 전환: userId={}", OPTIMISTIC_ATTEMPTS, userId);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return lockExecutor.executeWithLockAsync(DistributedLockPointUpdateExecutor.LOCK_KEY_PREFIX_POINT + userId,
+                () -> executeWithRetry(update, LOCKED_ATTEMPTS));
+    }
+
+    private <T> T executeWithRetry(Supplier<T> update, int maxAttempts) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return update.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * Full Jitter: 0 ~ min(MAX, BASE * 2^(attempt-1)) 사이 무작위 대기
+     */
+    private void backoff(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << (attempt - 1));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LockAcquisitionException("포인트 재시도 대기 중 인터럽트 발생", e);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.ecommerce.infrastructure.lock;
+
+import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.service.ProductDomainService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 재고 차감 요청 합치기 (Flat Combining)
+ *
+ * 같은 JVM에서 같은 상품을 동시에 차감하려는 요청을 모아 한 번에 처리합니다.
+ * - 요청 스레드는 상품별 대기열에 요청을 넣고, 그중 한 스레드만 처리 담당(combiner)이 됨
+ * - combiner는 배치 1회(최대 MAX_BATCH_SIZE건)만 lock:stock 락 1회 + 조회/저장 1회로 처리하고 담당을 내려놓음
+ * - 대기열이 남아 있으면 맨 앞 대기 요청의 스레드를 깨워 담당을 넘김 (한 요청 스레드가 계속 붙잡혀 있지 않음)
+ * - 대기 스레드는 폴링하지 않고 자기 요청의 결과나 담당 차례가 올 때까지 잠듦
+ * - 대기열이 빈 상품 슬롯은 바로 제거
+ *
+ * 요청당 지연은 약간 늘지만, 인기 상품 하나에 대한 처리량은 배치 크기만큼 늘어납니다.
+ *
+ * 주의:
+ * - 대기 시간 초과 시 아직 배치에 포함되지 않은 요청만 취소됨
+ *   (이미 배치에 포함된 요청은 결과가 나올 때까지 기다림)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.stock", name = "mode", havingValue = "combining")
+@RequiredArgsConstructor
+public class StockDecrementCombiner {
+
+    private static final String LOCK_KEY_PREFIX_STOCK = "lock:stock:";
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final long WAIT_TIMEOUT_MILLIS = 30_000;
+
+    private final DistributedLockExecutor lockExecutor;
+    private final ProductDomainService productDomainService;
+
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * 재고를 차감합니다. 동시에 들어온 같은 상품 요청과 합쳐서 처리될 수 있습니다.
+     *
+     * @return 차감 후 상품
+     * @throws IllegalArgumentException 수량이 0 이하이거나 상품이 없는 경우
+     * @throws IllegalStateException 재고가 부족한 경우
+     * @throws LockAcquisitionException 락 획득 실패 또는 대기 시간 초과 시
+     */
+    public Product reduce(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 0보다 커야 합니다");
+        }
+
+        Request request = new Request(quantity);
+        // 슬롯 제거(release)와 같은 버킷 락 안에서 넣으므로 제거된 슬롯에 요청이 남지 않음
+        Slot slot = slots.compute(productId, (id, current) -> {
+            Slot target = current != null ? current : new Slot();
+            target.queue.offer(request);
+            return target;
+        });
+
+        return await(productId, slot, request);
+    }
+
+    /**
+     * 담당이 비어 있으면 배치 1회를 처리하고, 아니면 결과나 담당 차례가 올 때까지 기다립니다.
+     */
+    private Product await(Long productId, Slot slot, Request request) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WAIT_TIMEOUT_MILLIS);
+
+        while (!request.result.isDone()) {
+            // 담당 시도 전에 새 차례를 받아야 그 사이 넘겨진 담당을 놓치지 않음
+            CompletableFuture<Void> turn = request.nextTurn();
+            if (slot.combining.compareAndSet(false, true)) {
+                try {
+                    combineOnce(productId, slot);
+                } finally {
+                    slot.combining.set(false);
+                }
+                handOff(productId, slot);
+                continue;
+            }
+
+            try {
+                CompletableFuture.anyOf(request.result, turn).get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                // 요청 실패 → 아래에서 결과로 던짐
+            } catch (TimeoutException e) {
+                if (request.cancel()) {
+                    abandon(productId, slot, request);
+                    throw new LockAcquisitionException("재고 차감 대기 시간 초과: productId=" + productId);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (request.cancel()) {
+                    abandon(productId, slot, request);
+                    throw new LockAcquisitionException("재고 차감 대기 중 인터럽트 발생: productId=" + productId, e);
+                }
+                // 이미 배치에 포함됨 → 결과를 버리면 재고만 차감되므로 끝까지 기다림
+                break;
+            }
+        }
+        return awaitClaimed(productId, request);
+    }
+
+    private Product awaitClaimed(Long productId, Request request) {
+        try {
+            return request.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("재고 차감 실패: productId=" + productId, e.getCause());
+        }
+    }
+
+    private void combineOnce(Long productId, Slot slot) {
+        List<Request> batch = drain(slot.queue);
+        if (!batch.isEmpty()) {
+            apply(productId, batch);
+        }
+    }
+
+    /**
+     * 담당을 내려놓은 뒤 호출합니다.
+     * 대기열이 남아 있으면 맨 앞 대기 요청에 차례를 넘기고, 비었으면 슬롯을 제거합니다.
+     * (담당 시도에 실패한 요청은 담당을 내려놓기 전에 이미 대기열에 있으므로 여기서 항상 보임)
+     */
+    private void handOff(Long productId, Slot slot) {
+        for (Request next : slot.queue) {
+            if (next.isWaiting()) {
+                next.turn.complete(null);
+                return;
+            }
+        }
+        slots.computeIfPresent(productId, (id, current) ->
+                current == slot && slot.queue.isEmpty() && !slot.combining.get() ? null : current);
+    }
+
+    private void abandon(Long productId, Slot slot, Request request) {
+        slot.queue.remove(request);
+        // 취소한 요청이 차례를 받은 직후였을 수 있으므로 다음 요청에 넘김
+        if (!slot.combining.get()) {
+            handOff(productId, slot);
+        }
+    }
+
+    int slotCount() {
+        return slots.size();
+    }
+
+    private List<Request> drain(Queue<Request> queue) {
+        List<Request> batch = new ArrayList<>();
+        Request request;
+        while (batch.size() < MAX_BATCH_SIZE && (request = queue.poll()) != null) {
+            if (request.claim()) {
+                batch.add(request);
+            }
+        }
+        return batch;
+    }
+
+    private void apply(Long productId, List<Request> batch) {
+        List<Integer> quantities = batch.stream().map(request -> request.quantity).toList();
+
+        ProductDomainService.BatchReduction reduction;
+        try {
+            reduction = lockExecutor.executeWithLock(LOCK_KEY_PREFIX_STOCK + productId,
+                    () -> productDomainService.reduceStockBatch(productId, quantities));
+        } catch (RuntimeException e) {
+            batch.forEach(request -> request.result.completeExceptionally(e));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Request request = batch.get(i);
+            if (reduction.accepted(i)) {
+                request.result.complete(reduction.product());
+            } else {
+                request.result.completeExceptionally(new IllegalStateException(
+                        "재고 부족: 현재 재고 " + reduction.stockBefore().get(i) + "개, 요청 수량 " + request.quantity + "개"
+                ));
+            }
+        }
+
+        if (batch.size() > 1) {
+            log.debug("재고 차감 요청 합치기: productId={}, batchSize={}", productId, batch.size());
+        }
+    }
+
+    /**
+     * 상품별 대기열과 처리 담당 여부 (대기열이 비면 제거됨)
+     */
+    private static class Slot {
+        private final Queue<Request> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean combining = new AtomicBoolean(false);
+    }
+
+    private static class Request {
+        private static final int WAITING = 0;
+        private static final int CLAIMED = 1;
+        private static final int CANCELLED = 2;
+
+        private final int quantity;
+        private final CompletableFuture<Product> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private volatile CompletableFuture<Void> turn = new CompletableFuture<>();
+
+        private Request(int quantity) {
+            this.quantity = quantity;
+        }
+
+        private boolean claim() {
+            return state.compareAndSet(WAITING, CLAIMED);
+        }
+
+        private boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+
+        private boolean isWaiting() {
+            return state.get() == WAITING;
+        }
+
+        private CompletableFuture<Void> nextTurn() {
+            turn = new CompletableFuture<>();
+            return turn;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.infrastructure.persistence.coupon;
+
+import com.ecommerce.domain.entity.UserCoupon;
+import com.ecommerce.domain.service.CouponDomainService;
+import com.ecommerce.domain.service.CouponIssueExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조건부 UPDATE 기반 쿠폰 발급 (락 없음)
+ *
+ * 분산 락 없이 DB 제약만으로 초과 발급과 중복 발급을 막습니다.
+ * - 중복: user_coupons의 uk_user_coupon 유니크 키
+ * - 수량: WHERE current_issue_count < max_issue_count 조건의 UPDATE
+ * - 발급 한 건 = 트랜잭션 1개 + INSERT 1회 + UPDATE 1회 (Redis 왕복, 락 인계 대기 없음)
+ *
+ * 처리량은 쿠폰 행 락 보유 시간(UPDATE ~ 커밋)에 좌우됩니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.coupon", name = "mode", havingValue = "conditional-update")
+@RequiredArgsConstructor
+public class ConditionalUpdateCouponIssueExecutor implements CouponIssueExecutor {
+
+    private final CouponDomainService couponDomainService;
+
+    @Override
+    public UserCoupon issue(Long userId, Long couponId) {
+        return couponDomainService.issueCouponAtomically(userId, couponId);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecommerce.infrastructure.persistence.point;
+
+import com.ecommerce.domain.repository.UserRepository;
+import com.ecommerce.domain.service.PointDomainService;
+import com.ecommerce.domain.service.PointWallet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 포인트 잔액 저장소 (ecommerce.point.mode=lock, optimistic)
+ *
+ * users.point_balance가 잔액 원본이며, 변경마다 User 저장 + PointHistory INSERT를 한 트랜잭션으로 처리합니다.
+ *
+ * 주의:
+ * - 호출자의 트랜잭션에 합류 (사가 단계에서는 사가 기록과 함께 커밋/롤백)
+ * - 중복 반영 방지는 호출자의 트랜잭션(사가 기록)이 보장하므로 orderId로 따로 거르지 않음
+ */
+@Component
+@ConditionalOnExpression("!'${ecommerce.point.mode:lock}'.matches('redis|ledger')")
+@RequiredArgsConstructor
+public class DatabasePointWallet implements PointWallet {
+
+    private final UserRepository userRepository;
+    private final PointDomainService pointDomainService;
+
+    @Override
+    public int charge(Long userId, int amount) {
+        return pointDomainService.chargePoint(userId, amount);
+    }
+
+    @Override
+    public int deduct(Long userId, int amount, String description, Long orderId) {
+        return pointDomainService.deductPoint(userId, amount, description, orderId);
+    }
+
+    @Override
+    public int refund(Long userId, int amount, Long orderId) {
+        return pointDomainService.chargePoint(userId, amount);
+    }
+
+    @Override
+    public int getBalance(Long userId) {
+        return userRepository.getByIdOrThrow(userId).getPointBalance();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ecommerce.infrastructure.persistence.point;
+
+import com.ecommerce.domain.service.PointLedgerDomainService;
+import com.ecommerce.domain.service.PointWallet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원장 기반 포인트 잔액 저장소 (ecommerce.point.mode=ledger)
+ *
+ * 잔액을 users.point_balance에 덮어쓰지 않고 point_histories 추가만으로 변경합니다.
+ * 잔액은 최신 스냅샷 + 미합산 원장 항목으로 계산하며, 스냅샷은 PointLedgerCompactor가 만듭니다.
+ *
+ * 주의:
+ * - 호출자의 트랜잭션에 합류 (사가 단계에서는 사가 기록과 함께 커밋/롤백)
+ */
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.point", name = "mode", havingValue = "ledger")
+@RequiredArgsConstructor
+public class LedgerPointWallet implements PointWallet {
+
+    private final PointLedgerDomainService pointLedgerDomainService;
+
+    @Override
+    public int charge(Long userId, int amount) {
+        return pointLedgerDomainService.charge(userId, amount);
+    }
+
+    @Override
+    public int deduct(Long userId, int amount, String description, Long orderId) {
+        return pointLedgerDomainService.deduct(userId, amount, description, orderId);
+    }
+
+    @Override
+    public int refund(Long userId, int amount, Long orderId) {
+        return pointLedgerDomainService.charge(userId, amount);
+    }
+
+    @Override
+    public int getBalance(Long userId) {
+        return pointLedgerDomainService.getBalance(userId);
+    }
+}
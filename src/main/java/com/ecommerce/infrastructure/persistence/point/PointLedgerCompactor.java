@@ -0,0 +1,58 @@
+package com.ecommerce.infrastructure.persistence.point;
+
+import com.ecommerce.domain.service.PointLedgerDomainService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 포인트 원장 스냅샷 생성기 (ecommerce.point.mode=ledger)
+ *
+ * 미합산 원장 항목이 MIN_PENDING_ENTRIES개 이상 쌓인 사용자의 스냅샷을 주기적으로 만들어
+ * 잔액 계산 시 읽는 원장 꼬리를 짧게 유지합니다.
+ * - 사용자마다 별도 트랜잭션 (한 사용자 실패가 다른 사용자에 영향 없음)
+ * - 여러 인스턴스가 동시에 실행해도 users 행 락으로 같은 사용자는 한 번씩만 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.point", name = "mode", havingValue = "ledger")
+@RequiredArgsConstructor
+public class PointLedgerCompactor {
+
+    static final long MIN_PENDING_ENTRIES = 50;
+    private static final int BATCH_SIZE = 100;
+
+    private final PointLedgerDomainService pointLedgerDomainService;
+
+    @Scheduled(fixedDelay = 30000) // 30초마다 실행
+    public void compact() {
+        compact(MIN_PENDING_ENTRIES);
+    }
+
+    /**
+     * @return 스냅샷을 만든 사용자 수
+     */
+    public int compact(long minPendingEntries) {
+        List<Long> userIds = pointLedgerDomainService.findSnapshotCandidates(minPendingEntries, BATCH_SIZE);
+        int compacted = 0;
+
+        for (Long userId : userIds) {
+            try {
+                if (pointLedgerDomainService.createSnapshot(userId) > 0) {
+                    compacted++;
+                }
+            } catch (Exception e) {
+                log.error("포인트 스냅샷 생성 실패, 다음 주기에 재시도: userId={}, error={}", userId, e.getMessage());
+            }
+        }
+
+        if (compacted > 0) {
+            log.info("포인트 스냅샷 생성: {}명", compacted);
+        }
+        return compacted;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -31,6 +32,16 @@ public class CouponRepositoryImpl implements CouponRepository {
         return jpaCouponRepository.findAll();
     }
 
+    @Override
+    public int increaseIssueCountIfAvailable(Long couponId) {
+        return jpaCouponRepository.increaseIssueCountIfAvailable(couponId, LocalDateTime.now());
+    }
+
+    @Override
+    public int increaseIssueCount(Long couponId, int count) {
+        return jpaCouponRepository.increaseIssueCount(couponId, count, LocalDateTime.now());
+    }
+
     @Override
     @Transactional
     public <R> R executeWithLock(Long couponId, Function<Coupon, R> operation) {
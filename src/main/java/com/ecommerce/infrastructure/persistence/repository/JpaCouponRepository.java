@@ -4,9 +4,11 @@ import com.ecommerce.domain.entity.Coupon;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface JpaCouponRepository extends JpaRepository<Coupon, Long> {
@@ -14,4 +16,16 @@ public interface JpaCouponRepository extends JpaRepository<Coupon, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT c FROM Coupon c WHERE c.id = :id")
     Optional<Coupon> findByIdWithLock(@Param("id") Long id);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Coupon c SET c.currentIssueCount = c.currentIssueCount + 1, c.updatedAt = :now " +
+           "WHERE c.id = :id AND c.currentIssueCount < c.maxIssueCount " +
+           "AND c.status = com.ecommerce.domain.entity.CouponStatus.ACTIVE " +
+           "AND c.issueStartDate <= :now AND c.issueEndDate >= :now")
+    int increaseIssueCountIfAvailable(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Coupon c SET c.currentIssueCount = c.currentIssueCount + :count, c.updatedAt = :now " +
+           "WHERE c.id = :id AND c.currentIssueCount + :count <= c.maxIssueCount")
+    int increaseIssueCount(@Param("id") Long id, @Param("count") int count, @Param("now") LocalDateTime now);
 }
@@ -3,6 +3,9 @@ package com.ecommerce.infrastructure.persistence.repository;
 import com.ecommerce.domain.entity.OrderPayment;
 import com.ecommerce.domain.entity.PaymentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,4 +15,27 @@ public interface JpaOrderPaymentRepository extends JpaRepository<OrderPayment, L
     Optional<OrderPayment> findByOrderId(Long orderId);
 
     List<OrderPayment> findByPaymentStatusAndPaidAtAfter(PaymentStatus status, LocalDateTime after);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderPayment p SET p.paymentStatus = :to, p.processingStartedAt = :now " +
+           "WHERE p.orderId = :orderId AND p.paymentStatus = :from")
+    int startProcessingIfStatus(@Param("orderId") Long orderId, @Param("from") PaymentStatus from,
+                                @Param("to") PaymentStatus to, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderPayment p SET p.paymentStatus = :to WHERE p.orderId = :orderId AND p.paymentStatus = :from")
+    int updateStatusIfStatus(@Param("orderId") Long orderId, @Param("from") PaymentStatus from,
+                             @Param("to") PaymentStatus to);
+
+    @Query("SELECT p.orderId FROM OrderPayment p " +
+           "WHERE p.paymentStatus = :status AND p.processingStartedAt < :before " +
+           "AND NOT EXISTS (SELECT s.id FROM PaymentSaga s WHERE s.orderId = p.orderId)")
+    List<Long> findOrderIdsWithoutSaga(@Param("status") PaymentStatus status, @Param("before") LocalDateTime before);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderPayment p SET p.paymentStatus = :to, p.processingStartedAt = null " +
+           "WHERE p.orderId = :orderId AND p.paymentStatus = :from AND p.processingStartedAt < :before " +
+           "AND NOT EXISTS (SELECT s.id FROM PaymentSaga s WHERE s.orderId = p.orderId)")
+    int resetIfStuckWithoutSaga(@Param("orderId") Long orderId, @Param("from") PaymentStatus from,
+                                @Param("to") PaymentStatus to, @Param("before") LocalDateTime before);
 }
@@ -0,0 +1,19 @@
+package com.ecommerce.infrastructure.persistence.repository;
+
+import com.ecommerce.domain.entity.PaymentSaga;
+import com.ecommerce.domain.entity.PaymentSagaStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface JpaPaymentSagaRepository extends JpaRepository<PaymentSaga, Long> {
+    Optional<PaymentSaga> findByOrderId(Long orderId);
+
+    List<PaymentSaga> findByStatusAndNextRetryAtLessThanEqualOrderByNextRetryAt(
+            PaymentSagaStatus status, LocalDateTime now, Limit limit);
+
+    List<PaymentSaga> findByStatusAndUpdatedAtBefore(PaymentSagaStatus status, LocalDateTime before, Limit limit);
+}
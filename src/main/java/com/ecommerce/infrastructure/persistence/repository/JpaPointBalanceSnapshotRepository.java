@@ -0,0 +1,16 @@
+package com.ecommerce.infrastructure.persistence.repository;
+
+import com.ecommerce.domain.entity.PointBalanceSnapshot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Optional;
+
+public interface JpaPointBalanceSnapshotRepository extends JpaRepository<PointBalanceSnapshot, Long> {
+
+    Optional<PointBalanceSnapshot> findFirstByUserIdOrderBySnapshotSeqDesc(Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<PointBalanceSnapshot> findFirstWithLockByUserIdOrderBySnapshotSeqDesc(Long userId);
+}
@@ -1,10 +1,62 @@
 package com.ecommerce.infrastructure.persistence.repository;
 
 import com.ecommerce.domain.entity.PointHistory;
+import com.ecommerce.domain.entity.PointLedgerStatus;
+import com.ecommerce.domain.repository.PointHistorySummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface JpaPointHistoryRepository extends JpaRepository<PointHistory, Long> {
     List<PointHistory> findByUserId(Long userId);
+
+    @Query("SELECT new com.ecommerce.domain.repository.PointHistorySummary("
+            + "h.id, h.transactionType, h.amount, h.balanceAfter, h.description, h.createdAt) "
+            + "FROM PointHistory h WHERE h.userId = :userId "
+            + "ORDER BY h.createdAt DESC, h.id DESC")
+    List<PointHistorySummary> findLatestByUserId(@Param("userId") Long userId, Limit limit);
+
+    // createdAt <= 조건을 따로 두어 idx_user_created 범위 스캔을 유도하고, 같은 시각은 id로 구분
+    @Query("SELECT new com.ecommerce.domain.repository.PointHistorySummary("
+            + "h.id, h.transactionType, h.amount, h.balanceAfter, h.description, h.createdAt) "
+            + "FROM PointHistory h WHERE h.userId = :userId "
+            + "AND h.createdAt <= :createdAt AND (h.createdAt < :createdAt OR h.id < :id) "
+            + "ORDER BY h.createdAt DESC, h.id DESC")
+    List<PointHistorySummary> findByUserIdBefore(@Param("userId") Long userId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Limit limit);
+
+    // amount는 Money 컨버터 타입이라 부호 있는 합계는 네이티브 쿼리로 계산
+    @Query(value = "SELECT COALESCE(SUM(CASE WHEN transaction_type = 'USE' THEN -amount ELSE amount END), 0) "
+            + "FROM point_histories WHERE ledger_status = 'PENDING' AND user_id = :userId", nativeQuery = true)
+    BigDecimal sumPendingLedgerAmount(@Param("userId") Long userId);
+
+    @Query(value = "SELECT COALESCE(SUM(CASE WHEN transaction_type = 'USE' THEN -amount ELSE amount END), 0) "
+            + "FROM point_histories WHERE ledger_status = 'PENDING' AND user_id = :userId "
+            + "LOCK IN SHARE MODE", nativeQuery = true)
+    BigDecimal sumPendingLedgerAmountWithLock(@Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT h FROM PointHistory h WHERE h.ledgerStatus = :status AND h.userId = :userId")
+    List<PointHistory> findByLedgerStatusAndUserIdWithLock(@Param("status") PointLedgerStatus status,
+                                                          @Param("userId") Long userId);
+
+    @Query("SELECT h.userId FROM PointHistory h WHERE h.ledgerStatus = :status "
+            + "GROUP BY h.userId HAVING COUNT(h) >= :minEntries")
+    List<Long> findUserIdsByLedgerStatus(@Param("status") PointLedgerStatus status,
+                                         @Param("minEntries") long minEntries,
+                                         Limit limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PointHistory h SET h.ledgerStatus = :status WHERE h.id IN :ids")
+    int updateLedgerStatus(@Param("ids") List<Long> ids, @Param("status") PointLedgerStatus status);
 }
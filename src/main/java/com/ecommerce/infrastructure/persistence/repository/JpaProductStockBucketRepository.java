@@ -0,0 +1,48 @@
+package com.ecommerce.infrastructure.persistence.repository;
+
+import com.ecommerce.domain.entity.ProductStockBucket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JpaProductStockBucketRepository extends JpaRepository<ProductStockBucket, Long> {
+
+    List<ProductStockBucket> findByProductIdOrderByBucketNoAsc(Long productId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ProductStockBucket b WHERE b.productId = :productId ORDER BY b.bucketNo ASC")
+    List<ProductStockBucket> findByProductIdWithLock(@Param("productId") Long productId);
+
+    @Query("SELECT DISTINCT b.productId FROM ProductStockBucket b")
+    List<Long> findDistinctProductIds();
+
+    @Query("SELECT b.productId, COUNT(b) FROM ProductStockBucket b " +
+           "WHERE b.productId IN :productIds GROUP BY b.productId")
+    List<Object[]> countByProductIds(@Param("productIds") List<Long> productIds);
+
+    @Query("SELECT b.productId, SUM(b.quantity) FROM ProductStockBucket b " +
+           "WHERE b.productId IN :productIds GROUP BY b.productId")
+    List<Object[]> sumQuantityByProductIds(@Param("productIds") List<Long> productIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductStockBucket b SET b.quantity = b.quantity - :quantity, b.updatedAt = :now " +
+           "WHERE b.productId = :productId AND b.bucketNo = :bucketNo AND b.quantity >= :quantity")
+    int decreaseIfEnough(@Param("productId") Long productId, @Param("bucketNo") int bucketNo,
+                         @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductStockBucket b SET b.quantity = b.quantity + :quantity, b.updatedAt = :now " +
+           "WHERE b.productId = :productId AND b.bucketNo = :bucketNo")
+    int increase(@Param("productId") Long productId, @Param("bucketNo") int bucketNo,
+                 @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ProductStockBucket b WHERE b.productId = :productId")
+    void deleteByProductId(@Param("productId") Long productId);
+}
@@ -2,10 +2,26 @@ package com.ecommerce.infrastructure.persistence.repository;
 
 import com.ecommerce.domain.entity.User;
 import com.ecommerce.domain.vo.Email;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface JpaUserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(Email email);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdWithLock(@Param("id") Long id);
+
+    // point_balance는 Money 컨버터 타입이라 JPQL 산술 대신 네이티브 UPDATE (@Version도 함께 증가)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE users SET point_balance = point_balance + :delta, version = version + 1, "
+            + "updated_at = :now WHERE id = :id", nativeQuery = true)
+    int addPointBalance(@Param("id") Long id, @Param("delta") int delta, @Param("now") LocalDateTime now);
 }
@@ -36,6 +36,28 @@ public class OrderPaymentRepositoryImpl implements OrderPaymentRepository {
         return jpaOrderPaymentRepository.findByPaymentStatusAndPaidAtAfter(status, after);
     }
 
+    @Override
+    public int markProcessingIfPending(Long orderId) {
+        return jpaOrderPaymentRepository.startProcessingIfStatus(
+                orderId, PaymentStatus.PENDING, PaymentStatus.PROCESSING, LocalDateTime.now());
+    }
+
+    @Override
+    public int markFailedIfPending(Long orderId) {
+        return jpaOrderPaymentRepository.updateStatusIfStatus(orderId, PaymentStatus.PENDING, PaymentStatus.FAILED);
+    }
+
+    @Override
+    public List<Long> findStuckProcessingOrderIds(LocalDateTime before) {
+        return jpaOrderPaymentRepository.findOrderIdsWithoutSaga(PaymentStatus.PROCESSING, before);
+    }
+
+    @Override
+    public int resetStuckProcessing(Long orderId, LocalDateTime before) {
+        return jpaOrderPaymentRepository.resetIfStuckWithoutSaga(
+                orderId, PaymentStatus.PROCESSING, PaymentStatus.PENDING, before);
+    }
+
     @Override
     public void deleteAll() {
         jpaOrderPaymentRepository.deleteAll();
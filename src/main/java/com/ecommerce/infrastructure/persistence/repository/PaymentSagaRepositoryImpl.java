@@ -0,0 +1,51 @@
+package com.ecommerce.infrastructure.persistence.repository;
+
+import com.ecommerce.domain.entity.PaymentSaga;
+import com.ecommerce.domain.entity.PaymentSagaStatus;
+import com.ecommerce.domain.repository.PaymentSagaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class PaymentSagaRepositoryImpl implements PaymentSagaRepository {
+
+    private final JpaPaymentSagaRepository jpaPaymentSagaRepository;
+
+    @Override
+    public PaymentSaga save(PaymentSaga saga) {
+        return jpaPaymentSagaRepository.save(saga);
+    }
+
+    @Override
+    public Optional<PaymentSaga> findById(Long id) {
+        return jpaPaymentSagaRepository.findById(id);
+    }
+
+    @Override
+    public Optional<PaymentSaga> findByOrderId(Long orderId) {
+        return jpaPaymentSagaRepository.findByOrderId(orderId);
+    }
+
+    @Override
+    public List<PaymentSaga> findCompensationDue(LocalDateTime now, int limit) {
+        return jpaPaymentSagaRepository.findByStatusAndNextRetryAtLessThanEqualOrderByNextRetryAt(
+                PaymentSagaStatus.COMPENSATING, now, Limit.of(limit));
+    }
+
+    @Override
+    public List<PaymentSaga> findStaleInProgress(LocalDateTime before, int limit) {
+        return jpaPaymentSagaRepository.findByStatusAndUpdatedAtBefore(
+                PaymentSagaStatus.IN_PROGRESS, before, Limit.of(limit));
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaPaymentSagaRepository.deleteAll();
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.infrastructure.persistence.repository;
+
+import com.ecommerce.domain.entity.PointBalanceSnapshot;
+import com.ecommerce.domain.repository.PointBalanceSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class PointBalanceSnapshotRepositoryImpl implements PointBalanceSnapshotRepository {
+
+    private final JpaPointBalanceSnapshotRepository jpaPointBalanceSnapshotRepository;
+
+    @Override
+    public PointBalanceSnapshot save(PointBalanceSnapshot snapshot) {
+        return jpaPointBalanceSnapshotRepository.save(snapshot);
+    }
+
+    @Override
+    public Optional<PointBalanceSnapshot> findLatestByUserId(Long userId) {
+        return jpaPointBalanceSnapshotRepository.findFirstByUserIdOrderBySnapshotSeqDesc(userId);
+    }
+
+    @Override
+    public Optional<PointBalanceSnapshot> findLatestByUserIdWithLock(Long userId) {
+        return jpaPointBalanceSnapshotRepository.findFirstWithLockByUserIdOrderBySnapshotSeqDesc(userId);
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaPointBalanceSnapshotRepository.deleteAll();
+    }
+}
@@ -1,10 +1,14 @@
 package com.ecommerce.infrastructure.persistence.repository;
 
 import com.ecommerce.domain.entity.PointHistory;
+import com.ecommerce.domain.entity.PointLedgerStatus;
 import com.ecommerce.domain.repository.PointHistoryRepository;
+import com.ecommerce.domain.repository.PointHistorySummary;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -18,11 +22,55 @@ public class PointHistoryRepositoryImpl implements PointHistoryRepository {
         return jpaPointHistoryRepository.save(history);
     }
 
+    @Override
+    public List<PointHistory> saveAll(List<PointHistory> histories) {
+        return jpaPointHistoryRepository.saveAll(histories);
+    }
+
     @Override
     public List<PointHistory> findByUserId(Long userId) {
         return jpaPointHistoryRepository.findByUserId(userId);
     }
 
+    @Override
+    public List<PointHistorySummary> findLatestByUserId(Long userId, int limit) {
+        return jpaPointHistoryRepository.findLatestByUserId(userId, Limit.of(limit));
+    }
+
+    @Override
+    public List<PointHistorySummary> findByUserIdBefore(Long userId, LocalDateTime createdAt, Long id, int limit) {
+        return jpaPointHistoryRepository.findByUserIdBefore(userId, createdAt, id, Limit.of(limit));
+    }
+
+    @Override
+    public int sumPendingLedgerAmount(Long userId) {
+        return jpaPointHistoryRepository.sumPendingLedgerAmount(userId).intValueExact();
+    }
+
+    @Override
+    public int sumPendingLedgerAmountWithLock(Long userId) {
+        return jpaPointHistoryRepository.sumPendingLedgerAmountWithLock(userId).intValueExact();
+    }
+
+    @Override
+    public List<PointHistory> findPendingLedgerEntriesWithLock(Long userId) {
+        return jpaPointHistoryRepository.findByLedgerStatusAndUserIdWithLock(PointLedgerStatus.PENDING, userId);
+    }
+
+    @Override
+    public List<Long> findUserIdsWithPendingLedger(long minEntries, int limit) {
+        return jpaPointHistoryRepository.findUserIdsByLedgerStatus(
+                PointLedgerStatus.PENDING, minEntries, Limit.of(limit));
+    }
+
+    @Override
+    public int markLedgerSnapshotted(List<Long> historyIds) {
+        if (historyIds.isEmpty()) {
+            return 0;
+        }
+        return jpaPointHistoryRepository.updateLedgerStatus(historyIds, PointLedgerStatus.SNAPSHOTTED);
+    }
+
     @Override
     public void deleteAll() {
         jpaPointHistoryRepository.deleteAll();
@@ -1,6 +1,10 @@
 package com.ecommerce.infrastructure.persistence.repository;
 
+import com.ecommerce.domain.entity.Order;
+import com.ecommerce.domain.entity.OrderItem;
+import com.ecommerce.domain.entity.Product;
 import com.ecommerce.domain.repository.PopularProductRepository;
+import com.ecommerce.domain.service.OrderIdGenerator;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -14,6 +18,7 @@ import java.util.List;
 public class PopularProductRepositoryImpl implements PopularProductRepository {
 
     private final EntityManager entityManager;
+    private final OrderIdGenerator orderIdGenerator;
 
     @Override
     public List<Long> getTopProductIds(LocalDateTime startTime, LocalDateTime endTime, int limit) {
@@ -49,31 +54,24 @@ public class PopularProductRepositoryImpl implements PopularProductRepository {
     @Override
     @Transactional
     public void recordSale(Long productId, int quantity, LocalDateTime soldAt) {
-        // 테스트용: 먼저 더미 주문 생성
-        String createOrderSql = """
-            INSERT INTO orders (user_id, order_number, created_at, updated_at)
-            VALUES (1, CONCAT('TEST-', UUID()), :soldAt, :soldAt)
-            """;
+        // 테스트용: 더미 주문/주문 아이템 생성
+        Order order = new Order(orderIdGenerator.nextId(), 1L);
+        entityManager.persist(order);
+
+        Product snapshot = new Product(productId, "Test Product", null, 10000, 0, "TEST");
+        OrderItem orderItem = new OrderItem(snapshot, quantity);
+        orderItem.setOrderId(order.getId());
+        entityManager.persist(orderItem);
+        entityManager.flush();
 
-        entityManager.createNativeQuery(createOrderSql)
+        // 집계 기준 시각을 판매 시각으로 맞춤 (@CreationTimestamp 덮어쓰기)
+        entityManager.createNativeQuery("UPDATE orders SET created_at = :soldAt, updated_at = :soldAt WHERE id = :id")
                 .setParameter("soldAt", soldAt)
+                .setParameter("id", order.getId())
                 .executeUpdate();
-
-        // 생성된 주문 ID 가져오기
-        Long orderId = ((Number) entityManager.createNativeQuery("SELECT LAST_INSERT_ID()").getSingleResult()).longValue();
-
-        // 주문 아이템 삽입
-        String sql = """
-            INSERT INTO order_items (order_id, product_id, snapshot_product_name, snapshot_price, quantity, item_total_amount, status, created_at, updated_at)
-            VALUES (:orderId, :productId, 'Test Product', 10000.00, :quantity, :totalAmount, 'PENDING', :soldAt, :soldAt)
-            """;
-
-        entityManager.createNativeQuery(sql)
-                .setParameter("orderId", orderId)
-                .setParameter("productId", productId)
-                .setParameter("quantity", quantity)
-                .setParameter("totalAmount", quantity * 10000.00)
+        entityManager.createNativeQuery("UPDATE order_items SET created_at = :soldAt, updated_at = :soldAt WHERE id = :id")
                 .setParameter("soldAt", soldAt)
+                .setParameter("id", orderItem.getId())
                 .executeUpdate();
     }
 }
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -52,4 +53,14 @@ public class ProductRepositoryImpl implements ProductRepository {
 
         return result;
     }
+
+    @Override
+    public int addStock(Long productId, int delta) {
+        return jpaProductRepository.addStock(productId, delta, LocalDateTime.now());
+    }
+
+    @Override
+    public int decreaseStockIfEnough(Long productId, int quantity) {
+        return jpaProductRepository.decreaseStockIfEnough(productId, quantity, LocalDateTime.now());
+    }
 }
@@ -0,0 +1,82 @@
+package com.ecommerce.infrastructure.persistence.repository;
+
+import com.ecommerce.domain.entity.ProductStockBucket;
+import com.ecommerce.domain.repository.ProductStockBucketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductStockBucketRepositoryImpl implements ProductStockBucketRepository {
+
+    private final JpaProductStockBucketRepository jpaProductStockBucketRepository;
+
+    @Override
+    public List<ProductStockBucket> saveAll(List<ProductStockBucket> buckets) {
+        return jpaProductStockBucketRepository.saveAll(buckets);
+    }
+
+    @Override
+    public List<ProductStockBucket> findByProductId(Long productId) {
+        return jpaProductStockBucketRepository.findByProductIdOrderByBucketNoAsc(productId);
+    }
+
+    @Override
+    public List<ProductStockBucket> findByProductIdWithLock(Long productId) {
+        return jpaProductStockBucketRepository.findByProductIdWithLock(productId);
+    }
+
+    @Override
+    public List<Long> findShardedProductIds() {
+        return jpaProductStockBucketRepository.findDistinctProductIds();
+    }
+
+    @Override
+    public Map<Long, Integer> countBucketsByProductIds(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return toMap(jpaProductStockBucketRepository.countByProductIds(productIds));
+    }
+
+    @Override
+    public Map<Long, Integer> sumQuantityByProductIds(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return toMap(jpaProductStockBucketRepository.sumQuantityByProductIds(productIds));
+    }
+
+    @Override
+    public int decreaseIfEnough(Long productId, int bucketNo, int quantity) {
+        return jpaProductStockBucketRepository.decreaseIfEnough(productId, bucketNo, quantity, LocalDateTime.now());
+    }
+
+    @Override
+    public int increase(Long productId, int bucketNo, int quantity) {
+        return jpaProductStockBucketRepository.increase(productId, bucketNo, quantity, LocalDateTime.now());
+    }
+
+    @Override
+    public void deleteByProductId(Long productId) {
+        jpaProductStockBucketRepository.deleteByProductId(productId);
+    }
+
+    @Override
+    public void deleteAll() {
+        jpaProductStockBucketRepository.deleteAll();
+    }
+
+    private Map<Long, Integer> toMap(List<Object[]> rows) {
+        Map<Long, Integer> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return result;
+    }
+}
@@ -19,6 +19,11 @@ public class UserCouponRepositoryImpl implements UserCouponRepository {
         return jpaUserCouponRepository.save(userCoupon);
     }
 
+    @Override
+    public UserCoupon saveAndFlush(UserCoupon userCoupon) {
+        return jpaUserCouponRepository.saveAndFlush(userCoupon);
+    }
+
     @Override
     public List<UserCoupon> saveAll(List<UserCoupon> userCoupons) {
         return jpaUserCouponRepository.saveAll(userCoupons);
@@ -6,6 +6,7 @@ import com.ecommerce.domain.vo.Email;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -29,6 +30,17 @@ public class UserRepositoryImpl implements UserRepository {
         return jpaUserRepository.findByEmail(Email.of(email));
     }
 
+    @Override
+    public User getByIdWithLockOrThrow(Long id) {
+        return jpaUserRepository.findByIdWithLock(id)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + id));
+    }
+
+    @Override
+    public int addPointBalance(Long userId, int delta) {
+        return jpaUserRepository.addPointBalance(userId, delta, LocalDateTime.now());
+    }
+
     @Override
     public void deleteAll() {
         jpaUserRepository.deleteAll();
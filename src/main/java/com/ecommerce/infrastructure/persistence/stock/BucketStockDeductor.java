@@ -0,0 +1,39 @@
+package com.ecommerce.infrastructure.persistence.stock;
+
+import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.service.ProductDomainService;
+import com.ecommerce.domain.service.StockDeductor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기 상품 재고 버킷 분할 기반 재고 차감 (락 없음)
+ *
+ * 상품 하나에 주문이 몰리면 상품 행(또는 lock:stock 키) 하나에 모든 요청이 줄을 섭니다.
+ * 인기 상품은 재고를 N개 버킷 행으로 나누어 요청마다 다른 행을 갱신하도록 분산합니다.
+ * - 인기 상품: 해시로 고른 버킷에 조건부 UPDATE, 부족하면 형제 버킷에서 가져옴
+ * - 일반 상품: 조건부 UPDATE (conditional-update 모드와 동일)
+ *
+ * 인기 상품 지정은 HotProductStockSharder가 담당합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.stock", name = "mode", havingValue = "sharded")
+@RequiredArgsConstructor
+public class BucketStockDeductor implements StockDeductor {
+
+    private final ProductDomainService productDomainService;
+
+    @Override
+    public List<Product> deduct(Map<Long, Integer> quantities) {
+        return productDomainService.reduceStocksWithBuckets(quantities);
+    }
+
+    @Override
+    public void restore(Long productId, int quantity) {
+        productDomainService.restoreStockWithBuckets(productId, quantity);
+    }
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.infrastructure.persistence.stock;
+
+import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.service.ProductDomainService;
+import com.ecommerce.domain.service.StockDeductor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조건부 UPDATE 기반 재고 차감 (락 없음)
+ *
+ * 분산 락 없이 DB의 행 락과 WHERE stock_quantity >= ? 조건만으로 초과 판매를 막습니다.
+ * - 주문 한 건 = 트랜잭션 1개 + 상품별 UPDATE 1회
+ * - Redis 왕복, Pub/Sub 락 해제 대기 없음
+ *
+ * 트래픽이 평범한 상품에 적합하며,
+ * 특정 상품에 요청이 몰리면 해당 행의 락 대기가 길어질 수 있습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.stock", name = "mode", havingValue = "conditional-update")
+@RequiredArgsConstructor
+public class ConditionalUpdateStockDeductor implements StockDeductor {
+
+    private final ProductDomainService productDomainService;
+
+    @Override
+    public List<Product> deduct(Map<Long, Integer> quantities) {
+        return productDomainService.reduceStocksAtomically(quantities);
+    }
+
+    @Override
+    public void restore(Long productId, int quantity) {
+        productDomainService.restoreStockAtomically(productId, quantity);
+    }
+}
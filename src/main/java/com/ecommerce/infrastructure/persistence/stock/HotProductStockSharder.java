@@ -0,0 +1,74 @@
+package com.ecommerce.infrastructure.persistence.stock;
+
+import com.ecommerce.domain.repository.ProductStockBucketRepository;
+import com.ecommerce.domain.service.ProductDomainService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 인기 상품 재고 버킷 분할기
+ *
+ * 애플리케이션 기동 시 설정(ecommerce.stock.sharding.hot-product-ids)과 버킷 상태를 맞춥니다.
+ * - 설정에 있는 상품: 재고를 버킷으로 분할
+ * - 버킷이 있지만 설정에서 빠진 상품: 버킷 재고를 상품 행으로 병합 (행사 종료 후 설정에서 제거하고 재기동)
+ *
+ * 주의:
+ * - 이미 분할된 상품은 건너뛰고 병합은 상품 행 락 안에서 하므로 여러 인스턴스가 동시에 기동해도 안전
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.stock", name = "mode", havingValue = "sharded")
+public class HotProductStockSharder {
+
+    private final ProductDomainService productDomainService;
+    private final ProductStockBucketRepository productStockBucketRepository;
+    private final List<Long> hotProductIds;
+    private final int bucketCount;
+
+    public HotProductStockSharder(
+            ProductDomainService productDomainService,
+            ProductStockBucketRepository productStockBucketRepository,
+            @Value("${ecommerce.stock.sharding.hot-product-ids:}") List<Long> hotProductIds,
+            @Value("${ecommerce.stock.sharding.bucket-count:8}") int bucketCount) {
+        this.productDomainService = productDomainService;
+        this.productStockBucketRepository = productStockBucketRepository;
+        this.hotProductIds = hotProductIds;
+        this.bucketCount = bucketCount;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void shardHotProducts() {
+        for (Long productId : productStockBucketRepository.findShardedProductIds()) {
+            if (hotProductIds.contains(productId)) {
+                continue;
+            }
+            try {
+                unshard(productId);
+            } catch (Exception e) {
+                log.error("설정에서 빠진 상품 재고 병합 실패: productId={}, error={}", productId, e.getMessage());
+            }
+        }
+
+        for (Long productId : hotProductIds) {
+            try {
+                shard(productId);
+            } catch (Exception e) {
+                log.error("인기 상품 재고 분할 실패: productId={}, error={}", productId, e.getMessage());
+            }
+        }
+    }
+
+    public boolean shard(Long productId) {
+        return productDomainService.shardStock(productId, bucketCount);
+    }
+
+    public void unshard(Long productId) {
+        productDomainService.mergeStockShards(productId);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ecommerce.infrastructure.persistence.stock;
+
+import com.ecommerce.domain.repository.ProductStockBucketRepository;
+import com.ecommerce.domain.service.ProductDomainService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 버킷 분할 재고 기동 정리 (sharded 외 재고 모드)
+ *
+ * 분할된 상품은 재고가 버킷에만 있고 products.stock_quantity는 0입니다.
+ * 버킷을 모르는 모드(lock, redis 등)에서는 해당 상품이 품절로 보이므로, 요청을 받기 전(빈 초기화 시)
+ * 남은 버킷을 모두 상품 행으로 병합합니다. → 모드만 바꿔 재기동하면 분할이 해제됨
+ *
+ * 주의:
+ * - 병합에 실패하면 기동을 중단 (품절로 잘못 보이는 상태로 뜨지 않도록)
+ * - 롤링 배포 중 아직 sharded 모드인 노드는 버킷이 없어진 상품을 일반 상품처럼 조건부 UPDATE로 차감
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${ecommerce.stock.mode:lock}' != 'sharded'")
+@RequiredArgsConstructor
+public class ShardedStockGuard {
+
+    private final ProductStockBucketRepository productStockBucketRepository;
+    private final ProductDomainService productDomainService;
+
+    @PostConstruct
+    public void mergeLeftoverShards() {
+        List<Long> shardedProductIds = productStockBucketRepository.findShardedProductIds();
+        for (Long productId : shardedProductIds) {
+            try {
+                productDomainService.mergeStockShards(productId);
+            } catch (RuntimeException e) {
+                throw new IllegalStateException(
+                        "버킷으로 분할된 상품 재고를 병합하지 못해 sharded 외 재고 모드로 기동할 수 없습니다: productId=" + productId, e);
+            }
+        }
+        if (!shardedProductIds.isEmpty()) {
+            log.info("sharded 외 재고 모드 기동: 분할 상품 재고 병합 완료, productIds={}", shardedProductIds);
+        }
+    }
+}
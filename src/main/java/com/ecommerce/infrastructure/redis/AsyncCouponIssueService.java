@@ -17,16 +17,29 @@ public class AsyncCouponIssueService implements CouponIssuer {
 
     private final CouponRedisRepository couponRedisRepository;
     private final CouponRepository couponRepository;
+    private final CouponDecisionCache couponDecisionCache;
 
+    /**
+     * 소진 또는 이미 발급으로 판정된 요청은 노드 로컬 캐시로 Redis 왕복 없이 거절합니다.
+     * 쿠폰 정보가 캐시되어 있으면 Redis 왕복 1회로 검증 + 발급 + 대기열 추가를 처리합니다.
+     * 캐시가 없을 때만 DB에서 쿠폰을 읽어 캐싱합니다.
+     */
     @Override
     public CouponIssueResult issue(Long userId, Long couponId) {
-        CouponRedisRepository.CouponInfo cachedInfo = couponRedisRepository.getCouponInfo(couponId);
+        if (couponDecisionCache.isSoldOut(couponId)) {
+            return CouponIssueResult.SOLD_OUT;
+        }
+        if (couponDecisionCache.isIssued(couponId, userId)) {
+            return CouponIssueResult.ALREADY_ISSUED;
+        }
 
-        if (cachedInfo != null) {
-            if (!cachedInfo.canIssue()) {
-                return CouponIssueResult.SOLD_OUT;
+        CouponRedisRepository.CachedIssueOutcome outcome = couponRedisRepository.issueWithCachedInfo(userId, couponId);
+        if (outcome != CouponRedisRepository.CachedIssueOutcome.NOT_CACHED) {
+            // 발급 기간 외(NOT_IN_PERIOD)는 곧 열릴 수 있으므로 캐시하지 않음
+            if (outcome != CouponRedisRepository.CachedIssueOutcome.NOT_IN_PERIOD) {
+                remember(userId, couponId, outcome.toResult());
             }
-            return couponRedisRepository.tryIssue(userId, couponId, cachedInfo.maxQuantity());
+            return outcome.toResult();
         }
 
         Coupon coupon = couponRepository.findById(couponId).orElse(null);
@@ -35,6 +48,9 @@ public class AsyncCouponIssueService implements CouponIssuer {
         }
 
         if (!coupon.canIssue()) {
+            if (coupon.getCurrentIssueCount() >= coupon.getMaxIssueCount()) {
+                couponDecisionCache.markSoldOut(couponId);
+            }
             return CouponIssueResult.SOLD_OUT;
         }
 
@@ -45,12 +61,14 @@ public class AsyncCouponIssueService implements CouponIssuer {
                 coupon.getIssueEndDate()
         );
 
-        return couponRedisRepository.tryIssue(userId, couponId, coupon.getMaxIssueCount());
+        CouponIssueResult result = couponRedisRepository.tryIssue(userId, couponId, coupon.getMaxIssueCount());
+        remember(userId, couponId, result);
+        return result;
     }
 
     @Override
     public boolean isIssued(Long userId, Long couponId) {
-        return couponRedisRepository.isIssued(userId, couponId);
+        return couponDecisionCache.isIssued(couponId, userId) || couponRedisRepository.isIssued(userId, couponId);
     }
 
     public long getIssuedCount(Long couponId) {
@@ -59,5 +77,15 @@ public class AsyncCouponIssueService implements CouponIssuer {
 
     public void initializeCoupon(Long couponId) {
         couponRedisRepository.initializeCoupon(couponId);
+        couponDecisionCache.reset(couponId);
+    }
+
+    private void remember(Long userId, Long couponId, CouponIssueResult result) {
+        switch (result) {
+            case SOLD_OUT -> couponDecisionCache.markSoldOut(couponId);
+            case SUCCESS, ALREADY_ISSUED -> couponDecisionCache.markIssued(couponId, userId);
+            default -> {
+            }
+        }
     }
 }
@@ -0,0 +1,119 @@
+package com.ecommerce.infrastructure.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 쿠폰 발급 종결 판정 노드 로컬 캐시 (near cache)
+ *
+ * 소진된 쿠폰, 이미 발급받은 (쿠폰, 사용자)는 다시 물어봐도 답이 바뀌지 않으므로 Redis 왕복 없이 거절합니다.
+ * - 소진: 한 노드가 SOLD_OUT을 받으면 coupon:sold-out 채널로 알려 모든 노드가 바로 로컬 거절
+ * - 이미 발급: 노드마다 따로 기억 (같은 사용자의 반복 클릭은 대개 같은 노드로 들어옴)
+ * - 쿠폰 초기화(initializeCoupon) 시 coupon:decision-reset 채널로 모든 노드의 해당 쿠폰 판정 삭제
+ *
+ * 주의:
+ * - pub/sub은 전달을 보장하지 않음 → 놓친 노드는 Redis에서 SOLD_OUT을 받아 스스로 채움
+ * - 초기화 알림을 놓친 노드는 TTL 동안 이전 판정을 유지 (TTL을 짧게 두는 이유)
+ */
+@Slf4j
+@Component
+public class CouponDecisionCache {
+
+    public static final String SOLD_OUT_CHANNEL = "coupon:sold-out";
+    public static final String RESET_CHANNEL = "coupon:decision-reset";
+
+    private static final Duration SOLD_OUT_TTL = Duration.ofMinutes(1);
+    private static final Duration ISSUED_TTL = Duration.ofMinutes(5);
+    private static final long ISSUED_MAX_SIZE = 100_000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final Cache<Long, Boolean> soldOutCoupons = Caffeine.newBuilder()
+            .expireAfterWrite(SOLD_OUT_TTL)
+            .recordStats()
+            .build();
+    private final Cache<IssuedKey, Boolean> issuedUsers = Caffeine.newBuilder()
+            .expireAfterWrite(ISSUED_TTL)
+            .maximumSize(ISSUED_MAX_SIZE)
+            .recordStats()
+            .build();
+
+    public CouponDecisionCache(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this::onMessage,
+                List.of(new ChannelTopic(SOLD_OUT_CHANNEL), new ChannelTopic(RESET_CHANNEL)));
+
+        CaffeineCacheMetrics.monitor(meterRegistry, soldOutCoupons, "couponSoldOut");
+        CaffeineCacheMetrics.monitor(meterRegistry, issuedUsers, "couponIssued");
+    }
+
+    public boolean isSoldOut(Long couponId) {
+        return soldOutCoupons.getIfPresent(couponId) != null;
+    }
+
+    public boolean isIssued(Long couponId, Long userId) {
+        return issuedUsers.getIfPresent(new IssuedKey(couponId, userId)) != null;
+    }
+
+    /**
+     * 로컬에 소진을 기록하고 다른 노드에 알립니다 (이미 기록된 쿠폰이면 알리지 않음).
+     */
+    public void markSoldOut(Long couponId) {
+        if (soldOutCoupons.asMap().putIfAbsent(couponId, Boolean.TRUE) == null) {
+            redisTemplate.convertAndSend(SOLD_OUT_CHANNEL, couponId.toString());
+            log.info("쿠폰 소진 알림: couponId={}", couponId);
+        }
+    }
+
+    public void markIssued(Long couponId, Long userId) {
+        issuedUsers.put(new IssuedKey(couponId, userId), Boolean.TRUE);
+    }
+
+    /**
+     * 모든 노드에서 해당 쿠폰의 판정을 지웁니다 (쿠폰 초기화, 수량 변경 후 호출).
+     */
+    public void reset(Long couponId) {
+        evict(couponId);
+        redisTemplate.convertAndSend(RESET_CHANNEL, couponId.toString());
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        Long couponId;
+        try {
+            couponId = Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 쿠폰 판정 알림: channel={}", channel);
+            return;
+        }
+
+        if (SOLD_OUT_CHANNEL.equals(channel)) {
+            soldOutCoupons.put(couponId, Boolean.TRUE);
+        } else if (RESET_CHANNEL.equals(channel)) {
+            evict(couponId);
+        }
+    }
+
+    private void evict(Long couponId) {
+        soldOutCoupons.invalidate(couponId);
+        issuedUsers.asMap().keySet().removeIf(key -> key.couponId().equals(couponId));
+    }
+
+    private record IssuedKey(Long couponId, Long userId) {
+    }
+}
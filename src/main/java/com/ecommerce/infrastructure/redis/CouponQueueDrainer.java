@@ -0,0 +1,270 @@
+package com.ecommerce.infrastructure.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 발급 대기열 연속 처리 워커
+ *
+ * 5초 주기 스케줄러 대신 워커 스레드가 대기열(coupon:queue:{n} 스트림)을 계속 비웁니다.
+ * - 워커 i는 partition % workers == i 인 파티션만 담당 → 한 노드 안에서 같은 쿠폰 행을 두 워커가 동시에 갱신하지 않음
+ * - 담당 파티션 전체를 XREADGROUP 한 번으로 블로킹 읽기 (빈 대기열을 폴링하지 않음), 파티션별로 트랜잭션 1회
+ * - 배치 크기는 적응형: 배치가 가득 차면(적체) 2배, 절반도 못 채우면 1/2 (MIN_BATCH_SIZE ~ MAX_BATCH_SIZE)
+ * - ack는 DB 커밋 후 → 저장 실패나 노드 장애 시 항목이 PEL에 남음
+ * - 여러 쿠폰이 섞인 배치가 실패하면 쿠폰별로 나눠 다시 저장 (실패한 쿠폰의 항목만 PEL에 남김)
+ * - RECLAIM_INTERVAL_MILLIS마다 RECLAIM_MIN_IDLE 이상 ack되지 않은 항목을 XCLAIM으로 회수해 다시 처리
+ * - MAX_DELIVERY_COUNT번 전달되고도 ack되지 않은 항목은 회수하지 않고 데드레터 스트림(coupon:dead-letter)으로 옮김
+ *
+ * 지표:
+ * - coupon.queue.depth: 대기열 적체 건수 (읽지 않은 항목 + ack 대기 항목, 전체 파티션 합)
+ * - coupon.queue.pending: 읽었지만 ack되지 않은 항목 수
+ * - coupon.queue.dead-letter: 데드레터 스트림 건수 (0이 아니면 수동 확인 필요)
+ * - coupon.queue.drained: 처리 건수 (outcome = issued / skipped / failed / reclaimed), rate()가 처리 속도
+ * - coupon.queue.batch.size: 배치 크기 분포
+ *
+ * 주의:
+ * - 워커마다 블로킹 XREADGROUP용 Redis 연결을 하나씩 점유 (lettuce pool max-active보다 적게 설정)
+ * - 컨슈머 이름은 노드 기동마다 새로 만듦 (죽은 노드의 미처리 항목은 회수로만 처리)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.coupon.queue.drain", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CouponQueueDrainer implements SmartLifecycle {
+
+    static final int MIN_BATCH_SIZE = 50;
+    static final int MAX_BATCH_SIZE = 1000;
+    private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(1);
+    private static final long FAILURE_BACKOFF_MILLIS = 1000;
+    private static final long RECLAIM_INTERVAL_MILLIS = 5000;
+    private static final Duration RECLAIM_MIN_IDLE = Duration.ofSeconds(30);
+    static final int MAX_DELIVERY_COUNT = 5;
+
+    private final CouponRedisRepository couponRedisRepository;
+    private final CouponQueueProcessor couponQueueProcessor;
+    private final int workerCount;
+    private final String consumerPrefix = "consumer-" + UUID.randomUUID();
+
+    private final Counter issuedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final Counter reclaimedCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    private volatile boolean running = false;
+    private ExecutorService workers;
+
+    public CouponQueueDrainer(
+            CouponRedisRepository couponRedisRepository,
+            CouponQueueProcessor couponQueueProcessor,
+            MeterRegistry meterRegistry,
+            @Value("${ecommerce.coupon.queue.drain.workers:4}") int workerCount) {
+        this.couponRedisRepository = couponRedisRepository;
+        this.couponQueueProcessor = couponQueueProcessor;
+        this.workerCount = Math.max(1, Math.min(workerCount, CouponRedisRepository.QUEUE_PARTITION_COUNT));
+
+        Gauge.builder("coupon.queue.depth", couponRedisRepository, CouponRedisRepository::getQueueSize)
+                .description("쿠폰 발급 대기열 적체 건수")
+                .register(meterRegistry);
+        Gauge.builder("coupon.queue.pending", couponRedisRepository, CouponRedisRepository::getPendingCount)
+                .description("쿠폰 발급 대기열 ack 대기 건수")
+                .register(meterRegistry);
+        Gauge.builder("coupon.queue.dead-letter", couponRedisRepository, CouponRedisRepository::getDeadLetterSize)
+                .description("쿠폰 발급 대기열 데드레터 건수")
+                .register(meterRegistry);
+        this.issuedCounter = drainedCounter(meterRegistry, "issued");
+        this.skippedCounter = drainedCounter(meterRegistry, "skipped");
+        this.failedCounter = drainedCounter(meterRegistry, "failed");
+        this.reclaimedCounter = drainedCounter(meterRegistry, "reclaimed");
+        this.batchSizeSummary = DistributionSummary.builder("coupon.queue.batch.size")
+                .description("쿠폰 대기열 배치 크기")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "coupon-queue-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+
+        for (int partition = 0; partition < CouponRedisRepository.QUEUE_PARTITION_COUNT; partition++) {
+            couponRedisRepository.createConsumerGroup(partition);
+        }
+        for (int worker = 0; worker < workerCount; worker++) {
+            workers.submit(new Worker(consumerPrefix + "-" + worker, partitionsOf(worker)));
+        }
+        log.info("쿠폰 대기열 워커 시작: workers={}, partitions={}", workerCount, CouponRedisRepository.QUEUE_PARTITION_COUNT);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        workers.shutdown();
+        try {
+            // 진행 중인 배치 저장과 XREADGROUP 대기(BLOCK_TIMEOUT)가 끝날 때까지 기다림
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private List<Integer> partitionsOf(int worker) {
+        List<Integer> partitions = new ArrayList<>();
+        for (int partition = worker; partition < CouponRedisRepository.QUEUE_PARTITION_COUNT; partition += workerCount) {
+            partitions.add(partition);
+        }
+        return partitions;
+    }
+
+    private Counter drainedCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("coupon.queue.drained")
+                .description("쿠폰 대기열 처리 건수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 담당 파티션을 계속 비우는 워커 (배치 크기는 워커마다 따로 조정)
+     */
+    private class Worker implements Runnable {
+
+        private final String consumer;
+        private final List<Integer> partitions;
+        private int batchSize = MIN_BATCH_SIZE;
+        private long nextReclaimAt = System.currentTimeMillis() + RECLAIM_INTERVAL_MILLIS;
+
+        private Worker(String consumer, List<Integer> partitions) {
+            this.consumer = consumer;
+            this.partitions = partitions;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    if (System.currentTimeMillis() >= nextReclaimAt) {
+                        reclaim();
+                        nextReclaimAt = System.currentTimeMillis() + RECLAIM_INTERVAL_MILLIS;
+                    }
+                    drainOnce();
+                } catch (Exception e) {
+                    log.error("쿠폰 대기열 워커 오류: consumer={}, error={}", consumer, e.getMessage());
+                    sleepQuietly(FAILURE_BACKOFF_MILLIS);
+                }
+            }
+        }
+
+        private void drainOnce() {
+            List<CouponRedisRepository.QueueItem> items =
+                    couponRedisRepository.readFromQueue(consumer, partitions, batchSize, BLOCK_TIMEOUT);
+            if (items.isEmpty()) {
+                return;
+            }
+
+            Map<Integer, List<CouponRedisRepository.QueueItem>> byPartition = items.stream()
+                    .collect(Collectors.groupingBy(CouponRedisRepository.QueueItem::partition));
+
+            int largestBatch = 0;
+            for (List<CouponRedisRepository.QueueItem> batch : byPartition.values()) {
+                process(batch);
+                largestBatch = Math.max(largestBatch, batch.size());
+            }
+            adjustBatchSize(largestBatch);
+        }
+
+        /**
+         * 죽은 컨슈머(또는 저장에 실패한 자신)의 오래된 미처리 항목을 가져와 다시 처리합니다.
+         */
+        private void reclaim() {
+            for (int partition : partitions) {
+                List<CouponRedisRepository.QueueItem> claimed =
+                        couponRedisRepository.claimStale(
+                        consumer, partition, RECLAIM_MIN_IDLE, MAX_DELIVERY_COUNT, MAX_BATCH_SIZE);
+                if (claimed.isEmpty()) {
+                    continue;
+                }
+                log.warn("쿠폰 대기열 미처리 항목 회수: partition={}, count={}", partition, claimed.size());
+                reclaimedCounter.increment(claimed.size());
+                process(claimed);
+            }
+        }
+
+        private void process(List<CouponRedisRepository.QueueItem> batch) {
+            batchSizeSummary.record(batch.size());
+            if (tryProcess(batch)) {
+                return;
+            }
+
+            // 한 쿠폰의 실패로 같은 파티션의 다른 쿠폰까지 롤백되지 않도록 쿠폰별로 나눠 다시 저장
+            Map<String, List<CouponRedisRepository.QueueItem>> byCoupon = batch.stream()
+                    .collect(Collectors.groupingBy(item -> String.valueOf(item.couponId())));
+            if (byCoupon.size() == 1) {
+                failedCounter.increment(batch.size());
+            } else {
+                byCoupon.values().stream()
+                        .filter(couponBatch -> !tryProcess(couponBatch))
+                        .forEach(couponBatch -> failedCounter.increment(couponBatch.size()));
+            }
+            sleepQuietly(FAILURE_BACKOFF_MILLIS);
+        }
+
+        private boolean tryProcess(List<CouponRedisRepository.QueueItem> batch) {
+            try {
+                int issued = couponQueueProcessor.processBatch(batch);
+                issuedCounter.increment(issued);
+                skippedCounter.increment(batch.size() - issued);
+                return true;
+            } catch (RuntimeException e) {
+                // ack하지 않음 → RECLAIM_MIN_IDLE 뒤 회수되어 다시 처리, MAX_DELIVERY_COUNT 이후 데드레터
+                log.error("쿠폰 배치 저장 실패: partition={}, size={}, error={}",
+                        batch.get(0).partition(), batch.size(), e.getMessage());
+                return false;
+            }
+        }
+
+        private void adjustBatchSize(int drained) {
+            if (drained >= batchSize) {
+                batchSize = Math.min(batchSize * 2, MAX_BATCH_SIZE);
+            } else if (drained < batchSize / 2) {
+                batchSize = Math.max(batchSize / 2, MIN_BATCH_SIZE);
+            }
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
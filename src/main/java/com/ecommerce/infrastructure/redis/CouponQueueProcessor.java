@@ -6,9 +6,10 @@ import com.ecommerce.domain.repository.CouponRepository;
 import com.ecommerce.domain.repository.UserCouponRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,6 +18,18 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * 쿠폰 발급 대기열 → user_coupons 저장
+ *
+ * 평소에는 CouponQueueDrainer 워커가 파티션별로 읽은 배치를 processBatch로 저장합니다.
+ * processQueue는 모든 파티션을 한 번씩 비우는 수동 처리용입니다 (테스트, 벤치마크, 워커 비활성 시).
+ *
+ * 주의:
+ * - 발급 수는 조건부 UPDATE(current_issue_count + n)로 더함 → 컨슈머 그룹으로 같은 쿠폰 항목이 여러 노드에 나뉘어도 갱신 유실 없음
+ * - 스트림 항목 ack는 트랜잭션 커밋 후에만 실행 (롤백되거나 노드가 죽으면 PEL에 남아 다른 워커가 회수)
+ * - 저장하지 못한 쿠폰이 하나라도 있으면 예외로 배치 전체를 롤백 → ack되지 않고, 계속 실패하면 회수 한도 후 데드레터로 이동
+ * - 회수된 항목이 다시 들어와도 이미 발급된 사용자는 건너뛰므로 중복 저장되지 않음
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -27,45 +40,58 @@ public class CouponQueueProcessor {
     private final UserCouponRepository userCouponRepository;
 
     private static final int BATCH_SIZE = 100;
+    private static final String MANUAL_CONSUMER = "manual";
 
-    @Scheduled(fixedDelay = 5000)
     @Transactional
     public void processQueue() {
-        List<String> queueItems = couponRedisRepository.popFromQueue(BATCH_SIZE);
+        List<CouponRedisRepository.QueueItem> queueItems = new ArrayList<>();
+        for (int partition = 0; partition < CouponRedisRepository.QUEUE_PARTITION_COUNT; partition++) {
+            queueItems.addAll(couponRedisRepository.readFromQueue(MANUAL_CONSUMER, List.of(partition), BATCH_SIZE, null));
+        }
 
-        if (queueItems == null || queueItems.isEmpty()) {
+        if (queueItems.isEmpty()) {
             return;
         }
 
         log.info("쿠폰 대기열 처리 시작: {}건", queueItems.size());
+        process(queueItems);
+    }
+
+    /**
+     * 대기열에서 읽은 항목을 한 트랜잭션으로 저장하고, 커밋되면 ack합니다.
+     *
+     * @return 새로 저장된 발급 건수 (이미 발급된 사용자 제외)
+     * @throws IllegalStateException 발급 수 초과로 저장할 수 없는 경우 (롤백, 항목은 ack되지 않고 PEL에 남음)
+     * @throws RuntimeException DB 오류 등으로 트랜잭션이 롤백된 경우 (항목은 ack되지 않고 PEL에 남음)
+     */
+    @Transactional
+    public int processBatch(List<CouponRedisRepository.QueueItem> queueItems) {
+        return process(queueItems);
+    }
 
-        List<CouponIssueData> issueDataList = parseQueueItems(queueItems);
+    private int process(List<CouponRedisRepository.QueueItem> queueItems) {
+        acknowledgeAfterCommit(queueItems);
+
+        List<CouponIssueData> issueDataList = queueItems.stream()
+                .filter(CouponRedisRepository.QueueItem::isValid)
+                .map(item -> new CouponIssueData(item.couponId(), item.userId()))
+                .toList();
 
         if (issueDataList.isEmpty()) {
-            return;
+            return 0;
         }
 
         Map<Long, List<CouponIssueData>> groupedByCoupon = issueDataList.stream()
                 .collect(Collectors.groupingBy(CouponIssueData::couponId));
 
+        // 쿠폰별 실패를 삼키지 않음 → 일부만 저장하고 전체를 ack하는 일이 없도록 예외로 배치 전체 롤백
         int successCount = 0;
-        int failCount = 0;
-
         for (Map.Entry<Long, List<CouponIssueData>> entry : groupedByCoupon.entrySet()) {
-            Long couponId = entry.getKey();
-            List<CouponIssueData> userList = entry.getValue();
-
-            try {
-                int processed = processCouponBatch(couponId, userList);
-                successCount += processed;
-                failCount += (userList.size() - processed);
-            } catch (Exception e) {
-                log.error("쿠폰 배치 처리 실패: couponId={}, error={}", couponId, e.getMessage());
-                failCount += userList.size();
-            }
+            successCount += processCouponBatch(entry.getKey(), entry.getValue());
         }
 
-        log.info("쿠폰 대기열 처리 완료: 성공={}, 실패={}", successCount, failCount);
+        log.debug("쿠폰 대기열 처리 완료: 저장={}, 건너뜀={}", successCount, issueDataList.size() - successCount);
+        return successCount;
     }
 
     private int processCouponBatch(Long couponId, List<CouponIssueData> userList) {
@@ -91,37 +117,32 @@ public class CouponQueueProcessor {
                 .map(data -> new UserCoupon(data.userId(), couponId, expiresAt))
                 .toList();
 
-        if (!userCoupons.isEmpty()) {
-            userCouponRepository.saveAll(userCoupons);
-
-            for (int i = 0; i < userCoupons.size(); i++) {
-                coupon.issue();
-            }
-            couponRepository.save(coupon);
+        if (userCoupons.isEmpty()) {
+            return 0;
+        }
 
-            log.debug("UserCoupon 저장 완료: couponId={}, count={}", couponId, userCoupons.size());
+        // 발급 수를 먼저 더하고, 넘치면 이 쿠폰의 발급 내역은 저장하지 않음
+        if (couponRepository.increaseIssueCount(couponId, userCoupons.size()) == 0) {
+            throw new IllegalStateException(
+                    "발급 수 초과로 쿠폰 배치를 저장할 수 없습니다: couponId=" + couponId + ", count=" + userCoupons.size());
         }
+        userCouponRepository.saveAll(userCoupons);
 
+        log.debug("UserCoupon 저장 완료: couponId={}, count={}", couponId, userCoupons.size());
         return userCoupons.size();
     }
 
-    private List<CouponIssueData> parseQueueItems(List<String> items) {
-        List<CouponIssueData> result = new ArrayList<>();
-
-        for (String item : items) {
-            try {
-                String[] parts = item.split(":");
-                if (parts.length == 2) {
-                    Long couponId = Long.parseLong(parts[0]);
-                    Long userId = Long.parseLong(parts[1]);
-                    result.add(new CouponIssueData(couponId, userId));
-                }
-            } catch (NumberFormatException e) {
-                log.warn("대기열 아이템 파싱 실패: {}", item);
-            }
-        }
+    private void acknowledgeAfterCommit(List<CouponRedisRepository.QueueItem> queueItems) {
+        Map<Integer, List<String>> recordIdsByPartition = queueItems.stream()
+                .collect(Collectors.groupingBy(CouponRedisRepository.QueueItem::partition,
+                        Collectors.mapping(CouponRedisRepository.QueueItem::id, Collectors.toList())));
 
-        return result;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordIdsByPartition.forEach(couponRedisRepository::acknowledge);
+            }
+        });
     }
 
     public long getQueueSize() {
@@ -1,57 +1,206 @@
 package com.ecommerce.infrastructure.redis;
 
 import com.ecommerce.domain.service.CouponIssueResult;
+import com.ecommerce.infrastructure.redis.issued.IssuedUserSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class CouponRedisRepository {
 
+    /**
+     * 발급 대기열 파티션 수
+     * couponId % QUEUE_PARTITION_COUNT 파티션(coupon:queue:{n} 스트림)에 넣어 같은 쿠폰은 항상 한 워커가 처리합니다.
+     */
+    public static final int QUEUE_PARTITION_COUNT = 8;
+
+    /**
+     * 발급 대기열 컨슈머 그룹 (항목은 그룹 안의 컨슈머 하나에게만 전달됨)
+     */
+    public static final String QUEUE_CONSUMER_GROUP = "coupon-issuer";
+
     private final StringRedisTemplate redisTemplate;
+    private final IssuedUserSet issuedUserSet;
 
-    private static final String ISSUED_KEY_PREFIX = "coupon:";
-    private static final String ISSUED_KEY_SUFFIX = ":issued";
+    private static final String COUPON_KEY_PREFIX = "coupon:";
     private static final String INFO_KEY_SUFFIX = ":info";
-    private static final String QUEUE_KEY = "coupon:queue";
+    private static final String QUEUE_KEY_PREFIX = "coupon:queue:";
+    private static final String DEAD_LETTER_KEY = "coupon:dead-letter";
+    private static final long DEAD_LETTER_MAX_LENGTH = 100_000;
     private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
+    /**
+     * 발급 사용자 집합 연산 (IssuedUserSet.scriptMode에 따라 Set 또는 비트맵)
+     * - set: SISMEMBER / SCARD / SADD
+     * - bit: GETBIT / 카운터 GET / SETBIT + INCR (BITCOUNT는 비트맵 크기에 비례하므로 요청마다 쓰지 않음)
+     */
+    private static final String ISSUED_SET_FUNCTIONS = """
+            local function isIssued(mode, key, member)
+                if mode == 'set' then
+                    return redis.call('SISMEMBER', key, member) == 1
+                end
+                return redis.call('GETBIT', key, member) == 1
+            end
+
+            local function issuedCount(mode, key, countKey)
+                if mode == 'set' then
+                    return redis.call('SCARD', key)
+                end
+                return tonumber(redis.call('GET', countKey) or '0')
+            end
+
+            local function addIssued(mode, key, countKey, member)
+                if mode == 'set' then
+                    redis.call('SADD', key, member)
+                else
+                    redis.call('SETBIT', key, member, 1)
+                    redis.call('INCR', countKey)
+                end
+            end
+            """;
+
     /**
      * Lua Script로 원자적 쿠폰 발급 처리
-     * - SISMEMBER, SCARD, SADD를 하나의 원자적 연산으로 실행
-     * - race condition 완전 제거
+     * - 중복 확인, 수량 확인, 발급 사용자 추가(+ 대기열 XADD)를 하나의 원자적 연산으로 실행
+     * - race condition 완전 제거, 발급 사용자 추가 후 대기열 추가 전에 죽어 사용자가 집합에만 남는 경우 없음
+     *
+     * KEYS[1] = 발급 집합 키, KEYS[2] = 발급 수 카운터 키, KEYS[3] = coupon:queue:{n} (선택, 없으면 대기열에 넣지 않음)
+     * ARGV = userId, maxQuantity, couponId, 집합 모드, 집합 멤버
      */
-    private static final String ISSUE_SCRIPT = """
-            local issuedKey = KEYS[1]
+    private static final String ISSUE_SCRIPT = ISSUED_SET_FUNCTIONS + """
             local userId = ARGV[1]
             local maxQuantity = tonumber(ARGV[2])
+            local mode = ARGV[4]
+            local member = ARGV[5]
 
-            if redis.call('SISMEMBER', issuedKey, userId) == 1 then
+            if isIssued(mode, KEYS[1], member) then
                 return 'ALREADY_ISSUED'
             end
 
-            if redis.call('SCARD', issuedKey) >= maxQuantity then
+            if issuedCount(mode, KEYS[1], KEYS[2]) >= maxQuantity then
                 return 'SOLD_OUT'
             end
 
-            redis.call('SADD', issuedKey, userId)
+            addIssued(mode, KEYS[1], KEYS[2], member)
+            if #KEYS == 3 then
+                redis.call('XADD', KEYS[3], '*', 'couponId', ARGV[3], 'userId', userId)
+            end
             return 'SUCCESS'
             """;
 
     private static final DefaultRedisScript<String> ISSUE_REDIS_SCRIPT;
 
+    /**
+     * 캐시된 쿠폰 정보로 검증까지 한 번에 하는 비동기 발급 Lua Script (왕복 1회)
+     * - 정보 없음(또는 이전 형식) → NOT_CACHED, 발급 기간 외 → NOT_IN_PERIOD
+     * - 이후는 ISSUE_SCRIPT와 같음: 중복 → ALREADY_ISSUED, 수량 초과 → SOLD_OUT, 성공 시 발급 사용자 추가 + XADD
+     *
+     * KEYS[1] = coupon:{id}:info, KEYS[2] = 발급 집합 키, KEYS[3] = 발급 수 카운터 키, KEYS[4] = coupon:queue:{n}
+     * ARGV = userId, couponId, 현재 시각(epoch millis), 집합 모드, 집합 멤버
+     */
+    private static final String ISSUE_WITH_INFO_SCRIPT = ISSUED_SET_FUNCTIONS + """
+            local info = redis.call('HMGET', KEYS[1], 'maxQuantity', 'issueStartEpochMillis', 'issueEndEpochMillis')
+            if not info[1] or not info[2] or not info[3] then
+                return 'NOT_CACHED'
+            end
+
+            local now = tonumber(ARGV[3])
+            if now < tonumber(info[2]) or now > tonumber(info[3]) then
+                return 'NOT_IN_PERIOD'
+            end
+
+            local userId = ARGV[1]
+            local mode = ARGV[4]
+            local member = ARGV[5]
+            if isIssued(mode, KEYS[2], member) then
+                return 'ALREADY_ISSUED'
+            end
+
+            if issuedCount(mode, KEYS[2], KEYS[3]) >= tonumber(info[1]) then
+                return 'SOLD_OUT'
+            end
+
+            addIssued(mode, KEYS[2], KEYS[3], member)
+            redis.call('XADD', KEYS[4], '*', 'couponId', ARGV[2], 'userId', userId)
+            return 'SUCCESS'
+            """;
+
+    private static final DefaultRedisScript<String> ISSUE_WITH_INFO_REDIS_SCRIPT =
+            new DefaultRedisScript<>(ISSUE_WITH_INFO_SCRIPT, String.class);
+
+    /**
+     * KEYS[1] = coupon:queue:{n}, ARGV[1] = 컨슈머 그룹, ARGV[2..] = 레코드 ID
+     */
+    private static final String ACKNOWLEDGE_SCRIPT = """
+            local acked = redis.call('XACK', KEYS[1], ARGV[1], unpack(ARGV, 2))
+            redis.call('XDEL', KEYS[1], unpack(ARGV, 2))
+            return acked
+            """;
+
+    private static final DefaultRedisScript<Long> ACKNOWLEDGE_REDIS_SCRIPT =
+            new DefaultRedisScript<>(ACKNOWLEDGE_SCRIPT, Long.class);
+
+    /**
+     * KEYS[1] = coupon:queue:{n}, KEYS[2] = coupon:dead-letter
+     * ARGV[1] = 컨슈머 그룹, ARGV[2] = 컨슈머, ARGV[3] = minIdle(ms), ARGV[4] = 파티션, ARGV[5] = 데드레터 최대 길이, ARGV[6..] = 레코드 ID
+     * 반환: 옮긴 레코드 ID 목록
+     *
+     * XCLAIM(JUSTID)으로 먼저 가져온 항목만 옮김 → 그 사이 다른 워커가 회수한 항목은 건드리지 않음
+     */
+    private static final String DEAD_LETTER_SCRIPT = """
+            local moved = {}
+            for i = 6, #ARGV do
+                local claimed = redis.call('XCLAIM', KEYS[1], ARGV[1], ARGV[2], ARGV[3], ARGV[i], 'JUSTID')
+                if #claimed > 0 then
+                    local fields = {'sourceId', ARGV[i], 'partition', ARGV[4]}
+                    local entries = redis.call('XRANGE', KEYS[1], ARGV[i], ARGV[i])
+                    if #entries > 0 then
+                        for _, value in ipairs(entries[1][2]) do
+                            table.insert(fields, value)
+                        end
+                    end
+                    redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[5], '*', unpack(fields))
+                    redis.call('XACK', KEYS[1], ARGV[1], ARGV[i])
+                    redis.call('XDEL', KEYS[1], ARGV[i])
+                    table.insert(moved, ARGV[i])
+                end
+            end
+            return moved
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> DEAD_LETTER_REDIS_SCRIPT =
+            new DefaultRedisScript<>(DEAD_LETTER_SCRIPT, List.class);
+
     static {
         ISSUE_REDIS_SCRIPT = new DefaultRedisScript<>();
         ISSUE_REDIS_SCRIPT.setScriptText(ISSUE_SCRIPT);
@@ -63,14 +212,20 @@ public class CouponRedisRepository {
     }
 
     public CouponIssueResult tryIssue(Long userId, Long couponId, int maxQuantity, boolean pushToQueue) {
-        String issuedKey = getIssuedKey(couponId);
-        String userIdStr = userId.toString();
+        List<String> keys = new ArrayList<>(List.of(
+                issuedUserSet.memberKey(couponId, userId), issuedUserSet.countKey(couponId)));
+        if (pushToQueue) {
+            keys.add(getQueueKey(partitionOf(couponId)));
+        }
 
         String result = redisTemplate.execute(
                 ISSUE_REDIS_SCRIPT,
-                Collections.singletonList(issuedKey),
-                userIdStr,
-                String.valueOf(maxQuantity)
+                keys,
+                userId.toString(),
+                String.valueOf(maxQuantity),
+                couponId.toString(),
+                issuedUserSet.scriptMode(),
+                issuedUserSet.member(userId)
         );
 
         if ("ALREADY_ISSUED".equals(result)) {
@@ -80,49 +235,232 @@ public class CouponRedisRepository {
             return CouponIssueResult.SOLD_OUT;
         }
 
-        if (pushToQueue) {
-            String queueData = couponId + ":" + userId;
-            redisTemplate.opsForList().rightPush(QUEUE_KEY, queueData);
-        }
-
         log.debug("쿠폰 발급 요청 접수: couponId={}, userId={}", couponId, userId);
         return CouponIssueResult.SUCCESS;
     }
 
+    /**
+     * 캐시된 쿠폰 정보(coupon:{id}:info)로 발급 기간, 중복, 수량을 확인하고 발급 Set 추가 + 대기열 추가까지 한 번에 처리합니다.
+     *
+     * @return 발급 결과, 캐시된 쿠폰 정보가 없으면 null (호출자가 DB에서 읽어 cacheCouponInfo 후 다시 호출)
+     */
+    public CouponIssueResult tryIssueWithCachedInfo(Long userId, Long couponId) {
+        return issueWithCachedInfo(userId, couponId).toResult();
+    }
+
+    /**
+     * tryIssueWithCachedInfo와 같지만 발급 기간 외(NOT_IN_PERIOD)와 수량 소진(SOLD_OUT)을 구분해 돌려줍니다.
+     */
+    CachedIssueOutcome issueWithCachedInfo(Long userId, Long couponId) {
+        String result = redisTemplate.execute(
+                ISSUE_WITH_INFO_REDIS_SCRIPT,
+                List.of(getInfoKey(couponId), issuedUserSet.memberKey(couponId, userId),
+                        issuedUserSet.countKey(couponId), getQueueKey(partitionOf(couponId))),
+                userId.toString(),
+                couponId.toString(),
+                String.valueOf(System.currentTimeMillis()),
+                issuedUserSet.scriptMode(),
+                issuedUserSet.member(userId)
+        );
+        return result != null ? CachedIssueOutcome.valueOf(result) : CachedIssueOutcome.NOT_CACHED;
+    }
+
     public boolean isIssued(Long userId, Long couponId) {
-        String issuedKey = getIssuedKey(couponId);
-        Boolean result = redisTemplate.opsForSet().isMember(issuedKey, userId.toString());
-        return Boolean.TRUE.equals(result);
+        return issuedUserSet.isIssued(couponId, userId);
     }
 
     public long getIssuedCount(Long couponId) {
-        String issuedKey = getIssuedKey(couponId);
-        Long count = redisTemplate.opsForSet().size(issuedKey);
-        return count != null ? count : 0;
+        return issuedUserSet.getIssuedCount(couponId);
+    }
+
+    public void enqueue(Long couponId, Long userId) {
+        redisTemplate.opsForStream().add(StreamRecords.string(Map.of(
+                        "couponId", couponId.toString(),
+                        "userId", userId.toString()))
+                .withStreamKey(getQueueKey(partitionOf(couponId))));
     }
 
-    public List<String> popFromQueue(int count) {
-        return redisTemplate.opsForList().leftPop(QUEUE_KEY, count);
+    /**
+     * 컨슈머 그룹으로 아직 아무 컨슈머에게도 전달되지 않은 항목을 파티션마다 최대 count개 읽습니다 (XREADGROUP).
+     * 읽은 항목은 acknowledge 전까지 해당 컨슈머의 미처리 목록(PEL)에 남습니다.
+     *
+     * @param block 대기열이 비어 있을 때 기다릴 시간 (null이면 기다리지 않음)
+     */
+    public List<QueueItem> readFromQueue(String consumer, List<Integer> partitions, int count, Duration block) {
+        StreamReadOptions options = StreamReadOptions.empty().count(count);
+        if (block != null) {
+            options = options.block(block);
+        }
+        StreamOffset<String>[] offsets = partitions.stream()
+                .map(partition -> StreamOffset.create(getQueueKey(partition), ReadOffset.lastConsumed()))
+                .toArray(StreamOffset[]::new);
+
+        try {
+            return toQueueItems(redisTemplate.opsForStream()
+                    .read(Consumer.from(QUEUE_CONSUMER_GROUP, consumer), options, offsets));
+        } catch (RedisSystemException e) {
+            if (!isNoGroup(e)) {
+                throw e;
+            }
+            // 스트림이 지워져 그룹도 사라진 경우 (clearQueue 등) → 그룹을 다시 만들고 한 번 더 읽음
+            partitions.forEach(this::createConsumerGroup);
+            return toQueueItems(redisTemplate.opsForStream()
+                    .read(Consumer.from(QUEUE_CONSUMER_GROUP, consumer), options, offsets));
+        }
+    }
+
+    /**
+     * 다른 컨슈머(죽은 노드 포함)에게 전달된 뒤 minIdle 이상 ack되지 않은 항목을 가져옵니다 (XPENDING + XCLAIM).
+     * XCLAIM에 minIdle을 함께 넘기므로 그 사이 다른 워커가 먼저 가져간 항목은 제외됩니다.
+     *
+     * 주의:
+     * - 이미 maxDeliveries번 이상 전달된 항목은 가져오지 않고 데드레터 스트림(coupon:dead-letter)으로 옮긴 뒤 ack
+     *   (처리할 때마다 실패하는 항목이 PEL에 남아 회수-실패를 끝없이 반복하지 않도록)
+     */
+    public List<QueueItem> claimStale(String consumer, int partition, Duration minIdle, int maxDeliveries, int count) {
+        String key = getQueueKey(partition);
+        try {
+            PendingMessages pending = redisTemplate.opsForStream()
+                    .pending(key, QUEUE_CONSUMER_GROUP, Range.unbounded(), count);
+            List<PendingMessage> stale = pending.stream()
+                    .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                    .toList();
+
+            List<PendingMessage> exhausted = stale.stream()
+                    .filter(message -> message.getTotalDeliveryCount() >= maxDeliveries)
+                    .toList();
+            if (!exhausted.isEmpty()) {
+                moveToDeadLetter(consumer, partition, minIdle, exhausted);
+            }
+
+            RecordId[] staleIds = stale.stream()
+                    .filter(message -> message.getTotalDeliveryCount() < maxDeliveries)
+                    .map(PendingMessage::getId)
+                    .toArray(RecordId[]::new);
+            if (staleIds.length == 0) {
+                return List.of();
+            }
+
+            return toQueueItems(redisTemplate.opsForStream()
+                    .claim(key, QUEUE_CONSUMER_GROUP, consumer, minIdle, staleIds));
+        } catch (RedisSystemException e) {
+            if (!isNoGroup(e)) {
+                throw e;
+            }
+            return List.of();
+        }
+    }
+
+    private void moveToDeadLetter(String consumer, int partition, Duration minIdle, List<PendingMessage> exhausted) {
+        List<String> args = new ArrayList<>();
+        args.add(QUEUE_CONSUMER_GROUP);
+        args.add(consumer);
+        args.add(String.valueOf(minIdle.toMillis()));
+        args.add(String.valueOf(partition));
+        args.add(String.valueOf(DEAD_LETTER_MAX_LENGTH));
+        exhausted.forEach(message -> args.add(message.getIdAsString()));
+
+        List<?> moved = redisTemplate.execute(DEAD_LETTER_REDIS_SCRIPT,
+                List.of(getQueueKey(partition), DEAD_LETTER_KEY), args.toArray());
+        if (moved == null) {
+            return;
+        }
+        exhausted.stream()
+                .filter(message -> moved.contains(message.getIdAsString()))
+                .forEach(message -> log.error("쿠폰 대기열 항목 데드레터 이동: partition={}, id={}, deliveries={}",
+                        partition, message.getIdAsString(), message.getTotalDeliveryCount()));
     }
 
+    /**
+     * DB 저장이 끝난 항목을 ack하고 스트림에서 지웁니다 (XACK + XDEL, 왕복 1회).
+     */
+    public void acknowledge(int partition, List<String> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(QUEUE_CONSUMER_GROUP);
+        args.addAll(recordIds);
+        redisTemplate.execute(ACKNOWLEDGE_REDIS_SCRIPT, List.of(getQueueKey(partition)), args.toArray());
+    }
+
+    /**
+     * 대기열 적체 건수 (아직 읽지 않은 항목 + 읽었지만 ack되지 않은 항목)
+     */
     public long getQueueSize() {
-        Long size = redisTemplate.opsForList().size(QUEUE_KEY);
+        return IntStream.range(0, QUEUE_PARTITION_COUNT)
+                .mapToLong(this::getQueueSize)
+                .sum();
+    }
+
+    public long getQueueSize(int partition) {
+        Long size = redisTemplate.opsForStream().size(getQueueKey(partition));
         return size != null ? size : 0;
     }
 
+    /**
+     * 읽었지만 ack되지 않은 항목 수 (전체 파티션 합)
+     */
+    public long getPendingCount() {
+        long total = 0;
+        for (int partition = 0; partition < QUEUE_PARTITION_COUNT; partition++) {
+            try {
+                PendingMessagesSummary summary = redisTemplate.opsForStream()
+                        .pending(getQueueKey(partition), QUEUE_CONSUMER_GROUP);
+                total += summary != null ? summary.getTotalPendingMessages() : 0;
+            } catch (RedisSystemException e) {
+                if (!isNoGroup(e)) {
+                    throw e;
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 컨슈머 그룹을 만듭니다. 스트림이 없으면 함께 만들고(MKSTREAM), 이미 있으면 무시합니다.
+     * 처음부터(0-0) 읽도록 만들어 그룹 생성 전에 쌓인 항목도 처리합니다.
+     */
+    public void createConsumerGroup(int partition) {
+        byte[] key = getQueueKey(partition).getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(key, QUEUE_CONSUMER_GROUP, ReadOffset.from("0-0"), true));
+        } catch (RedisSystemException e) {
+            String message = e.getMostSpecificCause().getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    public static int partitionOf(Long couponId) {
+        return Math.floorMod(couponId, QUEUE_PARTITION_COUNT);
+    }
+
     public void initializeCoupon(Long couponId) {
-        String issuedKey = getIssuedKey(couponId);
-        redisTemplate.delete(issuedKey);
+        issuedUserSet.clear(couponId);
         log.info("쿠폰 Redis 초기화: couponId={}", couponId);
     }
 
     public Set<String> getIssuedUsers(Long couponId) {
-        String issuedKey = getIssuedKey(couponId);
-        return redisTemplate.opsForSet().members(issuedKey);
+        return issuedUserSet.getIssuedUsers(couponId);
+    }
+
+    /**
+     * 데드레터 스트림 건수 (전달 한도를 넘겨 처리를 포기한 항목, 수동 확인 대상)
+     */
+    public long getDeadLetterSize() {
+        Long size = redisTemplate.opsForStream().size(DEAD_LETTER_KEY);
+        return size != null ? size : 0;
     }
 
     public void clearQueue() {
-        redisTemplate.delete(QUEUE_KEY);
+        List<String> keys = new ArrayList<>(IntStream.range(0, QUEUE_PARTITION_COUNT)
+                .mapToObj(this::getQueueKey)
+                .toList());
+        keys.add(DEAD_LETTER_KEY);
+        redisTemplate.delete(keys);
     }
 
     public void cacheCouponInfo(Long couponId, int maxQuantity, LocalDateTime issueStartAt, LocalDateTime issueEndAt) {
@@ -130,7 +468,9 @@ public class CouponRedisRepository {
         Map<String, String> info = Map.of(
                 "maxQuantity", String.valueOf(maxQuantity),
                 "issueStartAt", issueStartAt.format(DATE_TIME_FORMAT),
-                "issueEndAt", issueEndAt.format(DATE_TIME_FORMAT)
+                "issueEndAt", issueEndAt.format(DATE_TIME_FORMAT),
+                "issueStartEpochMillis", String.valueOf(toEpochMillis(issueStartAt)),
+                "issueEndEpochMillis", String.valueOf(toEpochMillis(issueEndAt))
         );
         redisTemplate.opsForHash().putAll(infoKey, info);
 
@@ -163,11 +503,76 @@ public class CouponRedisRepository {
         }
     }
 
-    private String getIssuedKey(Long couponId) {
-        return ISSUED_KEY_PREFIX + couponId + ISSUED_KEY_SUFFIX;
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private List<QueueItem> toQueueItems(List<MapRecord<String, Object, Object>> records) {
+        if (records == null) {
+            return List.of();
+        }
+        return records.stream()
+                .map(record -> QueueItem.from(
+                        Integer.parseInt(record.getStream().substring(QUEUE_KEY_PREFIX.length())), record))
+                .toList();
+    }
+
+    private static boolean isNoGroup(RedisSystemException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains("NOGROUP");
+    }
+
+    /**
+     * ISSUE_WITH_INFO_SCRIPT 결과
+     */
+    enum CachedIssueOutcome {
+        NOT_CACHED(null),
+        NOT_IN_PERIOD(CouponIssueResult.SOLD_OUT),
+        ALREADY_ISSUED(CouponIssueResult.ALREADY_ISSUED),
+        SOLD_OUT(CouponIssueResult.SOLD_OUT),
+        SUCCESS(CouponIssueResult.SUCCESS);
+
+        private final CouponIssueResult result;
+
+        CachedIssueOutcome(CouponIssueResult result) {
+            this.result = result;
+        }
+
+        CouponIssueResult toResult() {
+            return result;
+        }
+    }
+
+    /**
+     * 발급 대기열 항목 (coupon:queue:{n} 스트림 레코드)
+     *
+     * @param id 스트림 레코드 ID (ack 대상)
+     * @param couponId 형식이 잘못된 레코드면 null (처리 없이 ack)
+     * @param userId 형식이 잘못된 레코드면 null (처리 없이 ack)
+     */
+    public record QueueItem(String id, int partition, Long couponId, Long userId) {
+
+        static QueueItem from(int partition, MapRecord<String, Object, Object> record) {
+            Map<Object, Object> value = record.getValue();
+            try {
+                return new QueueItem(record.getId().getValue(), partition,
+                        Long.parseLong((String) value.get("couponId")),
+                        Long.parseLong((String) value.get("userId")));
+            } catch (NumberFormatException | ClassCastException e) {
+                return new QueueItem(record.getId().getValue(), partition, null, null);
+            }
+        }
+
+        public boolean isValid() {
+            return couponId != null && userId != null;
+        }
+    }
+
+    private String getQueueKey(int partition) {
+        return QUEUE_KEY_PREFIX + partition;
     }
 
     private String getInfoKey(Long couponId) {
-        return ISSUED_KEY_PREFIX + couponId + INFO_KEY_SUFFIX;
+        return COUPON_KEY_PREFIX + couponId + INFO_KEY_SUFFIX;
     }
 }
@@ -0,0 +1,101 @@
+package com.ecommerce.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 처리 결과 저장소
+ *
+ * 키 구조:
+ * - idempotency:{요청자}:{요청 경로}:{Idempotency-Key}
+ *   - 처리 중: "IN_PROGRESS:{요청 본문 해시}" (짧은 TTL, 처리 중에는 주기적으로 연장, 처리 인스턴스가 죽으면 자동 해제)
+ *   - 처리 완료: 직렬화된 응답 (긴 TTL, 재시도 요청에 그대로 재생)
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRedisRepository {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_PROGRESS = "IN_PROGRESS:";
+
+    /**
+     * 처리 중 표시만 지우는 Lua Script (이미 저장된 결과는 지우지 않음)
+     */
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0";
+
+    /**
+     * 처리 중 표시의 TTL만 연장하는 Lua Script (이미 저장된 결과는 건드리지 않음)
+     */
+    private static final String REFRESH_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "end " +
+            "return 0";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 처리 시작을 선점합니다.
+     *
+     * @return 선점했으면 true, 다른 요청이 처리 중이거나 이미 처리 완료면 false
+     */
+    public boolean tryStart(String key, String requestHash, Duration inProgressTtl) {
+        Boolean started = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, IN_PROGRESS + requestHash, inProgressTtl);
+        return Boolean.TRUE.equals(started);
+    }
+
+    /**
+     * 처리 중 표시의 TTL을 연장합니다.
+     *
+     * @return 아직 이 요청이 처리 중으로 표시돼 있어 연장했으면 true
+     */
+    public boolean refresh(String key, String requestHash, Duration inProgressTtl) {
+        Long refreshed = redisTemplate.execute(
+                new DefaultRedisScript<>(REFRESH_SCRIPT, Long.class),
+                List.of(KEY_PREFIX + key),
+                IN_PROGRESS + requestHash,
+                String.valueOf(inProgressTtl.toMillis())
+        );
+        return refreshed != null && refreshed == 1L;
+    }
+
+    /**
+     * 처리 완료된 응답을 조회합니다. 처리 중이거나 기록이 없으면 empty
+     */
+    public Optional<String> findCompleted(String key) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        if (value == null || value.startsWith(IN_PROGRESS)) {
+            return Optional.empty();
+        }
+        return Optional.of(value);
+    }
+
+    public boolean exists(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + key));
+    }
+
+    public void complete(String key, String response, Duration resultTtl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, response, resultTtl);
+    }
+
+    /**
+     * 처리 실패 시 선점을 해제하여 같은 키로 다시 시도할 수 있게 합니다.
+     */
+    public void release(String key, String requestHash) {
+        redisTemplate.execute(
+                new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class),
+                List.of(KEY_PREFIX + key),
+                IN_PROGRESS + requestHash
+        );
+    }
+}
@@ -0,0 +1,103 @@
+package com.ecommerce.infrastructure.redis;
+
+import com.ecommerce.domain.entity.PointHistory;
+import com.ecommerce.domain.service.PointDomainService;
+import com.ecommerce.infrastructure.lock.DistributedLockExecutor;
+import com.ecommerce.infrastructure.lock.LockAcquisitionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 원장 Write-Behind 프로세서 (ecommerce.point.mode=redis)
+ *
+ * Redis 원장 스트림(point:ledger)을 주기적으로 읽어 DB에 배치 반영합니다.
+ * - 사용자별 변화량을 합산하므로 요청 수와 무관하게 사용자당 users UPDATE 1회
+ * - point_histories는 원장 항목마다 1행 (배치 INSERT)
+ * - DB 커밋 후에만 원장 항목과 미반영 변화량을 지움 → 실패 시 다음 주기에 재시도
+ *
+ * 주의:
+ * - 여러 인스턴스가 같은 항목을 반영하지 않도록 lock:point:ledger를 대기 없이 시도하고, 못 잡으면 이번 주기는 건너뜀
+ * - 월렛 적재도 같은 락 안에서 하므로 DB 반영과 미반영분 차감 사이에 적재되지 않음
+ * - DB 커밋과 원장 삭제 사이에 장애가 나면 같은 항목이 두 번 반영될 수 있음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.point", name = "mode", havingValue = "redis")
+@RequiredArgsConstructor
+public class PointLedgerWriter {
+
+    static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES_PER_FLUSH = 20;
+    /**
+     * 원장 DB 반영과 월렛 적재(RedisPointWallet)를 서로 배제하는 락
+     */
+    static final String LOCK_KEY = "lock:point:ledger";
+    private static final long LOCK_LEASE_SECONDS = 30;
+
+    private final PointWalletRedisRepository pointWalletRedisRepository;
+    private final PointDomainService pointDomainService;
+    private final DistributedLockExecutor lockExecutor;
+
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        try {
+            int written = lockExecutor.executeWithLock(LOCK_KEY, 0, LOCK_LEASE_SECONDS, this::drain);
+            if (written > 0) {
+                log.debug("포인트 원장 DB 반영 완료: {}건", written);
+            }
+        } catch (LockAcquisitionException e) {
+            log.debug("다른 인스턴스가 포인트 원장 반영 중, 이번 주기 건너뜀");
+        } catch (Exception e) {
+            log.error("포인트 원장 DB 반영 실패, 다음 주기에 재시도: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 원장이 비거나 한 주기 최대 배치 수에 도달할 때까지 반영합니다.
+     *
+     * @return 반영한 원장 항목 수
+     */
+    private int drain() {
+        int written = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_FLUSH; batch++) {
+            List<PointWalletRedisRepository.LedgerEntry> entries = pointWalletRedisRepository.readLedger(BATCH_SIZE);
+            if (entries.isEmpty()) {
+                break;
+            }
+            write(entries);
+            written += entries.size();
+            if (entries.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        return written;
+    }
+
+    private void write(List<PointWalletRedisRepository.LedgerEntry> entries) {
+        Map<Long, Integer> deltas = new HashMap<>();
+        List<PointHistory> histories = new ArrayList<>(entries.size());
+
+        for (PointWalletRedisRepository.LedgerEntry entry : entries) {
+            deltas.merge(entry.userId(), entry.delta(), Integer::sum);
+            histories.add(new PointHistory(
+                    entry.userId(),
+                    entry.type(),
+                    entry.amount(),
+                    entry.balanceAfter(),
+                    entry.description(),
+                    entry.orderId()
+            ));
+        }
+
+        pointDomainService.applyBalanceDeltas(deltas, histories);
+        pointWalletRedisRepository.acknowledge(entries, deltas);
+    }
+}
@@ -0,0 +1,304 @@
+package com.ecommerce.infrastructure.redis;
+
+import com.ecommerce.domain.entity.TransactionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 포인트 월렛 저장소
+ *
+ * 키 구조:
+ * - point:wallet:{userId}: 포인트 잔액
+ * - point:wallet:pending: DB에 아직 반영되지 않은 사용자별 잔액 변화량 (Hash)
+ * - point:wallet:op:{operationKey}: 주문 단위 차감/환불 중복 반영 방지 표시 (TTL)
+ * - point:ledger: DB에 기록할 포인트 원장 항목 (Stream)
+ *
+ * 잔액 변경은 모두 Lua Script로 처리하여
+ * 잔액, 미반영 변화량, 원장 항목이 항상 함께 움직이도록 보장합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PointWalletRedisRepository {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String WALLET_KEY_PREFIX = "point:wallet:";
+    private static final String PENDING_KEY = "point:wallet:pending";
+    private static final String OPERATION_KEY_PREFIX = "point:wallet:op:";
+    private static final String LEDGER_KEY = "point:ledger";
+    private static final long OPERATION_TTL_SECONDS = 24 * 60 * 60;
+
+    /**
+     * 잔액 변경 Lua Script (충전은 양수, 차감은 음수 변화량)
+     * - 미적재 → NOT_LOADED, 이미 반영된 작업 → DUPLICATE:{잔액}, 선행 작업 없음 → SKIPPED:{잔액},
+     *   잔액 부족 → INSUFFICIENT:{잔액}
+     * - 성공 시 잔액 변경 + 미반영 변화량 기록 + 원장 항목 추가 → SUCCESS:{잔액}
+     *
+     * KEYS[1] = point:wallet:{userId}, KEYS[2] = point:wallet:pending, KEYS[3] = point:ledger,
+     * KEYS[4] = point:wallet:op:{operationKey} (선택),
+     * KEYS[5] = 먼저 반영되어 있어야 하는 작업의 point:wallet:op:{requiredOperationKey} (선택, 환불 → 차감)
+     * ARGV = userId, delta, type, amount, description, orderId, operationTtlSeconds
+     */
+    private static final String CHANGE_SCRIPT = """
+            local balance = redis.call('GET', KEYS[1])
+            if not balance then
+                return 'NOT_LOADED'
+            end
+            if #KEYS == 4 and redis.call('EXISTS', KEYS[4]) == 1 then
+                return 'DUPLICATE:' .. balance
+            end
+            if #KEYS == 5 and redis.call('EXISTS', KEYS[5]) == 0 then
+                return 'SKIPPED:' .. balance
+            end
+            local delta = tonumber(ARGV[2])
+            if tonumber(balance) + delta < 0 then
+                return 'INSUFFICIENT:' .. balance
+            end
+
+            local balanceAfter = redis.call('INCRBY', KEYS[1], delta)
+            redis.call('HINCRBY', KEYS[2], ARGV[1], delta)
+            redis.call('XADD', KEYS[3], '*',
+                'userId', ARGV[1], 'type', ARGV[3], 'amount', ARGV[4],
+                'balanceAfter', balanceAfter, 'description', ARGV[5], 'orderId', ARGV[6])
+            if #KEYS == 4 then
+                redis.call('SET', KEYS[4], '1', 'EX', ARGV[7])
+            end
+            return 'SUCCESS:' .. balanceAfter
+            """;
+
+    /**
+     * DB 잔액으로 월렛을 적재하는 Lua Script
+     * 아직 DB에 반영되지 않은 변화량을 더해 적재합니다. (이미 적재되어 있으면 무시)
+     */
+    private static final String LOAD_SCRIPT = """
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                return 0
+            end
+            local pending = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            redis.call('SET', KEYS[2], tonumber(ARGV[2]) + pending)
+            return 1
+            """;
+
+    /**
+     * DB 반영이 끝난 원장 항목을 지우고 변화량을 차감하는 Lua Script
+     * 반영 중에 새로 쌓인 항목과 변화량은 그대로 남습니다.
+     *
+     * ARGV[1] = 사용자 수 n, ARGV[2..2n+1] = userId, delta 쌍, 나머지 = 원장 항목 ID
+     */
+    private static final String ACKNOWLEDGE_SCRIPT = """
+            local userCount = tonumber(ARGV[1])
+            for i = 2, 2 * userCount, 2 do
+                local remaining = redis.call('HINCRBY', KEYS[1], ARGV[i], -tonumber(ARGV[i + 1]))
+                if remaining == 0 then
+                    redis.call('HDEL', KEYS[1], ARGV[i])
+                end
+            end
+            for i = 2 * userCount + 2, #ARGV do
+                redis.call('XDEL', KEYS[2], ARGV[i])
+            end
+            return 1
+            """;
+
+    private static final DefaultRedisScript<String> CHANGE_REDIS_SCRIPT =
+            new DefaultRedisScript<>(CHANGE_SCRIPT, String.class);
+    private static final DefaultRedisScript<Long> LOAD_REDIS_SCRIPT =
+            new DefaultRedisScript<>(LOAD_SCRIPT, Long.class);
+    private static final DefaultRedisScript<Long> ACKNOWLEDGE_REDIS_SCRIPT =
+            new DefaultRedisScript<>(ACKNOWLEDGE_SCRIPT, Long.class);
+
+    /**
+     * @param delta 충전은 양수, 차감은 음수
+     * @param operationKey 주문 단위 중복 방지 키 (null이면 중복 검사 없음)
+     */
+    public ChangeResult change(Long userId, int delta, TransactionType type,
+                               String description, Long orderId, String operationKey) {
+        return change(userId, delta, type, description, orderId, operationKey, null);
+    }
+
+    /**
+     * @param requiredOperationKey 이 작업이 반영되어 있을 때만 변경 (없으면 SKIPPED, operationKey 필수)
+     */
+    public ChangeResult change(Long userId, int delta, TransactionType type, String description,
+                               Long orderId, String operationKey, String requiredOperationKey) {
+        List<String> keys = new ArrayList<>(List.of(getWalletKey(userId), PENDING_KEY, LEDGER_KEY));
+        if (operationKey != null) {
+            keys.add(OPERATION_KEY_PREFIX + operationKey);
+            if (requiredOperationKey != null) {
+                keys.add(OPERATION_KEY_PREFIX + requiredOperationKey);
+            }
+        }
+
+        String result = redisTemplate.execute(
+                CHANGE_REDIS_SCRIPT,
+                keys,
+                userId.toString(),
+                String.valueOf(delta),
+                type.name(),
+                String.valueOf(Math.abs(delta)),
+                description != null ? description : "",
+                orderId != null ? orderId.toString() : "",
+                String.valueOf(OPERATION_TTL_SECONDS)
+        );
+        return ChangeResult.parse(result);
+    }
+
+    /**
+     * @return 새로 적재했으면 true, 이미 적재되어 있었으면 false
+     */
+    public boolean loadIfAbsent(Long userId, int dbBalance) {
+        Long loaded = redisTemplate.execute(
+                LOAD_REDIS_SCRIPT,
+                List.of(PENDING_KEY, getWalletKey(userId)),
+                userId.toString(),
+                String.valueOf(dbBalance)
+        );
+        log.debug("포인트 월렛 적재: userId={}, dbBalance={}, loaded={}", userId, dbBalance, loaded);
+        return Long.valueOf(1L).equals(loaded);
+    }
+
+    public Integer getBalance(Long userId) {
+        String balance = redisTemplate.opsForValue().get(getWalletKey(userId));
+        return balance != null ? Integer.parseInt(balance) : null;
+    }
+
+    /**
+     * 오래된 순으로 원장 항목을 최대 limit개 읽습니다. (읽기만 하고 지우지 않음)
+     */
+    public List<LedgerEntry> readLedger(int limit) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(LEDGER_KEY, Range.unbounded(), Limit.limit().count(limit));
+        if (records == null) {
+            return List.of();
+        }
+        return records.stream()
+                .map(LedgerEntry::from)
+                .toList();
+    }
+
+    /**
+     * DB에 반영한 원장 항목을 지우고 사용자별 변화량을 미반영분에서 차감합니다.
+     */
+    public void acknowledge(List<LedgerEntry> appliedEntries, Map<Long, Integer> appliedDeltas) {
+        if (appliedEntries.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(appliedDeltas.size()));
+        for (Map.Entry<Long, Integer> entry : appliedDeltas.entrySet()) {
+            args.add(entry.getKey().toString());
+            args.add(entry.getValue().toString());
+        }
+        for (LedgerEntry entry : appliedEntries) {
+            args.add(entry.id());
+        }
+
+        redisTemplate.execute(ACKNOWLEDGE_REDIS_SCRIPT, List.of(PENDING_KEY, LEDGER_KEY), args.toArray());
+    }
+
+    public Map<Long, Integer> getPendingDeltas() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(PENDING_KEY);
+        Map<Long, Integer> deltas = new HashMap<>();
+
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            int delta = Integer.parseInt((String) entry.getValue());
+            if (delta != 0) {
+                deltas.put(Long.parseLong((String) entry.getKey()), delta);
+            }
+        }
+        return deltas;
+    }
+
+    public void clearAll() {
+        redisTemplate.delete(List.of(PENDING_KEY, LEDGER_KEY));
+        Set<String> keys = redisTemplate.keys(WALLET_KEY_PREFIX + "*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    private String getWalletKey(Long userId) {
+        return WALLET_KEY_PREFIX + userId;
+    }
+
+    public record ChangeResult(Status status, int balance) {
+
+        public enum Status {
+            SUCCESS,
+            DUPLICATE,
+            SKIPPED,
+            NOT_LOADED,
+            INSUFFICIENT
+        }
+
+        static ChangeResult parse(String raw) {
+            if (raw == null) {
+                throw new IllegalStateException("포인트 월렛 스크립트 결과가 없습니다");
+            }
+
+            String[] parts = raw.split(":");
+            Status status = Status.valueOf(parts[0]);
+            int balance = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
+            return new ChangeResult(status, balance);
+        }
+
+        /**
+         * 이번 호출로 반영됐거나 이전 호출에서 이미 반영된 경우
+         */
+        public boolean isApplied() {
+            return status == Status.SUCCESS || status == Status.DUPLICATE;
+        }
+    }
+
+    /**
+     * 포인트 원장 항목 (point:ledger 스트림 레코드)
+     *
+     * @param id 스트림 레코드 ID
+     * @param amount 변경 금액 (항상 양수, 부호는 type으로 구분)
+     */
+    public record LedgerEntry(
+            String id,
+            Long userId,
+            TransactionType type,
+            int amount,
+            int balanceAfter,
+            String description,
+            Long orderId
+    ) {
+
+        static LedgerEntry from(MapRecord<String, Object, Object> record) {
+            Map<Object, Object> value = record.getValue();
+            String description = (String) value.get("description");
+            String orderId = (String) value.get("orderId");
+            return new LedgerEntry(
+                    record.getId().getValue(),
+                    Long.parseLong((String) value.get("userId")),
+                    TransactionType.valueOf((String) value.get("type")),
+                    Integer.parseInt((String) value.get("amount")),
+                    Integer.parseInt((String) value.get("balanceAfter")),
+                    description == null || description.isEmpty() ? null : description,
+                    orderId == null || orderId.isEmpty() ? null : Long.parseLong(orderId)
+            );
+        }
+
+        /**
+         * 잔액 변화량 (충전/환불은 양수, 사용은 음수)
+         */
+        public int delta() {
+            return type == TransactionType.USE ? -amount : amount;
+        }
+    }
+}
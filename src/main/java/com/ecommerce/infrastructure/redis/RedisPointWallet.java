@@ -0,0 +1,132 @@
+package com.ecommerce.infrastructure.redis;
+
+import com.ecommerce.domain.entity.TransactionType;
+import com.ecommerce.domain.repository.UserRepository;
+import com.ecommerce.domain.service.PointWallet;
+import com.ecommerce.infrastructure.lock.DistributedLockExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis 핫 월렛 포인트 잔액 저장소 (ecommerce.point.mode=redis)
+ *
+ * 구조: Redis 잔액 (원자적 검사 후 차감) + 원장 스트림 Write-Behind (DB 배치 반영)
+ * - 충전/차감은 Lua Script 한 번으로 잔액 변경 + 원장 항목 추가
+ * - users 행 락, 변경마다의 User 저장/PointHistory INSERT 없음
+ * - DB 반영은 PointLedgerWriter가 주기적으로 배치 처리
+ *
+ * DB 잔액 + 미반영 변화량이 실제 잔액이며, Redis에 월렛이 없으면 DB에서 읽어 적재합니다.
+ *
+ * 주의:
+ * - 사가 단계 트랜잭션과 원자적으로 묶이지 않으므로 주문 단위 차감/환불은 orderId로 중복 반영을 막음
+ * - 환불은 같은 주문의 차감 표시가 있을 때만 반영 (사가 기록 없이 보상이 환불을 시도해도 안전)
+ * - 적재는 원장 반영(PointLedgerWriter)과 같은 락 안에서 DB 잔액을 읽음
+ *   (사이에 반영이 커밋되면 같은 변화량이 DB 잔액과 미반영분에 모두 들어가 잔액이 부풀려짐)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "ecommerce.point", name = "mode", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisPointWallet implements PointWallet {
+
+    private static final String POINT_DESCRIPTION_CHARGE = "포인트 충전";
+    private static final String OPERATION_USE = "use:";
+    private static final String OPERATION_REFUND = "refund:";
+
+    private final PointWalletRedisRepository pointWalletRedisRepository;
+    private final UserRepository userRepository;
+    private final DistributedLockExecutor lockExecutor;
+
+    @Override
+    public int charge(Long userId, int amount) {
+        validateAmount(amount);
+        return change(userId, amount, TransactionType.CHARGE, POINT_DESCRIPTION_CHARGE, null, null, null).balance();
+    }
+
+    @Override
+    public int deduct(Long userId, int amount, String description, Long orderId) {
+        validateAmount(amount);
+        String operationKey = orderId != null ? OPERATION_USE + orderId : null;
+        PointWalletRedisRepository.ChangeResult result =
+                change(userId, -amount, TransactionType.USE, description, orderId, operationKey, null);
+
+        if (result.status() == PointWalletRedisRepository.ChangeResult.Status.INSUFFICIENT) {
+            throw new IllegalStateException(
+                    "포인트 부족: 현재 포인트 " + result.balance() + "원, 요청 금액 " + amount + "원"
+            );
+        }
+        return result.balance();
+    }
+
+    /**
+     * DB 모드와 같이 충전 이력으로 기록합니다.
+     * 이 주문으로 차감한 적이 없으면 아무것도 바꾸지 않습니다.
+     */
+    @Override
+    public int refund(Long userId, int amount, Long orderId) {
+        validateAmount(amount);
+        PointWalletRedisRepository.ChangeResult result = change(userId, amount, TransactionType.CHARGE,
+                POINT_DESCRIPTION_CHARGE, null, OPERATION_REFUND + orderId, OPERATION_USE + orderId);
+
+        if (result.status() == PointWalletRedisRepository.ChangeResult.Status.SKIPPED) {
+            log.info("차감 내역이 없는 주문의 환불 무시: userId={}, orderId={}", userId, orderId);
+        }
+        return result.balance();
+    }
+
+    /**
+     * 차감은 Lua Script 실행 즉시 확정되고 사가 단계 트랜잭션이 롤백돼도 되돌려지지 않습니다.
+     */
+    @Override
+    public boolean appliesOutsideTransaction() {
+        return true;
+    }
+
+    @Override
+    public int getBalance(Long userId) {
+        Integer balance = pointWalletRedisRepository.getBalance(userId);
+        if (balance != null) {
+            return balance;
+        }
+        load(userId);
+        return pointWalletRedisRepository.getBalance(userId);
+    }
+
+    private PointWalletRedisRepository.ChangeResult change(Long userId, int delta, TransactionType type,
+                                                           String description, Long orderId,
+                                                           String operationKey, String requiredOperationKey) {
+        PointWalletRedisRepository.ChangeResult result = pointWalletRedisRepository.change(
+                userId, delta, type, description, orderId, operationKey, requiredOperationKey);
+
+        // 미적재 월렛은 DB 기준으로 적재 후 한 번만 재시도
+        if (result.status() == PointWalletRedisRepository.ChangeResult.Status.NOT_LOADED) {
+            load(userId);
+            result = pointWalletRedisRepository.change(
+                    userId, delta, type, description, orderId, operationKey, requiredOperationKey);
+        }
+        if (result.status() == PointWalletRedisRepository.ChangeResult.Status.NOT_LOADED) {
+            throw new IllegalStateException("포인트 월렛 적재에 실패했습니다: " + userId);
+        }
+        if (result.status() == PointWalletRedisRepository.ChangeResult.Status.DUPLICATE) {
+            log.info("이미 반영된 포인트 변경 무시: userId={}, operation={}", userId, operationKey);
+        }
+        return result;
+    }
+
+    private void load(Long userId) {
+        lockExecutor.executeWithLock(PointLedgerWriter.LOCK_KEY, () -> {
+            int dbBalance = userRepository.getByIdOrThrow(userId).getPointBalance();
+            if (pointWalletRedisRepository.loadIfAbsent(userId, dbBalance)) {
+                log.info("포인트 월렛 적재: userId={}, dbBalance={}", userId, dbBalance);
+            }
+        });
+    }
+
+    private void validateAmount(int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("금액은 0보다 커야 합니다");
+        }
+    }
+}
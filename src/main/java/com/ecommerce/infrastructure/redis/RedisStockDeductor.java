@@ -0,0 +1,96 @@
+package com.ecommerce.infrastructure.redis;
+
+import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.domain.service.ProductDomainService;
+import com.ecommerce.domain.service.StockDeductor;
+import com.ecommerce.infrastructure.lock.DistributedLockExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Redis 기반 재고 차감
+ *
+ * 구조: Redis 가용 재고 (원자적 예약) + Write-Behind (DB 배치 반영)
+ * - 주문 전체 상품을 Lua Script 한 번으로 all-or-nothing 예약
+ * - 분산 락, 상품별 DB 트랜잭션 없음
+ * - DB 반영은 StockSyncProcessor가 주기적으로 배치 처리
+ *
+ * DB가 원본(Source of Truth)이며, Redis에 재고가 없으면
+ * ProductDomainService에서 읽어 적재합니다.
+ * - DB 읽기와 적재는 StockSyncProcessor 반영과 같은 락 안에서 수행
+ *   (사이에 반영이 커밋되면 같은 변화량이 DB 재고와 미반영분에 모두 들어가 초과 판매됨)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "ecommerce.stock", name = "mode", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisStockDeductor implements StockDeductor {
+
+    private final StockRedisRepository stockRedisRepository;
+    private final ProductDomainService productDomainService;
+    private final ProductRepository productRepository;
+    private final DistributedLockExecutor lockExecutor;
+
+    @Override
+    public List<Product> deduct(Map<Long, Integer> quantities) {
+        Map<Long, Integer> sortedQuantities = new TreeMap<>(quantities);
+        validateQuantities(sortedQuantities);
+
+        StockRedisRepository.ReserveResult result = stockRedisRepository.reserve(sortedQuantities);
+
+        // 미적재 상품은 DB 기준으로 적재 후 재시도 (상품 수만큼만 반복)
+        int loadAttempts = 0;
+        while (result.status() == StockRedisRepository.ReserveResult.Status.NOT_LOADED
+                && loadAttempts++ < sortedQuantities.size()) {
+            loadStock(result.productId());
+            result = stockRedisRepository.reserve(sortedQuantities);
+        }
+
+        if (result.status() == StockRedisRepository.ReserveResult.Status.INSUFFICIENT) {
+            throw new IllegalStateException(
+                    "재고 부족: 현재 재고 " + result.currentStock() + "개, 요청 수량 "
+                            + sortedQuantities.get(result.productId()) + "개"
+            );
+        }
+        if (!result.isSuccess()) {
+            throw new IllegalStateException("재고 적재에 실패했습니다: " + result.productId());
+        }
+
+        return productRepository.findAllById(List.copyOf(sortedQuantities.keySet())).stream()
+                .sorted(Comparator.comparing(Product::getId))
+                .toList();
+    }
+
+    @Override
+    public void restore(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 0보다 커야 합니다");
+        }
+        stockRedisRepository.release(productId, quantity);
+    }
+
+    private void loadStock(Long productId) {
+        lockExecutor.executeWithLock(StockSyncProcessor.SYNC_LOCK_KEY, () -> {
+            int dbStock = productDomainService.getStockQuantity(productId);
+            if (stockRedisRepository.loadIfAbsent(productId, dbStock)) {
+                log.info("Redis 재고 적재: productId={}, dbStock={}", productId, dbStock);
+            }
+        });
+    }
+
+    private void validateQuantities(Map<Long, Integer> quantities) {
+        for (Integer quantity : quantities.values()) {
+            if (quantity == null || quantity <= 0) {
+                throw new IllegalArgumentException("수량은 0보다 커야 합니다");
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.ecommerce.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 재고 저장소
+ *
+ * 키 구조:
+ * - stock:{productId}: 판매 가능 재고
+ * - stock:pending: DB에 아직 반영되지 않은 상품별 재고 변화량 (Hash)
+ *
+ * 재고 변경은 모두 Lua Script로 처리하여
+ * 가용 재고와 미반영 변화량이 항상 함께 움직이도록 보장합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class StockRedisRepository {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String STOCK_KEY_PREFIX = "stock:";
+    private static final String PENDING_KEY = "stock:pending";
+
+    /**
+     * 주문 전체 상품을 한 번에 예약하는 Lua Script
+     * - 1단계: 모든 상품의 적재 여부와 재고를 검사 (하나라도 실패하면 아무것도 바꾸지 않음)
+     * - 2단계: 모든 상품 재고 차감 + 미반영 변화량 기록
+     *
+     * KEYS[1] = stock:pending, KEYS[2..n+1] = stock:{productId}
+     * ARGV[2i-1] = productId, ARGV[2i] = quantity
+     */
+    private static final String RESERVE_SCRIPT = """
+            local pendingKey = KEYS[1]
+
+            for i = 2, #KEYS do
+                local stock = redis.call('GET', KEYS[i])
+                if not stock then
+                    return 'NOT_LOADED:' .. ARGV[2 * (i - 1) - 1]
+                end
+                if tonumber(stock) < tonumber(ARGV[2 * (i - 1)]) then
+                    return 'INSUFFICIENT:' .. ARGV[2 * (i - 1) - 1] .. ':' .. stock
+                end
+            end
+
+            for i = 2, #KEYS do
+                local productId = ARGV[2 * (i - 1) - 1]
+                local quantity = tonumber(ARGV[2 * (i - 1)])
+                redis.call('DECRBY', KEYS[i], quantity)
+                redis.call('HINCRBY', pendingKey, productId, -quantity)
+            end
+            return 'SUCCESS'
+            """;
+
+    /**
+     * 재고 복구 Lua Script
+     * 키가 없으면(미적재) 변화량만 기록하여 다음 적재 시 반영되도록 합니다.
+     */
+    private static final String RELEASE_SCRIPT = """
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('INCRBY', KEYS[2], ARGV[2])
+            end
+            redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            return 1
+            """;
+
+    /**
+     * DB 재고로 Redis 재고를 적재하는 Lua Script
+     * 아직 DB에 반영되지 않은 변화량을 더해 적재합니다. (이미 적재되어 있으면 무시)
+     */
+    private static final String LOAD_SCRIPT = """
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                return 0
+            end
+            local pending = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            redis.call('SET', KEYS[2], tonumber(ARGV[2]) + pending)
+            return 1
+            """;
+
+    /**
+     * DB 반영이 끝난 변화량을 차감하는 Lua Script
+     * 반영 중에 새로 쌓인 변화량은 그대로 남습니다.
+     */
+    private static final String ACKNOWLEDGE_SCRIPT = """
+            for i = 1, #ARGV, 2 do
+                local remaining = redis.call('HINCRBY', KEYS[1], ARGV[i], -tonumber(ARGV[i + 1]))
+                if remaining == 0 then
+                    redis.call('HDEL', KEYS[1], ARGV[i])
+                end
+            end
+            return 1
+            """;
+
+    private static final DefaultRedisScript<String> RESERVE_REDIS_SCRIPT =
+            new DefaultRedisScript<>(RESERVE_SCRIPT, String.class);
+    private static final DefaultRedisScript<Long> RELEASE_REDIS_SCRIPT =
+            new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class);
+    private static final DefaultRedisScript<Long> LOAD_REDIS_SCRIPT =
+            new DefaultRedisScript<>(LOAD_SCRIPT, Long.class);
+    private static final DefaultRedisScript<Long> ACKNOWLEDGE_REDIS_SCRIPT =
+            new DefaultRedisScript<>(ACKNOWLEDGE_SCRIPT, Long.class);
+
+    /**
+     * @param quantities 상품 ID별 예약 수량
+     */
+    public ReserveResult reserve(Map<Long, Integer> quantities) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        keys.add(PENDING_KEY);
+
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            keys.add(getStockKey(entry.getKey()));
+            args.add(entry.getKey().toString());
+            args.add(entry.getValue().toString());
+        }
+
+        String result = redisTemplate.execute(RESERVE_REDIS_SCRIPT, keys, args.toArray());
+        return ReserveResult.parse(result);
+    }
+
+    public void release(Long productId, int quantity) {
+        redisTemplate.execute(
+                RELEASE_REDIS_SCRIPT,
+                List.of(PENDING_KEY, getStockKey(productId)),
+                productId.toString(),
+                String.valueOf(quantity)
+        );
+    }
+
+    /**
+     * @return 새로 적재했으면 true, 이미 적재되어 있었으면 false
+     */
+    public boolean loadIfAbsent(Long productId, int dbStockQuantity) {
+        Long loaded = redisTemplate.execute(
+                LOAD_REDIS_SCRIPT,
+                List.of(PENDING_KEY, getStockKey(productId)),
+                productId.toString(),
+                String.valueOf(dbStockQuantity)
+        );
+        log.debug("재고 적재: productId={}, dbStock={}, loaded={}", productId, dbStockQuantity, loaded);
+        return Long.valueOf(1L).equals(loaded);
+    }
+
+    public Integer getStock(Long productId) {
+        String stock = redisTemplate.opsForValue().get(getStockKey(productId));
+        return stock != null ? Integer.parseInt(stock) : null;
+    }
+
+    public Map<Long, Integer> getPendingDeltas() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(PENDING_KEY);
+        Map<Long, Integer> deltas = new HashMap<>();
+
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            int delta = Integer.parseInt((String) entry.getValue());
+            if (delta != 0) {
+                deltas.put(Long.parseLong((String) entry.getKey()), delta);
+            }
+        }
+        return deltas;
+    }
+
+    public void acknowledgeDeltas(Map<Long, Integer> appliedDeltas) {
+        if (appliedDeltas.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : appliedDeltas.entrySet()) {
+            args.add(entry.getKey().toString());
+            args.add(entry.getValue().toString());
+        }
+
+        redisTemplate.execute(ACKNOWLEDGE_REDIS_SCRIPT, List.of(PENDING_KEY), args.toArray());
+    }
+
+    /**
+     * Redis 재고를 제거합니다. 다음 요청 시 DB 기준으로 다시 적재됩니다.
+     */
+    public void evict(Long productId) {
+        redisTemplate.delete(getStockKey(productId));
+    }
+
+    public void clearAll() {
+        redisTemplate.delete(PENDING_KEY);
+        Set<String> keys = redisTemplate.keys(STOCK_KEY_PREFIX + "*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    private String getStockKey(Long productId) {
+        return STOCK_KEY_PREFIX + productId;
+    }
+
+    public record ReserveResult(Status status, Long productId, int currentStock) {
+
+        public enum Status {
+            SUCCESS,
+            NOT_LOADED,
+            INSUFFICIENT
+        }
+
+        static ReserveResult parse(String raw) {
+            if (raw == null) {
+                throw new IllegalStateException("재고 예약 스크립트 결과가 없습니다");
+            }
+            if ("SUCCESS".equals(raw)) {
+                return new ReserveResult(Status.SUCCESS, null, 0);
+            }
+
+            String[] parts = raw.split(":");
+            Status status = Status.valueOf(parts[0]);
+            Long productId = Long.parseLong(parts[1]);
+            int currentStock = parts.length > 2 ? Integer.parseInt(parts[2]) : 0;
+            return new ReserveResult(status, productId, currentStock);
+        }
+
+        public boolean isSuccess() {
+            return status == Status.SUCCESS;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.ecommerce.infrastructure.redis;
+
+import com.ecommerce.domain.service.StockReservationStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis Sorted Set 기반 재고 예약 저장소
+ *
+ * 키 구조:
+ * - stock:reservations: member = orderId, score = 만료 시각(epoch ms)
+ *
+ * 만료 대상 조회와 제거를 Lua Script 하나로 처리하여
+ * 여러 인스턴스의 만료 스케줄러가 같은 주문을 중복으로 꺼내지 않도록 합니다.
+ */
+@Repository
+public class StockReservationRedisRepository implements StockReservationStore {
+
+    private static final String RESERVATION_KEY = "stock:reservations";
+
+    /**
+     * 만료 예약 꺼내기 Lua Script
+     * KEYS[1] = stock:reservations, ARGV[1] = 현재 시각(epoch ms), ARGV[2] = 최대 건수
+     */
+    private static final String CLAIM_EXPIRED_SCRIPT = """
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            if #ids > 0 then
+                redis.call('ZREM', KEYS[1], unpack(ids))
+            end
+            return ids
+            """;
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public StockReservationRedisRepository(
+            StringRedisTemplate redisTemplate,
+            @Value("${ecommerce.stock.reservation.ttl-minutes:15}") long ttlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    @Override
+    public void reserve(Long orderId) {
+        long expireAt = System.currentTimeMillis() + ttl.toMillis();
+        redisTemplate.opsForZSet().add(RESERVATION_KEY, String.valueOf(orderId), expireAt);
+    }
+
+    @Override
+    public boolean confirm(Long orderId) {
+        Long removed = redisTemplate.opsForZSet().remove(RESERVATION_KEY, String.valueOf(orderId));
+        return removed != null && removed > 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> claimExpired(int limit) {
+        List<String> ids = redisTemplate.execute(
+                new DefaultRedisScript<>(CLAIM_EXPIRED_SCRIPT, List.class),
+                List.of(RESERVATION_KEY),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(limit)
+        );
+
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return ids.stream()
+                .map(Long::parseLong)
+                .toList();
+    }
+
+    @Override
+    public void requeue(Long orderId) {
+        redisTemplate.opsForZSet().add(RESERVATION_KEY, String.valueOf(orderId), System.currentTimeMillis());
+    }
+}
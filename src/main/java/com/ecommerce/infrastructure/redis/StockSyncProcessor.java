@@ -0,0 +1,69 @@
+package com.ecommerce.infrastructure.redis;
+
+import com.ecommerce.domain.service.ProductDomainService;
+import com.ecommerce.infrastructure.lock.DistributedLockExecutor;
+import com.ecommerce.infrastructure.lock.LockAcquisitionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Redis 재고 Write-Behind 프로세서
+ *
+ * Redis에 누적된 재고 변화량(stock:pending)을 주기적으로 DB에 반영합니다.
+ * - 변화량을 상품별로 합산하므로 주문 수와 무관하게 상품당 UPDATE 1회
+ * - DB 커밋 후에만 반영분을 차감 → 실패 시 다음 주기에 재시도
+ *
+ * 주의:
+ * - 여러 인스턴스가 같은 변화량을 반영하지 않도록 SYNC_LOCK_KEY를 대기 없이 시도하고, 못 잡으면 이번 주기는 건너뜀
+ * - Redis 재고 적재(RedisStockDeductor)도 같은 락 안에서 하므로 DB 반영과 반영분 차감 사이에 적재되지 않음
+ * - DB 커밋과 반영분 차감 사이에 장애가 나면 같은 변화량이 두 번 반영될 수 있음 (자동 보정하지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.stock", name = "mode", havingValue = "redis")
+@RequiredArgsConstructor
+public class StockSyncProcessor {
+
+    /**
+     * 변화량 DB 반영과 Redis 재고 적재를 서로 배제하는 락
+     */
+    static final String SYNC_LOCK_KEY = "lock:stock:sync";
+    private static final long LOCK_LEASE_SECONDS = 30;
+
+    private final StockRedisRepository stockRedisRepository;
+    private final ProductDomainService productDomainService;
+    private final DistributedLockExecutor lockExecutor;
+
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        try {
+            int applied = lockExecutor.executeWithLock(SYNC_LOCK_KEY, 0, LOCK_LEASE_SECONDS, this::applyPendingDeltas);
+            if (applied > 0) {
+                log.debug("재고 변화량 DB 반영 완료: {}개 상품", applied);
+            }
+        } catch (LockAcquisitionException e) {
+            log.debug("다른 인스턴스가 재고 변화량 반영 중, 이번 주기 건너뜀");
+        } catch (Exception e) {
+            log.error("재고 변화량 DB 반영 실패, 다음 주기에 재시도: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return 반영한 상품 수
+     */
+    private int applyPendingDeltas() {
+        Map<Long, Integer> deltas = stockRedisRepository.getPendingDeltas();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        productDomainService.applyStockDeltas(deltas);
+        stockRedisRepository.acknowledgeDeltas(deltas);
+        return deltas.size();
+    }
+}
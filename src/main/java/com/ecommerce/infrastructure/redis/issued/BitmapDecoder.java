@@ -0,0 +1,34 @@
+package com.ecommerce.infrastructure.redis.issued;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Redis 비트맵 → 켜진 비트 위치
+ * Redis 비트맵은 바이트마다 최상위 비트가 오프셋 0입니다 (SETBIT key 0 1 → 0x80).
+ */
+final class BitmapDecoder {
+
+    private BitmapDecoder() {
+    }
+
+    /**
+     * @param base 첫 비트가 가리키는 사용자 ID (구간 분할 비트맵의 구간 시작값)
+     */
+    static Set<String> decode(byte[] bitmap, long base) {
+        Set<String> members = new HashSet<>();
+        if (bitmap == null) {
+            return members;
+        }
+
+        for (int byteIndex = 0; byteIndex < bitmap.length; byteIndex++) {
+            int value = bitmap[byteIndex] & 0xFF;
+            for (int bit = 0; value != 0 && bit < 8; bit++) {
+                if ((value & (0x80 >>> bit)) != 0) {
+                    members.add(String.valueOf(base + byteIndex * 8L + bit));
+                }
+            }
+        }
+        return members;
+    }
+}
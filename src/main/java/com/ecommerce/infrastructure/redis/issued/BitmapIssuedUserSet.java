@@ -0,0 +1,106 @@
+package com.ecommerce.infrastructure.redis.issued;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 비트맵 발급 사용자 집합
+ *
+ * coupon:{id}:issued:bitmap 의 userId번째 비트 = 발급 여부, coupon:{id}:issued:count = 발급 수
+ * - 메모리는 발급 수와 무관하게 (최대 userId / 8) 바이트 → ID가 촘촘한 사용자 테이블에 적합
+ * - 발급 Lua Script는 O(1) 카운터로 수량을 검사하고, getIssuedCount는 BITCOUNT로 비트맵에서 직접 셈
+ *
+ * 주의:
+ * - userId는 0 이상 MAX_USER_ID 이하만 가능 (SETBIT 오프셋 상한 2^32 - 1)
+ * - 큰 userId 하나가 비트맵 전체를 그 크기까지 할당하므로 ID가 듬성듬성하면 chunked-bitmap 사용
+ * - getIssuedUsers는 비트맵(최대 512MB)을 한 번에 GET하지 않고 READ_CHUNK_BYTES씩 GETRANGE로 나눠 읽음
+ */
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.coupon", name = "issued-set", havingValue = "bitmap")
+@RequiredArgsConstructor
+public class BitmapIssuedUserSet implements IssuedUserSet {
+
+    static final long MAX_USER_ID = (1L << 32) - 1;
+    private static final long READ_CHUNK_BYTES = 64 * 1024;
+
+    private static final String KEY_PREFIX = "coupon:";
+    private static final String BITMAP_KEY_SUFFIX = ":issued:bitmap";
+    private static final String COUNT_KEY_SUFFIX = ":issued:count";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public String scriptMode() {
+        return SCRIPT_MODE_BIT;
+    }
+
+    @Override
+    public String memberKey(Long couponId, Long userId) {
+        return getBitmapKey(couponId);
+    }
+
+    @Override
+    public String member(Long userId) {
+        if (userId < 0 || userId > MAX_USER_ID) {
+            throw new IllegalArgumentException("비트맵 발급 집합에 넣을 수 없는 사용자 ID입니다: " + userId);
+        }
+        return userId.toString();
+    }
+
+    @Override
+    public String countKey(Long couponId) {
+        return KEY_PREFIX + couponId + COUNT_KEY_SUFFIX;
+    }
+
+    @Override
+    public boolean isIssued(Long couponId, Long userId) {
+        if (userId < 0 || userId > MAX_USER_ID) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().getBit(getBitmapKey(couponId), userId));
+    }
+
+    @Override
+    public long getIssuedCount(Long couponId) {
+        byte[] key = getBitmapKey(couponId).getBytes(StandardCharsets.UTF_8);
+        Long count = redisTemplate.execute((RedisCallback<Long>) connection -> connection.stringCommands().bitCount(key));
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public Set<String> getIssuedUsers(Long couponId) {
+        byte[] key = getBitmapKey(couponId).getBytes(StandardCharsets.UTF_8);
+        Long length = redisTemplate.execute((RedisCallback<Long>) connection -> connection.stringCommands().strLen(key));
+        Set<String> users = new HashSet<>();
+        if (length == null) {
+            return users;
+        }
+
+        // 한 번에 읽는 양을 제한해 Redis 응답 버퍼와 힙에 비트맵 전체가 올라오지 않도록 함
+        for (long start = 0; start < length; start += READ_CHUNK_BYTES) {
+            long from = start;
+            long to = Math.min(start + READ_CHUNK_BYTES, length) - 1;
+            byte[] bitmap = redisTemplate.execute(
+                    (RedisCallback<byte[]>) connection -> connection.stringCommands().getRange(key, from, to));
+            users.addAll(BitmapDecoder.decode(bitmap, from * 8));
+        }
+        return users;
+    }
+
+    @Override
+    public void clear(Long couponId) {
+        redisTemplate.delete(List.of(getBitmapKey(couponId), countKey(couponId)));
+    }
+
+    private String getBitmapKey(Long couponId) {
+        return KEY_PREFIX + couponId + BITMAP_KEY_SUFFIX;
+    }
+}
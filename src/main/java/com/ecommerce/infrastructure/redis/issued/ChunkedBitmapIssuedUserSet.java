@@ -0,0 +1,118 @@
+package com.ecommerce.infrastructure.redis.issued;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 구간 분할 비트맵 발급 사용자 집합 (Roaring 방식)
+ *
+ * userId 상위 비트(userId >>> 16)로 구간을 나누고, 구간마다 65,536비트(8KB) 비트맵을 둡니다.
+ * - coupon:{id}:issued:chunk:{userId >>> 16} 의 (userId & 0xFFFF)번째 비트 = 발급 여부
+ * - coupon:{id}:issued:count = 발급 수
+ * - 발급자가 있는 구간만 할당 → ID가 듬성듬성하거나(스노우플레이크 등) 매우 커도 사용 가능
+ *
+ * 주의:
+ * - userId는 0 이상만 가능 (음수는 userId >>> 16이 엉뚱한 구간을 가리킴)
+ * - 구간 안에 발급자가 몇 명뿐이어도 8KB를 차지 (구간당 발급자가 약 200명 미만이면 Set보다 큼)
+ */
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.coupon", name = "issued-set", havingValue = "chunked-bitmap")
+@RequiredArgsConstructor
+public class ChunkedBitmapIssuedUserSet implements IssuedUserSet {
+
+    static final int CHUNK_BITS = 16;
+    private static final long OFFSET_MASK = (1L << CHUNK_BITS) - 1;
+
+    private static final String KEY_PREFIX = "coupon:";
+    private static final String CHUNK_KEY_INFIX = ":issued:chunk:";
+    private static final String COUNT_KEY_SUFFIX = ":issued:count";
+    private static final int SCAN_COUNT = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public String scriptMode() {
+        return SCRIPT_MODE_BIT;
+    }
+
+    @Override
+    public String memberKey(Long couponId, Long userId) {
+        return getChunkKeyPrefix(couponId) + (userId >>> CHUNK_BITS);
+    }
+
+    @Override
+    public String member(Long userId) {
+        if (userId < 0) {
+            throw new IllegalArgumentException("비트맵 발급 집합에 넣을 수 없는 사용자 ID입니다: " + userId);
+        }
+        return String.valueOf(userId & OFFSET_MASK);
+    }
+
+    @Override
+    public String countKey(Long couponId) {
+        return KEY_PREFIX + couponId + COUNT_KEY_SUFFIX;
+    }
+
+    @Override
+    public boolean isIssued(Long couponId, Long userId) {
+        if (userId < 0) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .getBit(memberKey(couponId, userId), userId & OFFSET_MASK));
+    }
+
+    @Override
+    public long getIssuedCount(Long couponId) {
+        String count = redisTemplate.opsForValue().get(countKey(couponId));
+        return count != null ? Long.parseLong(count) : 0;
+    }
+
+    @Override
+    public Set<String> getIssuedUsers(Long couponId) {
+        Set<String> users = new HashSet<>();
+        String chunkKeyPrefix = getChunkKeyPrefix(couponId);
+
+        for (String chunkKey : findChunkKeys(couponId)) {
+            long chunk = Long.parseLong(chunkKey.substring(chunkKeyPrefix.length()));
+            byte[] key = chunkKey.getBytes(StandardCharsets.UTF_8);
+            byte[] bitmap = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+            users.addAll(BitmapDecoder.decode(bitmap, chunk << CHUNK_BITS));
+        }
+        return users;
+    }
+
+    @Override
+    public void clear(Long couponId) {
+        List<String> keys = new ArrayList<>(findChunkKeys(couponId));
+        keys.add(countKey(couponId));
+        redisTemplate.delete(keys);
+    }
+
+    private List<String> findChunkKeys(Long couponId) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(getChunkKeyPrefix(couponId) + "*")
+                .count(SCAN_COUNT)
+                .build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+
+    private String getChunkKeyPrefix(Long couponId) {
+        return KEY_PREFIX + couponId + CHUNK_KEY_INFIX;
+    }
+}
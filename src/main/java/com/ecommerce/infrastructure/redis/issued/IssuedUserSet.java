@@ -0,0 +1,49 @@
+package com.ecommerce.infrastructure.redis.issued;
+
+import java.util.Set;
+
+/**
+ * 쿠폰별 발급 사용자 집합 저장 방식 (coupon:{id}:issued*)
+ *
+ * 발급 Lua Script는 scriptMode에 따라 집합 연산을 고르고, memberKey/member/countKey로 대상을 받습니다.
+ * - set: Redis Set (SISMEMBER / SCARD / SADD), 기본값
+ * - bit: 비트맵 (GETBIT / 카운터 GET / SETBIT + INCR)
+ *
+ * 구현체는 ecommerce.coupon.issued-set 설정에 따라 하나만 활성화됩니다.
+ */
+public interface IssuedUserSet {
+
+    String SCRIPT_MODE_SET = "set";
+    String SCRIPT_MODE_BIT = "bit";
+
+    /**
+     * 발급 Lua Script가 쓸 집합 연산 종류 (SCRIPT_MODE_SET / SCRIPT_MODE_BIT)
+     */
+    String scriptMode();
+
+    /**
+     * 사용자가 속하는 집합 키 (Set 키, 비트맵 키 또는 사용자 구간별 비트맵 키)
+     */
+    String memberKey(Long couponId, Long userId);
+
+    /**
+     * 집합 안에서 사용자를 가리키는 값 (Set 멤버 또는 비트 오프셋)
+     */
+    String member(Long userId);
+
+    /**
+     * 발급 수 카운터 키 (bit 모드에서 수량 검사에 사용)
+     */
+    String countKey(Long couponId);
+
+    boolean isIssued(Long couponId, Long userId);
+
+    long getIssuedCount(Long couponId);
+
+    /**
+     * 발급 사용자 전체 (SMEMBERS처럼 한 번에 읽지 않고 나눠 읽음, 관리/검증용)
+     */
+    Set<String> getIssuedUsers(Long couponId);
+
+    void clear(Long couponId);
+}
@@ -0,0 +1,80 @@
+package com.ecommerce.infrastructure.redis.issued;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Redis Set 발급 사용자 집합 (기본 모드)
+ *
+ * coupon:{id}:issued = {userId, ...}
+ * - 사용자 ID 분포와 무관하게 동작
+ * - 멤버 512개(set-max-intset-entries)를 넘으면 hashtable 인코딩으로 바뀌어 멤버당 수십 바이트 사용
+ */
+@Component
+@ConditionalOnProperty(prefix = "ecommerce.coupon", name = "issued-set", havingValue = "set", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisSetIssuedUserSet implements IssuedUserSet {
+
+    private static final String KEY_PREFIX = "coupon:";
+    private static final String KEY_SUFFIX = ":issued";
+    private static final int SCAN_COUNT = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public String scriptMode() {
+        return SCRIPT_MODE_SET;
+    }
+
+    @Override
+    public String memberKey(Long couponId, Long userId) {
+        return getKey(couponId);
+    }
+
+    @Override
+    public String member(Long userId) {
+        return userId.toString();
+    }
+
+    @Override
+    public String countKey(Long couponId) {
+        return getKey(couponId);
+    }
+
+    @Override
+    public boolean isIssued(Long couponId, Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(getKey(couponId), userId.toString()));
+    }
+
+    @Override
+    public long getIssuedCount(Long couponId) {
+        Long count = redisTemplate.opsForSet().size(getKey(couponId));
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public Set<String> getIssuedUsers(Long couponId) {
+        Set<String> users = new HashSet<>();
+        try (Cursor<String> cursor = redisTemplate.opsForSet()
+                .scan(getKey(couponId), ScanOptions.scanOptions().count(SCAN_COUNT).build())) {
+            cursor.forEachRemaining(users::add);
+        }
+        return users;
+    }
+
+    @Override
+    public void clear(Long couponId) {
+        redisTemplate.delete(getKey(couponId));
+    }
+
+    private String getKey(Long couponId) {
+        return KEY_PREFIX + couponId + KEY_SUFFIX;
+    }
+}
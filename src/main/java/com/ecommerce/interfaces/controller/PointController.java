@@ -1,6 +1,7 @@
 package com.ecommerce.interfaces.controller;
 
 import com.ecommerce.application.dto.PointChargeRequest;
+import com.ecommerce.application.dto.PointHistoryPageResponse;
 import com.ecommerce.application.dto.PointHistoryResponse;
 import com.ecommerce.application.dto.PointResponse;
 import com.ecommerce.application.service.PointService;
@@ -11,6 +12,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/points")
@@ -21,11 +23,11 @@ public class PointController {
     private final PointService pointService;
 
     @PostMapping("/users/{userId}/charge")
-    public PointResponse chargePoint(
+    public CompletableFuture<PointResponse> chargePoint(
             @PathVariable @Positive(message = "사용자 ID는 양수여야 합니다") Long userId,
             @RequestBody @Valid PointChargeRequest request) {
         PointChargeRequest chargeRequest = new PointChargeRequest(userId, request.amount());
-        return pointService.chargePoint(chargeRequest);
+        return pointService.chargePointAsync(chargeRequest);
     }
 
     @GetMapping("/users/{userId}/balance")
@@ -37,4 +39,16 @@ public class PointController {
     public List<PointHistoryResponse> getPointHistory(@PathVariable @Positive(message = "사용자 ID는 양수여야 합니다") Long userId) {
         return pointService.getPointHistory(userId);
     }
+
+    /**
+     * 포인트 이력 커서 페이지 조회 (최신순)
+     * 응답의 nextCursor를 다음 요청의 cursor로 넘깁니다.
+     */
+    @GetMapping("/users/{userId}/history/page")
+    public PointHistoryPageResponse getPointHistoryPage(
+            @PathVariable @Positive(message = "사용자 ID는 양수여야 합니다") Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) @Positive(message = "페이지 크기는 양수여야 합니다") Integer size) {
+        return pointService.getPointHistoryPage(userId, cursor, size);
+    }
 }
@@ -0,0 +1,423 @@
+package com.ecommerce.interfaces.filter;
+
+import com.ecommerce.dto.ApiResponse;
+import com.ecommerce.dto.ResponseCode;
+import com.ecommerce.infrastructure.redis.IdempotencyRedisRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * Idempotency-Key 필터 (주문 생성 / 결제)
+ *
+ * 모바일 클라이언트의 타임아웃 재시도가 재고 차감·결제를 반복하지 않도록
+ * 같은 키의 요청은 최초 1회만 실행하고, 이후에는 저장된 응답을 그대로 재생합니다.
+ *
+ * 처리 순서:
+ * 1. 로컬 캐시 → Redis 순으로 완료된 응답 조회, 있으면 재생 (락/DB 접근 없음)
+ * 2. 같은 인스턴스에서 실행 중인 요청이 있으면 그 결과를 기다려 재생
+ * 3. Redis 선점(SET NX) 성공 시 실행, 실패 시 다른 인스턴스의 결과를 폴링으로 대기
+ *
+ * 주의:
+ * - 2xx 응답만 저장 (실패 응답은 선점 해제 → 같은 키로 재시도하면 다시 실행)
+ * - 키는 요청자(인증 사용자, 없으면 익명)와 요청 경로별로 구분
+ *   (같은 키를 주문 생성과 결제에 쓰거나 다른 사용자가 써도 충돌하지 않음)
+ * - 요청 본문 해시를 함께 저장, 같은 키에 다른 본문이 오면 재생하지 않고 422
+ *   (인증이 없는 현재 API는 본문의 userId가 해시에 포함되어 다른 사용자의 응답이 재생되지 않음)
+ * - 처리 중 표시는 실행이 끝날 때까지 주기적으로 연장 (오래 걸리는 요청이 중간에 다시 실행되지 않음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String HEADER_REPLAYED = "Idempotent-Replayed";
+
+    private static final Pattern TARGET_PATH = Pattern.compile("^/api/orders(/\\d+/payment)?$");
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final String ANONYMOUS = "anonymous";
+
+    private static final Duration IN_PROGRESS_TTL = Duration.ofSeconds(60);
+    private static final Duration IN_PROGRESS_REFRESH_INTERVAL = Duration.ofSeconds(20);
+    private static final Duration RESULT_TTL = Duration.ofHours(24);
+    private static final Duration LOCAL_CACHE_TTL = Duration.ofSeconds(60);
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(30);
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final IdempotencyRedisRepository idempotencyRedisRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, StoredResponse> localCache = Caffeine.newBuilder()
+            .expireAfterWrite(LOCAL_CACHE_TTL)
+            .maximumSize(10_000)
+            .build();
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService inProgressRefresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "idempotency-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(HEADER_IDEMPOTENCY_KEY) == null
+                || !TARGET_PATH.matcher(request.getRequestURI()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER_IDEMPOTENCY_KEY).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, ResponseCode.BAD_REQUEST,
+                    "Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다");
+            return;
+        }
+
+        Principal principal = request.getUserPrincipal();
+        String requester = principal != null ? principal.getName() : ANONYMOUS;
+        String key = requester + ":" + request.getRequestURI() + ":" + idempotencyKey;
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = cachedRequest.bodyHash();
+
+        StoredResponse completed = findCompleted(key);
+        if (completed != null) {
+            replayOrReject(response, completed, requestHash);
+            return;
+        }
+
+        CompletableFuture<StoredResponse> execution = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, execution);
+        if (running != null) {
+            replayOrReject(response, awaitLocal(running), requestHash);
+            return;
+        }
+
+        executeOnce(new PendingExecution(key, requestHash, execution), cachedRequest, response, chain);
+    }
+
+    private void executeOnce(PendingExecution pending, HttpServletRequest request, HttpServletResponse response,
+                             FilterChain chain) throws ServletException, IOException {
+        if (!idempotencyRedisRepository.tryStart(pending.key(), pending.requestHash(), IN_PROGRESS_TTL)) {
+            StoredResponse other = awaitRemote(pending.key());
+            try {
+                replayOrReject(response, other, pending.requestHash());
+            } finally {
+                pending.complete(other);
+            }
+            return;
+        }
+
+        pending.refresh = inProgressRefresher.scheduleAtFixedRate(() -> refreshInProgress(pending),
+                IN_PROGRESS_REFRESH_INTERVAL.toMillis(), IN_PROGRESS_REFRESH_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+        } catch (Exception e) {
+            abort(pending, e);
+            throw e;
+        }
+        finish(pending, wrapper);
+    }
+
+    private void finish(PendingExecution pending, ContentCachingResponseWrapper wrapper) throws IOException {
+        StoredResponse result = new StoredResponse(
+                wrapper.getStatus(),
+                wrapper.getContentType(),
+                new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8),
+                pending.requestHash()
+        );
+
+        try {
+            if (result.status() >= 200 && result.status() < 300) {
+                idempotencyRedisRepository.complete(pending.key(), objectMapper.writeValueAsString(result), RESULT_TTL);
+                localCache.put(pending.key(), result);
+            } else {
+                idempotencyRedisRepository.release(pending.key(), pending.requestHash());
+            }
+        } finally {
+            try {
+                // 결과 저장이 실패해도 클라이언트 응답은 비워 보내지 않음
+                wrapper.copyBodyToResponse();
+            } finally {
+                pending.complete(result);
+            }
+        }
+    }
+
+    private void abort(PendingExecution pending, Exception e) {
+        pending.stopRefresh();
+        idempotencyRedisRepository.release(pending.key(), pending.requestHash());
+        pending.execution().completeExceptionally(e);
+        inFlight.remove(pending.key(), pending.execution());
+    }
+
+    /**
+     * 실행 중인 요청의 처리 중 표시를 연장합니다. (연장 스레드)
+     * 예외를 밖으로 던지면 이후 연장이 멈추므로 로그만 남깁니다.
+     */
+    private void refreshInProgress(PendingExecution pending) {
+        try {
+            if (!idempotencyRedisRepository.refresh(pending.key(), pending.requestHash(), IN_PROGRESS_TTL)) {
+                pending.stopRefresh();
+            }
+        } catch (Exception e) {
+            log.warn("멱등 처리 중 표시 연장 실패: key={}, error={}", pending.key(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        inProgressRefresher.shutdownNow();
+    }
+
+    private StoredResponse findCompleted(String key) {
+        StoredResponse cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        StoredResponse stored = idempotencyRedisRepository.findCompleted(key)
+                .map(this::deserialize)
+                .orElse(null);
+        if (stored != null) {
+            localCache.put(key, stored);
+        }
+        return stored;
+    }
+
+    private StoredResponse awaitLocal(CompletableFuture<StoredResponse> running) {
+        try {
+            return running.get(WAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 처리 중인 요청의 결과를 기다립니다.
+     * 선점이 해제되면(실행 실패) 기다리지 않고 null을 반환합니다.
+     */
+    private StoredResponse awaitRemote(String key) {
+        long deadline = System.currentTimeMillis() + WAIT_TIMEOUT.toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            StoredResponse completed = findCompleted(key);
+            if (completed != null) {
+                return completed;
+            }
+            if (!idempotencyRedisRepository.exists(key)) {
+                return null;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 저장된 응답을 재생합니다.
+     * 결과가 없으면 409, 같은 키로 다른 본문을 보낸 요청이면 422를 응답합니다.
+     */
+    private void replayOrReject(HttpServletResponse response, StoredResponse stored, String requestHash)
+            throws IOException {
+        if (stored == null) {
+            writeError(response, ResponseCode.CONFLICT,
+                    "같은 Idempotency-Key 요청이 처리 중이거나 실패했습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+        if (stored.requestHash() != null && !stored.requestHash().equals(requestHash)) {
+            writeError(response, ResponseCode.UNPROCESSABLE_ENTITY,
+                    "같은 Idempotency-Key로 다른 요청 본문을 보낼 수 없습니다");
+            return;
+        }
+        replay(response, stored);
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(HEADER_REPLAYED, "true");
+        response.getOutputStream().write(stored.body().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeError(HttpServletResponse response, ResponseCode code, String message) throws IOException {
+        response.setStatus(code.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(ApiResponse.fail(code, message)));
+    }
+
+    private StoredResponse deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, StoredResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("저장된 멱등 응답 역직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @param requestHash 응답을 만든 요청 본문의 SHA-256 (이전 버전으로 저장된 응답은 null)
+     */
+    record StoredResponse(int status, String contentType, String body, String requestHash) {
+    }
+
+    /**
+     * 실행 중인 요청 (선점 키, 본문 해시, 같은 인스턴스 대기자에게 넘길 결과)
+     */
+    private final class PendingExecution {
+
+        private final String key;
+        private final String requestHash;
+        private final CompletableFuture<StoredResponse> execution;
+        private volatile ScheduledFuture<?> refresh;
+
+        PendingExecution(String key, String requestHash, CompletableFuture<StoredResponse> execution) {
+            this.key = key;
+            this.requestHash = requestHash;
+            this.execution = execution;
+        }
+
+        String key() {
+            return key;
+        }
+
+        String requestHash() {
+            return requestHash;
+        }
+
+        void stopRefresh() {
+            ScheduledFuture<?> current = refresh;
+            if (current != null) {
+                current.cancel(false);
+            }
+        }
+
+        CompletableFuture<StoredResponse> execution() {
+            return execution;
+        }
+
+        void complete(StoredResponse result) {
+            stopRefresh();
+            execution.complete(result);
+            inFlight.remove(key, execution);
+        }
+    }
+
+    /**
+     * 본문 해시를 계산하려고 요청 본문을 미리 읽어 두고, 컨트롤러에는 같은 본문을 다시 제공합니다.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        String bodyHash() {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+            }
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream source = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return source.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문이 이미 메모리에 있으므로 등록 즉시 읽기 가능/읽기 완료를 알립니다.
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    Objects.requireNonNull(readListener, "readListener");
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return source.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return source.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), encoding));
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.entity.ProductStockBucket;
+import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.domain.repository.ProductStockBucketRepository;
+import com.ecommerce.domain.service.ProductDomainService;
+import com.ecommerce.infrastructure.persistence.stock.HotProductStockSharder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인기 상품 재고 버킷 분할 통합 테스트
+ * 버킷 분할/병합, 형제 버킷 차감, 동시 주문 시 초과 판매 방지를 검증합니다.
+ */
+@DisplayName("재고 버킷 분할 통합 테스트")
+class BucketStockIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductDomainService productDomainService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockBucketRepository productStockBucketRepository;
+
+    private Product hotProduct;
+    private Product normalProduct;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        hotProduct = productRepository.save(new Product(null, "인기상품_" + suffix, "설명", 10000, 10, "전자"));
+        normalProduct = productRepository.save(new Product(null, "일반상품_" + suffix, "설명", 20000, 5, "전자"));
+    }
+
+    @Test
+    @DisplayName("재고를 버킷에 고르게 나누고 상품 행 재고는 0이 된다")
+    void shardStock_distributesEvenly() {
+        // when
+        boolean sharded = productDomainService.shardStock(hotProduct.getId(), 4);
+
+        // then
+        assertThat(sharded).isTrue();
+        assertThat(productStockBucketRepository.findByProductId(hotProduct.getId()))
+                .extracting(ProductStockBucket::getQuantity)
+                .containsExactly(3, 3, 2, 2);
+        assertThat(productRepository.getByIdOrThrow(hotProduct.getId()).getStockQuantity()).isZero();
+        assertThat(productDomainService.getAvailableStocks(List.of(productRepository.getByIdOrThrow(hotProduct.getId()))))
+                .containsEntry(hotProduct.getId(), 10);
+    }
+
+    @Test
+    @DisplayName("이미 분할된 상품은 다시 분할하지 않는다")
+    void shardStock_alreadySharded_ignored() {
+        // given
+        productDomainService.shardStock(hotProduct.getId(), 4);
+
+        // when
+        boolean sharded = productDomainService.shardStock(hotProduct.getId(), 8);
+
+        // then
+        assertThat(sharded).isFalse();
+        assertThat(productStockBucketRepository.findByProductId(hotProduct.getId())).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("한 버킷 재고보다 많이 주문하면 형제 버킷에서 나눠서 차감한다")
+    void reduceStocksWithBuckets_stealsFromSiblings() {
+        // given - 버킷당 2~3개
+        productDomainService.shardStock(hotProduct.getId(), 4);
+
+        // when
+        productDomainService.reduceStocksWithBuckets(Map.of(hotProduct.getId(), 7, normalProduct.getId(), 2));
+
+        // then
+        int bucketTotal = productStockBucketRepository.findByProductId(hotProduct.getId()).stream()
+                .mapToInt(ProductStockBucket::getQuantity)
+                .sum();
+        assertThat(bucketTotal).isEqualTo(3);
+        assertThat(productRepository.getByIdOrThrow(normalProduct.getId()).getStockQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("버킷 합계보다 많이 주문하면 실패하고 형제 버킷 차감분도 롤백된다")
+    void reduceStocksWithBuckets_insufficient_rollsBack() {
+        // given
+        productDomainService.shardStock(hotProduct.getId(), 4);
+
+        // when & then
+        assertThatThrownBy(() -> productDomainService.reduceStocksWithBuckets(Map.of(hotProduct.getId(), 11)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("재고 부족");
+
+        assertThat(productStockBucketRepository.findByProductId(hotProduct.getId()))
+                .extracting(ProductStockBucket::getQuantity)
+                .containsExactly(3, 3, 2, 2);
+    }
+
+    @Test
+    @DisplayName("50명이 동시에 버킷 분할 상품을 1개씩 구매하면 재고 수만큼만 성공한다")
+    void reduceStocksWithBuckets_concurrent_noOversell() throws InterruptedException {
+        // given
+        productDomainService.shardStock(hotProduct.getId(), 4);
+        int threadCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    productDomainService.reduceStocksWithBuckets(Map.of(hotProduct.getId(), 1));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 재고 부족 또는 데드락 감지로 실패
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        doneLatch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        int bucketTotal = productStockBucketRepository.findByProductId(hotProduct.getId()).stream()
+                .mapToInt(ProductStockBucket::getQuantity)
+                .sum();
+        assertThat(successCount.get()).isLessThanOrEqualTo(10);
+        assertThat(bucketTotal).isEqualTo(10 - successCount.get());
+        assertThat(bucketTotal).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("동시에 모두 형제 버킷에서 가져가야 해도 교착 없이 재고 부족으로만 실패한다")
+    void reduceStocksWithBuckets_concurrentSiblingTakes_noDeadlock() throws InterruptedException {
+        // given - 버킷당 5개, 요청마다 6개라 모두 형제 버킷까지 잠가야 함
+        Product product = productRepository.save(new Product(null, "형제버킷상품_" + System.nanoTime(), "설명", 10000, 20, "전자"));
+        productDomainService.shardStock(product.getId(), 4);
+        int threadCount = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger insufficientCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    productDomainService.reduceStocksWithBuckets(Map.of(product.getId(), 6));
+                    successCount.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    insufficientCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        doneLatch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(3);
+        assertThat(insufficientCount.get()).isEqualTo(1);
+        int bucketTotal = productStockBucketRepository.findByProductId(product.getId()).stream()
+                .mapToInt(ProductStockBucket::getQuantity)
+                .sum();
+        assertThat(bucketTotal).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("분할을 해제하면 남은 버킷 재고가 상품 행으로 돌아간다")
+    void mergeStockShards() {
+        // given
+        productDomainService.shardStock(hotProduct.getId(), 4);
+        productDomainService.reduceStocksWithBuckets(Map.of(hotProduct.getId(), 4));
+        productDomainService.restoreStockWithBuckets(hotProduct.getId(), 1);
+
+        // when
+        productDomainService.mergeStockShards(hotProduct.getId());
+
+        // then
+        assertThat(productStockBucketRepository.findByProductId(hotProduct.getId())).isEmpty();
+        assertThat(productRepository.getByIdOrThrow(hotProduct.getId()).getStockQuantity()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("기동 시 설정에서 빠진 상품의 버킷은 병합하고 설정된 상품은 분할한다")
+    void hotProductStockSharder_reconcilesWithConfiguration() {
+        // given: 이전 행사로 분할된 상품
+        productDomainService.shardStock(normalProduct.getId(), 4);
+        HotProductStockSharder sharder = new HotProductStockSharder(
+                productDomainService, productStockBucketRepository, List.of(hotProduct.getId()), 4);
+
+        // when
+        sharder.shardHotProducts();
+
+        // then
+        assertThat(productStockBucketRepository.findByProductId(normalProduct.getId())).isEmpty();
+        assertThat(productRepository.getByIdOrThrow(normalProduct.getId()).getStockQuantity()).isEqualTo(5);
+        assertThat(productStockBucketRepository.findByProductId(hotProduct.getId())).hasSize(4);
+    }
+}
@@ -16,11 +16,13 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
@@ -127,9 +129,16 @@ class CompensationTransactionIntegrationTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("포인트 부족");
 
-        // 재고 복구 확인
-        Product afterProduct = productRepository.findById(testProduct.getId()).orElseThrow();
-        assertThat(afterProduct.getStockQuantity()).isEqualTo(initialStock);
+        // 보상은 요청 스레드 밖에서 비동기로 실행
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            // 재고 복구 확인
+            Product afterProduct = productRepository.findById(testProduct.getId()).orElseThrow();
+            assertThat(afterProduct.getStockQuantity()).isEqualTo(initialStock);
+
+            // 결제 상태 확인
+            OrderPayment payment = orderPaymentRepository.getByOrderIdOrThrow(orderResponse.orderId());
+            assertThat(payment.getPaymentStatus()).isEqualTo(PaymentStatus.FAILED);
+        });
 
         // 포인트 복구 확인
         User afterUser = userRepository.findById(poorUser.getId()).orElseThrow();
@@ -137,10 +146,6 @@ class CompensationTransactionIntegrationTest {
 
         // 포인트 히스토리 확인: 포인트 차감이 실패했으므로 히스토리가 없거나, 있다면 복구되어야 함
         // (포인트 부족으로 차감 자체가 실패했으므로 USE 히스토리가 없을 수 있음)
-
-        // 결제 상태 확인
-        OrderPayment payment = orderPaymentRepository.getByOrderIdOrThrow(orderResponse.orderId());
-        assertThat(payment.getPaymentStatus()).isEqualTo(PaymentStatus.FAILED);
     }
 
     @Test
@@ -169,9 +174,11 @@ class CompensationTransactionIntegrationTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("만료된 쿠폰");
 
-        // 재고 복구 확인
-        Product afterProduct = productRepository.findById(testProduct.getId()).orElseThrow();
-        assertThat(afterProduct.getStockQuantity()).isEqualTo(initialStock);
+        // 재고 복구 확인 (보상은 비동기)
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            Product afterProduct = productRepository.findById(testProduct.getId()).orElseThrow();
+            assertThat(afterProduct.getStockQuantity()).isEqualTo(initialStock);
+        });
 
         // 쿠폰 상태 확인 (만료된 상태 유지)
         UserCoupon afterCoupon = userCouponRepository.findById(expiredCoupon.getId()).orElseThrow();
@@ -0,0 +1,167 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.application.dto.CouponIssueRequest;
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.Coupon;
+import com.ecommerce.domain.entity.CouponStatus;
+import com.ecommerce.domain.entity.DiscountType;
+import com.ecommerce.domain.repository.CouponRepository;
+import com.ecommerce.domain.repository.UserCouponRepository;
+import com.ecommerce.domain.service.CouponIssueExecutor;
+import com.ecommerce.infrastructure.persistence.coupon.ConditionalUpdateCouponIssueExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 조건부 UPDATE 쿠폰 발급 통합 테스트 (ecommerce.coupon.mode=conditional-update)
+ * 분산 락 없이 초과 발급과 중복 발급이 막히고, 실패한 발급이 흔적을 남기지 않는지 검증합니다.
+ */
+@TestPropertySource(properties = "ecommerce.coupon.mode=conditional-update")
+@DisplayName("조건부 UPDATE 쿠폰 발급 통합 테스트")
+class ConditionalUpdateCouponIssueIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponIssueExecutor couponIssueExecutor;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Test
+    @DisplayName("조건부 UPDATE 발급기가 활성화된다")
+    void conditionalUpdateExecutorIsActive() {
+        assertThat(couponIssueExecutor).isInstanceOf(ConditionalUpdateCouponIssueExecutor.class);
+    }
+
+    @Test
+    @DisplayName("100명이 동시에 50개 쿠폰을 발급 시도하면 정확히 50명만 성공한다")
+    void issueCoupon_concurrent_doesNotOversell() throws InterruptedException {
+        // given
+        Coupon coupon = couponRepository.save(createCoupon("조건부 UPDATE 선착순", 50));
+        long userIdBase = System.nanoTime();
+
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger soldOutCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            long userId = userIdBase + i;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    couponService.issueCoupon(new CouponIssueRequest(userId, coupon.getId()));
+                    successCount.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    soldOutCount.incrementAndGet();
+                } catch (Exception ignored) {
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then: 수량 UPDATE 실패 시 발급 INSERT도 롤백
+        assertThat(successCount.get()).isEqualTo(50);
+        assertThat(soldOutCount.get()).isEqualTo(50);
+        assertThat(couponRepository.getByIdOrThrow(coupon.getId()).getCurrentIssueCount()).isEqualTo(50);
+        List<Long> userIds = LongStream.range(userIdBase, userIdBase + threadCount).boxed().toList();
+        assertThat(userCouponRepository.findByCouponIdAndUserIdIn(coupon.getId(), userIds)).hasSize(50);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 동시 발급 요청은 1번만 성공한다")
+    void issueCoupon_sameUserConcurrent_issuesOnce() throws InterruptedException {
+        // given
+        Coupon coupon = couponRepository.save(createCoupon("조건부 UPDATE 중복 방지", 100));
+        long userId = System.nanoTime();
+
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    couponService.issueCoupon(new CouponIssueRequest(userId, coupon.getId()));
+                    successCount.incrementAndGet();
+                } catch (Exception ignored) {
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(couponRepository.getByIdOrThrow(coupon.getId()).getCurrentIssueCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 발급받은 사용자는 거절된다")
+    void issueCoupon_duplicate_rejected() {
+        // given
+        Coupon coupon = couponRepository.save(createCoupon("조건부 UPDATE 재발급", 10));
+        long userId = System.nanoTime();
+        couponService.issueCoupon(new CouponIssueRequest(userId, coupon.getId()));
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(new CouponIssueRequest(userId, coupon.getId())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 발급받은 쿠폰입니다");
+        assertThat(couponRepository.getByIdOrThrow(coupon.getId()).getCurrentIssueCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비활성 쿠폰은 거절 사유를 돌려주고 발급 내역을 남기지 않는다")
+    void issueCoupon_inactive_rejectedWithReason() {
+        // given
+        Coupon coupon = createCoupon("조건부 UPDATE 비활성", 10);
+        coupon.updateStatus(CouponStatus.INACTIVE);
+        Coupon saved = couponRepository.save(coupon);
+        long userId = System.nanoTime();
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(new CouponIssueRequest(userId, saved.getId())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("비활성화된 쿠폰은 발급할 수 없습니다");
+        assertThat(userCouponRepository.findByUserIdAndCouponId(userId, saved.getId())).isEmpty();
+    }
+
+    private Coupon createCoupon(String name, int maxIssueCount) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Coupon(name, DiscountType.PERCENTAGE, 10, maxIssueCount, now.minusDays(1), now.plusDays(30), 30);
+    }
+}
@@ -0,0 +1,126 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.domain.service.ProductDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 조건부 UPDATE 재고 차감 통합 테스트
+ * 분산 락 없이 WHERE stock_quantity >= ? 조건만으로 초과 판매가 막히는지 검증합니다.
+ */
+@DisplayName("조건부 UPDATE 재고 차감 통합 테스트")
+class ConditionalUpdateStockIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductDomainService productDomainService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product product1;
+    private Product product2;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        product1 = productRepository.save(new Product(null, "조건부상품1_" + suffix, "설명", 10000, 10, "전자"));
+        product2 = productRepository.save(new Product(null, "조건부상품2_" + suffix, "설명", 20000, 1, "전자"));
+    }
+
+    @Test
+    @DisplayName("여러 상품 재고를 한 번에 차감한다")
+    void reduceStocksAtomically_success() {
+        // when
+        List<Product> products = productDomainService.reduceStocksAtomically(Map.of(product1.getId(), 3, product2.getId(), 1));
+
+        // then
+        assertThat(products).extracting(Product::getId).containsExactly(product1.getId(), product2.getId());
+        assertThat(productRepository.getByIdOrThrow(product1.getId()).getStockQuantity()).isEqualTo(7);
+        assertThat(productRepository.getByIdOrThrow(product2.getId()).getStockQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 상품이라도 부족하면 트랜잭션 전체가 롤백된다")
+    void reduceStocksAtomically_oneInsufficient_rollsBackAll() {
+        // when & then
+        assertThatThrownBy(() -> productDomainService.reduceStocksAtomically(
+                Map.of(product1.getId(), 3, product2.getId(), 2)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("재고 부족");
+
+        assertThat(productRepository.getByIdOrThrow(product1.getId()).getStockQuantity()).isEqualTo(10);
+        assertThat(productRepository.getByIdOrThrow(product2.getId()).getStockQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품이면 IllegalArgumentException")
+    void reduceStocksAtomically_productNotFound() {
+        assertThatThrownBy(() -> productDomainService.reduceStocksAtomically(Map.of(Long.MAX_VALUE, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("50명이 락 없이 동시에 재고 10개 상품을 1개씩 구매하면 10명만 성공한다")
+    void reduceStocksAtomically_concurrent_noOversell() throws InterruptedException {
+        // given
+        int threadCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    productDomainService.reduceStocksAtomically(Map.of(product1.getId(), 1));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        doneLatch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(failCount.get()).isEqualTo(40);
+        assertThat(productRepository.getByIdOrThrow(product1.getId()).getStockQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE로 재고를 복구한다")
+    void restoreStockAtomically() {
+        // given
+        productDomainService.reduceStocksAtomically(Map.of(product1.getId(), 4));
+
+        // when
+        productDomainService.restoreStockAtomically(product1.getId(), 4);
+
+        // then
+        assertThat(productRepository.getByIdOrThrow(product1.getId()).getStockQuantity()).isEqualTo(10);
+    }
+}
@@ -6,6 +6,7 @@ import com.ecommerce.domain.entity.UserCoupon;
 import com.ecommerce.domain.entity.UserCouponStatus;
 import com.ecommerce.domain.repository.UserCouponRepository;
 import com.ecommerce.domain.service.CouponDomainService;
+import com.ecommerce.domain.service.CouponIssueExecutor;
 import com.ecommerce.infrastructure.lock.DistributedLockExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -38,6 +39,9 @@ class CouponServiceTest {
     @Mock
     private CouponDomainService couponDomainService;
 
+    @Mock
+    private CouponIssueExecutor couponIssueExecutor;
+
     @InjectMocks
     private CouponService couponService;
 
@@ -61,7 +65,7 @@ class CouponServiceTest {
 
         CouponIssueRequest request = new CouponIssueRequest(1L, 1L);
 
-        when(couponDomainService.issueCoupon(1L, 1L)).thenReturn(userCoupon);
+        when(couponIssueExecutor.issue(1L, 1L)).thenReturn(userCoupon);
 
         // when
         UserCouponResponse response = couponService.issueCoupon(request);
@@ -70,8 +74,7 @@ class CouponServiceTest {
         assertThat(response.userId()).isEqualTo(1L);
         assertThat(response.couponId()).isEqualTo(1L);
         assertThat(response.status()).isEqualTo(UserCouponStatus.AVAILABLE);
-        verify(couponDomainService).issueCoupon(1L, 1L);
-        verify(lockExecutor).executeWithLock(anyString(), any(Supplier.class));
+        verify(couponIssueExecutor).issue(1L, 1L);
     }
 
     @Test
@@ -80,15 +83,13 @@ class CouponServiceTest {
         // given
         CouponIssueRequest request = new CouponIssueRequest(1L, 999L);
 
-        when(couponDomainService.issueCoupon(1L, 999L))
+        when(couponIssueExecutor.issue(1L, 999L))
                 .thenThrow(new IllegalArgumentException("쿠폰을 찾을 수 없습니다"));
 
         // when & then
         assertThatThrownBy(() -> couponService.issueCoupon(request))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("쿠폰을 찾을 수 없습니다");
-
-        verify(lockExecutor).executeWithLock(anyString(), any(Supplier.class));
     }
 
     @Test
@@ -16,6 +16,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -26,6 +27,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
@@ -389,9 +391,11 @@ class MultiResourceConcurrencyIntegrationTest {
         // then: 모두 실패
         assertThat(failCount.get()).isEqualTo(5);
 
-        // 재고는 모두 복구되어야 함
-        Product afterProduct = productRepository.findById(testProduct.getId()).orElseThrow();
-        assertThat(afterProduct.getStockQuantity()).isEqualTo(initialStock);
+        // 재고는 모두 복구되어야 함 (보상은 비동기)
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            Product afterProduct = productRepository.findById(testProduct.getId()).orElseThrow();
+            assertThat(afterProduct.getStockQuantity()).isEqualTo(initialStock);
+        });
     }
 
     @Test
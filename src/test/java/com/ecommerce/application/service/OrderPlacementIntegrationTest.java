@@ -0,0 +1,92 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.Order;
+import com.ecommerce.domain.entity.OrderItem;
+import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.repository.OrderItemRepository;
+import com.ecommerce.domain.repository.OrderPaymentRepository;
+import com.ecommerce.domain.repository.OrderRepository;
+import com.ecommerce.domain.service.OrderDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 주문 애그리거트 단일 트랜잭션 저장 통합 테스트
+ * 주문/주문 아이템/결제 정보가 한 번에 저장되고, 실패 시 함께 롤백되는지 검증합니다.
+ */
+@DisplayName("주문 단일 트랜잭션 저장 통합 테스트")
+class OrderPlacementIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderDomainService orderDomainService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private OrderPaymentRepository orderPaymentRepository;
+
+    private Long userId;
+    private Product keyboard;
+    private Product mouse;
+
+    @BeforeEach
+    void setUp() {
+        userId = System.nanoTime();
+        keyboard = new Product(1L, "키보드", "무선 키보드", 50000, 10, "전자");
+        mouse = new Product(2L, "마우스", "무선 마우스", 20000, 10, "전자");
+    }
+
+    @Test
+    @DisplayName("주문, 아이템, 결제 정보가 저장되고 주문 번호는 생성 시점에 확정된다")
+    void placeOrder_savesWholeAggregate() {
+        // given
+        List<OrderItem> items = List.of(new OrderItem(keyboard, 2), new OrderItem(mouse, 1));
+
+        // when
+        OrderDomainService.PlacedOrder placed = orderDomainService.placeOrder(userId, items, 0, 10000, null);
+
+        // then
+        Order order = orderRepository.getByIdOrThrow(placed.order().getId());
+        assertThat(order.getOrderNumber()).startsWith("ORD-").doesNotContain("TEMP");
+        assertThat(orderItemRepository.findByOrderId(order.getId()))
+                .extracting(OrderItem::getProductId, OrderItem::getQuantity, OrderItem::getItemTotalAmount)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, 2, 100000),
+                        tuple(2L, 1, 20000));
+        assertThat(orderPaymentRepository.getByOrderIdOrThrow(order.getId()).getFinalAmount()).isEqualTo(110000);
+    }
+
+    @Test
+    @DisplayName("결제 정보 저장에 실패하면 주문과 아이템도 롤백된다")
+    void placeOrder_paymentInvalid_rollsBackAll() {
+        // given - 사용 포인트가 주문 금액 초과
+        List<OrderItem> items = List.of(new OrderItem(keyboard, 1));
+
+        // when & then
+        assertThatThrownBy(() -> orderDomainService.placeOrder(userId, items, 0, 60000, null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(orderRepository.findByUserId(userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문 아이템이 없으면 저장하지 않는다")
+    void placeOrder_noItems() {
+        assertThatThrownBy(() -> orderDomainService.placeOrder(userId, List.of(), 0, 0, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 아이템은 필수입니다");
+    }
+}
@@ -4,6 +4,7 @@ import com.ecommerce.application.dto.OrderHistoryResponse;
 import com.ecommerce.config.TestcontainersConfig;
 import com.ecommerce.domain.entity.*;
 import com.ecommerce.domain.repository.*;
+import com.ecommerce.domain.service.OrderIdGenerator;
 import org.hibernate.SessionFactory;
 import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
@@ -47,6 +48,9 @@ class OrderServiceNPlusOneTest {
     @Autowired
     private OrderItemRepository orderItemRepository;
 
+    @Autowired
+    private OrderIdGenerator orderIdGenerator;
+
     @Autowired
     private EntityManagerFactory entityManagerFactory;
 
@@ -183,7 +187,7 @@ class OrderServiceNPlusOneTest {
      */
     private void createOrders(Long userId, int count) {
         for (int i = 0; i < count; i++) {
-            Order order = new Order(userId);
+            Order order = new Order(orderIdGenerator.nextId(), userId);
             orderRepository.save(order);
 
             // 각 주문에 2개의 아이템 추가
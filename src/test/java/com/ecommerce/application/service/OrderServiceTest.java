@@ -4,8 +4,6 @@ import com.ecommerce.application.dto.*;
 import com.ecommerce.domain.entity.*;
 import com.ecommerce.domain.repository.*;
 import com.ecommerce.domain.service.*;
-import com.ecommerce.infrastructure.lock.DistributedLockExecutor;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,12 +14,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.function.Supplier;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,41 +37,24 @@ class OrderServiceTest {
     private OrderPaymentRepository orderPaymentRepository;
     @Mock
     private UserCouponRepository userCouponRepository;
-    @Mock
-    private DistributedLockExecutor lockExecutor;
 
     // Domain Services
     @Mock
     private OrderDomainService orderDomainService;
     @Mock
-    private ProductDomainService productDomainService;
+    private StockDeductor stockDeductor;
+    @Mock
+    private StockReservationStore stockReservationStore;
     @Mock
-    private PointDomainService pointDomainService;
+    private PaymentProcessor paymentProcessor;
     @Mock
-    private CouponDomainService couponDomainService;
+    private PaymentSagaOrchestrator paymentSagaOrchestrator;
     @Mock
     private PaymentDomainService paymentDomainService;
 
     @InjectMocks
     private OrderService orderService;
 
-    @BeforeEach
-    void setUp() {
-        // lockExecutor가 supplier를 실행하도록 설정
-        lenient().when(lockExecutor.executeWithLock(anyString(), any(Supplier.class)))
-                .thenAnswer(invocation -> {
-                    Supplier<?> supplier = invocation.getArgument(1);
-                    return supplier.get();
-                });
-
-        // Runnable 버전도 설정
-        lenient().doAnswer(invocation -> {
-            Runnable runnable = invocation.getArgument(1);
-            runnable.run();
-            return null;
-        }).when(lockExecutor).executeWithLock(anyString(), any(Runnable.class));
-    }
-
     @Test
     @DisplayName("주문을 생성한다 - 쿠폰/포인트 없음")
     void createOrder_WithoutCouponAndPoint() {
@@ -83,33 +65,79 @@ class OrderServiceTest {
         OrderRequest.OrderItemRequest itemReq = new OrderRequest.OrderItemRequest(1L, 2);
         OrderRequest request = new OrderRequest(1L, Arrays.asList(itemReq), null, null);
 
-        Order order = new Order(1L);
-        order.setId(1L);
-        order.assignOrderNumber();
-
-        OrderItem orderItem = new OrderItem(product, 2);
-        orderItem.setOrderId(1L);
+        Order order = new Order(1L, 1L);
 
         when(userRepository.getByIdOrThrow(1L)).thenReturn(user);
-        when(orderDomainService.createOrder(1L)).thenReturn(order);
-        when(productDomainService.reduceStock(1L, 2)).thenReturn(product);
-        when(orderDomainService.createOrderItem(1L, product, 2)).thenReturn(orderItem);
-        when(orderPaymentRepository.save(any(OrderPayment.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(stockDeductor.deduct(Map.of(1L, 2))).thenReturn(List.of(product));
+        when(orderDomainService.placeOrder(eq(1L), anyList(), eq(0), eq(0), isNull()))
+                .thenAnswer(inv -> {
+                    List<OrderItem> items = inv.getArgument(1);
+                    OrderPayment payment = new OrderPayment(1L, items.get(0).getItemTotalAmount(), 0, 0, null);
+                    return new OrderDomainService.PlacedOrder(order, items, payment);
+                });
 
         // when
         OrderResponse response = orderService.createOrder(request);
 
         // then
         assertThat(response.orderId()).isEqualTo(1L);
+        assertThat(response.orderNumber()).isEqualTo("ORD-0000000000000000001");
         assertThat(response.totalAmount()).isEqualTo(100000);
         assertThat(response.discountAmount()).isEqualTo(0);
         assertThat(response.usedPoint()).isEqualTo(0);
         assertThat(response.finalAmount()).isEqualTo(100000);
 
-        verify(orderDomainService).createOrder(1L);
-        verify(productDomainService).reduceStock(1L, 2);
-        verify(orderDomainService).createOrderItem(1L, product, 2);
-        verify(lockExecutor).executeWithLock(anyString(), any(Supplier.class));
+        verify(stockDeductor).deduct(Map.of(1L, 2));
+        verify(orderDomainService).placeOrder(eq(1L), anyList(), eq(0), eq(0), isNull());
+        verify(stockReservationStore).reserve(1L);
+    }
+
+    @Test
+    @DisplayName("주문 저장에 실패하면 차감한 재고를 복구한다")
+    void createOrder_PlaceOrderFails_RestoresStock() {
+        // given
+        User user = new User(1L, "테스트", "test@test.com", 10000);
+        Product product = new Product(1L, "키보드", "무선", 50000, 10, "전자");
+        OrderRequest request = new OrderRequest(1L, List.of(new OrderRequest.OrderItemRequest(1L, 2)), null, null);
+
+        when(userRepository.getByIdOrThrow(1L)).thenReturn(user);
+        when(stockDeductor.deduct(Map.of(1L, 2))).thenReturn(List.of(product));
+        when(orderDomainService.placeOrder(eq(1L), anyList(), eq(0), eq(0), isNull()))
+                .thenThrow(new IllegalStateException("DB 오류"));
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrder(request))
+                .isInstanceOf(IllegalStateException.class);
+        verify(stockDeductor).restore(1L, 2);
+        verify(stockReservationStore, never()).reserve(any());
+    }
+
+    @Test
+    @DisplayName("재고 예약 등록에 실패하면 주문을 만료시키고 재고를 복구한 뒤 실패한다")
+    void createOrder_ReserveFails_ExpiresAndRestoresStock() {
+        // given
+        User user = new User(1L, "테스트", "test@test.com", 10000);
+        Product product = new Product(1L, "키보드", "무선", 50000, 10, "전자");
+        OrderRequest request = new OrderRequest(1L, List.of(new OrderRequest.OrderItemRequest(1L, 2)), null, null);
+        Order order = new Order(1L, 1L);
+        OrderItem item = new OrderItem(product, 2);
+        item.setOrderId(1L);
+
+        when(userRepository.getByIdOrThrow(1L)).thenReturn(user);
+        when(stockDeductor.deduct(Map.of(1L, 2))).thenReturn(List.of(product));
+        when(orderDomainService.placeOrder(eq(1L), anyList(), eq(0), eq(0), isNull()))
+                .thenAnswer(inv -> new OrderDomainService.PlacedOrder(
+                        order, inv.getArgument(1), new OrderPayment(1L, 100000, 0, 0, null)));
+        doThrow(new IllegalStateException("Redis 연결 실패")).when(stockReservationStore).reserve(1L);
+        when(paymentDomainService.expirePayment(1L)).thenReturn(true);
+        when(orderItemRepository.findByOrderIdIn(List.of(1L))).thenReturn(List.of(item));
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrder(request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Redis 연결 실패");
+        verify(paymentDomainService).expirePayment(1L);
+        verify(stockDeductor).restore(1L, 2);
     }
 
     @Test
@@ -124,8 +152,7 @@ class OrderServiceTest {
         orderItem.setOrderId(1L);
         items.add(orderItem);
 
-        Order order = new Order(user.getId());
-        order.setId(1L);
+        Order order = new Order(1L, user.getId());
 
         when(orderRepository.findByUserId(1L)).thenReturn(Arrays.asList(order));
         when(orderItemRepository.findByOrderIdIn(Arrays.asList(1L))).thenReturn(items);
@@ -153,20 +180,18 @@ class OrderServiceTest {
         orderItem.setOrderId(1L);
         items.add(orderItem);
 
-        Order order = new Order(user.getId());
-        order.setId(1L);
+        Order order = new Order(1L, user.getId());
 
         OrderPayment payment = new OrderPayment(1L, 100000, 0, 5000, null);
 
         PaymentRequest request = new PaymentRequest(null, 5000);
 
+        when(paymentDomainService.startProcessing(1L)).thenReturn(true);
         when(orderRepository.getByIdOrThrow(1L)).thenReturn(order);
         when(orderPaymentRepository.getByOrderIdOrThrow(1L)).thenReturn(payment);
-        when(pointDomainService.deductPoint(eq(1L), eq(5000), anyString(), eq(1L)))
-                .thenReturn(5000);
-
-        // Mock payment complete
-        when(paymentDomainService.completePayment(1L)).thenAnswer(inv -> {
+        PaymentSaga saga = new PaymentSaga(1L, user.getId(), 5000, null);
+        when(paymentSagaOrchestrator.begin(order, payment, 5000)).thenReturn(saga);
+        when(paymentProcessor.process(saga)).thenAnswer(inv -> {
             payment.complete();
             return payment;
         });
@@ -179,8 +204,158 @@ class OrderServiceTest {
         assertThat(response.usedPoint()).isEqualTo(5000);
         assertThat(response.paymentStatus()).isEqualTo("COMPLETED");
 
-        verify(pointDomainService, times(1)).deductPoint(eq(1L), eq(5000), anyString(), eq(1L));
-        verify(paymentDomainService, times(1)).completePayment(1L);
-        verify(lockExecutor).executeWithLock(anyString(), any(Supplier.class));
+        verify(paymentProcessor, times(1)).process(saga);
+        verify(paymentSagaOrchestrator, never()).requestCompensation(any(), any());
+        verify(paymentDomainService).startProcessing(1L);
+    }
+
+    @Test
+    @DisplayName("결제 단계가 실패하면 보상을 요청만 하고 요청 스레드에서 복구하지 않는다")
+    void processPayment_ProcessorFails_RequestsCompensation() {
+        // given
+        Order order = new Order(1L, 1L);
+        OrderPayment payment = new OrderPayment(1L, 100000, 0, 5000, null);
+        PaymentSaga saga = new PaymentSaga(1L, 1L, 5000, null);
+        IllegalStateException failure = new IllegalStateException("포인트 부족");
+
+        when(paymentDomainService.startProcessing(1L)).thenReturn(true);
+        when(orderRepository.getByIdOrThrow(1L)).thenReturn(order);
+        when(orderPaymentRepository.getByOrderIdOrThrow(1L)).thenReturn(payment);
+        when(paymentSagaOrchestrator.begin(order, payment, 5000)).thenReturn(saga);
+        when(paymentProcessor.process(saga)).thenThrow(failure);
+
+        // when & then
+        assertThatThrownBy(() -> orderService.processPayment(1L, new PaymentRequest(null, 5000)))
+                .isSameAs(failure);
+
+        verify(paymentSagaOrchestrator).requestCompensation(saga, failure);
+        verify(stockDeductor, never()).restore(any(), anyInt());
+        verify(paymentDomainService, never()).failPayment(any());
+    }
+
+    @Test
+    @DisplayName("이미 완료된 결제는 사가를 시작하지 않고 거절한다")
+    void processPayment_AlreadyCompleted_Rejected() {
+        // given
+        OrderPayment payment = new OrderPayment(1L, 100000, 0, 0, null);
+        payment.complete();
+
+        when(paymentDomainService.startProcessing(1L)).thenReturn(false);
+        when(orderPaymentRepository.getByOrderIdOrThrow(1L)).thenReturn(payment);
+
+        // when & then
+        assertThatThrownBy(() -> orderService.processPayment(1L, new PaymentRequest(null, 0)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이미 완료된 결제");
+
+        verify(paymentSagaOrchestrator, never()).begin(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("결제 기한 만료로 FAILED된 주문은 보상 없이 결제를 거절한다")
+    void processPayment_ExpiredOrder_Rejected() {
+        // given
+        OrderPayment payment = new OrderPayment(1L, 100000, 0, 0, null);
+        payment.fail();
+
+        when(paymentDomainService.startProcessing(1L)).thenReturn(false);
+        when(orderPaymentRepository.getByOrderIdOrThrow(1L)).thenReturn(payment);
+
+        // when & then
+        assertThatThrownBy(() -> orderService.processPayment(1L, new PaymentRequest(null, 0)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("만료");
+
+        verify(paymentProcessor, never()).process(any());
+        verify(stockDeductor, never()).restore(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 결제 진행권을 가진 주문은 바로 거절한다")
+    void processPayment_AlreadyProcessing_Rejected() {
+        // given
+        OrderPayment payment = new OrderPayment(1L, 100000, 0, 0, null);
+        when(paymentDomainService.startProcessing(1L)).thenReturn(false);
+        when(orderPaymentRepository.getByOrderIdOrThrow(1L)).thenReturn(payment);
+
+        // when & then
+        assertThatThrownBy(() -> orderService.processPayment(1L, new PaymentRequest(null, 0)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("진행 중");
+
+        verify(stockReservationStore, never()).confirm(any());
+        verify(paymentSagaOrchestrator, never()).begin(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("결제 기한이 지난 주문들의 재고를 상품별로 합산해 반환한다")
+    void releaseExpiredReservations_RestoresAggregatedStock() {
+        // given
+        Product product = new Product(1L, "키보드", "무선", 50000, 10, "전자");
+        OrderItem item1 = new OrderItem(product, 2);
+        item1.setOrderId(1L);
+        OrderItem item2 = new OrderItem(product, 3);
+        item2.setOrderId(2L);
+
+        when(paymentDomainService.expirePayment(1L)).thenReturn(true);
+        when(paymentDomainService.expirePayment(2L)).thenReturn(true);
+        when(paymentDomainService.expirePayment(3L)).thenReturn(false); // 이미 결제 완료
+        when(orderItemRepository.findByOrderIdIn(List.of(1L, 2L))).thenReturn(List.of(item1, item2));
+
+        // when
+        int released = orderService.releaseExpiredReservations(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(released).isEqualTo(2);
+        verify(stockDeductor, times(1)).restore(1L, 5);
+    }
+
+    @Test
+    @DisplayName("만료 처리에 실패한 주문은 다시 만료 대상으로 등록한다")
+    void releaseExpiredReservations_Failure_Requeues() {
+        // given
+        when(paymentDomainService.expirePayment(1L)).thenThrow(new IllegalStateException("DB 연결 실패"));
+
+        // when
+        int released = orderService.releaseExpiredReservations(List.of(1L));
+
+        // then
+        assertThat(released).isZero();
+        verify(stockReservationStore).requeue(1L);
+        verify(stockDeductor, never()).restore(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("멈춘 결제를 PENDING으로 되돌리고 재고 예약을 다시 등록한다")
+    void releaseStuckPayments_ReservesAgain() {
+        // given
+        when(paymentDomainService.resetStuckProcessing(any())).thenReturn(List.of(1L, 2L));
+
+        // when
+        int reset = orderService.releaseStuckPayments();
+
+        // then
+        assertThat(reset).isEqualTo(2);
+        verify(stockReservationStore).reserve(1L);
+        verify(stockReservationStore).reserve(2L);
+    }
+
+    @Test
+    @DisplayName("되돌린 결제의 재고 예약 재등록에 실패하면 주문을 만료시키고 재고를 복구한다")
+    void releaseStuckPayments_ReserveFails_Expires() {
+        // given
+        OrderItem item = new OrderItem(new Product(1L, "키보드", "무선", 50000, 10, "전자"), 3);
+        item.setOrderId(1L);
+        when(paymentDomainService.resetStuckProcessing(any())).thenReturn(List.of(1L));
+        doThrow(new IllegalStateException("Redis 연결 실패")).when(stockReservationStore).reserve(1L);
+        when(paymentDomainService.expirePayment(1L)).thenReturn(true);
+        when(orderItemRepository.findByOrderIdIn(List.of(1L))).thenReturn(List.of(item));
+
+        // when
+        int reset = orderService.releaseStuckPayments();
+
+        // then
+        assertThat(reset).isEqualTo(1);
+        verify(stockDeductor).restore(1L, 3);
     }
 }
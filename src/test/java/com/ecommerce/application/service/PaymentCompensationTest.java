@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -24,6 +25,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doThrow;
 
@@ -93,9 +95,11 @@ class PaymentCompensationTest extends IntegrationTestSupport {
                     orderService.processPayment(orderResponse.orderId(), new PaymentRequest(null, usePoint))
             ).isInstanceOf(RuntimeException.class);
 
-            // 포인트가 복구되었는지 확인
-            User reloadedUser = userRepository.getByIdOrThrow(testUser.getId());
-            assertThat(reloadedUser.getPointBalance()).isEqualTo(initialPoint);
+            // 포인트가 복구되었는지 확인 (보상은 비동기)
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+                User reloadedUser = userRepository.getByIdOrThrow(testUser.getId());
+                assertThat(reloadedUser.getPointBalance()).isEqualTo(initialPoint);
+            });
         }
 
         @Test
@@ -127,9 +131,11 @@ class PaymentCompensationTest extends IntegrationTestSupport {
                     orderService.processPayment(orderResponse.orderId(), new PaymentRequest(null, 0))
             ).isInstanceOf(RuntimeException.class);
 
-            // 쿠폰이 복구되었는지 확인
-            UserCoupon reloadedCoupon = userCouponRepository.getByIdOrThrow(userCoupon.getId());
-            assertThat(reloadedCoupon.getStatus()).isEqualTo(UserCouponStatus.AVAILABLE);
+            // 쿠폰이 복구되었는지 확인 (보상은 비동기)
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+                UserCoupon reloadedCoupon = userCouponRepository.getByIdOrThrow(userCoupon.getId());
+                assertThat(reloadedCoupon.getStatus()).isEqualTo(UserCouponStatus.AVAILABLE);
+            });
         }
 
         @Test
@@ -159,9 +165,11 @@ class PaymentCompensationTest extends IntegrationTestSupport {
                     orderService.processPayment(orderResponse.orderId(), new PaymentRequest(null, 0))
             ).isInstanceOf(RuntimeException.class);
 
-            // 재고가 복구되었는지 확인
-            Product reloadedProduct = productRepository.getByIdOrThrow(testProduct.getId());
-            assertThat(reloadedProduct.getStockQuantity()).isEqualTo(initialStock);
+            // 재고가 복구되었는지 확인 (보상은 비동기)
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+                Product reloadedProduct = productRepository.getByIdOrThrow(testProduct.getId());
+                assertThat(reloadedProduct.getStockQuantity()).isEqualTo(initialStock);
+            });
         }
 
         @Test
@@ -184,9 +192,11 @@ class PaymentCompensationTest extends IntegrationTestSupport {
                     orderService.processPayment(orderResponse.orderId(), new PaymentRequest(null, 0))
             ).isInstanceOf(RuntimeException.class);
 
-            // 결제 상태 확인
-            OrderPayment payment = orderPaymentRepository.getByOrderIdOrThrow(orderResponse.orderId());
-            assertThat(payment.getPaymentStatus()).isEqualTo(PaymentStatus.FAILED);
+            // 결제 상태 확인 (보상은 비동기)
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+                OrderPayment payment = orderPaymentRepository.getByOrderIdOrThrow(orderResponse.orderId());
+                assertThat(payment.getPaymentStatus()).isEqualTo(PaymentStatus.FAILED);
+            });
         }
     }
 
@@ -0,0 +1,142 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.application.dto.OrderRequest;
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.PaymentSaga;
+import com.ecommerce.domain.entity.PaymentStatus;
+import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.entity.User;
+import com.ecommerce.domain.repository.OrderPaymentRepository;
+import com.ecommerce.domain.repository.PaymentSagaRepository;
+import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.domain.repository.UserRepository;
+import com.ecommerce.domain.service.PaymentDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 진입 게이트 통합 테스트
+ * PENDING → PROCESSING 조건부 UPDATE가 분산 락 없이 주문당 한 요청만 통과시키는지,
+ * 멈춘 PROCESSING 결제가 정리되는지 검증합니다.
+ */
+@DisplayName("결제 진입 게이트 통합 테스트")
+class PaymentProcessingGateIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PaymentDomainService paymentDomainService;
+
+    @Autowired
+    private OrderPaymentRepository orderPaymentRepository;
+
+    @Autowired
+    private PaymentSagaRepository paymentSagaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private User user;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        user = userRepository.save(new User(null, "게이트테스트", "gate_" + suffix + "@test.com", 100_000));
+        product = productRepository.save(new Product(null, "게이트상품_" + suffix, "설명", 10_000, 100, "전자"));
+    }
+
+    @Test
+    @DisplayName("같은 주문에 동시에 진입하면 한 요청만 PROCESSING 전환에 성공한다")
+    void startProcessing_concurrent_onlyOneWins() throws InterruptedException {
+        // given
+        Long orderId = createOrder();
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        AtomicInteger winners = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    if (paymentDomainService.startProcessing(orderId)) {
+                        winners.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(winners.get()).isEqualTo(1);
+        assertThat(orderPaymentRepository.getByOrderIdOrThrow(orderId).getPaymentStatus())
+                .isEqualTo(PaymentStatus.PROCESSING);
+    }
+
+    @Test
+    @DisplayName("PROCESSING 결제는 기한 만료 처리되지 않는다")
+    void expirePayment_processing_skipped() {
+        // given
+        Long orderId = createOrder();
+        paymentDomainService.startProcessing(orderId);
+
+        // when
+        boolean expired = paymentDomainService.expirePayment(orderId);
+
+        // then
+        assertThat(expired).isFalse();
+        assertThat(orderPaymentRepository.getByOrderIdOrThrow(orderId).getPaymentStatus())
+                .isEqualTo(PaymentStatus.PROCESSING);
+    }
+
+    @Test
+    @DisplayName("사가 없이 멈춘 PROCESSING 결제만 PENDING으로 되돌린다")
+    void resetStuckProcessing_onlyWithoutSaga() {
+        // given
+        Long stuckOrderId = createOrder();
+        Long sagaOrderId = createOrder();
+        paymentDomainService.startProcessing(stuckOrderId);
+        paymentDomainService.startProcessing(sagaOrderId);
+        paymentSagaRepository.save(new PaymentSaga(sagaOrderId, user.getId(), 0, null));
+
+        // when: 기준 시각을 미래로 주어 두 결제 모두 멈춘 것으로 간주
+        List<Long> reset = paymentDomainService.resetStuckProcessing(LocalDateTime.now().plusMinutes(1));
+
+        // then
+        assertThat(reset).contains(stuckOrderId).doesNotContain(sagaOrderId);
+        assertThat(orderPaymentRepository.getByOrderIdOrThrow(stuckOrderId).getPaymentStatus())
+                .isEqualTo(PaymentStatus.PENDING);
+        assertThat(orderPaymentRepository.getByOrderIdOrThrow(sagaOrderId).getPaymentStatus())
+                .isEqualTo(PaymentStatus.PROCESSING);
+    }
+
+    private Long createOrder() {
+        return orderService.createOrder(new OrderRequest(
+                user.getId(), List.of(new OrderRequest.OrderItemRequest(product.getId(), 1)), null, 0)).orderId();
+    }
+}
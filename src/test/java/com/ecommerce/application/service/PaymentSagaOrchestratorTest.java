@@ -0,0 +1,252 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.domain.entity.Order;
+import com.ecommerce.domain.entity.OrderItem;
+import com.ecommerce.domain.entity.OrderPayment;
+import com.ecommerce.domain.entity.PaymentSaga;
+import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.repository.OrderItemRepository;
+import com.ecommerce.domain.repository.PaymentSagaRepository;
+import com.ecommerce.domain.service.StockDeductor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentSagaOrchestrator 테스트")
+class PaymentSagaOrchestratorTest {
+
+    private static final Long SAGA_ID = 10L;
+    private static final Long ORDER_ID = 1L;
+    private static final String OWNER = "worker-1";
+
+    @Mock
+    private PaymentSagaRepository paymentSagaRepository;
+    @Mock
+    private OrderItemRepository orderItemRepository;
+    @Mock
+    private PaymentSagaSteps paymentSagaSteps;
+    @Mock
+    private StockDeductor stockDeductor;
+
+    private PaymentSagaOrchestrator orchestrator;
+
+    @BeforeEach
+    void setUp() {
+        // 보상 워커 대신 호출 스레드에서 바로 실행
+        orchestrator = new PaymentSagaOrchestrator(
+                paymentSagaRepository, orderItemRepository, paymentSagaSteps, stockDeductor, Runnable::run);
+
+        lenient().when(orderItemRepository.findByOrderId(ORDER_ID)).thenReturn(List.of(item(101L, 1L, 2), item(102L, 2L, 1)));
+        lenient().when(paymentSagaSteps.renewCompensationLease(eq(SAGA_ID), anyString(), any())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("이미 사가가 있는 주문은 다시 시작할 수 없다")
+    void begin_existingSaga_rejected() {
+        // given
+        when(paymentSagaRepository.findByOrderId(ORDER_ID)).thenReturn(Optional.of(compensatingSaga()));
+
+        // when & then
+        assertThatThrownBy(() -> orchestrator.begin(new Order(ORDER_ID, 1L), new OrderPayment(ORDER_ID, 10000, 0, 0, null), 0))
+                .isInstanceOf(IllegalStateException.class);
+        verify(paymentSagaRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("보상 요청 시 COMPENSATING으로 전환하고 워커에서 남은 보상을 모두 실행한다")
+    void requestCompensation_runsAllSteps() {
+        // given
+        PaymentSaga saga = inProgressSaga();
+        saga.markPointDeducted();
+        saga.markCouponUsed();
+        saga.startCompensation("포인트 부족", LocalDateTime.now(), OWNER);
+
+        when(paymentSagaSteps.startCompensation(eq(SAGA_ID), anyString(), any(), anyString())).thenReturn(true);
+        when(paymentSagaRepository.getByIdOrThrow(SAGA_ID)).thenReturn(saga);
+
+        // when
+        orchestrator.requestCompensation(saga, new IllegalStateException("포인트 부족"));
+
+        // then
+        InOrder inOrder = inOrder(paymentSagaSteps, stockDeductor);
+        inOrder.verify(paymentSagaSteps).refundPoint(SAGA_ID);
+        inOrder.verify(paymentSagaSteps).restoreCoupon(SAGA_ID);
+        inOrder.verify(stockDeductor).restore(1L, 2);
+        inOrder.verify(paymentSagaSteps).markItemRestored(SAGA_ID);
+        inOrder.verify(stockDeductor).restore(2L, 1);
+        inOrder.verify(paymentSagaSteps).markItemRestored(SAGA_ID);
+        inOrder.verify(paymentSagaSteps).finishCompensation(SAGA_ID);
+    }
+
+    @Test
+    @DisplayName("이미 보상 중이거나 완료된 사가면 워커에 넘기지 않는다")
+    void requestCompensation_notInProgress_skipsDispatch() {
+        // given
+        when(paymentSagaSteps.startCompensation(eq(SAGA_ID), any(), any(), any())).thenReturn(false);
+
+        // when
+        orchestrator.requestCompensation(inProgressSaga(), new RuntimeException("오류"));
+
+        // then
+        verify(paymentSagaRepository, never()).getByIdOrThrow(anyLong());
+        verify(paymentSagaSteps, never()).finishCompensation(anyLong());
+    }
+
+    @Test
+    @DisplayName("차감 기록이 없어도 월렛이 트랜잭션 밖에서 차감하면 환불을 시도한다")
+    void compensate_unrecordedDeduction_attemptsRefund() {
+        // given: 핫 월렛 차감 후 단계 트랜잭션 커밋이 실패한 사가
+        PaymentSaga saga = inProgressSaga();
+        saga.startCompensation("커밋 실패", LocalDateTime.now(), OWNER);
+        when(paymentSagaRepository.getByIdOrThrow(SAGA_ID)).thenReturn(saga);
+        when(paymentSagaSteps.needsUnrecordedPointRefund(saga)).thenReturn(true);
+
+        // when
+        orchestrator.compensate(SAGA_ID, OWNER);
+
+        // then
+        verify(paymentSagaSteps).refundPoint(SAGA_ID);
+        verify(paymentSagaSteps).finishCompensation(SAGA_ID);
+    }
+
+    @Test
+    @DisplayName("재시도 시에는 기록된 보상 단계를 건너뛴다")
+    void compensate_resumesFromRecordedProgress() {
+        // given: 포인트 환불과 첫 번째 아이템 재고 복구까지 끝난 사가
+        PaymentSaga saga = inProgressSaga();
+        saga.markPointDeducted();
+        saga.startCompensation("오류", LocalDateTime.now(), OWNER);
+        saga.markPointRefunded();
+        saga.markItemRestored();
+        when(paymentSagaRepository.getByIdOrThrow(SAGA_ID)).thenReturn(saga);
+
+        // when
+        orchestrator.compensate(SAGA_ID, OWNER);
+
+        // then
+        verify(paymentSagaSteps, never()).refundPoint(anyLong());
+        verify(paymentSagaSteps, never()).restoreCoupon(anyLong());
+        verify(stockDeductor, never()).restore(1L, 2);
+        verify(stockDeductor).restore(2L, 1);
+        verify(paymentSagaSteps).finishCompensation(SAGA_ID);
+    }
+
+    @Test
+    @DisplayName("보상 단계가 실패하면 백오프 후 재시도하도록 기록한다")
+    void compensate_failure_recordsRetry() {
+        // given
+        PaymentSaga saga = compensatingSaga();
+        when(paymentSagaRepository.getByIdOrThrow(SAGA_ID)).thenReturn(saga);
+        doThrow(new RuntimeException("Redis 연결 실패")).when(stockDeductor).restore(1L, 2);
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        orchestrator.compensate(SAGA_ID, OWNER);
+
+        // then
+        verify(paymentSagaSteps, never()).finishCompensation(anyLong());
+        verify(paymentSagaSteps).recordCompensationFailure(eq(SAGA_ID), eq("Redis 연결 실패"),
+                argThat(next -> !next.isBefore(before.plusSeconds(2))),
+                eq(PaymentSagaOrchestrator.MAX_COMPENSATION_RETRY));
+    }
+
+    @Test
+    @DisplayName("재고 복구 전 선점을 잃었으면 복구하지 않고 멈춘다")
+    void compensate_leaseLost_stopsBeforeRestore() {
+        // given: 첫 아이템 복구 후 다른 워커가 선점
+        PaymentSaga saga = compensatingSaga();
+        when(paymentSagaRepository.getByIdOrThrow(SAGA_ID)).thenReturn(saga);
+        when(paymentSagaSteps.renewCompensationLease(eq(SAGA_ID), eq(OWNER), any())).thenReturn(true, false);
+
+        // when
+        orchestrator.compensate(SAGA_ID, OWNER);
+
+        // then
+        verify(stockDeductor).restore(1L, 2);
+        verify(stockDeductor, never()).restore(2L, 1);
+        verify(paymentSagaSteps, times(1)).markItemRestored(SAGA_ID);
+        verify(paymentSagaSteps, never()).finishCompensation(anyLong());
+        verify(paymentSagaSteps, never()).recordCompensationFailure(anyLong(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("보상 중이 아닌 사가는 실행하지 않는다")
+    void compensate_notCompensating_skips() {
+        // given
+        when(paymentSagaRepository.getByIdOrThrow(SAGA_ID)).thenReturn(inProgressSaga());
+
+        // when
+        orchestrator.compensate(SAGA_ID, OWNER);
+
+        // then
+        verifyNoInteractions(stockDeductor);
+        verify(paymentSagaSteps, never()).finishCompensation(anyLong());
+    }
+
+    @Test
+    @DisplayName("중단된 사가를 보상으로 전환하고 재시도 시각이 된 사가를 선점해 실행한다")
+    void recover_startsStaleAndDispatchesDue() {
+        // given
+        PaymentSaga stale = inProgressSaga();
+        PaymentSaga due = compensatingSaga();
+        when(paymentSagaRepository.findStaleInProgress(any(), anyInt())).thenReturn(List.of(stale));
+        when(paymentSagaRepository.findCompensationDue(any(), anyInt())).thenReturn(List.of(due));
+        when(paymentSagaSteps.claimCompensation(eq(SAGA_ID), any(), any(), anyString())).thenReturn(true);
+        when(paymentSagaRepository.getByIdOrThrow(SAGA_ID)).thenReturn(due);
+
+        // when
+        int dispatched = orchestrator.recover();
+
+        // then
+        assertThat(dispatched).isEqualTo(1);
+        verify(paymentSagaSteps).startCompensation(eq(SAGA_ID), anyString(), any(), isNull());
+        verify(paymentSagaSteps).finishCompensation(SAGA_ID);
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 지수적으로 늘어나고 상한을 넘지 않는다")
+    void backoff_growsExponentiallyWithCap() {
+        assertThat(PaymentSagaOrchestrator.backoff(0)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(PaymentSagaOrchestrator.backoff(3)).isEqualTo(Duration.ofSeconds(16));
+        assertThat(PaymentSagaOrchestrator.backoff(30)).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    private PaymentSaga inProgressSaga() {
+        PaymentSaga saga = new PaymentSaga(ORDER_ID, 1L, 5000, 7L);
+        saga.setId(SAGA_ID);
+        return saga;
+    }
+
+    private PaymentSaga compensatingSaga() {
+        PaymentSaga saga = inProgressSaga();
+        saga.startCompensation("오류", LocalDateTime.now(), OWNER);
+        return saga;
+    }
+
+    private OrderItem item(Long id, Long productId, int quantity) {
+        OrderItem item = new OrderItem(new Product(productId, "상품" + productId, "설명", 10000, 10, "전자"), quantity);
+        item.setId(id);
+        item.setOrderId(ORDER_ID);
+        return item;
+    }
+}
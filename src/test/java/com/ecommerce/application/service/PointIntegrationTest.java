@@ -1,9 +1,11 @@
 package com.ecommerce.application.service;
 
 import com.ecommerce.application.dto.PointChargeRequest;
+import com.ecommerce.application.dto.PointHistoryPageResponse;
 import com.ecommerce.application.dto.PointHistoryResponse;
 import com.ecommerce.application.dto.PointResponse;
 import com.ecommerce.config.TestcontainersConfig;
+import com.ecommerce.domain.entity.PointHistory;
 import com.ecommerce.domain.entity.TransactionType;
 import com.ecommerce.domain.entity.User;
 import com.ecommerce.domain.repository.PointHistoryRepository;
@@ -16,7 +18,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -194,4 +198,33 @@ class PointIntegrationTest {
         assertThat(history.get(1).transactionType()).isEqualTo(TransactionType.USE);
         assertThat(history.get(1).amount()).isEqualTo(10000);
     }
+
+    @Test
+    @DisplayName("커서 페이지를 끝까지 따라가면 모든 이력을 최신순으로 중복 없이 한 번씩 조회한다")
+    void getPointHistoryPage_traverseAllPages() {
+        // given: 같은 시각에 몰린 이력도 id로 구분되어야 함
+        User savedUser = userRepository.save(new User(null, "테스트", "test@test.com", 0));
+        pointHistoryRepository.saveAll(IntStream.rangeClosed(1, 25)
+                .mapToObj(i -> new PointHistory(savedUser.getId(), TransactionType.CHARGE, i, i, "충전 " + i))
+                .toList());
+
+        // when
+        List<PointHistoryResponse> collected = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            PointHistoryPageResponse page = pointService.getPointHistoryPage(savedUser.getId(), cursor, 10);
+            collected.addAll(page.histories());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // then
+        assertThat(pages).isEqualTo(3);
+        assertThat(collected).hasSize(25);
+        assertThat(collected).extracting(PointHistoryResponse::id).doesNotHaveDuplicates();
+        assertThat(collected).isSortedAccordingTo((a, b) -> a.createdAt().equals(b.createdAt())
+                ? Long.compare(b.id(), a.id())
+                : b.createdAt().compareTo(a.createdAt()));
+    }
 }
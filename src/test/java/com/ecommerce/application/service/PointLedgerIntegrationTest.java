@@ -0,0 +1,191 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.application.dto.PointChargeRequest;
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.PointHistory;
+import com.ecommerce.domain.entity.PointLedgerStatus;
+import com.ecommerce.domain.entity.User;
+import com.ecommerce.domain.repository.PointBalanceSnapshotRepository;
+import com.ecommerce.domain.repository.PointHistoryRepository;
+import com.ecommerce.domain.repository.UserRepository;
+import com.ecommerce.domain.service.PointLedgerDomainService;
+import com.ecommerce.domain.service.PointWallet;
+import com.ecommerce.infrastructure.persistence.point.LedgerPointWallet;
+import com.ecommerce.infrastructure.persistence.point.PointLedgerCompactor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 포인트 원장 모드 통합 테스트 (ecommerce.point.mode=ledger)
+ * 추가 전용 원장과 스냅샷으로 계산한 잔액, 차감 직렬화, 스냅샷 생성을 검증합니다.
+ */
+@TestPropertySource(properties = "ecommerce.point.mode=ledger")
+@DisplayName("포인트 원장 모드 통합 테스트")
+class PointLedgerIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointWallet pointWallet;
+
+    @Autowired
+    private PointLedgerDomainService pointLedgerDomainService;
+
+    @Autowired
+    private PointLedgerCompactor pointLedgerCompactor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    private PointBalanceSnapshotRepository pointBalanceSnapshotRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "원장", "ledger_" + System.nanoTime() + "@test.com", 10_000));
+    }
+
+    @Test
+    @DisplayName("원장 모드에서는 원장 구현체가 선택된다")
+    void ledgerWalletSelected() {
+        assertThat(pointWallet).isInstanceOf(LedgerPointWallet.class);
+    }
+
+    @Test
+    @DisplayName("충전/차감은 원장 추가만 하고 users 행은 바꾸지 않으며, 잔액은 기준 잔액 + 원장 합계다")
+    void chargeAndDeduct_appendOnly() {
+        // given
+        Long versionBefore = userRepository.getByIdOrThrow(user.getId()).getVersion();
+
+        // when
+        pointService.chargePoint(new PointChargeRequest(user.getId(), 5_000));
+        pointService.deductPoint(user.getId(), 3_000, "주문 결제", 1L);
+
+        // then
+        assertThat(pointService.getPoint(user.getId()).balance()).isEqualTo(12_000);
+        User reloaded = userRepository.getByIdOrThrow(user.getId());
+        assertThat(reloaded.getPointBalance()).isEqualTo(10_000);
+        assertThat(reloaded.getVersion()).isEqualTo(versionBefore);
+        assertThat(pointHistoryRepository.findByUserId(user.getId()))
+                .extracting(PointHistory::getLedgerStatus)
+                .containsOnly(PointLedgerStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 원장에 아무것도 추가하지 않는다")
+    void deduct_insufficient_nothingAppended() {
+        // when & then
+        assertThatThrownBy(() -> pointService.deductPoint(user.getId(), 10_001, "주문 결제", null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("포인트 부족");
+
+        assertThat(pointHistoryRepository.findByUserId(user.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스냅샷을 만들어도 잔액은 그대로이고, 이후 원장 항목은 새 스냅샷 위에 쌓인다")
+    void createSnapshot_keepsBalance() {
+        // given
+        pointService.chargePoint(new PointChargeRequest(user.getId(), 5_000));
+        pointService.deductPoint(user.getId(), 2_000, "주문 결제", 1L);
+
+        // when
+        int compacted = pointLedgerDomainService.createSnapshot(user.getId());
+        pointService.deductPoint(user.getId(), 1_000, "주문 결제", 2L);
+        pointLedgerDomainService.createSnapshot(user.getId());
+
+        // then
+        assertThat(compacted).isEqualTo(2);
+        assertThat(pointService.getPoint(user.getId()).balance()).isEqualTo(12_000);
+        assertThat(pointBalanceSnapshotRepository.findLatestByUserId(user.getId()))
+                .hasValueSatisfying(snapshot -> {
+                    assertThat(snapshot.getSnapshotSeq()).isEqualTo(2L);
+                    assertThat(snapshot.getBalance()).isEqualTo(12_000);
+                });
+        assertThat(pointHistoryRepository.findByUserId(user.getId()))
+                .extracting(PointHistory::getLedgerStatus)
+                .containsOnly(PointLedgerStatus.SNAPSHOTTED);
+    }
+
+    @Test
+    @DisplayName("스냅샷 생성기는 미합산 항목이 기준 이상인 사용자만 처리한다")
+    void compactor_onlyUsersOverThreshold() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            pointService.chargePoint(new PointChargeRequest(user.getId(), 100));
+        }
+
+        // when
+        pointLedgerCompactor.compact(4);
+        int belowThreshold = pointBalanceSnapshotRepository.findLatestByUserId(user.getId()).isPresent() ? 1 : 0;
+        pointLedgerCompactor.compact(3);
+
+        // then
+        assertThat(belowThreshold).isZero();
+        assertThat(pointBalanceSnapshotRepository.findLatestByUserId(user.getId()))
+                .hasValueSatisfying(snapshot -> assertThat(snapshot.getBalance()).isEqualTo(10_300));
+    }
+
+    @Test
+    @DisplayName("동시 충전과 차감이 섞여도 차감은 잔액을 넘지 않고 충전은 모두 반영된다")
+    void concurrentChargeAndDeduct_neverOverdraws() throws InterruptedException {
+        // given: 10,000원에서 1,000원 차감 20번 + 100원 충전 10번
+        int deductCount = 20;
+        int chargeCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(deductCount + chargeCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(deductCount + chargeCount);
+        AtomicInteger deducted = new AtomicInteger();
+        AtomicInteger charged = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < deductCount + chargeCount; i++) {
+            boolean deduct = i < deductCount;
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    if (deduct) {
+                        pointService.deductPoint(user.getId(), 1_000, "주문 결제", null);
+                        deducted.incrementAndGet();
+                    } else {
+                        pointService.chargePoint(new PointChargeRequest(user.getId(), 100));
+                        charged.incrementAndGet();
+                    }
+                } catch (IllegalStateException ignored) {
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        int balance = pointService.getPoint(user.getId()).balance();
+        assertThat(charged.get()).isEqualTo(chargeCount);
+        assertThat(deducted.get()).isBetween(10, 11);
+        assertThat(balance).isEqualTo(10_000 + charged.get() * 100 - deducted.get() * 1_000);
+        assertThat(balance).isNotNegative();
+    }
+}
@@ -1,15 +1,16 @@
 package com.ecommerce.application.service;
 
 import com.ecommerce.application.dto.PointChargeRequest;
+import com.ecommerce.application.dto.PointHistoryCursor;
+import com.ecommerce.application.dto.PointHistoryPageResponse;
 import com.ecommerce.application.dto.PointHistoryResponse;
 import com.ecommerce.application.dto.PointResponse;
-import com.ecommerce.domain.entity.PointHistory;
 import com.ecommerce.domain.entity.TransactionType;
-import com.ecommerce.domain.entity.User;
 import com.ecommerce.domain.repository.PointHistoryRepository;
-import com.ecommerce.domain.repository.UserRepository;
-import com.ecommerce.domain.service.PointDomainService;
-import com.ecommerce.infrastructure.lock.DistributedLockExecutor;
+import com.ecommerce.domain.repository.PointHistorySummary;
+import com.ecommerce.domain.service.PointUpdateExecutor;
+import com.ecommerce.domain.service.PointWallet;
+import com.ecommerce.domain.vo.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,46 +19,48 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Arrays;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("PointService 테스트")
 class PointServiceTest {
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private PointHistoryRepository pointHistoryRepository;
 
     @Mock
-    private DistributedLockExecutor lockExecutor;
+    private PointUpdateExecutor pointUpdateExecutor;
 
     @Mock
-    private PointDomainService pointDomainService;
+    private PointWallet pointWallet;
 
     @InjectMocks
     private PointService pointService;
 
-    private User user;
-
     @BeforeEach
     void setUp() {
-        user = new User(1L, "테스트", "test@test.com", 0);
-
-        // lockExecutor가 supplier를 실행하도록 설정
-        lenient().when(lockExecutor.executeWithLock(anyString(), any(Supplier.class)))
+        // pointUpdateExecutor가 supplier를 실행하도록 설정
+        lenient().when(pointUpdateExecutor.execute(anyLong(), any(Supplier.class)))
                 .thenAnswer(invocation -> {
                     Supplier<?> supplier = invocation.getArgument(1);
                     return supplier.get();
                 });
+        lenient().when(pointUpdateExecutor.executeAsync(anyLong(), any(Supplier.class)))
+                .thenAnswer(invocation -> {
+                    Supplier<?> supplier = invocation.getArgument(1);
+                    return CompletableFuture.completedFuture(supplier.get());
+                });
     }
 
     @Test
@@ -65,7 +68,7 @@ class PointServiceTest {
     void chargePoint() {
         // given
         PointChargeRequest request = new PointChargeRequest(1L, 10000);
-        when(pointDomainService.chargePoint(1L, 10000)).thenReturn(10000);
+        when(pointWallet.charge(1L, 10000)).thenReturn(10000);
 
         // when
         PointResponse response = pointService.chargePoint(request);
@@ -73,8 +76,24 @@ class PointServiceTest {
         // then
         assertThat(response.userId()).isEqualTo(1L);
         assertThat(response.balance()).isEqualTo(10000);
-        verify(pointDomainService).chargePoint(1L, 10000);
-        verify(lockExecutor).executeWithLock(anyString(), any(Supplier.class));
+        verify(pointWallet).charge(1L, 10000);
+        verify(pointUpdateExecutor).execute(eq(1L), any(Supplier.class));
+    }
+
+    @Test
+    @DisplayName("비동기 충전은 동시성 제어 전략의 비동기 경로로 실행한다")
+    void chargePointAsync() {
+        // given
+        PointChargeRequest request = new PointChargeRequest(1L, 10000);
+        when(pointWallet.charge(1L, 10000)).thenReturn(10000);
+
+        // when
+        PointResponse response = pointService.chargePointAsync(request).join();
+
+        // then
+        assertThat(response.balance()).isEqualTo(10000);
+        verify(pointUpdateExecutor).executeAsync(eq(1L), any(Supplier.class));
+        verify(pointUpdateExecutor, never()).execute(anyLong(), any(Supplier.class));
     }
 
     @Test
@@ -82,7 +101,7 @@ class PointServiceTest {
     void chargePoint_UserNotFound() {
         // given
         PointChargeRequest request = new PointChargeRequest(999L, 10000);
-        when(pointDomainService.chargePoint(999L, 10000))
+        when(pointWallet.charge(999L, 10000))
                 .thenThrow(new IllegalArgumentException("사용자를 찾을 수 없습니다: 999"));
 
         // when & then
@@ -90,15 +109,14 @@ class PointServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("사용자를 찾을 수 없습니다");
 
-        verify(lockExecutor).executeWithLock(anyString(), any(Supplier.class));
+        verify(pointUpdateExecutor).execute(eq(999L), any(Supplier.class));
     }
 
     @Test
     @DisplayName("포인트 잔액을 조회한다")
     void getPoint() {
         // given
-        user.charge(5000);
-        when(userRepository.getByIdOrThrow(1L)).thenReturn(user);
+        when(pointWallet.getBalance(1L)).thenReturn(5000);
 
         // when
         PointResponse response = pointService.getPoint(1L);
@@ -112,7 +130,7 @@ class PointServiceTest {
     @DisplayName("존재하지 않는 사용자의 포인트는 조회할 수 없다")
     void getPoint_UserNotFound() {
         // given
-        when(userRepository.getByIdOrThrow(999L)).thenThrow(new IllegalArgumentException("사용자를 찾을 수 없습니다: 999"));
+        when(pointWallet.getBalance(999L)).thenThrow(new IllegalArgumentException("사용자를 찾을 수 없습니다: 999"));
 
         // when & then
         assertThatThrownBy(() -> pointService.getPoint(999L))
@@ -122,15 +140,14 @@ class PointServiceTest {
     }
 
     @Test
-    @DisplayName("포인트 이력을 조회한다")
+    @DisplayName("포인트 이력을 최근 건부터 제한 개수만큼 읽어 오래된 순으로 반환한다")
     void getPointHistory() {
-        // given
-        PointHistory history1 = new PointHistory(1L, TransactionType.CHARGE, 10000, 10000, "충전");
-        history1.setId(1L);
-        PointHistory history2 = new PointHistory(1L, TransactionType.USE, 5000, 5000, "사용");
-        history2.setId(2L);
-
-        when(pointHistoryRepository.findByUserId(1L)).thenReturn(Arrays.asList(history1, history2));
+        // given: 저장소는 최신순으로 반환
+        when(pointHistoryRepository.findLatestByUserId(1L, PointService.MAX_HISTORY_SIZE))
+                .thenReturn(List.of(
+                        summary(2L, TransactionType.USE, 5000, 5000, LocalDateTime.of(2024, 1, 1, 12, 0)),
+                        summary(1L, TransactionType.CHARGE, 10000, 10000, LocalDateTime.of(2024, 1, 1, 11, 0))
+                ));
 
         // when
         List<PointHistoryResponse> histories = pointService.getPointHistory(1L);
@@ -141,5 +158,76 @@ class PointServiceTest {
         assertThat(histories.get(0).amount()).isEqualTo(10000);
         assertThat(histories.get(1).transactionType()).isEqualTo(TransactionType.USE);
         assertThat(histories.get(1).amount()).isEqualTo(5000);
+        verify(pointHistoryRepository, never()).findByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 한 건 더 읽어 다음 페이지가 있으면 마지막 이력으로 커서를 만든다")
+    void getPointHistoryPage_firstPage() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        when(pointHistoryRepository.findLatestByUserId(1L, 3)).thenReturn(summaries(base, 10, 3));
+
+        // when
+        PointHistoryPageResponse page = pointService.getPointHistoryPage(1L, null, 2);
+
+        // then
+        assertThat(page.histories()).extracting(PointHistoryResponse::id).containsExactly(10L, 9L);
+        assertThat(page.hasNext()).isTrue();
+        PointHistoryCursor cursor = PointHistoryCursor.decode(page.nextCursor());
+        assertThat(cursor.id()).isEqualTo(9L);
+        assertThat(cursor.createdAt()).isEqualTo(base.minusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 커서보다 오래된 이력을 조회하고, 마지막 페이지에는 커서가 없다")
+    void getPointHistoryPage_nextPage() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 11, 59);
+        String cursor = new PointHistoryCursor(createdAt, 9L).encode();
+        when(pointHistoryRepository.findByUserIdBefore(1L, createdAt, 9L, 3))
+                .thenReturn(summaries(createdAt.minusMinutes(1), 8, 1));
+
+        // when
+        PointHistoryPageResponse page = pointService.getPointHistoryPage(1L, cursor, 2);
+
+        // then
+        assertThat(page.histories()).extracting(PointHistoryResponse::id).containsExactly(8L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 최대값으로 제한된다")
+    void getPointHistoryPage_sizeCapped() {
+        // given
+        when(pointHistoryRepository.findLatestByUserId(anyLong(), anyInt())).thenReturn(List.of());
+
+        // when
+        PointHistoryPageResponse page = pointService.getPointHistoryPage(1L, null, 10_000);
+
+        // then
+        assertThat(page.histories()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+        verify(pointHistoryRepository).findLatestByUserId(1L, PointService.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 거부한다")
+    void getPointHistoryPage_invalidCursor() {
+        assertThatThrownBy(() -> pointService.getPointHistoryPage(1L, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서");
+    }
+
+    private List<PointHistorySummary> summaries(LocalDateTime newest, long newestId, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> summary(newestId - i, TransactionType.CHARGE, 1000, 1000, newest.minusMinutes(i)))
+                .toList();
+    }
+
+    private PointHistorySummary summary(Long id, TransactionType type, int amount, int balanceAfter,
+                                        LocalDateTime createdAt) {
+        return new PointHistorySummary(id, type, Money.of(amount), Money.of(balanceAfter), "이력", createdAt);
     }
 }
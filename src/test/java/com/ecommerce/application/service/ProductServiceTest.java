@@ -3,8 +3,10 @@ package com.ecommerce.application.service;
 import com.ecommerce.application.dto.ProductListResponse;
 import com.ecommerce.application.dto.ProductResponse;
 import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.entity.ProductStockStatus;
 import com.ecommerce.domain.repository.PopularProductRepository;
 import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.domain.service.ProductDomainService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -32,6 +35,9 @@ class ProductServiceTest {
     @Mock
     private PopularProductRepository popularProductRepository;
 
+    @Mock
+    private ProductDomainService productDomainService;
+
     @InjectMocks
     private ProductService productService;
 
@@ -42,6 +48,7 @@ class ProductServiceTest {
         Product product1 = new Product(1L, "키보드", "무선 키보드", 89000, 10, "전자제품");
         Product product2 = new Product(2L, "마우스", "무선 마우스", 45000, 20, "전자제품");
         when(productRepository.findAll()).thenReturn(Arrays.asList(product1, product2));
+        when(productDomainService.getAvailableStocks(List.of(product1, product2))).thenReturn(Map.of(1L, 10, 2L, 20));
 
         // when
         List<ProductListResponse> products = productService.getProducts();
@@ -58,6 +65,7 @@ class ProductServiceTest {
         // given
         Product product = new Product(1L, "키보드", "무선 키보드", 89000, 10, "전자제품");
         when(productRepository.getByIdOrThrow(1L)).thenReturn(product);
+        when(productDomainService.getAvailableStocks(List.of(product))).thenReturn(Map.of(1L, 10));
 
         // when
         ProductResponse response = productService.getProduct(1L);
@@ -69,6 +77,21 @@ class ProductServiceTest {
         assertThat(response.stockQuantity()).isEqualTo(10);
     }
 
+    @Test
+    @DisplayName("버킷으로 분할된 인기 상품은 버킷 재고를 합산하여 응답한다")
+    void getProducts_shardedStock_aggregated() {
+        // given - 상품 행 재고는 0, 버킷에 15개
+        Product hotProduct = new Product(1L, "키보드", "무선 키보드", 89000, 0, "전자제품");
+        when(productRepository.findAll()).thenReturn(List.of(hotProduct));
+        when(productDomainService.getAvailableStocks(List.of(hotProduct))).thenReturn(Map.of(1L, 15));
+
+        // when
+        List<ProductListResponse> products = productService.getProducts();
+
+        // then
+        assertThat(products.get(0).stockStatus()).isEqualTo(ProductStockStatus.AVAILABLE);
+    }
+
     @Test
     @DisplayName("존재하지 않는 상품은 조회할 수 없다")
     void getProduct_NotFound() {
@@ -95,6 +118,8 @@ class ProductServiceTest {
         when(productRepository.getByIdOrThrow(1L)).thenReturn(product1);
         when(productRepository.getByIdOrThrow(2L)).thenReturn(product2);
         when(productRepository.getByIdOrThrow(3L)).thenReturn(product3);
+        when(productDomainService.getAvailableStocks(List.of(product1, product2, product3)))
+                .thenReturn(Map.of(1L, 10, 2L, 20, 3L, 5));
 
         // when
         List<ProductResponse> topProducts = productService.getTopProductsLast3Days();
@@ -0,0 +1,184 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.application.dto.PointChargeRequest;
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.PointHistory;
+import com.ecommerce.domain.entity.TransactionType;
+import com.ecommerce.domain.entity.User;
+import com.ecommerce.domain.repository.PointHistoryRepository;
+import com.ecommerce.domain.repository.UserRepository;
+import com.ecommerce.domain.service.PointWallet;
+import com.ecommerce.infrastructure.redis.PointLedgerWriter;
+import com.ecommerce.infrastructure.redis.PointWalletRedisRepository;
+import com.ecommerce.infrastructure.redis.RedisPointWallet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 포인트 핫 월렛 통합 테스트 (ecommerce.point.mode=redis)
+ * Redis 잔액의 원자적 차감과 원장 스트림의 DB Write-Behind 반영을 검증합니다.
+ */
+@TestPropertySource(properties = "ecommerce.point.mode=redis")
+@DisplayName("포인트 핫 월렛 통합 테스트")
+class RedisPointWalletIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointWallet pointWallet;
+
+    @Autowired
+    private PointWalletRedisRepository pointWalletRedisRepository;
+
+    @Autowired
+    private PointLedgerWriter pointLedgerWriter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        pointWalletRedisRepository.clearAll();
+        user = userRepository.save(new User(null, "핫월렛", "wallet_" + System.nanoTime() + "@test.com", 10_000));
+    }
+
+    @Test
+    @DisplayName("핫 월렛 모드에서는 Redis 월렛 구현체가 선택된다")
+    void redisWalletSelected() {
+        assertThat(pointWallet).isInstanceOf(RedisPointWallet.class);
+    }
+
+    @Test
+    @DisplayName("잔액 조회는 DB 잔액으로 월렛을 적재한 뒤 월렛에서 읽는다")
+    void getPoint_loadsWalletFromDb() {
+        // when
+        int balance = pointService.getPoint(user.getId()).balance();
+
+        // then
+        assertThat(balance).isEqualTo(10_000);
+        assertThat(pointWalletRedisRepository.getBalance(user.getId())).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("동시에 차감해도 잔액을 넘는 차감은 없고, 반영 후 DB 잔액과 이력이 월렛과 일치한다")
+    void deduct_concurrently_neverOverdraws() throws InterruptedException {
+        // given: 10,000원으로 1,000원씩 20번 차감 시도
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger insufficientCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    pointService.deductPoint(user.getId(), 1_000, "핫월렛 차감", null);
+                    successCount.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    insufficientCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(insufficientCount.get()).isEqualTo(10);
+        assertThat(pointService.getPoint(user.getId()).balance()).isZero();
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(userRepository.getByIdOrThrow(user.getId()).getPointBalance()).isZero();
+            assertThat(pointHistoryRepository.findByUserId(user.getId())).hasSize(10);
+            assertThat(pointWalletRedisRepository.getPendingDeltas()).doesNotContainKey(user.getId());
+        });
+    }
+
+    @Test
+    @DisplayName("원장 반영 후 이력은 변경 순서의 잔액을 그대로 기록한다")
+    void ledger_writesHistoriesWithBalanceAfter() {
+        // given
+        pointService.chargePoint(new PointChargeRequest(user.getId(), 5_000));
+        pointService.deductPoint(user.getId(), 3_000, "주문 결제", 77L);
+
+        // when
+        pointLedgerWriter.flush();
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            List<PointHistory> histories = pointHistoryRepository.findByUserId(user.getId());
+            assertThat(histories).extracting(PointHistory::getTransactionType)
+                    .containsExactlyInAnyOrder(TransactionType.CHARGE, TransactionType.USE);
+            assertThat(histories).extracting(PointHistory::getBalanceAfter)
+                    .containsExactlyInAnyOrder(15_000, 12_000);
+            assertThat(userRepository.getByIdOrThrow(user.getId()).getPointBalance()).isEqualTo(12_000);
+        });
+    }
+
+    @Test
+    @DisplayName("같은 주문의 차감과 환불은 재시도해도 한 번만 반영된다")
+    void orderDeductAndRefund_areIdempotent() {
+        // when
+        pointWallet.deduct(user.getId(), 4_000, "주문 결제", 100L);
+        pointWallet.deduct(user.getId(), 4_000, "주문 결제", 100L);
+        pointWallet.refund(user.getId(), 4_000, 100L);
+        pointWallet.refund(user.getId(), 4_000, 100L);
+
+        // then
+        assertThat(pointWallet.getBalance(user.getId())).isEqualTo(10_000);
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(pointHistoryRepository.findByUserId(user.getId())).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("차감한 적 없는 주문의 환불은 반영하지 않는다")
+    void refund_withoutDeduction_skipped() {
+        // when
+        pointWallet.refund(user.getId(), 4_000, 200L);
+
+        // then
+        assertThat(pointWallet.getBalance(user.getId())).isEqualTo(10_000);
+        assertThat(pointWalletRedisRepository.readLedger(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 아무것도 바뀌지 않는다")
+    void deduct_insufficient_nothingChanged() {
+        // when & then
+        assertThatThrownBy(() -> pointWallet.deduct(user.getId(), 10_001, "주문 결제", null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("포인트 부족");
+
+        assertThat(pointWallet.getBalance(user.getId())).isEqualTo(10_000);
+        assertThat(pointWalletRedisRepository.readLedger(10)).isEmpty();
+    }
+}
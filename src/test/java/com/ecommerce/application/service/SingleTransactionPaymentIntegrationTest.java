@@ -0,0 +1,137 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.application.dto.OrderRequest;
+import com.ecommerce.application.dto.OrderResponse;
+import com.ecommerce.application.dto.PaymentRequest;
+import com.ecommerce.application.dto.PaymentResponse;
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.*;
+import com.ecommerce.domain.repository.*;
+import com.ecommerce.domain.service.PaymentDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * 단일 트랜잭션 결제 통합 테스트 (ecommerce.payment.mode=single-transaction)
+ * 포인트/쿠폰/결제 변경이 한 번에 커밋되고, 실패 시 보상 없이 롤백되는지 검증합니다.
+ */
+@TestPropertySource(properties = "ecommerce.payment.mode=single-transaction")
+@DisplayName("단일 트랜잭션 결제 통합 테스트")
+class SingleTransactionPaymentIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PaymentProcessor paymentProcessor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private OrderPaymentRepository orderPaymentRepository;
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @SpyBean
+    private PaymentDomainService paymentDomainService;
+
+    private User testUser;
+    private Product testProduct;
+    private UserCoupon userCoupon;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        testUser = userRepository.save(new User(null, "단일트랜잭션", "single_tx_" + suffix + "@test.com", 100_000));
+        testProduct = productRepository.save(new Product(null, "단일트랜잭션상품_" + suffix, "설명", 10_000, 10, "전자"));
+
+        LocalDateTime now = LocalDateTime.now();
+        Coupon coupon = couponRepository.save(
+                new Coupon("할인쿠폰", DiscountType.FIXED_AMOUNT, 2000, 100, now.minusDays(1), now.plusDays(30), 30));
+        userCoupon = userCouponRepository.save(
+                new UserCoupon(testUser.getId(), coupon.getId(), now.plusDays(30)));
+    }
+
+    @Test
+    @DisplayName("single-transaction 모드면 단일 트랜잭션 구현체가 선택된다")
+    void paymentProcessor_isSingleTransaction() {
+        assertThat(paymentProcessor).isInstanceOf(SingleTransactionPaymentProcessor.class);
+    }
+
+    @Test
+    @DisplayName("포인트와 쿠폰을 사용한 결제가 한 트랜잭션으로 완료된다")
+    void processPayment_success() {
+        // given
+        OrderResponse order = createOrder(3_000);
+
+        // when
+        PaymentResponse response = orderService.processPayment(
+                order.orderId(), new PaymentRequest(userCoupon.getId(), 3_000));
+
+        // then
+        assertThat(response.paymentStatus()).isEqualTo("COMPLETED");
+        assertThat(userRepository.getByIdOrThrow(testUser.getId()).getPointBalance()).isEqualTo(97_000);
+        assertThat(userCouponRepository.getByIdOrThrow(userCoupon.getId()).getStatus()).isEqualTo(UserCouponStatus.USED);
+        assertThat(pointHistoryRepository.findByUserId(testUser.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("결제 완료 단계에서 실패하면 포인트/쿠폰이 롤백되고 재고 복구 후 FAILED 처리된다")
+    void processPayment_failure_rollsBackLocalSteps() {
+        // given
+        OrderResponse order = createOrder(3_000);
+        doThrow(new RuntimeException("결제 시스템 오류"))
+                .when(paymentDomainService).completePayment(anyLong());
+
+        // when & then
+        assertThatThrownBy(() -> orderService.processPayment(
+                order.orderId(), new PaymentRequest(userCoupon.getId(), 3_000)))
+                .isInstanceOf(RuntimeException.class);
+
+        // 롤백: 보상 충전 없이 잔액/히스토리가 그대로
+        assertThat(userRepository.getByIdOrThrow(testUser.getId()).getPointBalance()).isEqualTo(100_000);
+        assertThat(pointHistoryRepository.findByUserId(testUser.getId())).isEmpty();
+        assertThat(userCouponRepository.getByIdOrThrow(userCoupon.getId()).getStatus()).isEqualTo(UserCouponStatus.AVAILABLE);
+
+        // 재고/결제 상태는 사가 보상으로 비동기 처리
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(productRepository.getByIdOrThrow(testProduct.getId()).getStockQuantity()).isEqualTo(10);
+            assertThat(orderPaymentRepository.getByOrderIdOrThrow(order.orderId()).getPaymentStatus())
+                    .isEqualTo(PaymentStatus.FAILED);
+        });
+    }
+
+    private OrderResponse createOrder(int usePoint) {
+        return orderService.createOrder(new OrderRequest(
+                testUser.getId(),
+                List.of(new OrderRequest.OrderItemRequest(testProduct.getId(), 1)),
+                userCoupon.getId(),
+                usePoint
+        ));
+    }
+}
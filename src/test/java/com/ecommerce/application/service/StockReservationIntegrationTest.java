@@ -0,0 +1,107 @@
+package com.ecommerce.application.service;
+
+import com.ecommerce.application.dto.OrderRequest;
+import com.ecommerce.application.dto.OrderResponse;
+import com.ecommerce.application.dto.PaymentRequest;
+import com.ecommerce.application.scheduler.StockReservationExpiryScheduler;
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.PaymentStatus;
+import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.entity.User;
+import com.ecommerce.domain.repository.OrderPaymentRepository;
+import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.domain.repository.UserRepository;
+import com.ecommerce.domain.service.StockReservationStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 재고 예약 만료 통합 테스트
+ * 결제 기한이 지난 미결제 주문의 재고가 반환되고, 결제된 주문은 건드리지 않는지 검증합니다.
+ */
+@DisplayName("재고 예약 만료 통합 테스트")
+class StockReservationIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StockReservationStore stockReservationStore;
+
+    @Autowired
+    private StockReservationExpiryScheduler expiryScheduler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderPaymentRepository orderPaymentRepository;
+
+    private User user;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        user = userRepository.save(new User(null, "예약테스트", "reservation_" + suffix + "@test.com", 100_000));
+        product = productRepository.save(new Product(null, "한정판_" + suffix, "설명", 10_000, 10, "전자"));
+    }
+
+    @Test
+    @DisplayName("결제 기한이 지난 주문은 재고가 반환되고 결제할 수 없다")
+    void expiredReservation_releasesStock() {
+        // given
+        OrderResponse order = orderService.createOrder(orderOf(3));
+        assertThat(productRepository.getByIdOrThrow(product.getId()).getStockQuantity()).isEqualTo(7);
+
+        // when: 결제 기한 도달
+        stockReservationStore.requeue(order.orderId());
+        expiryScheduler.releaseExpiredReservations();
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(productRepository.getByIdOrThrow(product.getId()).getStockQuantity()).isEqualTo(10);
+            assertThat(orderPaymentRepository.getByOrderIdOrThrow(order.orderId()).getPaymentStatus())
+                    .isEqualTo(PaymentStatus.FAILED);
+        });
+
+        assertThatThrownBy(() -> orderService.processPayment(order.orderId(), new PaymentRequest(null, 0)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("만료");
+        assertThat(productRepository.getByIdOrThrow(product.getId()).getStockQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("결제가 확정된 주문은 만료 처리되지 않는다")
+    void confirmedReservation_isNotReleased() {
+        // given
+        OrderResponse order = orderService.createOrder(orderOf(3));
+        orderService.processPayment(order.orderId(), new PaymentRequest(null, 0));
+
+        // when: 확정 이후 만료 대상으로 다시 들어오더라도
+        stockReservationStore.requeue(order.orderId());
+        int released = orderService.releaseExpiredReservations(List.of(order.orderId()));
+
+        // then
+        assertThat(released).isZero();
+        assertThat(productRepository.getByIdOrThrow(product.getId()).getStockQuantity()).isEqualTo(7);
+        assertThat(orderPaymentRepository.getByOrderIdOrThrow(order.orderId()).getPaymentStatus())
+                .isEqualTo(PaymentStatus.COMPLETED);
+    }
+
+    private OrderRequest orderOf(int quantity) {
+        return new OrderRequest(user.getId(), List.of(new OrderRequest.OrderItemRequest(product.getId(), quantity)), null, 0);
+    }
+}
@@ -0,0 +1,153 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.Coupon;
+import com.ecommerce.domain.entity.DiscountType;
+import com.ecommerce.domain.repository.CouponRepository;
+import com.ecommerce.domain.repository.UserCouponRepository;
+import com.ecommerce.infrastructure.redis.CouponQueueProcessor;
+import com.ecommerce.infrastructure.redis.CouponRedisRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 대기열 DB 저장 Bulk INSERT 벤치마크
+ *
+ * 같은 대기열 3000건을 두 가지 ID 전략으로 저장해 비교합니다.
+ * - 전: IDENTITY 전략 엔티티(IdentityUserCoupon) → INSERT 후에야 ID를 알 수 있어 행마다 INSERT 1회
+ * - 후: CouponQueueProcessor.processQueue (pooled ID + hibernate.jdbc.batch_size=100, MySQL에서는 multi-row INSERT로 재작성)
+ *
+ * 전 조건도 파티션별 100건 읽기 → 발급 수 증가 → 저장 → 커밋 후 ack를 같은 단위로 수행합니다.
+ * (이미 발급된 사용자 조회는 생략 → 전 조건에 유리한 쪽으로 치우친 비교)
+ */
+class CouponQueueBulkInsertBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int TOTAL_ISSUES = 3000;
+    private static final int READ_COUNT = 100;
+    private static final String BASELINE_CONSUMER = "benchmark-identity";
+
+    @Autowired
+    private CouponQueueProcessor couponQueueProcessor;
+
+    @Autowired
+    private CouponRedisRepository couponRedisRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        userCouponRepository.deleteAll();
+        couponRepository.deleteAll();
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.createQuery("DELETE FROM IdentityUserCoupon").executeUpdate());
+        couponRedisRepository.clearQueue();
+    }
+
+    @Test
+    @DisplayName("[Bulk INSERT] 쿠폰 3000건 대기열 저장 - IDENTITY 단건 INSERT vs pooled ID 배치 INSERT")
+    void benchmark_queueDrain_identityVsPooledBatch() {
+        // 전: IDENTITY 전략, 행마다 INSERT
+        Coupon identityCoupon = enqueueIssues("IDENTITY 쿠폰");
+        double identityMs = measure(() -> drainWithIdentity(identityCoupon));
+        long identityCount = entityManager
+                .createQuery("SELECT COUNT(c) FROM IdentityUserCoupon c", Long.class)
+                .getSingleResult();
+
+        // 후: pooled ID + 배치 INSERT
+        enqueueIssues("pooled ID 쿠폰");
+        double batchedMs = measure(this::drainWithProcessor);
+        long batchedCount = userCouponRepository.findAll().size();
+
+        System.out.println("========================================");
+        System.out.println("[Bulk INSERT] 쿠폰 대기열 " + TOTAL_ISSUES + "건 저장");
+        System.out.println("========================================");
+        System.out.println("IDENTITY 단건 INSERT: " + String.format("%.2f", identityMs) + " ms ("
+                + String.format("%.0f", TOTAL_ISSUES / (identityMs / 1000)) + " rows/s)");
+        System.out.println("pooled ID 배치 INSERT: " + String.format("%.2f", batchedMs) + " ms ("
+                + String.format("%.0f", TOTAL_ISSUES / (batchedMs / 1000)) + " rows/s)");
+        System.out.println("개선율: " + String.format("%.1f", identityMs / batchedMs) + "x");
+        System.out.println("========================================");
+
+        assertThat(identityCount).isEqualTo(TOTAL_ISSUES);
+        assertThat(batchedCount).isEqualTo(TOTAL_ISSUES);
+    }
+
+    private double measure(Runnable drain) {
+        long start = System.nanoTime();
+        drain.run();
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+
+    private void drainWithProcessor() {
+        while (couponRedisRepository.getQueueSize() > 0) {
+            couponQueueProcessor.processQueue();
+        }
+    }
+
+    private void drainWithIdentity(Coupon coupon) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(coupon.getValidPeriodDays());
+        while (couponRedisRepository.getQueueSize() > 0) {
+            List<CouponRedisRepository.QueueItem> items = transactionTemplate.execute(status -> {
+                List<CouponRedisRepository.QueueItem> read = new ArrayList<>();
+                for (int partition = 0; partition < CouponRedisRepository.QUEUE_PARTITION_COUNT; partition++) {
+                    read.addAll(couponRedisRepository.readFromQueue(BASELINE_CONSUMER, List.of(partition), READ_COUNT, null));
+                }
+                if (!read.isEmpty()) {
+                    couponRepository.increaseIssueCount(coupon.getId(), read.size());
+                    read.forEach(item -> entityManager.persist(
+                            new IdentityUserCoupon(item.userId(), item.couponId(), expiresAt)));
+                }
+                return read;
+            });
+
+            items.stream()
+                    .collect(Collectors.groupingBy(CouponRedisRepository.QueueItem::partition,
+                            Collectors.mapping(CouponRedisRepository.QueueItem::id, Collectors.toList())))
+                    .forEach(couponRedisRepository::acknowledge);
+        }
+    }
+
+    private Coupon enqueueIssues(String name) {
+        Coupon coupon = createCoupon(name, TOTAL_ISSUES);
+        couponRedisRepository.initializeCoupon(coupon.getId());
+        for (long userId = 1; userId <= TOTAL_ISSUES; userId++) {
+            couponRedisRepository.tryIssue(userId, coupon.getId(), TOTAL_ISSUES, true);
+        }
+        return coupon;
+    }
+
+    private Coupon createCoupon(String name, int maxCount) {
+        LocalDateTime now = LocalDateTime.now();
+        Coupon coupon = new Coupon(
+                name,
+                DiscountType.PERCENTAGE,
+                10,
+                maxCount,
+                now.minusDays(1),
+                now.plusDays(30),
+                30
+        );
+        return couponRepository.save(coupon);
+    }
+}
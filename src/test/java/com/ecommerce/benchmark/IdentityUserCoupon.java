@@ -0,0 +1,59 @@
+package com.ecommerce.benchmark;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 벤치마크 전용 사용자 쿠폰 Entity (IDENTITY 전략)
+ *
+ * user_coupons와 같은 컬럼이지만 ID를 DB AUTO_INCREMENT로 받습니다.
+ * INSERT 후에야 ID를 알 수 있어 Hibernate가 JDBC 배치를 쓰지 못하므로 pooled ID 전환 전 기준선으로 사용합니다.
+ *
+ * 주의:
+ * - 테스트 스키마(create-drop)에만 생성되고 운영 DDL에는 없음 (운영 DDL 검증은 도메인 엔티티 패키지만 대상)
+ */
+@Entity
+@Table(
+    name = "benchmark_identity_user_coupons",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_benchmark_identity_user_coupon", columnNames = {"user_id", "coupon_id"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdentityUserCoupon {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "issued_at", nullable = false, updatable = false)
+    private LocalDateTime issuedAt;
+
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public IdentityUserCoupon(Long userId, Long couponId, LocalDateTime expiresAt) {
+        this.userId = userId;
+        this.couponId = couponId;
+        this.status = "AVAILABLE";
+        this.issuedAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+}
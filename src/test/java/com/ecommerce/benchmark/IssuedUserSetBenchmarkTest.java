@@ -0,0 +1,103 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.service.CouponIssueResult;
+import com.ecommerce.infrastructure.redis.CouponRedisRepository;
+import com.ecommerce.infrastructure.redis.issued.BitmapIssuedUserSet;
+import com.ecommerce.infrastructure.redis.issued.ChunkedBitmapIssuedUserSet;
+import com.ecommerce.infrastructure.redis.issued.RedisSetIssuedUserSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 발급 사용자 집합 저장 방식 벤치마크 테스트
+ *
+ * 같은 발급 Lua Script로 Set / 비트맵 / 구간 분할 비트맵의 메모리(MEMORY USAGE 합)와 발급 지연을 비교합니다.
+ * - 조밀한 ID: 1 ~ N (TABLE 전략으로 발급된 users.id)
+ * - 듬성듬성한 ID: 0 ~ 2^28 범위 무작위 (외부 ID, 샤딩된 시퀀스 등, 비트맵이 32MB까지 커지므로 2^32 대신 2^28)
+ */
+class IssuedUserSetBenchmarkTest extends IntegrationTestSupport {
+
+    private static final int USER_COUNT = 100_000;
+    private static final long COUPON_ID = 997L;
+    private static final long SPARSE_ID_RANGE = 1L << 28;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    @DisplayName("[발급 집합] 조밀한 ID 100,000명 - Set vs 비트맵 vs 구간 분할 비트맵")
+    void benchmark_denseUserIds() {
+        System.out.println("========================================");
+        System.out.println("[발급 집합] 조밀한 ID " + USER_COUNT + "명");
+        System.out.println("========================================");
+        run("set", new CouponRedisRepository(redisTemplate, new RedisSetIssuedUserSet(redisTemplate)), i -> i + 1);
+        run("bitmap", new CouponRedisRepository(redisTemplate, new BitmapIssuedUserSet(redisTemplate)), i -> i + 1);
+        run("chunked-bitmap", new CouponRedisRepository(redisTemplate, new ChunkedBitmapIssuedUserSet(redisTemplate)), i -> i + 1);
+    }
+
+    @Test
+    @DisplayName("[발급 집합] 듬성듬성한 ID 100,000명 - Set vs 비트맵 vs 구간 분할 비트맵")
+    void benchmark_sparseUserIds() {
+        long[] userIds = new Random(42).longs(0, SPARSE_ID_RANGE).distinct().limit(USER_COUNT).toArray();
+
+        System.out.println("========================================");
+        System.out.println("[발급 집합] 듬성듬성한 ID " + USER_COUNT + "명 (0 ~ 2^28)");
+        System.out.println("========================================");
+        run("set", new CouponRedisRepository(redisTemplate, new RedisSetIssuedUserSet(redisTemplate)), i -> userIds[(int) i]);
+        run("bitmap", new CouponRedisRepository(redisTemplate, new BitmapIssuedUserSet(redisTemplate)), i -> userIds[(int) i]);
+        run("chunked-bitmap", new CouponRedisRepository(redisTemplate, new ChunkedBitmapIssuedUserSet(redisTemplate)), i -> userIds[(int) i]);
+    }
+
+    private void run(String backend, CouponRedisRepository repository, LongUnaryOperator userIdOf) {
+        repository.initializeCoupon(COUPON_ID);
+        List<Long> latencies = new ArrayList<>(USER_COUNT);
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            long start = System.nanoTime();
+            CouponIssueResult result = repository.tryIssue(userIdOf.applyAsLong(i), COUPON_ID, USER_COUNT, false);
+            latencies.add(System.nanoTime() - start);
+            assertThat(result).isNotEqualTo(CouponIssueResult.SOLD_OUT);
+        }
+
+        long memoryBytes = memoryUsage("coupon:" + COUPON_ID + ":issued*");
+        List<Long> sorted = latencies.stream().sorted().toList();
+        double averageMicros = sorted.stream().mapToLong(Long::longValue).average().orElse(0) / 1_000.0;
+        double p99Micros = sorted.get((int) (sorted.size() * 0.99)) / 1_000.0;
+
+        System.out.println(backend);
+        System.out.println("  발급 수: " + repository.getIssuedCount(COUPON_ID));
+        System.out.println("  메모리: " + String.format("%.1f", memoryBytes / 1024.0) + " KB");
+        System.out.println("  평균 Latency: " + String.format("%.1f", averageMicros) + " us");
+        System.out.println("  P99 Latency: " + String.format("%.1f", p99Micros) + " us");
+
+        assertThat(repository.getIssuedCount(COUPON_ID)).isEqualTo(USER_COUNT);
+        repository.initializeCoupon(COUPON_ID);
+    }
+
+    private long memoryUsage(String pattern) {
+        long total = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(1000).build())) {
+            while (cursor.hasNext()) {
+                byte[] key = cursor.next().getBytes(StandardCharsets.UTF_8);
+                Long usage = redisTemplate.execute((RedisCallback<Long>) connection ->
+                        (Long) connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), key));
+                total += usage != null ? usage : 0;
+            }
+        }
+        return total;
+    }
+}
@@ -9,37 +9,50 @@ import static org.assertj.core.api.Assertions.*;
 class OrderTest {
 
     @Test
-    @DisplayName("사용자 ID로 주문을 생성한다")
-    void createOrder_WithUserId() {
+    @DisplayName("주문 ID와 사용자 ID로 주문을 생성한다")
+    void createOrder_WithIdAndUserId() {
         // when
-        Order order = new Order(1L);
+        Order order = new Order(123L, 1L);
 
         // then
+        assertThat(order.getId()).isEqualTo(123L);
         assertThat(order.getUserId()).isEqualTo(1L);
-        assertThat(order.getOrderNumber()).startsWith("ORD-TEMP-");
         assertThat(order.getCreatedAt()).isNotNull();
         assertThat(order.getUpdatedAt()).isNotNull();
+        assertThat(order.isNew()).isTrue();
     }
 
     @Test
-    @DisplayName("주문 번호가 ID 기반으로 할당된다")
-    void orderNumber_ShouldBeAssignedBasedOnId() {
-        // given
-        Order order = new Order(1L);
-        order.setId(123L);
-
+    @DisplayName("주문 번호는 생성 시점에 ID로부터 확정된다")
+    void orderNumber_ShouldBeDerivedFromId() {
         // when
-        order.assignOrderNumber();
+        Order order = new Order(123L, 1L);
 
         // then
-        assertThat(order.getOrderNumber()).isEqualTo("ORD-0000000123");
+        assertThat(order.getOrderNumber()).isEqualTo("ORD-0000000000000000123");
+    }
+
+    @Test
+    @DisplayName("주문 번호 문자열 순서는 ID 순서와 같다")
+    void orderNumber_ShouldSortLikeId() {
+        assertThat(Order.toOrderNumber(99L)).isLessThan(Order.toOrderNumber(100L));
+    }
+
+    @Test
+    @DisplayName("주문 ID가 없거나 0 이하이면 예외가 발생한다")
+    void createOrder_WithInvalidId_ThrowsException() {
+        assertThatThrownBy(() -> new Order(null, 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 ID는 양수여야 합니다");
+        assertThatThrownBy(() -> new Order(0L, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
     @DisplayName("타임스탬프를 업데이트한다")
     void updateTimestamp_ShouldUpdateUpdatedAt() throws InterruptedException {
         // given
-        Order order = new Order(1L);
+        Order order = new Order(1L, 1L);
 
         var originalUpdatedAt = order.getUpdatedAt();
         Thread.sleep(10); // 시간 차이를 만들기 위해
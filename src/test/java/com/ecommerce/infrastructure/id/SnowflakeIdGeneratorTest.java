@@ -0,0 +1,130 @@
+package com.ecommerce.infrastructure.id;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SnowflakeIdGenerator 테스트")
+class SnowflakeIdGeneratorTest {
+
+    @Mock
+    private WorkerIdLease workerIdLease;
+
+    private SnowflakeIdGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(workerIdLease.getWorkerId()).thenReturn(7);
+        generator = new SnowflakeIdGenerator(workerIdLease);
+    }
+
+    @Test
+    @DisplayName("ID에 생성 시각과 워커 ID가 담긴다")
+    void nextId_containsTimestampAndWorkerId() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        long id = generator.nextId();
+
+        // then
+        long after = System.currentTimeMillis();
+        assertThat(id).isPositive();
+        assertThat(SnowflakeIdGenerator.extractWorkerId(id)).isEqualTo(7);
+        assertThat(SnowflakeIdGenerator.extractTimestamp(id)).isBetween(before, after);
+    }
+
+    @Test
+    @DisplayName("연속으로 생성한 ID는 항상 증가한다")
+    void nextId_monotonic() {
+        // when
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        // then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 생성해도 ID가 중복되지 않는다")
+    void nextId_concurrent_unique() throws InterruptedException {
+        // given
+        int threadCount = 16;
+        int perThread = 5_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < perThread; j++) {
+                        ids.add(generator.nextId());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(ids).hasSize(threadCount * perThread);
+    }
+
+    @Test
+    @DisplayName("시계가 크게 뒤로 가면 ID 생성을 거부한다")
+    void nextId_clockMovedBackwards_throws() {
+        // given
+        long[] now = {SnowflakeIdGenerator.EPOCH_MILLIS + 10_000};
+        SnowflakeIdGenerator clockControlled = new SnowflakeIdGenerator(workerIdLease) {
+            @Override
+            long currentTimeMillis() {
+                return now[0];
+            }
+        };
+        clockControlled.nextId();
+
+        // when
+        now[0] -= 1_000;
+
+        // then
+        assertThatThrownBy(clockControlled::nextId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("시계가 뒤로");
+    }
+
+    @Test
+    @DisplayName("워커 ID 임대가 만료되면 ID 생성을 거부한다")
+    void nextId_leaseExpired_throws() {
+        // given
+        when(workerIdLease.getWorkerId()).thenThrow(new IllegalStateException("워커 ID 임대가 만료되어 ID를 생성할 수 없습니다"));
+
+        // when & then
+        assertThatThrownBy(generator::nextId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("임대가 만료");
+    }
+}
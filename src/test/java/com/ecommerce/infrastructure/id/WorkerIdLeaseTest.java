@@ -0,0 +1,97 @@
+package com.ecommerce.infrastructure.id;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkerIdLease 테스트")
+class WorkerIdLeaseTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final long[] now = {0L};
+
+    private WorkerIdLease lease;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("id:worker:0"), anyString(), any(Duration.class))).thenReturn(true);
+        lease = new WorkerIdLease(redisTemplate) {
+            @Override
+            long nanoTime() {
+                return now[0];
+            }
+        };
+        lease.acquire();
+    }
+
+    @Test
+    @DisplayName("임대 유효 시각 안에서는 워커 ID를 돌려준다")
+    void getWorkerId_withinLease() {
+        // when
+        now[0] += TimeUnit.SECONDS.toNanos(24);
+
+        // then
+        assertThat(lease.getWorkerId()).isZero();
+    }
+
+    @Test
+    @DisplayName("연장에 계속 실패해 유효 시각이 지나면 워커 ID 조회가 실패한다")
+    @SuppressWarnings("unchecked")
+    void getWorkerId_renewFailing_expires() {
+        // given: Redis 장애로 연장 실패
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("연결 실패"));
+        now[0] += TimeUnit.SECONDS.toNanos(10);
+        assertThatThrownBy(lease::renew).isInstanceOf(RedisConnectionFailureException.class);
+
+        // when
+        now[0] += TimeUnit.SECONDS.toNanos(15);
+
+        // then: 실제 TTL(30초)보다 여유만큼 먼저 만료
+        assertThatThrownBy(lease::getWorkerId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("임대가 만료");
+    }
+
+    @Test
+    @DisplayName("연장에 성공하면 유효 시각이 연장 요청 시각 기준으로 늘어난다")
+    @SuppressWarnings("unchecked")
+    void renew_extendsLease() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("id:worker:0")), any(), any())).thenReturn(1L);
+        now[0] += TimeUnit.SECONDS.toNanos(20);
+
+        // when
+        lease.renew();
+        now[0] += TimeUnit.SECONDS.toNanos(20);
+
+        // then
+        assertThat(lease.getWorkerId()).isZero();
+    }
+}
@@ -0,0 +1,258 @@
+package com.ecommerce.infrastructure.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.CompletableFutureWrapper;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DistributedLockExecutor 테스트")
+class DistributedLockExecutorTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock rLock;
+
+    @Mock
+    private LockMetrics lockMetrics;
+
+    @Mock
+    private Executor lockTaskExecutor;
+
+    @InjectMocks
+    private DistributedLockExecutor lockExecutor;
+
+    private final AtomicInteger redisContenders = new AtomicInteger();
+    private final AtomicInteger maxRedisContenders = new AtomicInteger();
+    private final AtomicBoolean held = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        lenient().when(redissonClient.getLock(anyString())).thenReturn(rLock);
+
+        // Redis에서 동시에 경쟁하는 스레드 수를 기록
+        lenient().when(rLock.tryLock(anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS))).thenAnswer(invocation -> {
+            maxRedisContenders.accumulateAndGet(redisContenders.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            redisContenders.decrementAndGet();
+            held.set(true);
+            return true;
+        });
+        lenient().when(rLock.isHeldByCurrentThread()).thenAnswer(invocation -> held.get());
+        lenient().doAnswer(invocation -> {
+            held.set(false);
+            return null;
+        }).when(rLock).unlock();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 JVM당 한 스레드만 Redis 락을 경쟁한다")
+    void sameKey_onlyOneThreadContendsInRedis() throws InterruptedException {
+        // given
+        int threadCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        AtomicInteger insideTask = new AtomicInteger();
+        AtomicInteger maxInsideTask = new AtomicInteger();
+        AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    lockExecutor.executeWithLock("lock:stock:5", () -> {
+                        maxInsideTask.accumulateAndGet(insideTask.incrementAndGet(), Math::max);
+                        insideTask.decrementAndGet();
+                    });
+                    successCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        assertThat(maxRedisContenders.get()).isEqualTo(1);
+        assertThat(maxInsideTask.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로컬 대기 중 대기 시간을 넘기면 Redis에 접근하지 않고 실패한다")
+    void localWaitTimeout_failsWithoutRedis() throws InterruptedException {
+        // given: 다른 스레드가 같은 키의 락을 잡고 있음
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> lockExecutor.executeWithLock("lock:stock:7", () -> {
+            acquired.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        acquired.await();
+
+        // when & then
+        assertThatThrownBy(() -> lockExecutor.executeWithLock("lock:stock:7", 0, 10, () -> "never"))
+                .isInstanceOf(LockAcquisitionException.class);
+        verify(redissonClient, times(1)).getLock("lock:stock:7"); // 보유 스레드의 1회뿐
+        verify(lockMetrics).recordTimeout(eq("lock:stock:7"), anyLong());
+
+        release.countDown();
+        holder.join();
+    }
+
+    @Test
+    @DisplayName("Redis 락 획득에 실패하면 로컬 락도 풀려 다음 요청이 진행된다")
+    void redisFailure_releasesLocalLock() throws InterruptedException {
+        // given
+        doReturn(false, true).when(rLock).tryLock(anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        // when & then
+        assertThatThrownBy(() -> lockExecutor.executeWithLock("lock:point:1", () -> "first"))
+                .isInstanceOf(LockAcquisitionException.class);
+        assertThat(lockExecutor.executeWithLock("lock:point:1", () -> "second")).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("해시가 같은 다른 키는 로컬 락을 공유하지 않는다")
+    void collidingKeys_doNotShareLocalLock() throws InterruptedException {
+        // given: "Aa"와 "BB"는 hashCode가 같음
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> lockExecutor.executeWithLock("Aa", () -> {
+            acquired.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        acquired.await();
+
+        // when & then: 다른 키는 대기 없이 획득
+        assertThat(lockExecutor.executeWithLock("BB", 0, 10, () -> "done")).isEqualTo("done");
+
+        release.countDown();
+        holder.join();
+    }
+
+    @Test
+    @DisplayName("마지막 사용자가 락을 풀면 키의 로컬 락이 제거된다")
+    void localLock_removedAfterLastRelease() throws InterruptedException {
+        // given
+        doReturn(false, true).when(rLock).tryLock(anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        // when
+        assertThatThrownBy(() -> lockExecutor.executeWithLock("lock:stock:1", () -> "first"))
+                .isInstanceOf(LockAcquisitionException.class);
+        lockExecutor.executeWithLock("lock:stock:2", () -> "second");
+
+        // then
+        assertThat(lockExecutor.localLockCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 락은 획득 후 작업을 lockTaskExecutor에서 실행하고 락 해제 후 완료된다")
+    void executeWithLockAsync_runsTaskAndUnlocks() throws Exception {
+        // given
+        when(rLock.tryLockAsync(eq(30L), eq(10L), eq(TimeUnit.SECONDS), anyLong()))
+                .thenReturn(new CompletableFutureWrapper<>(true));
+        when(rLock.unlockAsync(anyLong())).thenReturn(new CompletableFutureWrapper<>((Void) null));
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(lockTaskExecutor).execute(any(Runnable.class));
+
+        // when
+        CompletableFuture<String> result = lockExecutor.executeWithLockAsync("lock:payment:1", () -> "paid");
+
+        // then
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("paid");
+        verify(lockTaskExecutor).execute(any(Runnable.class));
+        verify(rLock).unlockAsync(anyLong());
+    }
+
+    @Test
+    @DisplayName("비동기 락 대기 시간을 넘기면 작업을 실행하지 않고 LockAcquisitionException으로 완료된다")
+    void executeWithLockAsync_timeout() {
+        // given
+        when(rLock.tryLockAsync(anyLong(), anyLong(), eq(TimeUnit.SECONDS), anyLong()))
+                .thenReturn(new CompletableFutureWrapper<>(false));
+
+        // when
+        CompletableFuture<String> result = lockExecutor.executeWithLockAsync("lock:payment:1", () -> "paid");
+
+        // then
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(LockAcquisitionException.class);
+        verify(lockTaskExecutor, never()).execute(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("비동기 락 작업이 실패해도 락을 해제하고 예외로 완료된다")
+    void executeWithLockAsync_taskFailure_unlocks() {
+        // given
+        when(rLock.tryLockAsync(anyLong(), anyLong(), eq(TimeUnit.SECONDS), anyLong()))
+                .thenReturn(new CompletableFutureWrapper<>(true));
+        when(rLock.unlockAsync(anyLong())).thenReturn(new CompletableFutureWrapper<>((Void) null));
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(lockTaskExecutor).execute(any(Runnable.class));
+
+        // when
+        CompletableFuture<String> result = lockExecutor.executeWithLockAsync("lock:point:1", () -> {
+            throw new IllegalStateException("잔액 부족");
+        });
+
+        // then
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(rLock).unlockAsync(anyLong());
+    }
+}
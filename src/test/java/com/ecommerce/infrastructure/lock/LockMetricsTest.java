@@ -0,0 +1,73 @@
+package com.ecommerce.infrastructure.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LockMetrics 테스트")
+class LockMetricsTest {
+
+    private static final long CONTENDED_WAIT = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long FAST_WAIT = TimeUnit.MICROSECONDS.toNanos(300);
+
+    private SimpleMeterRegistry meterRegistry;
+    private LockMetrics lockMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockMetrics = new LockMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("대기/보유 시간과 경합/타임아웃을 키 접두사별로 기록한다")
+    void recordsByPrefix() {
+        // when
+        lockMetrics.recordAcquired("lock:stock:5", FAST_WAIT);
+        lockMetrics.recordAcquired("lock:stock:6", CONTENDED_WAIT);
+        lockMetrics.recordHold("lock:stock:6", TimeUnit.MILLISECONDS.toNanos(3));
+        lockMetrics.recordTimeout("lock:payment:10", TimeUnit.SECONDS.toNanos(30));
+
+        // then
+        assertThat(meterRegistry.get("lock.wait").tags("prefix", "lock:stock", "outcome", "acquired").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("lock.hold").tag("prefix", "lock:stock").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.contention").tag("prefix", "lock:stock").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.timeout").tag("prefix", "lock:payment").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("경합이 많은 키 순으로 상위 N개를 반환한다")
+    void topContendedKeys() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            lockMetrics.recordAcquired("lock:stock:1", CONTENDED_WAIT);
+        }
+        lockMetrics.recordAcquired("lock:stock:2", CONTENDED_WAIT);
+        lockMetrics.recordTimeout("lock:stock:2", TimeUnit.SECONDS.toNanos(30));
+        lockMetrics.recordAcquired("lock:stock:3", FAST_WAIT); // 경합 아님
+
+        // when
+        List<LockMetrics.ContendedKey> top = lockMetrics.topContendedKeys(5);
+
+        // then
+        assertThat(top).extracting(LockMetrics.ContendedKey::key).containsExactly("lock:stock:1", "lock:stock:2");
+        assertThat(top.get(0).contendedCount()).isEqualTo(3);
+        assertThat(top.get(1).timeoutCount()).isEqualTo(1);
+        assertThat(top.get(1).maxWaitMillis()).isEqualTo(30_000.0);
+    }
+
+    @Test
+    @DisplayName("키 접두사는 마지막 구분자 앞까지다")
+    void prefixOf() {
+        assertThat(LockMetrics.prefixOf("lock:stock:5")).isEqualTo("lock:stock");
+        assertThat(LockMetrics.prefixOf("lock:usercoupon:3")).isEqualTo("lock:usercoupon");
+        assertThat(LockMetrics.prefixOf("standalone")).isEqualTo("standalone");
+    }
+}
@@ -0,0 +1,167 @@
+package com.ecommerce.infrastructure.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OptimisticRetryPointUpdateExecutor 테스트")
+@SuppressWarnings("unchecked")
+class OptimisticRetryPointUpdateExecutorTest {
+
+    @Mock
+    private DistributedLockExecutor lockExecutor;
+
+    @InjectMocks
+    private OptimisticRetryPointUpdateExecutor executor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().when(lockExecutor.executeWithLock(anyString(), any(Supplier.class)))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+    }
+
+    @Test
+    @DisplayName("충돌이 없으면 분산 락 없이 한 번에 실행한다")
+    void noConflict_runsWithoutLock() {
+        // when
+        Integer balance = executor.execute(1L, () -> 1000);
+
+        // then
+        assertThat(balance).isEqualTo(1000);
+        verify(lockExecutor, never()).executeWithLock(anyString(), any(Supplier.class));
+    }
+
+    @Test
+    @DisplayName("버전 충돌은 재시도로 해소한다")
+    void conflict_retriesOptimistically() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        Integer balance = executor.execute(1L, () -> {
+            if (calls.incrementAndGet() < OptimisticRetryPointUpdateExecutor.OPTIMISTIC_ATTEMPTS) {
+                throw conflict();
+            }
+            return 2000;
+        });
+
+        // then
+        assertThat(balance).isEqualTo(2000);
+        assertThat(calls.get()).isEqualTo(OptimisticRetryPointUpdateExecutor.OPTIMISTIC_ATTEMPTS);
+        verify(lockExecutor, never()).executeWithLock(anyString(), any(Supplier.class));
+    }
+
+    @Test
+    @DisplayName("반복 충돌 시 분산 락으로 전환해 실행한다")
+    void repeatedConflict_fallsBackToLock() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        Integer balance = executor.execute(7L, () -> {
+            if (calls.incrementAndGet() <= OptimisticRetryPointUpdateExecutor.OPTIMISTIC_ATTEMPTS) {
+                throw conflict();
+            }
+            return 3000;
+        });
+
+        // then
+        assertThat(balance).isEqualTo(3000);
+        verify(lockExecutor).executeWithLock(eq("lock:point:7"), any(Supplier.class));
+    }
+
+    @Test
+    @DisplayName("락 안에서도 계속 충돌하면 충돌 예외를 그대로 던진다")
+    void conflictUnderLock_propagates() {
+        // when & then
+        assertThatThrownBy(() -> executor.execute(1L, () -> {
+            throw conflict();
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 아닌 예외는 재시도하지 않는다")
+    void businessFailure_notRetried() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(1L, () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("포인트 잔액이 부족합니다");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비동기 경로도 충돌이 없으면 분산 락 없이 실행한다")
+    void executeAsync_noConflict_runsWithoutLock() {
+        // when
+        CompletableFuture<Integer> balance = executor.executeAsync(1L, () -> 1000);
+
+        // then
+        assertThat(balance.join()).isEqualTo(1000);
+        verify(lockExecutor, never()).executeWithLockAsync(anyString(), any(Supplier.class));
+        verify(lockExecutor, never()).executeWithLock(anyString(), any(Supplier.class));
+    }
+
+    @Test
+    @DisplayName("비동기 경로는 반복 충돌 시에만 분산 락을 비동기로 잡는다")
+    void executeAsync_repeatedConflict_fallsBackToAsyncLock() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        when(lockExecutor.executeWithLockAsync(anyString(), any(Supplier.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        ((Supplier<?>) invocation.getArgument(1)).get()));
+
+        // when
+        CompletableFuture<Integer> balance = executor.executeAsync(7L, () -> {
+            if (calls.incrementAndGet() <= OptimisticRetryPointUpdateExecutor.OPTIMISTIC_ATTEMPTS) {
+                throw conflict();
+            }
+            return 3000;
+        });
+
+        // then
+        assertThat(balance.join()).isEqualTo(3000);
+        verify(lockExecutor).executeWithLockAsync(eq("lock:point:7"), any(Supplier.class));
+    }
+
+    @Test
+    @DisplayName("비동기 경로의 업무 예외는 실패한 future로 돌려준다")
+    void executeAsync_businessFailure_failedFuture() {
+        // when
+        CompletableFuture<Integer> balance = executor.executeAsync(1L, () -> {
+            throw new IllegalStateException("포인트 잔액이 부족합니다");
+        });
+
+        // then
+        assertThat(balance).isCompletedExceptionally();
+        verify(lockExecutor, never()).executeWithLockAsync(anyString(), any(Supplier.class));
+    }
+
+    private static ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException("User", 1L);
+    }
+}
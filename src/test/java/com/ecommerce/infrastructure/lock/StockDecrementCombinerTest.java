@@ -0,0 +1,166 @@
+package com.ecommerce.infrastructure.lock;
+
+import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.service.ProductDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockDecrementCombiner 테스트")
+class StockDecrementCombinerTest {
+
+    @Mock
+    private DistributedLockExecutor lockExecutor;
+
+    @Mock
+    private ProductDomainService productDomainService;
+
+    @InjectMocks
+    private StockDecrementCombiner combiner;
+
+    private Product product;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        product = new Product(1L, "키보드", "무선 키보드", 89000, 10, "전자제품");
+
+        lenient().when(lockExecutor.executeWithLock(anyString(), any(Supplier.class)))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+
+        // 실제 배치 차감과 같은 규칙: 요청 순서대로 재고가 충분한 요청만 차감
+        lenient().when(productDomainService.reduceStockBatch(eq(1L), anyList())).thenAnswer(invocation -> {
+            List<Integer> quantities = invocation.getArgument(1);
+            List<Integer> stockBefore = new ArrayList<>();
+            synchronized (product) {
+                Thread.sleep(20);
+                for (int quantity : quantities) {
+                    stockBefore.add(product.getStockQuantity());
+                    if (product.hasStock(quantity)) {
+                        product.reduceStock(quantity);
+                    }
+                }
+            }
+            return new ProductDomainService.BatchReduction(product, quantities, stockBefore);
+        });
+    }
+
+    @Test
+    @DisplayName("단건 요청도 배치로 처리되어 차감된다")
+    void reduce_single() {
+        // when
+        Product result = combiner.reduce(1L, 3);
+
+        // then
+        assertThat(result.getStockQuantity()).isEqualTo(7);
+        verify(lockExecutor).executeWithLock(eq("lock:stock:1"), any(Supplier.class));
+    }
+
+    @Test
+    @DisplayName("재고가 부족한 요청은 재고 부족 예외를 받는다")
+    void reduce_insufficient() {
+        assertThatThrownBy(() -> combiner.reduce(1L, 11))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("재고 부족: 현재 재고 10개, 요청 수량 11개");
+    }
+
+    @Test
+    @DisplayName("수량이 0 이하이면 대기열에 넣지 않고 예외")
+    void reduce_invalidQuantity() {
+        assertThatThrownBy(() -> combiner.reduce(1L, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(productDomainService, never()).reduceStockBatch(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("동시 요청 30건은 배치로 합쳐지고 재고 수만큼만 성공한다")
+    void reduce_concurrent_combined() throws InterruptedException {
+        // given
+        int threadCount = 30;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger insufficientCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    combiner.reduce(1L, 1);
+                    successCount.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    insufficientCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        doneLatch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(insufficientCount.get()).isEqualTo(20);
+        assertThat(product.getStockQuantity()).isZero();
+        assertThat(mockingDetails(productDomainService).getInvocations()).hasSizeLessThan(threadCount);
+        assertThat(combiner.slotCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 상품 슬롯은 제거된다")
+    void reduce_idleSlotEvicted() {
+        // when
+        combiner.reduce(1L, 1);
+        assertThatThrownBy(() -> combiner.reduce(1L, 100))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(combiner.slotCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("락 획득에 실패하면 배치의 모든 요청이 같은 예외를 받는다")
+    @SuppressWarnings("unchecked")
+    void reduce_lockFailure() {
+        // given
+        doThrow(new LockAcquisitionException("락 획득 실패: lock:stock:1"))
+                .when(lockExecutor).executeWithLock(anyString(), any(Supplier.class));
+
+        // when & then
+        assertThatThrownBy(() -> combiner.reduce(1L, 1))
+                .isInstanceOf(LockAcquisitionException.class);
+        assertThat(product.getStockQuantity()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,118 @@
+package com.ecommerce.infrastructure.persistence;
+
+import com.ecommerce.config.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영 DDL(docs/schema.sql)과 엔티티 매핑 일치 검증
+ *
+ * 운영은 ddl-auto: none이라 엔티티에 컬럼을 추가하고 DDL을 빠뜨리면 해당 테이블의 INSERT/SELECT가 모두 실패합니다.
+ * docs/schema.sql을 별도 DB에 실행하고, 엔티티로 생성된 테스트 스키마(create-drop)의 컬럼이 모두 있는지 비교합니다.
+ */
+@DisplayName("운영 DDL 스키마 검증 테스트")
+class SchemaDefinitionIntegrationTest extends IntegrationTestSupport {
+
+    private static final String SCHEMA_FILE = "docs/schema.sql";
+    private static final String CHECK_DATABASE = "schema_check";
+    private static final String ENTITY_PACKAGE = "com.ecommerce.domain.entity";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    // Testcontainers MySQL은 root 비밀번호를 사용자 비밀번호와 같게 설정함 (DB 생성 권한은 root만 있음)
+    @Value("${spring.datasource.password}")
+    private String rootPassword;
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Connection connection = rootConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + CHECK_DATABASE);
+        }
+    }
+
+    @Test
+    @DisplayName("docs/schema.sql에 모든 엔티티의 테이블과 컬럼이 있다")
+    void schemaFile_coversAllEntityColumns() throws SQLException {
+        // given
+        Map<String, Set<String>> declared;
+        Map<String, Set<String>> mapped;
+        try (Connection connection = rootConnection()) {
+            String testDatabase = connection.getCatalog();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP DATABASE IF EXISTS " + CHECK_DATABASE);
+                statement.execute("CREATE DATABASE " + CHECK_DATABASE);
+            }
+            connection.setCatalog(CHECK_DATABASE);
+
+            // when
+            ScriptUtils.executeSqlScript(connection,
+                    new EncodedResource(new FileSystemResource(SCHEMA_FILE), StandardCharsets.UTF_8));
+            declared = columnsOf(connection, CHECK_DATABASE);
+            mapped = columnsOf(connection, testDatabase);
+        }
+
+        // then
+        List<String> entityTables = entityTables();
+        assertThat(entityTables).isNotEmpty();
+        for (String table : entityTables) {
+            assertThat(declared).as("%s에 %s 테이블이 없음", SCHEMA_FILE, table).containsKey(table);
+            assertThat(declared.get(table))
+                    .as("%s의 %s 테이블 컬럼", SCHEMA_FILE, table)
+                    .containsAll(mapped.get(table));
+        }
+    }
+
+    private List<String> entityTables() {
+        return entityManager.getMetamodel().getEntities().stream()
+                .<Class<?>>map(entity -> entity.getJavaType())
+                .filter(type -> type.getPackageName().equals(ENTITY_PACKAGE))
+                .map(type -> type.getAnnotation(Table.class).name())
+                .toList();
+    }
+
+    private Map<String, Set<String>> columnsOf(Connection connection, String database) throws SQLException {
+        Map<String, Set<String>> columns = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT table_name, column_name FROM information_schema.columns WHERE table_schema = ?")) {
+            statement.setString(1, database);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    columns.computeIfAbsent(resultSet.getString(1), table -> new HashSet<>())
+                            .add(resultSet.getString(2));
+                }
+            }
+        }
+        return columns;
+    }
+
+    private Connection rootConnection() throws SQLException {
+        return DriverManager.getConnection(url, "root", rootPassword);
+    }
+}
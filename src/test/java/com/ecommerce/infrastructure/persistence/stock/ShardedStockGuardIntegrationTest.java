@@ -0,0 +1,59 @@
+package com.ecommerce.infrastructure.persistence.stock;
+
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.domain.repository.ProductStockBucketRepository;
+import com.ecommerce.domain.service.ProductDomainService;
+import com.ecommerce.domain.service.StockDeductor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 분할 해제 통합 테스트 (ecommerce.stock.mode=conditional-update)
+ * sharded 모드에서 남긴 버킷이 다른 모드 기동 시 상품 행으로 병합되어 그대로 판매되는지 검증합니다.
+ */
+@TestPropertySource(properties = "ecommerce.stock.mode=conditional-update")
+@DisplayName("버킷 분할 해제 통합 테스트")
+class ShardedStockGuardIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ShardedStockGuard shardedStockGuard;
+
+    @Autowired
+    private StockDeductor stockDeductor;
+
+    @Autowired
+    private ProductDomainService productDomainService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockBucketRepository productStockBucketRepository;
+
+    @Test
+    @DisplayName("sharded 모드가 남긴 버킷은 기동 시 병합되고 조건부 UPDATE로 차감된다")
+    void shardedThenConditionalUpdate_mergedOnBoot() {
+        // given: sharded 모드에서 분할 후 일부 판매
+        Product product = productRepository.save(new Product(null, "분할해제상품_" + System.nanoTime(), "설명", 10000, 10, "전자"));
+        productDomainService.shardStock(product.getId(), 4);
+        productDomainService.reduceStocksWithBuckets(Map.of(product.getId(), 3));
+        assertThat(productRepository.getByIdOrThrow(product.getId()).getStockQuantity()).isZero();
+
+        // when: conditional-update 모드 기동 시 실행되는 병합
+        shardedStockGuard.mergeLeftoverShards();
+        stockDeductor.deduct(Map.of(product.getId(), 2));
+
+        // then
+        assertThat(stockDeductor).isInstanceOf(ConditionalUpdateStockDeductor.class);
+        assertThat(productStockBucketRepository.findShardedProductIds()).doesNotContain(product.getId());
+        assertThat(productRepository.getByIdOrThrow(product.getId()).getStockQuantity()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,131 @@
+package com.ecommerce.infrastructure.redis;
+
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.Coupon;
+import com.ecommerce.domain.entity.DiscountType;
+import com.ecommerce.domain.repository.CouponRepository;
+import com.ecommerce.domain.service.CouponIssueResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 쿠폰 발급 종결 판정 로컬 캐시 통합 테스트
+ * 소진/이미 발급 판정을 Redis 없이 돌려주고, 소진과 초기화가 pub/sub으로 다른 노드에 전파되는지 검증합니다.
+ *
+ * Redis 키를 직접 지워 캐시가 없었다면 다른 결과가 나오는 상황을 만들어 확인합니다.
+ */
+@DisplayName("쿠폰 발급 종결 판정 로컬 캐시 통합 테스트")
+class CouponDecisionCacheIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private AsyncCouponIssueService asyncCouponIssueService;
+
+    @Autowired
+    private CouponDecisionCache couponDecisionCache;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    private CouponRedisRepository couponRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        couponRedisRepository.clearQueue();
+    }
+
+    @Test
+    @DisplayName("소진된 쿠폰은 Redis 발급 Set이 비어도 로컬에서 SOLD_OUT을 돌려준다")
+    void issue_afterSoldOut_rejectedLocally() {
+        // given
+        Coupon coupon = couponRepository.save(createCoupon("로컬 소진 쿠폰", 1));
+        asyncCouponIssueService.initializeCoupon(coupon.getId());
+        asyncCouponIssueService.issue(1L, coupon.getId());
+        assertThat(asyncCouponIssueService.issue(2L, coupon.getId())).isEqualTo(CouponIssueResult.SOLD_OUT);
+
+        // when: 캐시가 없다면 발급 Set이 비어 다시 발급됨
+        redisTemplate.delete("coupon:" + coupon.getId() + ":issued");
+        CouponIssueResult result = asyncCouponIssueService.issue(3L, coupon.getId());
+
+        // then
+        assertThat(result).isEqualTo(CouponIssueResult.SOLD_OUT);
+        assertThat(couponDecisionCache.isSoldOut(coupon.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 발급받은 사용자의 재요청은 로컬에서 ALREADY_ISSUED를 돌려준다")
+    void issue_repeatClick_rejectedLocally() {
+        // given
+        Coupon coupon = couponRepository.save(createCoupon("로컬 중복 쿠폰", 10));
+        asyncCouponIssueService.initializeCoupon(coupon.getId());
+        assertThat(asyncCouponIssueService.issue(1L, coupon.getId())).isEqualTo(CouponIssueResult.SUCCESS);
+
+        // when
+        redisTemplate.delete("coupon:" + coupon.getId() + ":issued");
+        CouponIssueResult result = asyncCouponIssueService.issue(1L, coupon.getId());
+
+        // then
+        assertThat(result).isEqualTo(CouponIssueResult.ALREADY_ISSUED);
+        assertThat(asyncCouponIssueService.getIssuedCount(coupon.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("발급 기간 전 쿠폰의 SOLD_OUT은 캐시하지 않는다")
+    void issue_notInPeriod_notCached() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Coupon coupon = couponRepository.save(
+                new Coupon("오픈 전 쿠폰", DiscountType.FIXED_AMOUNT, 1000, 10, now.plusDays(1), now.plusDays(30), 30));
+        asyncCouponIssueService.initializeCoupon(coupon.getId());
+
+        // when
+        CouponIssueResult result = asyncCouponIssueService.issue(1L, coupon.getId());
+
+        // then
+        assertThat(result).isEqualTo(CouponIssueResult.SOLD_OUT);
+        assertThat(couponDecisionCache.isSoldOut(coupon.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("한 노드의 소진 판정과 초기화가 다른 노드에 전파된다")
+    void soldOutAndReset_broadcastToOtherNodes() {
+        // given
+        CouponDecisionCache otherNode = new CouponDecisionCache(redisTemplate, listenerContainer, new SimpleMeterRegistry());
+        Long couponId = System.nanoTime();
+
+        // when
+        couponDecisionCache.markSoldOut(couponId);
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).until(() -> otherNode.isSoldOut(couponId));
+
+        // when
+        couponDecisionCache.reset(couponId);
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).until(() -> !otherNode.isSoldOut(couponId));
+        assertThat(couponDecisionCache.isSoldOut(couponId)).isFalse();
+    }
+
+    private Coupon createCoupon(String name, int maxIssueCount) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Coupon(name, DiscountType.FIXED_AMOUNT, 1000, maxIssueCount, now.minusDays(1), now.plusDays(30), 30);
+    }
+}
@@ -0,0 +1,107 @@
+package com.ecommerce.infrastructure.redis;
+
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.Coupon;
+import com.ecommerce.domain.entity.DiscountType;
+import com.ecommerce.domain.repository.CouponRepository;
+import com.ecommerce.domain.repository.UserCouponRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 쿠폰 대기열 연속 처리 워커 통합 테스트
+ * 스케줄러 없이 워커가 파티션별 대기열을 비우고 처리 지표를 남기는지 검증합니다.
+ *
+ * 워커가 다른 테스트의 대기열까지 비우지 않도록 테스트 후 컨텍스트를 닫습니다.
+ */
+@TestPropertySource(properties = {
+        "ecommerce.coupon.queue.drain.enabled=true",
+        "ecommerce.coupon.queue.drain.workers=2"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("쿠폰 대기열 연속 처리 워커 통합 테스트")
+class CouponQueueDrainerIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private CouponRedisRepository couponRedisRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        couponRedisRepository.clearQueue();
+    }
+
+    @Test
+    @DisplayName("여러 쿠폰의 대기열을 워커가 계속 비워 발급 내역을 저장한다")
+    void drain_multipleCoupons_persistsAll() {
+        // given
+        Coupon first = couponRepository.save(createCoupon("연속 처리 쿠폰 1", 3000));
+        Coupon second = couponRepository.save(createCoupon("연속 처리 쿠폰 2", 3000));
+        long userIdBase = System.nanoTime();
+        int itemsPerCoupon = 2000;
+        double issuedBefore = meterRegistry.counter("coupon.queue.drained", "outcome", "issued").count();
+
+        // when
+        for (int i = 0; i < itemsPerCoupon; i++) {
+            couponRedisRepository.enqueue(first.getId(), userIdBase + i);
+            couponRedisRepository.enqueue(second.getId(), userIdBase + i);
+        }
+
+        // then
+        List<Long> userIds = LongStream.range(userIdBase, userIdBase + itemsPerCoupon).boxed().toList();
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+            assertThat(couponRedisRepository.getQueueSize()).isZero();
+            assertThat(userCouponRepository.findByCouponIdAndUserIdIn(first.getId(), userIds)).hasSize(itemsPerCoupon);
+            assertThat(userCouponRepository.findByCouponIdAndUserIdIn(second.getId(), userIds)).hasSize(itemsPerCoupon);
+        });
+        assertThat(couponRepository.getByIdOrThrow(first.getId()).getCurrentIssueCount()).isEqualTo(itemsPerCoupon);
+        assertThat(couponRepository.getByIdOrThrow(second.getId()).getCurrentIssueCount()).isEqualTo(itemsPerCoupon);
+        assertThat(meterRegistry.counter("coupon.queue.drained", "outcome", "issued").count() - issuedBefore)
+                .isEqualTo(itemsPerCoupon * 2);
+    }
+
+    @Test
+    @DisplayName("이미 저장된 발급 요청이 다시 들어오면 건너뛴다")
+    void drain_duplicateItem_skipped() {
+        // given
+        Coupon coupon = couponRepository.save(createCoupon("연속 처리 중복", 10));
+        long userId = System.nanoTime();
+        couponRedisRepository.enqueue(coupon.getId(), userId);
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(userCouponRepository.findByUserIdAndCouponId(userId, coupon.getId())).isPresent());
+
+        // when
+        couponRedisRepository.enqueue(coupon.getId(), userId);
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(couponRedisRepository.getQueueSize()).isZero());
+        assertThat(couponRepository.getByIdOrThrow(coupon.getId()).getCurrentIssueCount()).isEqualTo(1);
+    }
+
+    private Coupon createCoupon(String name, int maxIssueCount) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Coupon(name, DiscountType.FIXED_AMOUNT, 1000, maxIssueCount, now.minusDays(1), now.plusDays(30), 30);
+    }
+}
@@ -60,8 +60,7 @@ class CouponQueueProcessorPerformanceTest extends IntegrationTestSupport {
         Long couponId = testCoupon.getId();
 
         for (int i = 1; i <= batchSize; i++) {
-            String queueData = couponId + ":" + i;
-            redisTemplate.opsForList().rightPush("coupon:queue", queueData);
+            couponRedisRepository.enqueue(couponId, (long) i);
         }
 
         assertThat(couponRedisRepository.getQueueSize()).isEqualTo(batchSize);
@@ -93,8 +92,7 @@ class CouponQueueProcessorPerformanceTest extends IntegrationTestSupport {
         Long couponId = testCoupon.getId();
 
         for (int i = 1; i <= totalItems; i++) {
-            String queueData = couponId + ":" + i;
-            redisTemplate.opsForList().rightPush("coupon:queue", queueData);
+            couponRedisRepository.enqueue(couponId, (long) i);
         }
 
         // when - 5번의 배치 처리 (각 100건씩)
@@ -139,8 +137,8 @@ class CouponQueueProcessorPerformanceTest extends IntegrationTestSupport {
 
         int itemsPerCoupon = 50;
         for (int i = 1; i <= itemsPerCoupon; i++) {
-            redisTemplate.opsForList().rightPush("coupon:queue", testCoupon.getId() + ":" + i);
-            redisTemplate.opsForList().rightPush("coupon:queue", coupon2.getId() + ":" + (i + 1000));
+            couponRedisRepository.enqueue(testCoupon.getId(), (long) i);
+            couponRedisRepository.enqueue(coupon2.getId(), (long) (i + 1000));
         }
 
         // when
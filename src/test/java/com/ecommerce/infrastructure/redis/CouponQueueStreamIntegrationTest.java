@@ -0,0 +1,224 @@
+package com.ecommerce.infrastructure.redis;
+
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.Coupon;
+import com.ecommerce.domain.entity.DiscountType;
+import com.ecommerce.domain.repository.CouponRepository;
+import com.ecommerce.domain.repository.UserCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 쿠폰 발급 대기열 스트림 통합 테스트
+ * 컨슈머 그룹 읽기, 커밋 후 ack, 죽은 컨슈머의 미처리 항목 회수를 검증합니다.
+ */
+@DisplayName("쿠폰 발급 대기열 스트림 통합 테스트")
+class CouponQueueStreamIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private CouponRedisRepository couponRedisRepository;
+
+    @Autowired
+    private CouponQueueProcessor couponQueueProcessor;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    private Coupon coupon;
+    private int partition;
+
+    @BeforeEach
+    void setUp() {
+        couponRedisRepository.clearQueue();
+        LocalDateTime now = LocalDateTime.now();
+        coupon = couponRepository.save(new Coupon(
+                "스트림 대기열 쿠폰", DiscountType.FIXED_AMOUNT, 1000, 100, now.minusDays(1), now.plusDays(30), 30));
+        partition = CouponRedisRepository.partitionOf(coupon.getId());
+    }
+
+    @Test
+    @DisplayName("한 컨슈머가 읽은 항목은 같은 그룹의 다른 컨슈머에게 다시 전달되지 않는다")
+    void readFromQueue_deliveredOnce() {
+        // given
+        couponRedisRepository.enqueue(coupon.getId(), 1L);
+        couponRedisRepository.enqueue(coupon.getId(), 2L);
+
+        // when
+        List<CouponRedisRepository.QueueItem> first = couponRedisRepository.readFromQueue("a", List.of(partition), 10, null);
+        List<CouponRedisRepository.QueueItem> second = couponRedisRepository.readFromQueue("b", List.of(partition), 10, null);
+
+        // then
+        assertThat(first).extracting(CouponRedisRepository.QueueItem::userId).containsExactly(1L, 2L);
+        assertThat(second).isEmpty();
+        assertThat(couponRedisRepository.getPendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커밋 후에만 ack되어 대기열에서 지워진다")
+    void processBatch_acknowledgesAfterCommit() {
+        // given
+        long userId = System.nanoTime();
+        couponRedisRepository.enqueue(coupon.getId(), userId);
+        List<CouponRedisRepository.QueueItem> items = couponRedisRepository.readFromQueue("a", List.of(partition), 10, null);
+
+        // when
+        int issued = couponQueueProcessor.processBatch(items);
+
+        // then
+        assertThat(issued).isEqualTo(1);
+        assertThat(userCouponRepository.findByUserIdAndCouponId(userId, coupon.getId())).isPresent();
+        assertThat(couponRedisRepository.getQueueSize()).isZero();
+        assertThat(couponRedisRepository.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리가 실패하면 ack되지 않고 미처리 목록에 남는다")
+    void processBatch_failure_keepsPending() {
+        // given: null 항목으로 처리 중 예외 유도
+        couponRedisRepository.enqueue(coupon.getId(), 1L);
+        List<CouponRedisRepository.QueueItem> items = couponRedisRepository.readFromQueue("a", List.of(partition), 10, null);
+        List<CouponRedisRepository.QueueItem> broken = List.of(items.get(0), null);
+
+        // when
+        assertThatThrownBy(() -> couponQueueProcessor.processBatch(broken))
+                .isInstanceOf(NullPointerException.class);
+
+        // then
+        assertThat(couponRedisRepository.getPendingCount()).isEqualTo(1);
+        assertThat(couponRedisRepository.getQueueSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발급 수 초과로 저장하지 못한 배치는 ack하지 않는다")
+    void processBatch_issueCountExceeded_keepsPending() {
+        // given: 남은 수량(1)보다 많은 항목
+        LocalDateTime now = LocalDateTime.now();
+        Coupon limited = couponRepository.save(new Coupon(
+                "수량 초과 쿠폰", DiscountType.FIXED_AMOUNT, 1000, 1, now.minusDays(1), now.plusDays(30), 30));
+        int limitedPartition = CouponRedisRepository.partitionOf(limited.getId());
+        couponRedisRepository.enqueue(limited.getId(), 1L);
+        couponRedisRepository.enqueue(limited.getId(), 2L);
+        List<CouponRedisRepository.QueueItem> items =
+                couponRedisRepository.readFromQueue("a", List.of(limitedPartition), 10, null);
+
+        // when
+        assertThatThrownBy(() -> couponQueueProcessor.processBatch(items))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(couponRedisRepository.getPendingCount()).isEqualTo(2);
+        assertThat(userCouponRepository.findByUserIdAndCouponId(1L, limited.getId())).isEmpty();
+        assertThat(couponRepository.getByIdOrThrow(limited.getId()).getCurrentIssueCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("죽은 컨슈머가 ack하지 못한 항목을 다른 컨슈머가 회수해 처리한다")
+    void claimStale_reclaimsFromDeadConsumer() {
+        // given: 컨슈머 dead가 읽고 ack 없이 사라짐
+        long userId = System.nanoTime();
+        couponRedisRepository.enqueue(coupon.getId(), userId);
+        couponRedisRepository.readFromQueue("dead", List.of(partition), 10, null);
+
+        // when
+        List<CouponRedisRepository.QueueItem> claimed =
+                couponRedisRepository.claimStale(
+                        "alive", partition, Duration.ZERO, CouponQueueDrainer.MAX_DELIVERY_COUNT, 10);
+        couponQueueProcessor.processBatch(claimed);
+
+        // then
+        assertThat(claimed).extracting(CouponRedisRepository.QueueItem::userId).containsExactly(userId);
+        assertThat(userCouponRepository.findByUserIdAndCouponId(userId, coupon.getId())).isPresent();
+        assertThat(couponRedisRepository.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 기준보다 짧은 항목은 회수하지 않는다")
+    void claimStale_recentDelivery_notClaimed() {
+        // given
+        couponRedisRepository.enqueue(coupon.getId(), 1L);
+        couponRedisRepository.readFromQueue("busy", List.of(partition), 10, null);
+
+        // when
+        List<CouponRedisRepository.QueueItem> claimed =
+                couponRedisRepository.claimStale(
+                        "alive", partition, Duration.ofMinutes(1), CouponQueueDrainer.MAX_DELIVERY_COUNT, 10);
+
+        // then
+        assertThat(claimed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전달 한도를 넘긴 항목은 회수하지 않고 데드레터 스트림으로 옮긴 뒤 ack한다")
+    void claimStale_deliveryLimitExceeded_movedToDeadLetter() {
+        // given: 읽을 때마다 처리에 실패해 전달 횟수가 한도에 닿은 항목
+        couponRedisRepository.enqueue(coupon.getId(), 1L);
+        couponRedisRepository.readFromQueue("failing", List.of(partition), 10, null);
+        for (int i = 1; i < CouponQueueDrainer.MAX_DELIVERY_COUNT; i++) {
+            couponRedisRepository.claimStale(
+                    "failing", partition, Duration.ZERO, CouponQueueDrainer.MAX_DELIVERY_COUNT, 10);
+        }
+
+        // when
+        List<CouponRedisRepository.QueueItem> claimed = couponRedisRepository.claimStale(
+                "alive", partition, Duration.ZERO, CouponQueueDrainer.MAX_DELIVERY_COUNT, 10);
+
+        // then
+        assertThat(claimed).isEmpty();
+        assertThat(couponRedisRepository.getPendingCount()).isZero();
+        assertThat(couponRedisRepository.getQueueSize(partition)).isZero();
+        assertThat(couponRedisRepository.getDeadLetterSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 쿠폰의 배치를 여러 컨슈머가 동시에 저장해도 발급 수가 유실되지 않는다")
+    void processBatch_concurrentConsumers_noLostUpdate() throws InterruptedException {
+        // given
+        int consumerCount = 4;
+        int itemsPerConsumer = 20;
+        long userIdBase = System.nanoTime();
+        for (int i = 0; i < consumerCount * itemsPerConsumer; i++) {
+            couponRedisRepository.enqueue(coupon.getId(), userIdBase + i);
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(consumerCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(consumerCount);
+
+        // when: 컨슈머마다 서로 다른 항목을 읽어 동시에 저장 (다른 노드의 워커와 같은 상황)
+        for (int c = 0; c < consumerCount; c++) {
+            List<CouponRedisRepository.QueueItem> items = couponRedisRepository.readFromQueue(
+                    "node-" + c, List.of(partition), itemsPerConsumer, null);
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    couponQueueProcessor.processBatch(items);
+                } catch (InterruptedException ignored) {
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(couponRepository.getByIdOrThrow(coupon.getId()).getCurrentIssueCount())
+                .isEqualTo(consumerCount * itemsPerConsumer);
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -468,4 +469,109 @@ class CouponRedisRepositoryLuaScriptTest extends IntegrationTestSupport {
             assertThat(couponRedisRepository.getQueueSize()).isEqualTo(1); // 첫 번째 것만
         }
     }
+
+    @Nested
+    @DisplayName("캐시된 쿠폰 정보 기반 발급 테스트 - 검증 + 발급 + 대기열 추가 왕복 1회")
+    class CachedInfoIssueTest {
+
+        @BeforeEach
+        void setUp() {
+            redisTemplate.delete("coupon:" + TEST_COUPON_ID + ":info");
+        }
+
+        @Test
+        @DisplayName("쿠폰 정보가 캐시되어 있지 않으면 null을 반환하고 아무것도 바꾸지 않음")
+        void tryIssueWithCachedInfo_notCached_returnsNull() {
+            // when
+            CouponIssueResult result = couponRedisRepository.tryIssueWithCachedInfo(1L, TEST_COUPON_ID);
+
+            // then
+            assertThat(result).isNull();
+            assertThat(couponRedisRepository.getIssuedCount(TEST_COUPON_ID)).isEqualTo(0);
+            assertThat(couponRedisRepository.getQueueSize()).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("발급 기간 안이면 발급 Set과 대기열에 함께 추가됨")
+        void tryIssueWithCachedInfo_success_addsToSetAndQueue() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            couponRedisRepository.cacheCouponInfo(TEST_COUPON_ID, 10, now.minusHours(1), now.plusHours(1));
+
+            // when
+            CouponIssueResult result = couponRedisRepository.tryIssueWithCachedInfo(1L, TEST_COUPON_ID);
+
+            // then
+            assertThat(result).isEqualTo(CouponIssueResult.SUCCESS);
+            assertThat(couponRedisRepository.isIssued(1L, TEST_COUPON_ID)).isTrue();
+            assertThat(couponRedisRepository.getQueueSize()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("발급 기간 밖이면 SOLD_OUT이고 Set과 대기열은 그대로")
+        void tryIssueWithCachedInfo_outOfPeriod_soldOut() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            couponRedisRepository.cacheCouponInfo(TEST_COUPON_ID, 10, now.plusHours(1), now.plusDays(1));
+
+            // when
+            CouponIssueResult result = couponRedisRepository.tryIssueWithCachedInfo(1L, TEST_COUPON_ID);
+
+            // then
+            assertThat(result).isEqualTo(CouponIssueResult.SOLD_OUT);
+            assertThat(couponRedisRepository.getIssuedCount(TEST_COUPON_ID)).isEqualTo(0);
+            assertThat(couponRedisRepository.getQueueSize()).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("중복 요청은 ALREADY_ISSUED, 수량 초과는 SOLD_OUT이고 대기열에는 성공 건만 남음")
+        void tryIssueWithCachedInfo_duplicateAndSoldOut() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            couponRedisRepository.cacheCouponInfo(TEST_COUPON_ID, 1, now.minusHours(1), now.plusHours(1));
+            couponRedisRepository.tryIssueWithCachedInfo(1L, TEST_COUPON_ID);
+
+            // when
+            CouponIssueResult duplicate = couponRedisRepository.tryIssueWithCachedInfo(1L, TEST_COUPON_ID);
+            CouponIssueResult soldOut = couponRedisRepository.tryIssueWithCachedInfo(2L, TEST_COUPON_ID);
+
+            // then
+            assertThat(duplicate).isEqualTo(CouponIssueResult.ALREADY_ISSUED);
+            assertThat(soldOut).isEqualTo(CouponIssueResult.SOLD_OUT);
+            assertThat(couponRedisRepository.getQueueSize()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("100명 동시 요청, 10개 한정 - 정확히 10명만 SUCCESS, 대기열도 10건")
+        void tryIssueWithCachedInfo_concurrent_exactQuantity() throws InterruptedException {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            couponRedisRepository.cacheCouponInfo(TEST_COUPON_ID, 10, now.minusHours(1), now.plusHours(1));
+            int threadCount = 100;
+            ExecutorService executorService = Executors.newFixedThreadPool(32);
+            CountDownLatch doneLatch = new CountDownLatch(threadCount);
+            AtomicInteger successCount = new AtomicInteger();
+
+            // when
+            for (int i = 1; i <= threadCount; i++) {
+                long userId = i;
+                executorService.submit(() -> {
+                    try {
+                        if (couponRedisRepository.tryIssueWithCachedInfo(userId, TEST_COUPON_ID) == CouponIssueResult.SUCCESS) {
+                            successCount.incrementAndGet();
+                        }
+                    } finally {
+                        doneLatch.countDown();
+                    }
+                });
+            }
+            doneLatch.await(10, TimeUnit.SECONDS);
+            executorService.shutdown();
+
+            // then
+            assertThat(successCount.get()).isEqualTo(10);
+            assertThat(couponRedisRepository.getIssuedCount(TEST_COUPON_ID)).isEqualTo(10);
+            assertThat(couponRedisRepository.getQueueSize()).isEqualTo(10);
+        }
+    }
 }
@@ -0,0 +1,172 @@
+package com.ecommerce.infrastructure.redis;
+
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.service.CouponIssueResult;
+import com.ecommerce.infrastructure.redis.issued.BitmapIssuedUserSet;
+import com.ecommerce.infrastructure.redis.issued.ChunkedBitmapIssuedUserSet;
+import com.ecommerce.infrastructure.redis.issued.IssuedUserSet;
+import com.ecommerce.infrastructure.redis.issued.RedisSetIssuedUserSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 발급 사용자 집합 저장 방식별 통합 테스트
+ * Set, 비트맵, 구간 분할 비트맵이 같은 발급 Lua Script로 같은 결과를 내는지 검증합니다.
+ */
+@DisplayName("발급 사용자 집합 저장 방식 통합 테스트")
+class IssuedUserSetIntegrationTest extends IntegrationTestSupport {
+
+    private static final Long TEST_COUPON_ID = 998L;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (String backend : List.of("set", "bitmap", "chunked-bitmap")) {
+            repositoryOf(backend).initializeCoupon(TEST_COUPON_ID);
+        }
+        repositoryOf("set").clearQueue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"set", "bitmap", "chunked-bitmap"})
+    @DisplayName("중복 발급과 수량 초과를 거절하고 발급 수를 센다")
+    void tryIssue_duplicateAndSoldOut(String backend) {
+        // given
+        CouponRedisRepository repository = repositoryOf(backend);
+        int maxQuantity = 2;
+
+        // when
+        CouponIssueResult first = repository.tryIssue(1L, TEST_COUPON_ID, maxQuantity, false);
+        CouponIssueResult duplicate = repository.tryIssue(1L, TEST_COUPON_ID, maxQuantity, false);
+        CouponIssueResult second = repository.tryIssue(70_000L, TEST_COUPON_ID, maxQuantity, false);
+        CouponIssueResult soldOut = repository.tryIssue(3L, TEST_COUPON_ID, maxQuantity, false);
+
+        // then
+        assertThat(first).isEqualTo(CouponIssueResult.SUCCESS);
+        assertThat(duplicate).isEqualTo(CouponIssueResult.ALREADY_ISSUED);
+        assertThat(second).isEqualTo(CouponIssueResult.SUCCESS);
+        assertThat(soldOut).isEqualTo(CouponIssueResult.SOLD_OUT);
+        assertThat(repository.getIssuedCount(TEST_COUPON_ID)).isEqualTo(2);
+        assertThat(repository.isIssued(70_000L, TEST_COUPON_ID)).isTrue();
+        assertThat(repository.isIssued(3L, TEST_COUPON_ID)).isFalse();
+        assertThat(repository.getIssuedUsers(TEST_COUPON_ID)).containsExactlyInAnyOrder("1", "70000");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"set", "bitmap", "chunked-bitmap"})
+    @DisplayName("캐시된 정보로 발급하면 대기열에는 비트 오프셋이 아닌 userId가 들어간다")
+    void tryIssueWithCachedInfo_queuesRealUserId(String backend) {
+        // given
+        CouponRedisRepository repository = repositoryOf(backend);
+        LocalDateTime now = LocalDateTime.now();
+        repository.cacheCouponInfo(TEST_COUPON_ID, 10, now.minusDays(1), now.plusDays(1));
+        long userId = 3 * 65_536L + 5;
+
+        // when
+        CouponIssueResult result = repository.tryIssueWithCachedInfo(userId, TEST_COUPON_ID);
+
+        // then
+        assertThat(result).isEqualTo(CouponIssueResult.SUCCESS);
+        List<CouponRedisRepository.QueueItem> items =
+                repository.readFromQueue("issued-set-test", List.of(CouponRedisRepository.partitionOf(TEST_COUPON_ID)), 10, null);
+        assertThat(items).extracting(CouponRedisRepository.QueueItem::userId).containsExactly(userId);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"set", "bitmap", "chunked-bitmap"})
+    @DisplayName("초기화하면 발급 사용자와 발급 수가 모두 지워진다")
+    void initializeCoupon_clearsAll(String backend) {
+        // given
+        CouponRedisRepository repository = repositoryOf(backend);
+        repository.tryIssue(1L, TEST_COUPON_ID, 10, false);
+        repository.tryIssue(200_000L, TEST_COUPON_ID, 10, false);
+
+        // when
+        repository.initializeCoupon(TEST_COUPON_ID);
+
+        // then
+        assertThat(repository.getIssuedCount(TEST_COUPON_ID)).isZero();
+        assertThat(repository.getIssuedUsers(TEST_COUPON_ID)).isEmpty();
+        assertThat(repository.tryIssue(1L, TEST_COUPON_ID, 10, false)).isEqualTo(CouponIssueResult.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("구간 분할 비트맵은 32비트를 넘는 userId도 발급한다")
+    void chunkedBitmap_largeUserId() {
+        // given
+        CouponRedisRepository repository = repositoryOf("chunked-bitmap");
+        long largeUserId = 1L << 40;
+
+        // when
+        CouponIssueResult result = repository.tryIssue(largeUserId, TEST_COUPON_ID, 10, false);
+
+        // then
+        assertThat(result).isEqualTo(CouponIssueResult.SUCCESS);
+        assertThat(repository.getIssuedUsers(TEST_COUPON_ID)).isEqualTo(Set.of(String.valueOf(largeUserId)));
+    }
+
+    @Test
+    @DisplayName("비트맵은 오프셋 범위를 넘는 userId를 거절한다")
+    void bitmap_userIdOutOfRange_throws() {
+        // given
+        CouponRedisRepository repository = repositoryOf("bitmap");
+
+        // when & then
+        assertThatThrownBy(() -> repository.tryIssue(1L << 40, TEST_COUPON_ID, 10, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"bitmap", "chunked-bitmap"})
+    @DisplayName("비트맵은 음수 userId를 거절하고 발급되지 않은 것으로 본다")
+    void bitmap_negativeUserId_throws(String backend) {
+        // given
+        CouponRedisRepository repository = repositoryOf(backend);
+
+        // when & then
+        assertThatThrownBy(() -> repository.tryIssue(-1L, TEST_COUPON_ID, 10, false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(repository.isIssued(-1L, TEST_COUPON_ID)).isFalse();
+        assertThat(repository.getIssuedCount(TEST_COUPON_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("비트맵 발급 사용자 조회는 여러 구간으로 나눠 읽어도 모두 돌려준다")
+    void bitmap_getIssuedUsers_acrossReadChunks() {
+        // given: 64KB(524,288비트) 읽기 구간을 넘는 userId 포함
+        CouponRedisRepository repository = repositoryOf("bitmap");
+        repository.tryIssue(1L, TEST_COUPON_ID, 10, false);
+        repository.tryIssue(524_287L, TEST_COUPON_ID, 10, false);
+        repository.tryIssue(524_288L, TEST_COUPON_ID, 10, false);
+        repository.tryIssue(2_000_000L, TEST_COUPON_ID, 10, false);
+
+        // when
+        Set<String> users = repository.getIssuedUsers(TEST_COUPON_ID);
+
+        // then
+        assertThat(users).containsExactlyInAnyOrder("1", "524287", "524288", "2000000");
+    }
+
+    private CouponRedisRepository repositoryOf(String backend) {
+        IssuedUserSet issuedUserSet = switch (backend) {
+            case "bitmap" -> new BitmapIssuedUserSet(redisTemplate);
+            case "chunked-bitmap" -> new ChunkedBitmapIssuedUserSet(redisTemplate);
+            default -> new RedisSetIssuedUserSet(redisTemplate);
+        };
+        return new CouponRedisRepository(redisTemplate, issuedUserSet);
+    }
+}
@@ -10,6 +10,7 @@ import com.ecommerce.domain.repository.OrderItemRepository;
 import com.ecommerce.domain.repository.OrderRepository;
 import com.ecommerce.domain.repository.ProductRepository;
 import com.ecommerce.domain.repository.UserRepository;
+import com.ecommerce.domain.service.OrderIdGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -53,6 +54,9 @@ class ProductRankingFallbackTest {
     @Autowired
     private OrderItemRepository orderItemRepository;
 
+    @Autowired
+    private OrderIdGenerator orderIdGenerator;
+
     private Product product1;
     private Product product2;
     private Product product3;
@@ -77,7 +81,7 @@ class ProductRankingFallbackTest {
     }
 
     private void createOrderWithQuantity(User user, Product product, int quantity) {
-        Order order = new Order(user.getId());
+        Order order = new Order(orderIdGenerator.nextId(), user.getId());
         order = orderRepository.save(order);
 
         OrderItem orderItem = new OrderItem(product, quantity);
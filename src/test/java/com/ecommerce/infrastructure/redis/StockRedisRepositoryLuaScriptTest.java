@@ -0,0 +1,188 @@
+package com.ecommerce.infrastructure.redis;
+
+import com.ecommerce.config.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 재고 예약 Lua Script 테스트
+ *
+ * 여러 상품을 한 번에 예약하는 all-or-nothing 동작과
+ * Write-Behind용 미반영 변화량 기록을 검증한다.
+ */
+@DisplayName("StockRedisRepository Lua Script 테스트")
+class StockRedisRepositoryLuaScriptTest extends IntegrationTestSupport {
+
+    @Autowired
+    private StockRedisRepository stockRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        stockRedisRepository.clearAll();
+    }
+
+    @Nested
+    @DisplayName("예약")
+    class ReserveTest {
+
+        @Test
+        @DisplayName("모든 상품 재고가 충분하면 한 번에 차감하고 변화량을 기록한다")
+        void reserve_allSufficient_success() {
+            // given
+            stockRedisRepository.loadIfAbsent(1L, 10);
+            stockRedisRepository.loadIfAbsent(2L, 5);
+
+            // when
+            StockRedisRepository.ReserveResult result = stockRedisRepository.reserve(new TreeMap<>(Map.of(1L, 3, 2L, 5)));
+
+            // then
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(stockRedisRepository.getStock(1L)).isEqualTo(7);
+            assertThat(stockRedisRepository.getStock(2L)).isZero();
+            assertThat(stockRedisRepository.getPendingDeltas()).isEqualTo(Map.of(1L, -3, 2L, -5));
+        }
+
+        @Test
+        @DisplayName("한 상품이라도 부족하면 어떤 상품도 차감하지 않는다")
+        void reserve_oneInsufficient_nothingChanged() {
+            // given
+            stockRedisRepository.loadIfAbsent(1L, 10);
+            stockRedisRepository.loadIfAbsent(2L, 1);
+
+            // when
+            StockRedisRepository.ReserveResult result = stockRedisRepository.reserve(new TreeMap<>(Map.of(1L, 3, 2L, 2)));
+
+            // then
+            assertThat(result.status()).isEqualTo(StockRedisRepository.ReserveResult.Status.INSUFFICIENT);
+            assertThat(result.productId()).isEqualTo(2L);
+            assertThat(result.currentStock()).isEqualTo(1);
+            assertThat(stockRedisRepository.getStock(1L)).isEqualTo(10);
+            assertThat(stockRedisRepository.getPendingDeltas()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("적재되지 않은 상품이 있으면 NOT_LOADED를 반환한다")
+        void reserve_notLoaded_returnsNotLoaded() {
+            // given
+            stockRedisRepository.loadIfAbsent(1L, 10);
+
+            // when
+            StockRedisRepository.ReserveResult result = stockRedisRepository.reserve(new TreeMap<>(Map.of(1L, 1, 3L, 1)));
+
+            // then
+            assertThat(result.status()).isEqualTo(StockRedisRepository.ReserveResult.Status.NOT_LOADED);
+            assertThat(result.productId()).isEqualTo(3L);
+            assertThat(stockRedisRepository.getStock(1L)).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("100명이 동시에 재고 10개 상품을 예약하면 정확히 10명만 성공한다")
+        void reserve_concurrent_exactlyStockSucceeds() throws InterruptedException {
+            // given
+            stockRedisRepository.loadIfAbsent(1L, 10);
+            int threadCount = 100;
+            ExecutorService executor = Executors.newFixedThreadPool(20);
+            CountDownLatch latch = new CountDownLatch(threadCount);
+            AtomicInteger successCount = new AtomicInteger();
+
+            // when
+            for (int i = 0; i < threadCount; i++) {
+                executor.submit(() -> {
+                    try {
+                        if (stockRedisRepository.reserve(Map.of(1L, 1)).isSuccess()) {
+                            successCount.incrementAndGet();
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await(10, TimeUnit.SECONDS);
+            executor.shutdown();
+
+            // then
+            assertThat(successCount.get()).isEqualTo(10);
+            assertThat(stockRedisRepository.getStock(1L)).isZero();
+            assertThat(stockRedisRepository.getPendingDeltas()).isEqualTo(Map.of(1L, -10));
+        }
+    }
+
+    @Nested
+    @DisplayName("적재/복구/반영")
+    class WriteBehindTest {
+
+        @Test
+        @DisplayName("미반영 변화량이 있으면 DB 재고에 더해서 적재한다")
+        void loadIfAbsent_withPendingDelta_appliesDelta() {
+            // given - 적재 후 차감, Redis 재고만 제거 (DB 미반영 상태)
+            stockRedisRepository.loadIfAbsent(1L, 10);
+            stockRedisRepository.reserve(Map.of(1L, 4));
+            stockRedisRepository.evict(1L);
+
+            // when - DB는 아직 10개
+            boolean loaded = stockRedisRepository.loadIfAbsent(1L, 10);
+
+            // then
+            assertThat(loaded).isTrue();
+            assertThat(stockRedisRepository.getStock(1L)).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("이미 적재된 상품은 다시 적재하지 않는다")
+        void loadIfAbsent_alreadyLoaded_ignored() {
+            // given
+            stockRedisRepository.loadIfAbsent(1L, 10);
+
+            // when
+            boolean loaded = stockRedisRepository.loadIfAbsent(1L, 99);
+
+            // then
+            assertThat(loaded).isFalse();
+            assertThat(stockRedisRepository.getStock(1L)).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("재고를 복구하면 가용 재고와 변화량이 함께 늘어난다")
+        void release_restoresStockAndDelta() {
+            // given
+            stockRedisRepository.loadIfAbsent(1L, 10);
+            stockRedisRepository.reserve(Map.of(1L, 3));
+
+            // when
+            stockRedisRepository.release(1L, 3);
+
+            // then
+            assertThat(stockRedisRepository.getStock(1L)).isEqualTo(10);
+            assertThat(stockRedisRepository.getPendingDeltas()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("반영 완료 처리 시 반영 중 새로 쌓인 변화량은 남는다")
+        void acknowledgeDeltas_keepsNewDeltas() {
+            // given
+            stockRedisRepository.loadIfAbsent(1L, 10);
+            stockRedisRepository.reserve(Map.of(1L, 3));
+            Map<Long, Integer> snapshot = stockRedisRepository.getPendingDeltas();
+            stockRedisRepository.reserve(Map.of(1L, 2));
+
+            // when
+            stockRedisRepository.acknowledgeDeltas(snapshot);
+
+            // then
+            assertThat(stockRedisRepository.getPendingDeltas()).isEqualTo(Map.of(1L, -2));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.ecommerce.infrastructure.redis;
+
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.domain.service.StockDeductor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 재고 Write-Behind 통합 테스트 (ecommerce.stock.mode=redis)
+ * 여러 인스턴스가 동시에 반영해도 같은 변화량이 DB에 한 번만 들어가는지 검증합니다.
+ */
+@TestPropertySource(properties = "ecommerce.stock.mode=redis")
+@DisplayName("Redis 재고 Write-Behind 통합 테스트")
+class StockSyncProcessorIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private StockDeductor stockDeductor;
+
+    @Autowired
+    private StockSyncProcessor stockSyncProcessor;
+
+    @Autowired
+    private StockRedisRepository stockRedisRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        stockRedisRepository.clearAll();
+        product = productRepository.save(new Product(null, "동기화상품_" + System.nanoTime(), "설명", 10_000, 100, "전자"));
+    }
+
+    @Test
+    @DisplayName("동시에 반영해도 변화량은 DB에 한 번만 반영된다")
+    void flush_concurrent_appliedOnce() throws InterruptedException {
+        // given
+        stockDeductor.deduct(Map.of(product.getId(), 10));
+        int threadCount = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    stockSyncProcessor.flush();
+                } catch (InterruptedException ignored) {
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+        stockSyncProcessor.flush();
+
+        // then
+        assertThat(productRepository.getByIdOrThrow(product.getId()).getStockQuantity()).isEqualTo(90);
+        assertThat(stockRedisRepository.getPendingDeltas()).doesNotContainKey(product.getId());
+    }
+
+    @Test
+    @DisplayName("반영 후 다시 적재하면 반영된 변화량을 두 번 더하지 않는다")
+    void reload_afterFlush_notDoubleCounted() {
+        // given
+        stockDeductor.deduct(Map.of(product.getId(), 10));
+        stockSyncProcessor.flush();
+        stockRedisRepository.evict(product.getId());
+
+        // when
+        stockDeductor.deduct(Map.of(product.getId(), 5));
+
+        // then
+        assertThat(stockRedisRepository.getStock(product.getId())).isEqualTo(85);
+    }
+}
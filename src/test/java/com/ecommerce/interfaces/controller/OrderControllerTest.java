@@ -3,6 +3,8 @@ package com.ecommerce.interfaces.controller;
 import com.ecommerce.application.dto.OrderHistoryResponse;
 import com.ecommerce.application.dto.OrderRequest;
 import com.ecommerce.application.dto.OrderResponse;
+import com.ecommerce.application.dto.PaymentRequest;
+import com.ecommerce.application.dto.PaymentResponse;
 import com.ecommerce.application.service.OrderService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +20,7 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -49,7 +52,7 @@ class OrderControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.orderId").value(1L))
+                .andExpect(jsonPath("$.orderId").value("1"))
                 .andExpect(jsonPath("$.orderNumber").value("ORD-20250101-00001"))
                 .andExpect(jsonPath("$.totalAmount").value(100000))
                 .andExpect(jsonPath("$.finalAmount").value(100000));
@@ -70,9 +73,26 @@ class OrderControllerTest {
         // when & then
         mockMvc.perform(get("/api/orders/users/{userId}", 1L))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].orderId").value(1L))
+                .andExpect(jsonPath("$[0].orderId").value("1"))
                 .andExpect(jsonPath("$[0].orderNumber").value("ORD-20250101-00001"))
                 .andExpect(jsonPath("$[0].totalAmount").value(100000))
                 .andExpect(jsonPath("$[0].items[0].productName").value("키보드"));
     }
+
+    @Test
+    @DisplayName("결제를 처리한다")
+    void processPayment() throws Exception {
+        // given
+        PaymentRequest request = new PaymentRequest(null, 0);
+        PaymentResponse response = new PaymentResponse(1L, "COMPLETED", 100000, 0, LocalDateTime.now());
+        when(orderService.processPayment(eq(1L), any(PaymentRequest.class))).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/api/orders/{orderId}/payment", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderId").value("1"))
+                .andExpect(jsonPath("$.paymentStatus").value("COMPLETED"));
+    }
 }
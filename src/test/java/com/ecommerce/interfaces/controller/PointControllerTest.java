@@ -1,6 +1,7 @@
 package com.ecommerce.interfaces.controller;
 
 import com.ecommerce.application.dto.PointChargeRequest;
+import com.ecommerce.application.dto.PointHistoryPageResponse;
 import com.ecommerce.application.dto.PointHistoryResponse;
 import com.ecommerce.application.dto.PointResponse;
 import com.ecommerce.application.service.PointService;
@@ -13,9 +14,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -41,12 +45,17 @@ class PointControllerTest {
         // given
         PointChargeRequest request = new PointChargeRequest(1L, 10000);
         PointResponse response = new PointResponse(1L, 10000);
-        when(pointService.chargePoint(any(PointChargeRequest.class))).thenReturn(response);
+        when(pointService.chargePointAsync(any(PointChargeRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
 
         // when & then
-        mockMvc.perform(post("/api/points/users/1/charge")
+        MvcResult asyncResult = mockMvc.perform(post("/api/points/users/1/charge")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.userId").value(1L))
                 .andExpect(jsonPath("$.balance").value(10000));
@@ -86,4 +95,24 @@ class PointControllerTest {
                 .andExpect(jsonPath("$[1].transactionType").value("USE"))
                 .andExpect(jsonPath("$[1].amount").value(5000));
     }
+
+    @Test
+    @DisplayName("포인트 이력을 커서 페이지로 조회한다")
+    void getPointHistoryPage() throws Exception {
+        // given
+        PointHistoryResponse history = new PointHistoryResponse(
+                3L, TransactionType.CHARGE, 10000, 10000, "충전", LocalDateTime.now()
+        );
+        when(pointService.getPointHistoryPage(1L, "abc", 1))
+                .thenReturn(new PointHistoryPageResponse(List.of(history), "next", true));
+
+        // when & then
+        mockMvc.perform(get("/api/points/users/1/history/page")
+                        .param("cursor", "abc")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.histories[0].id").value(3L))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
 }
@@ -0,0 +1,185 @@
+package com.ecommerce.interfaces.filter;
+
+import com.ecommerce.application.dto.OrderRequest;
+import com.ecommerce.application.dto.PaymentRequest;
+import com.ecommerce.config.IntegrationTestSupport;
+import com.ecommerce.domain.entity.Product;
+import com.ecommerce.domain.entity.User;
+import com.ecommerce.domain.repository.ProductRepository;
+import com.ecommerce.domain.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Idempotency-Key 필터 통합 테스트
+ * 같은 키로 재시도한 주문/결제 요청이 한 번만 실행되고 같은 응답을 돌려받는지 검증합니다.
+ */
+@AutoConfigureMockMvc
+@DisplayName("Idempotency-Key 필터 통합 테스트")
+class IdempotencyKeyFilterIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private User user;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        user = userRepository.save(new User(null, "멱등테스트", "idem_" + suffix + "@test.com", 100_000));
+        product = productRepository.save(new Product(null, "멱등상품_" + suffix, "설명", 10_000, 10, "전자"));
+    }
+
+    @Test
+    @DisplayName("같은 키로 주문을 재시도하면 재고는 한 번만 차감되고 같은 응답을 재생한다")
+    void createOrder_retryWithSameKey_replaysResponse() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+
+        // when
+        MvcResult first = createOrder(key);
+        MvcResult second = createOrder(key);
+
+        // then
+        assertThat(first.getResponse().getStatus()).isEqualTo(200);
+        assertThat(second.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+        assertThat(second.getResponse().getHeader(IdempotencyKeyFilter.HEADER_REPLAYED)).isEqualTo("true");
+        assertThat(productRepository.getByIdOrThrow(product.getId()).getStockQuantity()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 첫 실행 결과를 기다려 함께 돌려받는다")
+    void createOrder_concurrentDuplicates_executeOnce() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        Set<String> bodies = ConcurrentHashMap.newKeySet();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    bodies.add(createOrder(key).getResponse().getContentAsString());
+                } catch (Exception ignored) {
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(bodies).hasSize(1);
+        assertThat(productRepository.getByIdOrThrow(product.getId()).getStockQuantity()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("같은 키로 결제를 재시도하면 결제를 다시 하지 않고 완료 응답을 재생한다")
+    void processPayment_retryWithSameKey_replaysResponse() throws Exception {
+        // given
+        long orderId = objectMapper.readTree(createOrder(UUID.randomUUID().toString())
+                .getResponse().getContentAsString()).get("orderId").asLong();
+        String key = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(new PaymentRequest(null, 0));
+
+        // when & then
+        String firstBody = mockMvc.perform(post("/api/orders/{orderId}/payment", orderId)
+                        .header(IdempotencyKeyFilter.HEADER_IDEMPOTENCY_KEY, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(post("/api/orders/{orderId}/payment", orderId)
+                        .header(IdempotencyKeyFilter.HEADER_IDEMPOTENCY_KEY, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyKeyFilter.HEADER_REPLAYED, "true"))
+                .andExpect(content().string(firstBody));
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 본문을 보내면 재생하지 않고 422를 응답한다")
+    void createOrder_sameKeyDifferentBody_rejected() throws Exception {
+        // given
+        String key = UUID.randomUUID().toString();
+        createOrder(key);
+
+        // when
+        OrderRequest changed = new OrderRequest(
+                user.getId(), List.of(new OrderRequest.OrderItemRequest(product.getId(), 3)), null, 0);
+        MvcResult result = mockMvc.perform(post("/api/orders")
+                        .header(IdempotencyKeyFilter.HEADER_IDEMPOTENCY_KEY, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(changed)))
+                .andReturn();
+
+        // then
+        assertThat(result.getResponse().getStatus()).isEqualTo(422);
+        assertThat(result.getResponse().getHeader(IdempotencyKeyFilter.HEADER_REPLAYED)).isNull();
+        assertThat(productRepository.getByIdOrThrow(product.getId()).getStockQuantity()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("키 없이 보낸 요청은 필터를 거치지 않는다")
+    void createOrder_withoutKey_executesEveryTime() throws Exception {
+        // when
+        createOrder(null);
+        createOrder(null);
+
+        // then
+        assertThat(productRepository.getByIdOrThrow(product.getId()).getStockQuantity()).isEqualTo(6);
+    }
+
+    private MvcResult createOrder(String key) throws Exception {
+        OrderRequest request = new OrderRequest(
+                user.getId(), List.of(new OrderRequest.OrderItemRequest(product.getId(), 2)), null, 0);
+
+        var builder = post("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request));
+        if (key != null) {
+            builder.header(IdempotencyKeyFilter.HEADER_IDEMPOTENCY_KEY, key);
+        }
+        return mockMvc.perform(builder).andReturn();
+    }
+}